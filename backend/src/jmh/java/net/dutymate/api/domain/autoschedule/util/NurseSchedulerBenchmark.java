@@ -0,0 +1,67 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+
+/**
+ * 자동 생성 전체 실행 시간 (초기 해 생성 + 어닐링 + 결과 반영)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NurseSchedulerBenchmark {
+
+	@Param({"10", "20", "30", "50"})
+	private int nurseCount;
+
+	@Param({"SINGLE", "MULTI_START"})
+	private AnnealingMode mode;
+
+	private SyntheticWard ward;
+	private SchedulingProblem problem;
+	private ExecutorService annealingExecutor;
+	private NurseScheduler nurseScheduler;
+	private AnnealingOptions options;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ward = new SyntheticWard(nurseCount);
+		problem = ward.toProblem();
+		annealingExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		nurseScheduler = new NurseScheduler(annealingExecutor);
+		options = AnnealingOptions.builder()
+			.mode(mode)
+			.chainCount(Runtime.getRuntime().availableProcessors())
+			.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		annealingExecutor.shutdownNow();
+	}
+
+	@Benchmark
+	public AnnealingResult generateSchedule() {
+		return nurseScheduler.generateSchedule(problem, ward.newWardSchedule(), 1L, options);
+	}
+}
@@ -0,0 +1,213 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.rule.util.CompiledRule;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+/**
+ * 평가 함수별 실행 시간
+ * 자동 생성 결과(실제에 가까운 근무표)를 한 번 만들어 두고, 전체 평가/이웃 해 평가/규칙별 평가를 각각 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleEvaluatorBenchmark {
+
+	private static final char[] MOVE_SHIFTS = {'D', 'E', 'N', 'O'};
+
+	@Param({"10", "20", "30", "50"})
+	private int nurseCount;
+
+	private Solution solution;
+	private ScheduleEvaluator evaluator;
+	private int[][] shiftCounts;
+	private SplittableRandom random;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SyntheticWard ward = new SyntheticWard(nurseCount);
+		SchedulingProblem problem = ward.toProblem();
+		YearMonth yearMonth = SyntheticWard.YEAR_MONTH;
+		NurseScheduler nurseScheduler = new NurseScheduler(null);
+
+		WardSchedule schedule = nurseScheduler.generateSchedule(problem, ward.newWardSchedule(), 1L,
+				AnnealingOptions.builder().mode(AnnealingMode.SINGLE).build())
+			.getWardSchedule();
+
+		List<Solution.Nurse> nurses = new ArrayList<>();
+		for (WardSchedule.NurseShift nurseShift : schedule.currentDuty()) {
+			nurses.add(Solution.Nurse.builder()
+				.id(nurseShift.getMemberId())
+				.shifts(nurseShift.getShifts().toCharArray())
+				.shiftFlags(ward.getNurseShiftFlags().get(nurseShift.getMemberId()))
+				.build());
+		}
+		solution = Solution.builder()
+			.daysInMonth(yearMonth.daysInMonth())
+			.nurses(nurses)
+			.dailyRequirements(dailyRequirements(ward.getRule(), yearMonth))
+			.build();
+
+		ShiftRequestTable requestTable = ShiftRequestTable.compile(problem.getRequests(),
+			nurses.stream().map(Solution.Nurse::getId).toList(), yearMonth.daysInMonth());
+		evaluator = new ScheduleEvaluator(CompiledRule.of(ward.getRule()), problem.getPrevMonthSchedules(),
+			requestTable, ward.getWorkIntensities());
+		evaluator.initialize(solution);
+		solution.recordMoves();
+
+		shiftCounts = new int[nurses.size()][Solution.Nurse.SHIFT_CODES.length];
+		for (int nurseIdx = 0; nurseIdx < nurses.size(); nurseIdx++) {
+			for (int code = 0; code < Solution.Nurse.SHIFT_CODES.length; code++) {
+				shiftCounts[nurseIdx][code] = Integer.bitCount(nurses.get(nurseIdx).getMasks()[code]);
+			}
+		}
+		random = new SplittableRandom(nurseCount);
+	}
+
+	// 해 전체 평가 (어닐링 시작 시 1회)
+	@Benchmark
+	public double initialize() {
+		return evaluator.initialize(solution);
+	}
+
+	// 근무 1칸 변경 후 증분 평가, 기각 및 되돌리기 (어닐링 1회 반복에 해당)
+	@Benchmark
+	public double evaluateMove() {
+		Solution.Nurse nurse = solution.getNurses().get(random.nextInt(nurseCount));
+		nurse.setShift(random.nextInt(1, solution.getDaysInMonth() + 1),
+			MOVE_SHIFTS[random.nextInt(MOVE_SHIFTS.length)]);
+		double score = evaluator.evaluateMove(solution);
+		evaluator.reject();
+		solution.rollbackMove();
+		return score;
+	}
+
+	@Benchmark
+	public double evaluateShiftRequirements() {
+		double score = 0;
+		for (int day = 1; day <= solution.getDaysInMonth(); day++) {
+			score += evaluator.evaluateShiftRequirements(solution, day);
+		}
+		return score;
+	}
+
+	@Benchmark
+	public double evaluateConsecutiveShifts() {
+		double score = 0;
+		for (Solution.Nurse nurse : solution.getNurses()) {
+			score += evaluator.evaluateConsecutiveShifts(nurse, solution.getDaysInMonth());
+		}
+		return score;
+	}
+
+	@Benchmark
+	public double evaluatePreviousMonthConstraints() {
+		double score = 0;
+		for (Solution.Nurse nurse : solution.getNurses()) {
+			score += evaluator.evaluatePreviousMonthConstraints(nurse, solution.getDaysInMonth());
+		}
+		return score;
+	}
+
+	@Benchmark
+	public double evaluateShiftTypeConstraints() {
+		double score = 0;
+		for (Solution.Nurse nurse : solution.getNurses()) {
+			score += evaluator.evaluateShiftTypeConstraints(nurse);
+		}
+		return score;
+	}
+
+	@Benchmark
+	public double evaluateShiftRequests() {
+		double score = 0;
+		List<Solution.Nurse> nurses = solution.getNurses();
+		for (int nurseIdx = 0; nurseIdx < nurses.size(); nurseIdx++) {
+			score += evaluator.evaluateShiftRequests(nurses.get(nurseIdx), nurseIdx);
+		}
+		return score;
+	}
+
+	@Benchmark
+	public double evaluateShiftPatterns() {
+		double score = 0;
+		for (Solution.Nurse nurse : solution.getNurses()) {
+			score += evaluator.evaluateShiftPatterns(nurse);
+		}
+		return score;
+	}
+
+	@Benchmark
+	public double evaluateNodPatterns() {
+		double score = 0;
+		for (Solution.Nurse nurse : solution.getNurses()) {
+			score += evaluator.evaluateNodPatterns(nurse, solution.getDaysInMonth());
+		}
+		return score;
+	}
+
+	@Benchmark
+	public double evaluateWorkIntensityBalance() {
+		double score = 0;
+		List<Solution.Nurse> nurses = solution.getNurses();
+		for (int nurseIdx = 0; nurseIdx < nurses.size(); nurseIdx++) {
+			score += evaluator.evaluateWorkIntensityBalance(nurses.get(nurseIdx), shiftCounts[nurseIdx],
+				solution.getDaysInMonth());
+		}
+		return score;
+	}
+
+	@Benchmark
+	public double evaluateAlternatingWorkPattern() {
+		double score = 0;
+		for (Solution.Nurse nurse : solution.getNurses()) {
+			score += evaluator.evaluateAlternatingWorkPattern(nurse);
+		}
+		return score;
+	}
+
+	@Benchmark
+	public double evaluateShiftConsistency() {
+		double score = 0;
+		for (Solution.Nurse nurse : solution.getNurses()) {
+			score += evaluator.evaluateShiftConsistency(nurse);
+		}
+		return score;
+	}
+
+	private static Solution.DailyRequirement[] dailyRequirements(Rule rule, YearMonth yearMonth) {
+		Solution.DailyRequirement[] requirements = new Solution.DailyRequirement[yearMonth.daysInMonth() + 1];
+		for (int day = 1; day <= yearMonth.daysInMonth(); day++) {
+			boolean isWeekend = yearMonth.isWeekend(day);
+			requirements[day] = Solution.DailyRequirement.builder()
+				.dayNurses(isWeekend ? rule.getWendDCnt() : rule.getWdayDCnt())
+				.eveningNurses(isWeekend ? rule.getWendECnt() : rule.getWdayECnt())
+				.nightNurses(isWeekend ? rule.getWendNCnt() : rule.getWdayNCnt())
+				.build();
+		}
+		return requirements;
+	}
+}
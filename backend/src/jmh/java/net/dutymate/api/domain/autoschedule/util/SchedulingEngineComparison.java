@@ -0,0 +1,167 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+import net.dutymate.api.domain.wardmember.ShiftType;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.dto.WardScheduleResponseDto;
+import net.dutymate.api.domain.wardschedules.util.DutyAutoCheck;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 자동 생성 엔진 비교 실행기
+ * 문제 모음(autoschedule.corpus.dir 에 저장된 실제 병동 문제, 없으면 가상 병동)을 모든 엔진으로 같은 시드/예산에 풀고
+ * 문제별, 간호사 수별로 점수, 강한 제약 위반(규칙 검사기 기준), 실행 시간을 출력합니다.
+ *
+ * ./gradlew compareEngines [-Pcorpus=디렉터리] [-PbudgetMs=시간 예산]
+ */
+public class SchedulingEngineComparison {
+
+	private static final int[] SYNTHETIC_NURSE_COUNTS = {10, 20, 30, 50};
+	private static final long SEED = 20261101L;
+	private static final String NO_PREV_SHIFTS = "XXXX";
+
+	public static void main(String[] args) throws IOException {
+		Path corpusDir = args.length > 0 && !args[0].isBlank() ? Path.of(args[0]) : null;
+		Duration timeBudget = args.length > 1 && Long.parseLong(args[1]) > 0
+			? Duration.ofMillis(Long.parseLong(args[1])) : null;
+
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService annealingExecutor = Executors.newFixedThreadPool(threads);
+		ForkJoinPool geneticForkJoinPool = new ForkJoinPool(threads);
+		NurseScheduler nurseScheduler = new NurseScheduler(annealingExecutor);
+		List<SchedulingEngine> engines = List.of(nurseScheduler,
+			new GeneticNurseScheduler(nurseScheduler, geneticForkJoinPool),
+			new TabuNurseScheduler(nurseScheduler, annealingExecutor));
+		AnnealingOptions options = AnnealingOptions.builder()
+			.mode(AnnealingMode.MULTI_START)
+			.chainCount(threads)
+			.timeBudget(timeBudget)
+			.seed(SEED)
+			.build();
+
+		try {
+			Map<String, SchedulingProblem> problems = corpusDir != null ? readCorpus(corpusDir) : syntheticProblems();
+			System.out.printf("%d problems, %d threads, time budget %s%n", problems.size(), threads,
+				timeBudget != null ? timeBudget.toMillis() + "ms" : "none");
+			System.out.printf("%-40s %6s %-10s %14s %12s %7s %9s %s%n",
+				"problem", "nurses", "engine", "score", "hard score", "issues", "ms", "termination");
+
+			List<Row> rows = new ArrayList<>();
+			for (Map.Entry<String, SchedulingProblem> entry : problems.entrySet()) {
+				for (SchedulingEngine engine : engines) {
+					Row row = solve(entry.getKey(), entry.getValue(), engine, options);
+					rows.add(row);
+					System.out.printf("%-40s %6d %-10s %14.1f %12.1f %7d %9d %s%n", row.problem(), row.nurseCount(),
+						row.engine(), row.score(), row.hardScore(), row.issues(), row.elapsedMs(), row.termination());
+				}
+			}
+			printSummary(rows);
+		} finally {
+			annealingExecutor.shutdownNow();
+			geneticForkJoinPool.shutdownNow();
+		}
+	}
+
+	private static Row solve(String name, SchedulingProblem problem, SchedulingEngine engine,
+		AnnealingOptions options) {
+		long startedAt = System.nanoTime();
+		AnnealingResult result = engine.generateSchedule(problem, emptyWardSchedule(problem), null, options);
+		long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+		WardSchedule wardSchedule = result.getWardSchedule();
+		List<WardScheduleResponseDto.NurseShifts> nurseShifts = wardSchedule.currentDuty()
+			.stream()
+			.map(nurseShift -> WardScheduleResponseDto.NurseShifts.builder()
+				.memberId(nurseShift.getMemberId())
+				.name(String.valueOf(nurseShift.getMemberId()))
+				.prevShifts(problem.getPrevMonthSchedules().getOrDefault(nurseShift.getMemberId(), NO_PREV_SHIFTS))
+				.shifts(nurseShift.getShifts())
+				.shiftFlags(problem.getNurseShiftFlags()
+					.getOrDefault(nurseShift.getMemberId(), ShiftType.ALL.getFlag()))
+				.build())
+			.toList();
+		int issues = DutyAutoCheck.check(nurseShifts, problem.getRule()).size();
+
+		return new Row(name, problem.getMemberIds().size(), engine.getType().name(), result.getBestScore(),
+			result.getBestHardScore(), issues, elapsedMs, result.getTerminationReason().name());
+	}
+
+	// 간호사 수별 엔진 평균과 가장 좋은 점수/가장 빠른 엔진 (점수가 낮을수록 좋음)
+	private static void printSummary(List<Row> rows) {
+		System.out.printf("%n%6s %-10s %9s %14s %7s %9s%n", "nurses", "engine", "problems", "avg score",
+			"issues", "avg ms");
+		Map<Integer, Map<String, List<Row>>> groups = rows.stream()
+			.collect(Collectors.groupingBy(Row::nurseCount, TreeMap::new,
+				Collectors.groupingBy(Row::engine, TreeMap::new, Collectors.toList())));
+		groups.forEach((nurseCount, byEngine) -> {
+			byEngine.forEach((engine, engineRows) -> System.out.printf("%6d %-10s %9d %14.1f %7.1f %9.0f%n",
+				nurseCount, engine, engineRows.size(),
+				engineRows.stream().mapToDouble(Row::score).average().orElse(0),
+				engineRows.stream().mapToInt(Row::issues).average().orElse(0),
+				engineRows.stream().mapToLong(Row::elapsedMs).average().orElse(0)));
+			System.out.printf("%6d best score: %s, fastest: %s%n", nurseCount,
+				bestEngine(byEngine, Row::score), bestEngine(byEngine, row -> row.elapsedMs()));
+		});
+	}
+
+	private static String bestEngine(Map<String, List<Row>> byEngine, ToDoubleFunction<Row> metric) {
+		return byEngine.entrySet().stream()
+			.min(Comparator.comparingDouble(entry -> entry.getValue().stream().mapToDouble(metric).average().orElse(0)))
+			.map(Map.Entry::getKey)
+			.orElse("-");
+	}
+
+	private static Map<String, SchedulingProblem> readCorpus(Path corpusDir) throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		Map<String, SchedulingProblem> problems = new TreeMap<>();
+		try (Stream<Path> files = Files.list(corpusDir)) {
+			for (Path file : files.filter(path -> path.toString().endsWith(".json")).sorted().toList()) {
+				problems.put(file.getFileName().toString(),
+					objectMapper.readValue(file.toFile(), SchedulingProblem.class));
+			}
+		}
+		return problems;
+	}
+
+	private static Map<String, SchedulingProblem> syntheticProblems() {
+		Map<String, SchedulingProblem> problems = new LinkedHashMap<>();
+		for (int nurseCount : SYNTHETIC_NURSE_COUNTS) {
+			problems.put("synthetic-" + nurseCount, new SyntheticWard(nurseCount).toProblem());
+		}
+		return problems;
+	}
+
+	// 엔진은 duties를 이어 붙이므로 실행마다 빈 근무표를 만듦
+	private static WardSchedule emptyWardSchedule(SchedulingProblem problem) {
+		List<WardSchedule.Duty> duties = new ArrayList<>();
+		duties.add(WardSchedule.Duty.builder().idx(0).duty(new ArrayList<>()).build());
+		return WardSchedule.builder()
+			.year(problem.getYearMonth().year())
+			.month(problem.getYearMonth().month())
+			.nowIdx(0)
+			.duties(duties)
+			.build();
+	}
+
+	private record Row(String problem, int nurseCount, String engine, double score, double hardScore, int issues,
+		long elapsedMs, String termination) {
+	}
+}
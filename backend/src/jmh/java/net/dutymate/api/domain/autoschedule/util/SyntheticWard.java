@@ -0,0 +1,177 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import net.dutymate.api.domain.autoschedule.Shift;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.request.Request;
+import net.dutymate.api.domain.request.RequestStatus;
+import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.wardmember.ShiftType;
+import net.dutymate.api.domain.wardmember.WardMember;
+import net.dutymate.api.domain.wardmember.WorkIntensity;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.dto.WardScheduleResponseDto;
+
+import lombok.Getter;
+
+/**
+ * 벤치마크용 가상 병동
+ * 간호사 수에 비례한 근무 인원 규칙, 전담/강도 설정, 승인된 근무 요청, 이전 달 근무표를 고정 시드로 생성합니다.
+ */
+@Getter
+public class SyntheticWard {
+
+	public static final YearMonth YEAR_MONTH = new YearMonth(2026, 11);
+
+	private static final long SEED = 20261101L;
+	private static final int REQUESTS_PER_NURSE = 2;
+	private static final int REINFORCED_REQUEST_INTERVAL = 5;
+	private static final int NIGHT_KEEP_INTERVAL = 10;
+	private static final String PREV_MONTH_PATTERN = "DDEEONNOO";
+	private static final Shift[] REQUEST_SHIFTS = {Shift.O, Shift.O, Shift.O, Shift.D, Shift.E, Shift.N};
+	private static final WorkIntensity[] WORK_INTENSITIES = {
+		WorkIntensity.HIGH, WorkIntensity.MEDIUM, WorkIntensity.MEDIUM, WorkIntensity.LOW};
+
+	private final Rule rule;
+	private final List<WardMember> wardMembers;
+	private final List<WardSchedule.NurseShift> prevNurseShifts;
+	private final List<Request> acceptedRequests;
+	private final List<Long> reinforcementRequestIds;
+	private final Map<Long, Integer> nurseShiftFlags;
+	private final Map<Long, WorkIntensity> workIntensities;
+
+	public SyntheticWard(int nurseCount) {
+		SplittableRandom random = new SplittableRandom(SEED + nurseCount);
+
+		this.rule = createRule(nurseCount);
+		this.wardMembers = new ArrayList<>();
+		this.prevNurseShifts = new ArrayList<>();
+		this.nurseShiftFlags = new HashMap<>();
+		this.workIntensities = new HashMap<>();
+
+		int prevDays = YEAR_MONTH.prevYearMonth().daysInMonth();
+		for (int idx = 0; idx < nurseCount; idx++) {
+			long memberId = idx + 1;
+			// 10명 중 1명은 Night 전담
+			int shiftFlags = idx % NIGHT_KEEP_INTERVAL == NIGHT_KEEP_INTERVAL - 1
+				? ShiftType.N.getFlag() : ShiftType.ALL.getFlag();
+			WorkIntensity workIntensity = WORK_INTENSITIES[idx % WORK_INTENSITIES.length];
+
+			Member member = Member.builder()
+				.memberId(memberId)
+				.name("간호사" + memberId)
+				.autoGenCnt(Integer.MAX_VALUE)
+				.build();
+			wardMembers.add(WardMember.builder()
+				.wardMemberId(memberId)
+				.member(member)
+				.shiftFlags(shiftFlags)
+				.workIntensity(workIntensity)
+				.build());
+			nurseShiftFlags.put(memberId, shiftFlags);
+			workIntensities.put(memberId, workIntensity);
+
+			prevNurseShifts.add(WardSchedule.NurseShift.builder()
+				.memberId(memberId)
+				.shifts(prevMonthShifts(idx, prevDays))
+				.build());
+		}
+
+		this.acceptedRequests = new ArrayList<>();
+		this.reinforcementRequestIds = new ArrayList<>();
+		long requestId = 1;
+		for (WardMember wardMember : wardMembers) {
+			for (int cnt = 0; cnt < REQUESTS_PER_NURSE; cnt++, requestId++) {
+				int day = random.nextInt(1, YEAR_MONTH.daysInMonth() + 1);
+				acceptedRequests.add(Request.builder()
+					.requestId(requestId)
+					.wardMember(wardMember)
+					.requestDate(Date.valueOf(YEAR_MONTH.atDay(day)))
+					.requestShift(REQUEST_SHIFTS[random.nextInt(REQUEST_SHIFTS.length)])
+					.status(RequestStatus.ACCEPTED)
+					.build());
+				if (requestId % REINFORCED_REQUEST_INTERVAL == 0) {
+					reinforcementRequestIds.add(requestId);
+				}
+			}
+		}
+	}
+
+	public SchedulingProblem toProblem() {
+		return SchedulingProblem.of(YEAR_MONTH, rule, wardMembers, prevNurseShifts, acceptedRequests,
+			reinforcementRequestIds);
+	}
+
+	// 자동 생성은 duties를 이어 붙이므로 호출마다 새 근무표를 만듦
+	public WardSchedule newWardSchedule() {
+		List<WardSchedule.Duty> duties = new ArrayList<>();
+		duties.add(WardSchedule.Duty.builder().idx(0).duty(new ArrayList<>()).build());
+		return WardSchedule.builder()
+			.wardId(1L)
+			.year(YEAR_MONTH.year())
+			.month(YEAR_MONTH.month())
+			.nowIdx(0)
+			.duties(duties)
+			.build();
+	}
+
+	// 근무표 조회 응답과 같은 형태 (이전 달 마지막 4일 포함)
+	public List<WardScheduleResponseDto.NurseShifts> toNurseShiftsDto(WardSchedule wardSchedule) {
+		Map<Long, String> prevShifts = new HashMap<>();
+		for (WardSchedule.NurseShift nurseShift : prevNurseShifts) {
+			String shifts = nurseShift.getShifts();
+			prevShifts.put(nurseShift.getMemberId(), shifts.substring(shifts.length() - 4));
+		}
+
+		return wardSchedule.currentDuty().stream()
+			.map(nurseShift -> WardScheduleResponseDto.NurseShifts.builder()
+				.memberId(nurseShift.getMemberId())
+				.name("간호사" + nurseShift.getMemberId())
+				.prevShifts(prevShifts.get(nurseShift.getMemberId()))
+				.shifts(nurseShift.getShifts())
+				.shiftFlags(nurseShiftFlags.get(nurseShift.getMemberId()))
+				.build())
+			.toList();
+	}
+
+	// 평일 D/E 20%, 주말 D/E 15%, N 15% (최소 2명)
+	private static Rule createRule(int nurseCount) {
+		int weekdayCnt = Math.max(2, Math.round(nurseCount * 0.2f));
+		int weekendCnt = Math.max(2, Math.round(nurseCount * 0.15f));
+		int nightCnt = Math.max(2, Math.round(nurseCount * 0.15f));
+		return Rule.builder()
+			.wdayDCnt(weekdayCnt)
+			.wdayECnt(weekdayCnt)
+			.wdayNCnt(nightCnt)
+			.wendDCnt(weekendCnt)
+			.wendECnt(weekendCnt)
+			.wendNCnt(nightCnt)
+			.maxN(3)
+			.prioMaxN(3)
+			.minN(2)
+			.prioMinN(3)
+			.offCntAfterN(2)
+			.prioOffCntAfterN(2)
+			.maxShift(5)
+			.prioMaxShift(3)
+			.offCntAfterMaxShift(2)
+			.prioOffCntAfterMaxShift(2)
+			.build();
+	}
+
+	// 간호사마다 시작 위치를 달리한 순환 근무
+	private static String prevMonthShifts(int nurseIdx, int days) {
+		StringBuilder shifts = new StringBuilder(days);
+		for (int day = 0; day < days; day++) {
+			shifts.append(PREV_MONTH_PATTERN.charAt((day + nurseIdx) % PREV_MONTH_PATTERN.length()));
+		}
+		return shifts.toString();
+	}
+}
@@ -0,0 +1,71 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dutymate.api.domain.autoschedule.util.SyntheticWard;
+import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+import net.dutymate.api.domain.wardschedules.dto.WardScheduleResponseDto;
+
+/**
+ * 근무표 조회 시마다 실행되는 규칙 위반 검사 시간
+ * 이전 달 근무를 이어 붙인 가상 병동 근무표(위반 포함)를 검사합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DutyAutoCheckBenchmark {
+
+	private static final String SHIFT_PATTERN = "DDDEENNNOODEEEENNOOODDDDDDONNNN";
+
+	@Param({"10", "20", "30", "50"})
+	private int nurseCount;
+
+	private Rule rule;
+	private List<WardScheduleResponseDto.NurseShifts> nurseShifts;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SyntheticWard ward = new SyntheticWard(nurseCount);
+		int daysInMonth = SyntheticWard.YEAR_MONTH.daysInMonth();
+
+		// 간호사마다 순환 위치를 달리해 연속 근무/야간 규칙 위반이 섞이도록 구성
+		WardSchedule wardSchedule = ward.newWardSchedule();
+		List<WardSchedule.NurseShift> duty = wardSchedule.currentDuty();
+		for (int idx = 0; idx < nurseCount; idx++) {
+			StringBuilder shifts = new StringBuilder(daysInMonth);
+			for (int day = 0; day < daysInMonth; day++) {
+				shifts.append(SHIFT_PATTERN.charAt((day + idx * 3) % SHIFT_PATTERN.length()));
+			}
+			duty.add(WardSchedule.NurseShift.builder()
+				.memberId(ward.getWardMembers().get(idx).getMember().getMemberId())
+				.shifts(shifts.toString())
+				.build());
+		}
+
+		rule = ward.getRule();
+		nurseShifts = ward.toNurseShiftsDto(wardSchedule);
+	}
+
+	@Benchmark
+	public List<WardScheduleResponseDto.Issue> check() {
+		return DutyAutoCheck.check(nurseShifts, rule);
+	}
+}
@@ -0,0 +1,7 @@
+package net.dutymate.api.domain.autoschedule;
+
+public enum AnnealingMode {
+	SINGLE,      // 단일 체인 (기존 방식)
+	MULTI_START, // 서로 다른 초기 해에서 출발하는 독립 체인 N개
+	TEMPERING    // 온도가 다른 체인 N개가 주기적으로 해를 교환 (replica exchange)
+}
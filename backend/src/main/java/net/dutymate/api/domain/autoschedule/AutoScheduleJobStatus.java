@@ -0,0 +1,8 @@
+package net.dutymate.api.domain.autoschedule;
+
+public enum AutoScheduleJobStatus {
+	QUEUED,    // 실행 대기 중
+	RUNNING,   // 어닐링 실행 중
+	SUCCEEDED, // 근무표 저장 완료
+	FAILED     // 검증 실패 또는 오류로 종료
+}
@@ -0,0 +1,12 @@
+package net.dutymate.api.domain.autoschedule;
+
+public enum MoveOperator {
+	SWAP_NURSES,           // 같은 날 근무가 다른 두 간호사 간 근무 교환
+	CHANGE_SHIFT,          // 한 간호사의 근무 유형 변경
+	SWAP_SEQUENCE,         // 근무 시퀀스 교환
+	NOD_PATTERN,           // NOD 패턴 생성 또는 제거
+	NIGHT_PATTERN,         // 야간 근무 패턴 수정
+	MONTH_TRANSITION,      // 월말-월초 패턴 처리
+	ALTERNATING_PATTERN,   // 근무-휴무 반복 패턴 수정
+	SHIFT_CONSISTENCY      // 연속 근무 유형 일관성 개선
+}
@@ -0,0 +1,18 @@
+package net.dutymate.api.domain.autoschedule;
+
+public enum ScheduleConstraint {
+	// 강한 제약 조건
+	SHIFT_REQUIREMENT,   // 일별 필요 인원
+	CONSECUTIVE_SHIFT,   // 최대 연속 근무/야간
+	PREVIOUS_MONTH,      // 전월 마지막 근무와의 연결
+	SHIFT_TYPE,          // 근무 가능 유형
+	SHIFT_REQUEST,       // 승인된 근무 요청
+	SHIFT_PATTERN,       // 금지 패턴
+
+	// 약한 제약 조건
+	NOD_PATTERN,         // 야간-휴무-주간
+	WORKLOAD_BALANCE,    // 근무 유형별 근무 횟수 편차
+	WORK_INTENSITY,      // 근무 강도별 근무량
+	ALTERNATING_PATTERN, // 근무-휴무 반복
+	SHIFT_CONSISTENCY    // 근무 유형 일관성
+}
@@ -0,0 +1,7 @@
+package net.dutymate.api.domain.autoschedule;
+
+public enum SchedulerType {
+	ANNEALING, // 시뮬레이티드 어닐링 (NurseScheduler, 기본값)
+	GENETIC,   // 섬 모델 유전 알고리즘 (GeneticNurseScheduler)
+	TABU       // 타부 탐색 + 대규모 이웃 탐색 (TabuNurseScheduler, 큰 병동용)
+}
@@ -0,0 +1,9 @@
+package net.dutymate.api.domain.autoschedule;
+
+public enum TerminationReason {
+	MAX_ITERATIONS, // 최대 반복 횟수 도달 (시간 예산이 없을 때)
+	TIME_BUDGET,    // 시간 예산 소진
+	CONVERGED,      // 강한 제약 조건 위반 0 이후 약한 제약 조건 개선 정체
+	TARGET_SCORE,   // 목표 점수 이하 도달
+	CACHED          // 같은 입력의 캐시된 최적해 재사용 (어닐링 생략)
+}
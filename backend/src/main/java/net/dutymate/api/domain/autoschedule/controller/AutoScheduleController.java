@@ -1,14 +1,19 @@
 package net.dutymate.api.domain.autoschedule.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
 import net.dutymate.api.domain.autoschedule.dto.ReAutoScheduleRequestDto;
+import net.dutymate.api.domain.autoschedule.service.AutoScheduleJobService;
 import net.dutymate.api.domain.autoschedule.service.AutoScheduleService;
 import net.dutymate.api.domain.common.utils.YearMonth;
 import net.dutymate.api.domain.member.Member;
@@ -22,24 +27,86 @@ import lombok.RequiredArgsConstructor;
 public class AutoScheduleController {
 
 	private final AutoScheduleService autoScheduleService;
+	private final AutoScheduleJobService autoScheduleJobService;
 
 	@GetMapping("/auto-create")
 	public ResponseEntity<?> autoCreate(
 		@RequestParam(value = "year", required = false) Integer year,
 		@RequestParam(value = "month", required = false) Integer month,
 		@RequestParam(value = "force", required = false) boolean force,
+		@RequestParam(value = "mode", required = false) AnnealingMode mode,
+		@RequestParam(value = "chains", required = false) Integer chains,
+		@RequestParam(value = "timeBudgetMs", required = false) Long timeBudgetMs,
+		@RequestParam(value = "targetScore", required = false) Double targetScore,
+		@RequestParam(value = "seed", required = false) Long seed,
 		@Auth Member member) {
 
-		return autoScheduleService.generateAutoSchedule(new YearMonth(year, month), member, force, null);
+		return autoScheduleJobService.generateAutoSchedule(new YearMonth(year, month), member, force, null,
+			autoScheduleService.annealingOptions(mode, chains, timeBudgetMs, targetScore, seed, false));
 	}
 
 	@PostMapping("/re-auto-create")
 	public ResponseEntity<?> reAutoCreate(@Auth Member member,
 		@RequestBody ReAutoScheduleRequestDto reAutoScheduleRequestDto) {
 
-		return autoScheduleService.generateAutoSchedule(new YearMonth(reAutoScheduleRequestDto.getYear(),
+		return autoScheduleJobService.generateAutoSchedule(new YearMonth(reAutoScheduleRequestDto.getYear(),
 				reAutoScheduleRequestDto.getMonth()), member,
-			true, reAutoScheduleRequestDto.getRequestIds());
+			true, reAutoScheduleRequestDto.getRequestIds(),
+			autoScheduleService.annealingOptions(reAutoScheduleRequestDto.getMode(),
+				reAutoScheduleRequestDto.getChains(), reAutoScheduleRequestDto.getTimeBudgetMs(),
+				reAutoScheduleRequestDto.getTargetScore(), reAutoScheduleRequestDto.getSeed(),
+				reAutoScheduleRequestDto.isWarmStart()));
+	}
+
+	// 비동기 자동 생성: 작업 ID를 바로 반환하고 진행 상황은 조회 또는 SSE로 확인
+	@PostMapping("/auto-create/jobs")
+	public ResponseEntity<?> submitAutoCreate(
+		@RequestParam(value = "year", required = false) Integer year,
+		@RequestParam(value = "month", required = false) Integer month,
+		@RequestParam(value = "force", required = false) boolean force,
+		@RequestParam(value = "mode", required = false) AnnealingMode mode,
+		@RequestParam(value = "chains", required = false) Integer chains,
+		@RequestParam(value = "timeBudgetMs", required = false) Long timeBudgetMs,
+		@RequestParam(value = "targetScore", required = false) Double targetScore,
+		@RequestParam(value = "seed", required = false) Long seed,
+		@Auth Member member) {
+
+		return autoScheduleJobService.submitAutoSchedule(new YearMonth(year, month), member, force, null,
+			autoScheduleService.annealingOptions(mode, chains, timeBudgetMs, targetScore, seed, false));
+	}
+
+	@PostMapping("/re-auto-create/jobs")
+	public ResponseEntity<?> submitReAutoCreate(@Auth Member member,
+		@RequestBody ReAutoScheduleRequestDto reAutoScheduleRequestDto) {
+
+		return autoScheduleJobService.submitAutoSchedule(new YearMonth(reAutoScheduleRequestDto.getYear(),
+				reAutoScheduleRequestDto.getMonth()), member,
+			true, reAutoScheduleRequestDto.getRequestIds(),
+			autoScheduleService.annealingOptions(reAutoScheduleRequestDto.getMode(),
+				reAutoScheduleRequestDto.getChains(), reAutoScheduleRequestDto.getTimeBudgetMs(),
+				reAutoScheduleRequestDto.getTargetScore(), reAutoScheduleRequestDto.getSeed(),
+				reAutoScheduleRequestDto.isWarmStart()));
+	}
+
+	@GetMapping("/auto-create/jobs/{jobId}")
+	public ResponseEntity<?> getAutoCreateJob(@PathVariable String jobId, @Auth Member member) {
+		return ResponseEntity.ok(autoScheduleJobService.getAutoScheduleJob(jobId, member));
+	}
+
+	@GetMapping(value = "/auto-create/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamAutoCreateJob(@PathVariable String jobId, @Auth Member member) {
+		return autoScheduleJobService.streamAutoScheduleJob(jobId, member);
+	}
+
+	// 실행 기록: 엔진, 병동 규모, 최적 점수 추이, 탐색 통계, 제약 조건별 위반
+	@GetMapping("/auto-create/jobs/{jobId}/trace")
+	public ResponseEntity<?> getAutoCreateJobTrace(@PathVariable String jobId, @Auth Member member) {
+		return ResponseEntity.ok(autoScheduleJobService.getAutoScheduleJobTrace(jobId, member));
+	}
+
+	@GetMapping("/auto-create/trace")
+	public ResponseEntity<?> getLatestAutoCreateTrace(@Auth Member member) {
+		return ResponseEntity.ok(autoScheduleJobService.getLatestAutoScheduleTrace(member));
 	}
 
 }
@@ -0,0 +1,55 @@
+package net.dutymate.api.domain.autoschedule.dto;
+
+import net.dutymate.api.domain.autoschedule.AutoScheduleJobStatus;
+import net.dutymate.api.domain.autoschedule.service.AutoScheduleJobState;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AutoScheduleJobResponseDto {
+
+	private String jobId;
+	private AutoScheduleJobStatus status;
+
+	// 진행 상황 (체인 중 가장 앞선 반복 횟수, 가장 좋은 점수)
+	private int iteration;
+	private int maxIterations;
+	private Double bestScore;
+	private long elapsedMs;
+	private Long etaMs; // 추정 불가하면 null
+
+	// 완료 시 기존 자동 생성 API와 같은 상태 코드와 응답 본문
+	private Integer resultStatus;
+	private Object result;
+
+	public static AutoScheduleJobResponseDto of(AutoScheduleJobState job) {
+		long now = job.getFinishedAt() > 0 ? job.getFinishedAt() : System.currentTimeMillis();
+		long elapsedMs = job.getStartedAt() > 0 ? now - job.getStartedAt() : 0;
+
+		return AutoScheduleJobResponseDto.builder()
+			.jobId(job.getJobId())
+			.status(job.getStatus())
+			.iteration(job.getIteration())
+			.maxIterations(job.getMaxIterations())
+			.bestScore(job.getBestScore())
+			.elapsedMs(elapsedMs)
+			.etaMs(eta(job, elapsedMs))
+			.resultStatus(job.getResultStatus())
+			.result(job.getResult())
+			.build();
+	}
+
+	// 지금까지의 반복 속도로 남은 시간 추정 (시간 예산이 있으면 남은 예산을 넘지 않음)
+	private static Long eta(AutoScheduleJobState job, long elapsedMs) {
+		if (job.getStatus() != AutoScheduleJobStatus.RUNNING || job.getIteration() <= 0) {
+			return null;
+		}
+		long etaMs = elapsedMs * (job.getMaxIterations() - job.getIteration()) / job.getIteration();
+		if (job.getTimeBudgetMs() != null) {
+			etaMs = Math.min(etaMs, Math.max(0, job.getTimeBudgetMs() - elapsedMs));
+		}
+		return etaMs;
+	}
+}
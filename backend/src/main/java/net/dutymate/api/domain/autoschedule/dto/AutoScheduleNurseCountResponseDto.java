@@ -1,14 +1,17 @@
 package net.dutymate.api.domain.autoschedule.dto;
 
+import java.util.List;
+
+import net.dutymate.api.domain.autoschedule.util.ScheduleFeasibility;
+
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class AutoScheduleNurseCountResponseDto {
 	private int neededNurseCount;
-
-	public AutoScheduleNurseCountResponseDto(int neededNurseCount) {
-		this.neededNurseCount = neededNurseCount;
-	}
+	private List<ScheduleFeasibility.Issue> infeasibilities; // 어닐링 전에 찾은 만족할 수 없는 일자/조건
 }
@@ -3,6 +3,8 @@ package net.dutymate.api.domain.autoschedule.dto;
 import java.sql.Date;
 import java.util.List;
 
+import net.dutymate.api.domain.autoschedule.TerminationReason;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +19,9 @@ public class AutoScheduleResponseDto {
 	private boolean isSuccess;
 	private int unreflectedRequestsCount;
 	private List<UnreflectedRequestInfo> unreflectedRequests;
+	private TerminationReason terminationReason; // 어닐링 종료 사유
+	private long elapsedMs;                      // 어닐링 소요 시간
+	private long seed;                           // 사용한 난수 시드 (seed 파라미터로 재실행 가능)
 
 	@Getter
 	@Builder
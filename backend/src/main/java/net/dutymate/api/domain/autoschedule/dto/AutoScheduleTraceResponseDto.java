@@ -0,0 +1,83 @@
+package net.dutymate.api.domain.autoschedule.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+import net.dutymate.api.domain.autoschedule.ScheduleConstraint;
+import net.dutymate.api.domain.autoschedule.SchedulerType;
+import net.dutymate.api.domain.autoschedule.TerminationReason;
+import net.dutymate.api.domain.autoschedule.service.SolveTrace;
+import net.dutymate.api.domain.autoschedule.util.MoveOperatorStats;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class AutoScheduleTraceResponseDto {
+
+	private String jobId;
+	private Long wardId;
+	private boolean finished;
+
+	// 입력 규모와 실행 방식
+	private SchedulerType engine;
+	private int nurseCount;
+	private String wardSize;
+	private double coverageRatio;
+	private AnnealingMode mode;
+	private int chainCount;
+	private Long timeBudgetMs;
+	private long startedAt;
+
+	// 종료 후 통계
+	private TerminationReason terminationReason;
+	private long elapsedMs;
+	private long gcMs;
+	private int iterations;
+	private long evaluatedMoves;
+	private Double iterationsPerSecond;
+	private Double acceptanceRatio;
+	private int reheats;
+	private double bestScore;
+	private double bestHardScore;
+	private long seed;
+	private Map<ScheduleConstraint, Double> violations;
+	private List<MoveOperatorStats> moveStats;
+
+	// 최적 점수 추이 (경과 시간, 반복 횟수, 최적 점수)
+	private List<SolveTrace.Point> trajectory;
+
+	public static AutoScheduleTraceResponseDto of(SolveTrace trace) {
+		return AutoScheduleTraceResponseDto.builder()
+			.jobId(trace.getJobId())
+			.wardId(trace.getWardId())
+			.finished(trace.isFinished())
+			.engine(trace.getEngine())
+			.nurseCount(trace.getNurseCount())
+			.wardSize(trace.getWardSize())
+			.coverageRatio(trace.getCoverageRatio())
+			.mode(trace.getMode())
+			.chainCount(trace.getChainCount())
+			.timeBudgetMs(trace.getTimeBudgetMs())
+			.startedAt(trace.getStartedAt())
+			.terminationReason(trace.getTerminationReason())
+			.elapsedMs(trace.getElapsedMs())
+			.gcMs(trace.getGcMs())
+			.iterations(trace.getIterations())
+			.evaluatedMoves(trace.getEvaluatedMoves())
+			.iterationsPerSecond(trace.getIterationsPerSecond())
+			.acceptanceRatio(trace.getAcceptanceRatio())
+			.reheats(trace.getReheats())
+			.bestScore(trace.getBestScore())
+			.bestHardScore(trace.getBestHardScore())
+			.seed(trace.getSeed())
+			.violations(trace.getViolations())
+			.moveStats(trace.getMoveStats())
+			.trajectory(trace.getTrajectory())
+			.build();
+	}
+}
@@ -2,6 +2,8 @@ package net.dutymate.api.domain.autoschedule.dto;
 
 import java.util.List;
 
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+
 import lombok.Builder;
 import lombok.Data;
 
@@ -12,4 +14,12 @@ public class ReAutoScheduleRequestDto {
 	private int year;
 	private int month;
 	private List<Long> requestIds;
+
+	// 병렬 어닐링 옵션 (생략 시 단일 체인)
+	private AnnealingMode mode;
+	private Integer chains;
+	private Long timeBudgetMs;
+	private Double targetScore; // 이 점수 이하의 근무표를 찾으면 즉시 종료
+	private Long seed;          // 이전 자동 생성의 시드를 넘기면 같은 근무표를 재현 (디버깅용)
+	private boolean warmStart;  // 현재 근무표에서 이어서 국소 탐색 (조금 고친 뒤 다시 돌릴 때, 바뀌는 칸이 적고 빠름)
 }
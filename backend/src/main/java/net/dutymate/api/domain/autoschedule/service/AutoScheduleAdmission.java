@@ -0,0 +1,205 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.global.exception.RetryLaterException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 자동 생성 실행 수 제한 (동기 API와 비동기 작업 공통)
+ * 동시에 실행되는 자동 생성은 max-concurrent개로 제한하고, 나머지는 대기열에서 기다립니다.
+ * 대기열은 병동별로 나누어 병동 사이를 돌아가며 하나씩 실행하므로, 한 병동의 요청이 몰려도 다른 병동이 밀리지 않습니다.
+ * 대기열이 가득 찼거나 오래 기다리면 예상 대기 시간을 Retry-After로 알려 주고 바로 거절합니다.
+ */
+@Component
+public class AutoScheduleAdmission {
+
+	private static final long MIN_RETRY_AFTER_SECONDS = 1;
+	private static final long MAX_RETRY_AFTER_SECONDS = 300;
+	private static final double SOLVE_TIME_SMOOTHING = 0.2; // 평균 실행 시간 지수 이동 평균 가중치
+	private static final long INITIAL_SOLVE_MS = 10_000;
+
+	// 0 이하이면 코어 수의 절반 (나머지 코어는 로그인, 근무표 조회 등 일반 요청용)
+	@Value("${autoschedule.admission.max-concurrent:0}")
+	private int maxConcurrent;
+	@Value("${autoschedule.admission.queue-capacity:20}")
+	private int queueCapacity;
+	@Value("${autoschedule.admission.max-queued-per-ward:2}")
+	private int maxQueuedPerWard;
+	@Value("${autoschedule.admission.max-wait-ms:30000}")
+	private long maxWaitMs;
+
+	private final Timer waitTimer;
+	private final Counter queueFullRejections;
+	private final Counter wardLimitRejections;
+	private final Counter timeoutRejections;
+
+	// 병동별 대기열 (삽입 순서가 다음 실행 차례, 실행한 병동은 남은 요청이 있으면 맨 뒤로)
+	private final Map<Long, ArrayDeque<Ticket>> waiting = new LinkedHashMap<>();
+	private int queued;
+	private int active;
+	private double averageSolveMs = INITIAL_SOLVE_MS;
+
+	public AutoScheduleAdmission(MeterRegistry meterRegistry) {
+		Gauge.builder("autoschedule.admission.queue.depth", this, admission -> admission.snapshot(false))
+			.description("실행을 기다리는 자동 생성 수")
+			.register(meterRegistry);
+		Gauge.builder("autoschedule.admission.active", this, admission -> admission.snapshot(true))
+			.description("실행 중인 자동 생성 수")
+			.register(meterRegistry);
+		this.waitTimer = Timer.builder("autoschedule.admission.wait")
+			.description("자동 생성 실행 전 대기 시간")
+			.publishPercentiles(0.5, 0.9, 0.99)
+			.register(meterRegistry);
+		this.queueFullRejections = rejections(meterRegistry, "queue_full");
+		this.wardLimitRejections = rejections(meterRegistry, "ward_limit");
+		this.timeoutRejections = rejections(meterRegistry, "timeout");
+	}
+
+	/**
+	 * 차례가 오면 solve를 현재 스레드에서 실행합니다.
+	 * 대기열이 가득 찼거나 max-wait-ms 안에 차례가 오지 않으면 RetryLaterException(429)을 던집니다.
+	 */
+	public <T> T run(Long wardId, Supplier<T> solve) {
+		admit(wardId);
+		long startedAt = System.nanoTime();
+		try {
+			return solve.get();
+		} finally {
+			release(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+		}
+	}
+
+	// 지금 요청하면 실행까지 걸릴 것으로 예상되는 시간
+	public Duration retryAfter() {
+		synchronized (this) {
+			return estimatedWait();
+		}
+	}
+
+	private void admit(Long wardId) {
+		long enqueuedAt = System.nanoTime();
+		synchronized (this) {
+			if (queued == 0 && active < concurrencyLimit()) {
+				active++;
+				waitTimer.record(0, TimeUnit.NANOSECONDS);
+				return;
+			}
+			if (queued >= queueCapacity) {
+				queueFullRejections.increment();
+				throw rejected("자동 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+			}
+			ArrayDeque<Ticket> wardQueue = waiting.computeIfAbsent(wardId, id -> new ArrayDeque<>());
+			if (wardQueue.size() >= maxQueuedPerWard) {
+				wardLimitRejections.increment();
+				throw rejected("이 병동의 자동 생성 요청이 이미 대기 중입니다. 잠시 후 다시 시도해 주세요.");
+			}
+
+			Ticket ticket = new Ticket();
+			wardQueue.add(ticket);
+			queued++;
+			long deadline = enqueuedAt + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+			try {
+				while (!ticket.admitted) {
+					long remainingNanos = deadline - System.nanoTime();
+					if (remainingNanos <= 0) {
+						cancel(wardId, ticket);
+						timeoutRejections.increment();
+						throw rejected("자동 생성 대기 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+					}
+					TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+				}
+			} catch (InterruptedException e) {
+				cancel(wardId, ticket);
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("자동 생성 대기가 중단되었습니다.", e);
+			}
+		}
+		waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+	}
+
+	private synchronized void release(long solveMs) {
+		active--;
+		averageSolveMs += SOLVE_TIME_SMOOTHING * (solveMs - averageSolveMs);
+		dispatch();
+	}
+
+	// 빈 자리만큼 병동을 돌아가며 대기열 맨 앞 요청을 실행시킴
+	private void dispatch() {
+		boolean admitted = false;
+		while (active < concurrencyLimit() && queued > 0) {
+			Iterator<Map.Entry<Long, ArrayDeque<Ticket>>> wards = waiting.entrySet().iterator();
+			Map.Entry<Long, ArrayDeque<Ticket>> next = wards.next();
+			wards.remove();
+			next.getValue().poll().admitted = true;
+			if (!next.getValue().isEmpty()) {
+				waiting.put(next.getKey(), next.getValue());
+			}
+			queued--;
+			active++;
+			admitted = true;
+		}
+		if (admitted) {
+			notifyAll();
+		}
+	}
+
+	// 시간 초과/중단된 요청을 대기열에서 제거 (그 사이 차례가 왔다면 자리를 돌려줌)
+	private void cancel(Long wardId, Ticket ticket) {
+		if (ticket.admitted) {
+			active--;
+			dispatch();
+			return;
+		}
+		ArrayDeque<Ticket> wardQueue = waiting.get(wardId);
+		if (wardQueue != null && wardQueue.remove(ticket)) {
+			queued--;
+			if (wardQueue.isEmpty()) {
+				waiting.remove(wardId);
+			}
+		}
+	}
+
+	private RetryLaterException rejected(String reason) {
+		return new RetryLaterException(reason, estimatedWait());
+	}
+
+	// 앞선 대기 요청과 실행 중인 요청이 평균 실행 시간만큼 걸린다고 보고 추정
+	private Duration estimatedWait() {
+		double rounds = (double)(queued + 1) / concurrencyLimit();
+		long seconds = (long)Math.ceil(rounds * averageSolveMs / 1000);
+		return Duration.ofSeconds(Math.clamp(seconds, MIN_RETRY_AFTER_SECONDS, MAX_RETRY_AFTER_SECONDS));
+	}
+
+	private int concurrencyLimit() {
+		return maxConcurrent > 0 ? maxConcurrent : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+	}
+
+	private synchronized double snapshot(boolean running) {
+		return running ? active : queued;
+	}
+
+	private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder("autoschedule.admission.rejected")
+			.description("대기열이 가득 차거나 대기 시간이 초과되어 거절된 자동 생성 수")
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+
+	private static class Ticket {
+		private boolean admitted;
+	}
+}
@@ -0,0 +1,69 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.domain.autoschedule.util.CachedSchedule;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입력 지문별 최적 근무표 캐시 (Redis)
+ * 캐시는 성능 최적화일 뿐이므로 Redis 오류나 파싱 오류는 캐시 미스로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoScheduleCache {
+
+	private static final String KEY_PREFIX = "autoschedule:best:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${autoschedule.cache.enabled:true}")
+	private boolean enabled;
+
+	// 근무표 작성 기간 동안 유지
+	@Value("${autoschedule.cache.ttl-hours:168}")
+	private long ttlHours;
+
+	public Optional<CachedSchedule> find(String fingerprint) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		try {
+			String json = redisTemplate.opsForValue().get(KEY_PREFIX + fingerprint);
+			return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, CachedSchedule.class));
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("자동 생성 캐시 조회 실패 fingerprint={}", fingerprint, e);
+			return Optional.empty();
+		}
+	}
+
+	// 기존 캐시보다 점수가 낮을(좋을) 때만 덮어씀
+	public void saveIfBetter(String fingerprint, CachedSchedule cachedSchedule) {
+		if (!enabled) {
+			return;
+		}
+		Optional<CachedSchedule> cached = find(fingerprint);
+		if (cached.isPresent() && cached.get().getBestScore() <= cachedSchedule.getBestScore()) {
+			return;
+		}
+		try {
+			redisTemplate.opsForValue().set(KEY_PREFIX + fingerprint, objectMapper.writeValueAsString(cachedSchedule),
+				Duration.ofHours(ttlHours));
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("자동 생성 캐시 저장 실패 fingerprint={}", fingerprint, e);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAccumulator;
+
+import org.springframework.dao.DataAccessException;
+
+import net.dutymate.api.domain.autoschedule.AutoScheduleJobStatus;
+import net.dutymate.api.domain.autoschedule.util.AnnealingProgressListener;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 자동 생성 작업 1건의 진행 상황과 결과
+ * 작업을 실행하는 서버에서만 존재하며, 상태가 바뀔 때마다 AutoScheduleJobStore(Redis)에 기록합니다.
+ * 진행 상황은 여러 어닐링 스레드에서 동시에 보고합니다.
+ */
+@Slf4j
+@Getter
+public class AutoScheduleJob implements AnnealingProgressListener {
+
+	static final long PROGRESS_SAVE_INTERVAL_MS = 500;
+
+	private final String jobId;
+	private final Long wardId;
+	private final Long memberId;
+	private final Duration timeBudget;
+	private final long createdAt = System.currentTimeMillis();
+	private final AutoScheduleJobStore jobStore;
+
+	private volatile AutoScheduleJobStatus status = AutoScheduleJobStatus.QUEUED;
+	private volatile long startedAt;
+	private volatile long finishedAt;
+	private volatile int maxIterations;
+	private volatile Integer resultStatus;
+	private volatile Object result;
+
+	private final AtomicInteger iteration = new AtomicInteger();
+	private final DoubleAccumulator bestScore = new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+	private final AtomicLong lastProgressSavedAt = new AtomicLong();
+
+	public AutoScheduleJob(String jobId, Long wardId, Long memberId, Duration timeBudget,
+		AutoScheduleJobStore jobStore) {
+		this.jobId = jobId;
+		this.wardId = wardId;
+		this.memberId = memberId;
+		this.timeBudget = timeBudget;
+		this.jobStore = jobStore;
+	}
+
+	void start() {
+		startedAt = System.currentTimeMillis();
+		status = AutoScheduleJobStatus.RUNNING;
+		save();
+	}
+
+	// 여러 체인이 동시에 보고하므로 가장 앞선 반복 횟수와 가장 좋은 점수를 유지
+	@Override
+	public void onProgress(int iteration, int maxIterations, double bestScore) {
+		this.maxIterations = maxIterations;
+		this.iteration.accumulateAndGet(iteration, Math::max);
+		this.bestScore.accumulate(bestScore);
+
+		long now = System.currentTimeMillis();
+		long last = lastProgressSavedAt.get();
+		if (now - last >= PROGRESS_SAVE_INTERVAL_MS && lastProgressSavedAt.compareAndSet(last, now)) {
+			save();
+		}
+	}
+
+	void finish(int resultStatus, Object result) {
+		this.resultStatus = resultStatus;
+		this.result = result;
+		this.finishedAt = System.currentTimeMillis();
+		this.status = resultStatus >= 200 && resultStatus < 300
+			? AutoScheduleJobStatus.SUCCEEDED : AutoScheduleJobStatus.FAILED;
+		save();
+	}
+
+	AutoScheduleJobState toState() {
+		double bestScore = this.bestScore.get();
+		return AutoScheduleJobState.builder()
+			.jobId(jobId)
+			.wardId(wardId)
+			.memberId(memberId)
+			.timeBudgetMs(timeBudget != null ? timeBudget.toMillis() : null)
+			.status(status)
+			.createdAt(createdAt)
+			.startedAt(startedAt)
+			.finishedAt(finishedAt)
+			.iteration(iteration.get())
+			.maxIterations(maxIterations)
+			.bestScore(Double.isInfinite(bestScore) ? null : bestScore)
+			.resultStatus(resultStatus)
+			.result(result)
+			.build();
+	}
+
+	// 실행 중 기록 실패는 다음 기록에서 만회되므로 작업을 중단하지 않음
+	private void save() {
+		try {
+			jobStore.save(toState());
+		} catch (DataAccessException | IllegalStateException e) {
+			log.warn("자동 생성 작업 상태 저장 실패 jobId={} status={}", jobId, status, e);
+		}
+	}
+}
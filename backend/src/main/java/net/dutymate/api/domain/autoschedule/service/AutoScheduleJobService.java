@@ -0,0 +1,208 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import net.dutymate.api.domain.autoschedule.dto.AutoScheduleJobResponseDto;
+import net.dutymate.api.domain.autoschedule.dto.AutoScheduleTraceResponseDto;
+import net.dutymate.api.domain.autoschedule.util.AnnealingOptions;
+import net.dutymate.api.domain.autoschedule.util.AnnealingResult;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.global.exception.RetryLaterException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동 생성 실행 흐름 (조회 트랜잭션 → 트랜잭션 밖 어닐링 → 저장 트랜잭션)
+ * 동기 API는 요청 스레드에서, 작업 API는 전용 스레드 풀에서 같은 흐름을 실행합니다.
+ * 작업 상태와 병동 잠금은 Redis(AutoScheduleJobStore)에 두어 어느 서버로 요청이 가도 같은 작업을 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoScheduleJobService {
+
+	private static final long SSE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+
+	private final AutoScheduleService autoScheduleService;
+	private final ExecutorService autoScheduleJobExecutor;
+	private final AutoScheduleTelemetry autoScheduleTelemetry;
+	private final AutoScheduleAdmission autoScheduleAdmission;
+	private final AutoScheduleJobStore autoScheduleJobStore;
+	private final ScheduledExecutorService autoScheduleJobStreamScheduler;
+
+	public ResponseEntity<?> generateAutoSchedule(YearMonth yearMonth, Member member, boolean force,
+		List<Long> reinforcementRequestIds, AnnealingOptions annealingOptions) {
+		AutoSchedulePlan plan = autoScheduleService.prepareAutoSchedule(yearMonth, member, force,
+			reinforcementRequestIds, annealingOptions);
+		if (plan.isRejected()) {
+			return plan.getRejection();
+		}
+
+		// 동시 실행 수 제한 (차례를 기다리는 동안 요청 스레드는 대기, 대기열이 가득 차면 429)
+		AnnealingResult annealingResult = autoScheduleAdmission.run(plan.getWardId(),
+			() -> autoScheduleService.solveAutoSchedule(plan));
+		return autoScheduleService.applyAutoSchedule(plan, annealingResult);
+	}
+
+	/**
+	 * 자동 생성 작업 등록
+	 * 검증과 조회는 요청 스레드에서 바로 수행하고, 통과하면 작업 ID를 202로 반환합니다.
+	 */
+	public ResponseEntity<?> submitAutoSchedule(YearMonth yearMonth, Member member, boolean force,
+		List<Long> reinforcementRequestIds, AnnealingOptions annealingOptions) {
+		Long wardId = member.getWardMember().getWard().getWardId();
+		AutoScheduleJob job = new AutoScheduleJob(UUID.randomUUID().toString(), wardId, member.getMemberId(),
+			annealingOptions.getTimeBudget(), autoScheduleJobStore);
+
+		// 같은 병동의 자동 생성은 모든 서버를 통틀어 한 번에 하나만 (자동 생성 횟수 중복 차감 방지)
+		if (!autoScheduleJobStore.lockWard(wardId, job.getJobId())) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 진행 중인 자동 생성 작업이 있습니다.");
+		}
+
+		try {
+			AutoSchedulePlan prepared = autoScheduleService.prepareAutoSchedule(yearMonth, member, force,
+				reinforcementRequestIds, annealingOptions.toBuilder().progressListener(job).build());
+			if (prepared.isRejected()) {
+				autoScheduleJobStore.unlockWard(wardId, job.getJobId());
+				return prepared.getRejection();
+			}
+			AutoSchedulePlan plan = prepared.toBuilder().jobId(job.getJobId()).build();
+
+			autoScheduleJobStore.save(job.toState());
+			autoScheduleJobExecutor.execute(() -> run(job, plan));
+		} catch (RejectedExecutionException e) {
+			autoScheduleJobStore.delete(job.getJobId());
+			autoScheduleJobStore.unlockWard(wardId, job.getJobId());
+			throw new RetryLaterException("자동 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요.",
+				autoScheduleAdmission.retryAfter());
+		} catch (RuntimeException e) {
+			autoScheduleJobStore.unlockWard(wardId, job.getJobId());
+			throw e;
+		}
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(AutoScheduleJobResponseDto.of(job.toState()));
+	}
+
+	public AutoScheduleJobResponseDto getAutoScheduleJob(String jobId, Member member) {
+		return AutoScheduleJobResponseDto.of(findJob(jobId, member));
+	}
+
+	/**
+	 * 작업 진행 상황 구독
+	 * 작업을 실행하는 서버가 아닐 수 있으므로 Redis의 작업 상태를 주기적으로 읽어 바뀌었을 때만 보내고,
+	 * 작업이 끝나면 결과를 보낸 뒤 종료합니다.
+	 */
+	public SseEmitter streamAutoScheduleJob(String jobId, Member member) {
+		findJob(jobId, member);
+		SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+		AtomicReference<AutoScheduleJobState> lastSent = new AtomicReference<>();
+		ScheduledFuture<?> polling = autoScheduleJobStreamScheduler.scheduleWithFixedDelay(
+			() -> sendJobState(jobId, emitter, lastSent), 0, AutoScheduleJob.PROGRESS_SAVE_INTERVAL_MS,
+			TimeUnit.MILLISECONDS);
+		emitter.onCompletion(() -> polling.cancel(false));
+		emitter.onTimeout(() -> polling.cancel(false));
+		emitter.onError(throwable -> polling.cancel(false));
+		return emitter;
+	}
+
+	// 작업의 실행 기록 (작업이 끝나기 전이면 404)
+	public AutoScheduleTraceResponseDto getAutoScheduleJobTrace(String jobId, Member member) {
+		findJob(jobId, member);
+		return autoScheduleTelemetry.findByJob(jobId)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "실행 기록을 찾을 수 없습니다."));
+	}
+
+	// 병동의 마지막 자동 생성 실행 기록 (동기 API 포함)
+	public AutoScheduleTraceResponseDto getLatestAutoScheduleTrace(Member member) {
+		if (member.getWardMember() == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "실행 기록을 찾을 수 없습니다.");
+		}
+		return autoScheduleTelemetry.findLatestByWard(member.getWardMember().getWard().getWardId())
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "실행 기록을 찾을 수 없습니다."));
+	}
+
+	// 차례가 올 때까지 작업은 QUEUED 상태로 대기
+	private void run(AutoScheduleJob job, AutoSchedulePlan plan) {
+		try {
+			AnnealingResult annealingResult = autoScheduleAdmission.run(plan.getWardId(), () -> {
+				job.start();
+				return autoScheduleService.solveAutoSchedule(plan);
+			});
+			ResponseEntity<?> response = autoScheduleService.applyAutoSchedule(plan, annealingResult);
+			job.finish(response.getStatusCode().value(), response.getBody());
+		} catch (ResponseStatusException e) {
+			job.finish(e.getStatusCode().value(), errorBody(HttpStatus.valueOf(e.getStatusCode().value()),
+				e.getReason()));
+		} catch (RuntimeException e) {
+			log.error("자동 생성 작업 실패 jobId={}", job.getJobId(), e);
+			job.finish(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+				errorBody(HttpStatus.INTERNAL_SERVER_ERROR, "자동 생성 중 오류가 발생했습니다."));
+		} finally {
+			unlockWard(job);
+		}
+	}
+
+	// 해제에 실패해도 잠금은 lock-minutes가 지나면 풀림
+	private void unlockWard(AutoScheduleJob job) {
+		try {
+			autoScheduleJobStore.unlockWard(job.getWardId(), job.getJobId());
+		} catch (DataAccessException e) {
+			log.warn("자동 생성 병동 잠금 해제 실패 wardId={} jobId={}", job.getWardId(), job.getJobId(), e);
+		}
+	}
+
+	private void sendJobState(String jobId, SseEmitter emitter, AtomicReference<AutoScheduleJobState> lastSent) {
+		try {
+			AutoScheduleJobState state = autoScheduleJobStore.find(jobId).orElse(null);
+			if (state == null) {
+				emitter.complete();
+				return;
+			}
+			if (state.equals(lastSent.getAndSet(state))) {
+				return;
+			}
+			emitter.send(SseEmitter.event()
+				.name(state.isFinished() ? "result" : "progress")
+				.data(AutoScheduleJobResponseDto.of(state)));
+			if (state.isFinished()) {
+				emitter.complete();
+			}
+		} catch (IOException | IllegalStateException e) {
+			emitter.completeWithError(e);
+		} catch (DataAccessException e) {
+			log.warn("자동 생성 작업 상태 조회 실패 jobId={}", jobId, e);
+		}
+	}
+
+	// 같은 병동 멤버만 작업을 조회할 수 있음
+	private AutoScheduleJobState findJob(String jobId, Member member) {
+		AutoScheduleJobState job = autoScheduleJobStore.find(jobId).orElse(null);
+		if (job == null || member.getWardMember() == null
+			|| !job.getWardId().equals(member.getWardMember().getWard().getWardId())) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "자동 생성 작업을 찾을 수 없습니다.");
+		}
+		return job;
+	}
+
+	private static Map<String, Object> errorBody(HttpStatus status, String message) {
+		return Map.of("status", status.name(), "message", message == null ? "" : message);
+	}
+}
@@ -0,0 +1,44 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import net.dutymate.api.domain.autoschedule.AutoScheduleJobStatus;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * 비동기 자동 생성 작업의 상태 (Redis 값)
+ * 작업을 실행하는 서버가 기록하고, 조회와 SSE는 어느 서버에서든 이 값을 읽습니다.
+ */
+@Getter
+@Builder
+@Jacksonized
+@EqualsAndHashCode
+public class AutoScheduleJobState {
+
+	private final String jobId;
+	private final Long wardId;
+	private final Long memberId;
+	private final Long timeBudgetMs;
+	private final AutoScheduleJobStatus status;
+	private final long createdAt;
+	private final long startedAt;
+	private final long finishedAt;
+
+	// 진행 상황 (체인 중 가장 앞선 반복 횟수, 가장 좋은 점수)
+	private final int iteration;
+	private final int maxIterations;
+	private final Double bestScore; // 아직 보고가 없으면 null
+
+	// 완료 시 기존 자동 생성 API와 같은 상태 코드와 응답 본문
+	private final Integer resultStatus;
+	private final Object result;
+
+	@JsonIgnore
+	public boolean isFinished() {
+		return status == AutoScheduleJobStatus.SUCCEEDED || status == AutoScheduleJobStatus.FAILED;
+	}
+}
@@ -0,0 +1,81 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 자동 생성 작업 상태와 병동별 실행 잠금 (Redis)
+ * 여러 서버가 로드 밸런서 뒤에서 같은 작업을 조회하고, 같은 병동 작업을 하나만 실행하도록 공유합니다.
+ * 실행 중인 작업을 기록하던 서버가 중단되어도 상태와 잠금은 lock-minutes가 지나면 사라집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AutoScheduleJobStore {
+
+	private static final String JOB_KEY_PREFIX = "autoschedule:job:";
+	private static final String WARD_LOCK_KEY_PREFIX = "autoschedule:lock:ward:";
+
+	// 잠근 작업이 맞을 때만 해제 (만료 후 다른 작업이 잡은 잠금을 지우지 않도록)
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	// 실행 중인 작업 상태와 병동 잠금 보관 시간 (대기 + 실행 시간보다 길어야 함)
+	@Value("${autoschedule.jobs.lock-minutes:30}")
+	private long lockMinutes;
+
+	// 완료된 작업 결과 보관 시간
+	@Value("${autoschedule.jobs.retention-minutes:10}")
+	private long retentionMinutes;
+
+	// 같은 병동의 자동 생성은 한 번에 하나만 (자동 생성 횟수 중복 차감 방지)
+	public boolean lockWard(Long wardId, String jobId) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue()
+			.setIfAbsent(WARD_LOCK_KEY_PREFIX + wardId, jobId, Duration.ofMinutes(lockMinutes)));
+	}
+
+	public void unlockWard(Long wardId, String jobId) {
+		redisTemplate.execute(UNLOCK_SCRIPT, List.of(WARD_LOCK_KEY_PREFIX + wardId), jobId);
+	}
+
+	public void save(AutoScheduleJobState state) {
+		Duration ttl = state.isFinished() ? Duration.ofMinutes(retentionMinutes) : Duration.ofMinutes(lockMinutes);
+		try {
+			redisTemplate.opsForValue().set(JOB_KEY_PREFIX + state.getJobId(), objectMapper.writeValueAsString(state),
+				ttl);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("자동 생성 작업 상태를 직렬화할 수 없습니다. jobId=" + state.getJobId(), e);
+		}
+	}
+
+	public Optional<AutoScheduleJobState> find(String jobId) {
+		String json = redisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+		if (json == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(objectMapper.readValue(json, AutoScheduleJobState.class));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("자동 생성 작업 상태를 읽을 수 없습니다. jobId=" + jobId, e);
+		}
+	}
+
+	public void delete(String jobId) {
+		redisTemplate.delete(JOB_KEY_PREFIX + jobId);
+	}
+}
@@ -0,0 +1,48 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+
+import net.dutymate.api.domain.autoschedule.SchedulerType;
+import net.dutymate.api.domain.autoschedule.util.AnnealingOptions;
+import net.dutymate.api.domain.autoschedule.util.SchedulingProblem;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.request.Request;
+import net.dutymate.api.domain.wardmember.WardMember;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자동 생성 입력 스냅샷
+ * 트랜잭션 안에서 필요한 데이터를 모두 읽어 두고, 어닐링은 트랜잭션(DB 커넥션) 밖에서 이 스냅샷만으로 실행합니다.
+ * rejection이 있으면 자동 생성을 진행하지 않고 해당 응답을 그대로 반환합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class AutoSchedulePlan {
+
+	private final ResponseEntity<?> rejection;
+
+	private final Long wardId;
+	private final Long memberId;
+	private final YearMonth yearMonth;
+	private final WardSchedule wardSchedule;
+	private final SchedulingProblem problem;          // 엔진 입력 (Mid 전담 제외)
+	private final List<WardMember> midWardMembers;
+	private final List<Request> acceptedRequests;     // 반영되지 않은 요청 안내용
+	private final SchedulerType schedulerType; // 병동에서 선택한 자동 생성 방식
+	private final AnnealingOptions annealingOptions;
+	private final String fingerprint; // 어닐링 입력 지문 (결과 캐시 키)
+	private final String jobId;       // 비동기 작업 ID (동기 API는 null, 실행 기록 조회 키)
+
+	public static AutoSchedulePlan rejected(ResponseEntity<?> rejection) {
+		return AutoSchedulePlan.builder().rejection(rejection).build();
+	}
+
+	public boolean isRejected() {
+		return rejection != null;
+	}
+}
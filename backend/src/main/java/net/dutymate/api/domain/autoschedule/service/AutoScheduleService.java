@@ -1,33 +1,48 @@
 package net.dutymate.api.domain.autoschedule.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+import net.dutymate.api.domain.autoschedule.TerminationReason;
 import net.dutymate.api.domain.autoschedule.dto.AutoScheduleNurseCountResponseDto;
 import net.dutymate.api.domain.autoschedule.dto.AutoScheduleResponseDto;
+import net.dutymate.api.domain.autoschedule.util.AnnealingOptions;
+import net.dutymate.api.domain.autoschedule.util.AnnealingResult;
+import net.dutymate.api.domain.autoschedule.util.CachedSchedule;
 import net.dutymate.api.domain.autoschedule.util.FixScheduleGenerator;
 import net.dutymate.api.domain.autoschedule.util.NurseScheduler;
+import net.dutymate.api.domain.autoschedule.util.ScheduleFeasibility;
+import net.dutymate.api.domain.autoschedule.util.SchedulingEngineRegistry;
+import net.dutymate.api.domain.autoschedule.util.SchedulingProblem;
+import net.dutymate.api.domain.autoschedule.util.SolverInputFingerprint;
 import net.dutymate.api.domain.common.utils.YearMonth;
 import net.dutymate.api.domain.member.Member;
+import net.dutymate.api.domain.member.repository.MemberRepository;
 import net.dutymate.api.domain.request.Request;
 import net.dutymate.api.domain.request.RequestStatus;
 import net.dutymate.api.domain.request.repository.RequestRepository;
 import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.ward.Ward;
 import net.dutymate.api.domain.wardmember.ShiftType;
 import net.dutymate.api.domain.wardmember.WardMember;
-import net.dutymate.api.domain.wardmember.WorkIntensity;
 import net.dutymate.api.domain.wardmember.repository.WardMemberRepository;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
 import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
+import net.dutymate.api.domain.wardschedules.service.WardScheduleService;
+import net.dutymate.api.domain.wardschedules.util.InitialDutyGenerator;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleWriteRetry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,42 +53,59 @@ public class AutoScheduleService {
 	private final WardMemberRepository wardMemberRepository;
 	private final WardScheduleRepository wardScheduleRepository;
 	private final RequestRepository requestRepository;
+	private final MemberRepository memberRepository;
 	private final NurseScheduler nurseScheduler;
+	private final SchedulingEngineRegistry schedulingEngineRegistry;
 	private final FixScheduleGenerator fixScheduleGenerator;
-
-	@Transactional
-	public ResponseEntity<?> generateAutoSchedule(YearMonth yearMonth, Member member, boolean force,
-		List<Long> reinforcementRequestIds) {
+	private final AutoScheduleCache autoScheduleCache;
+	private final SchedulingProblemCorpus schedulingProblemCorpus;
+	private final AutoScheduleTelemetry autoScheduleTelemetry;
+	private final WardScheduleWriteRetry wardScheduleWriteRetry;
+	private final InitialDutyGenerator initialDutyGenerator;
+	private final WardScheduleService wardScheduleService;
+
+	@Value("${autoschedule.annealing.max-chains:0}")
+	private int maxChains;
+	@Value("${autoschedule.annealing.max-time-budget-ms:60000}")
+	private long maxTimeBudgetMs;
+	@Value("${autoschedule.annealing.default-time-budget-ms:0}")
+	private long defaultTimeBudgetMs;
+
+	/**
+	 * 자동 생성 1단계: 검증과 입력 데이터 조회 (트랜잭션 안)
+	 * 어닐링에 필요한 연관 엔티티를 모두 초기화하여 트랜잭션 밖에서도 사용할 수 있게 합니다.
+	 */
+	@Transactional(readOnly = true)
+	public AutoSchedulePlan prepareAutoSchedule(YearMonth yearMonth, Member member, boolean force,
+		List<Long> reinforcementRequestIds, AnnealingOptions annealingOptions) {
 		Long wardId = member.getWardMember().getWard().getWardId();
 
 		// 잔여 자동 횟수 체크
 		if (member.getAutoGenCnt() <= 0) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-				.body(AutoScheduleResponseDto.builder()
-					.message("자동 생성 횟수가 부족합니다.")
-					.isSuccess(false)
-					.build());
+			return AutoSchedulePlan.rejected(autoGenCntExhausted());
 		}
 
 		// 전월 달 근무 호출
 		YearMonth prevYearMonth = yearMonth.prevYearMonth();
 		WardSchedule prevWardSchedule = wardScheduleRepository
-			.findByWardIdAndYearAndMonth(wardId, prevYearMonth.year(), prevYearMonth.month())
+			.findCurrentByWardIdAndYearAndMonth(wardId, prevYearMonth.year(), prevYearMonth.month())
 			.orElse(null);
 
 		// 전달 듀티표 가져오기
 		List<WardSchedule.NurseShift> prevNurseShifts;
 		if (prevWardSchedule != null) {
-			prevNurseShifts = prevWardSchedule.getDuties().get(prevWardSchedule.getNowIdx()).getDuty();
+			prevNurseShifts = prevWardSchedule.currentDuty();
 		} else {
 			prevNurseShifts = null;
 		}
 
-		Rule rule = member.getWardMember().getWard().getRule();
+		Rule rule = Hibernate.unproxy(member.getWardMember().getWard().getRule(), Rule.class);
 		List<WardMember> allWardMembers = wardMemberRepository.findAllByWard(member.getWardMember().getWard());
-		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(wardId, yearMonth.year(),
+		// 아직 없는 월이면 저장하지 않은 빈 근무표로 생성 (문서는 결과를 저장할 때 생성)
+		Ward ward = member.getWardMember().getWard();
+		WardSchedule wardSchedule = wardScheduleRepository.findCurrentByWardIdAndYearAndMonth(wardId, yearMonth.year(),
 				yearMonth.month())
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "근무 일정을 찾을 수 없습니다."));
+			.orElseGet(() -> initialDutyGenerator.initialWardSchedule(ward, ward.getWardMemberList(), yearMonth));
 
 		// Mid 전담 인원만 따로 분리 (자동생성에서 제외)
 		List<WardMember> midWardMembers = allWardMembers.stream()
@@ -93,16 +125,8 @@ public class AutoScheduleService {
 		// Night 전담 간호사 수는 따로 계산하지 않음 (통합 로직에 포함됨)
 		int neededNurseCount = nurseScheduler.neededNurseCount(yearMonth, rule, nightNurseCnt)
 			+ midWardMembers.size();
-		if (wardMemberCount < neededNurseCount && !force) {
-			AutoScheduleNurseCountResponseDto responseDto = new AutoScheduleNurseCountResponseDto(
-				neededNurseCount
-			);
-			return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE)
-				.body(responseDto);
-		}
-
-		Long memberId = member.getMemberId();
 
+		// 요청자, 병동 멤버 정보까지 함께 조회 (fetch join)
 		List<Request> acceptedRequests = requestRepository.findAcceptedWardRequestsByYearMonth(
 			member.getWardMember().getWard(),
 			yearMonth.year(),
@@ -110,39 +134,84 @@ public class AutoScheduleService {
 			RequestStatus.ACCEPTED
 		);
 
-		Map<Integer, Integer> dailyNightCount = new HashMap<>();
-		nurseScheduler.getPreviousMonthSchedules(prevNurseShifts);
-
-		// 각 간호사의 ShiftFlags를 Map으로 변환하여 전달
-		Map<Long, Integer> nurseShiftFlags = regularWardMembers.stream()
-			.collect(Collectors.toMap(
-				wm -> wm.getMember().getMemberId(),
-				WardMember::getShiftFlags
-			));
-
-		// 간호사들의 WorkIntensity 정보 수집
-		Map<Long, WorkIntensity> workIntensities = regularWardMembers.stream()
-			.collect(Collectors.toMap(
-				wm -> wm.getMember().getMemberId(),
-				WardMember::getWorkIntensity,
-				(a, b) -> a  // 중복 키 처리
-			));
-
-		// 통합된 자동 스케줄 생성 (Night 근무자 포함)
-		WardSchedule updateWardSchedule = nurseScheduler.generateSchedule(
-			wardSchedule, rule, regularWardMembers,
-			prevNurseShifts, yearMonth, memberId,
-			acceptedRequests, dailyNightCount,
-			reinforcementRequestIds, workIntensities,
-			nurseShiftFlags  // 새로 추가된 파라미터
-		);
+		// 엔진 입력: 간호사별 근무 가능 유형/강도, 전월 마지막 근무, 승인된 요청
+		SchedulingProblem problem = SchedulingProblem.of(yearMonth, rule, regularWardMembers, prevNurseShifts,
+			acceptedRequests, reinforcementRequestIds);
+
+		// 인원이 부족하거나 규칙/근무 가능 유형/휴무 요청으로 만족할 수 없는 일자가 있으면 어닐링 전에 알림 (force면 그대로 진행)
+		if (!force) {
+			List<ScheduleFeasibility.Issue> infeasibilities = ScheduleFeasibility.check(problem);
+			if (wardMemberCount < neededNurseCount || !infeasibilities.isEmpty()) {
+				AutoScheduleNurseCountResponseDto responseDto = AutoScheduleNurseCountResponseDto.builder()
+					.neededNurseCount(neededNurseCount)
+					.infeasibilities(infeasibilities)
+					.build();
+				return AutoSchedulePlan.rejected(ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE)
+					.body(responseDto));
+			}
+		}
+
+		return AutoSchedulePlan.builder()
+			.wardId(wardId)
+			.memberId(member.getMemberId())
+			.yearMonth(yearMonth)
+			.wardSchedule(wardSchedule)
+			.problem(problem)
+			.midWardMembers(midWardMembers)
+			.acceptedRequests(acceptedRequests)
+			.schedulerType(member.getWardMember().getWard().getSchedulerType())
+			.annealingOptions(annealingOptions)
+			.fingerprint(SolverInputFingerprint.of(problem))
+			.build();
+	}
+
+	/**
+	 * 자동 생성 2단계: 어닐링 실행 (트랜잭션 밖, DB 접근 없음)
+	 * 같은 입력의 캐시된 최적해가 충분히 좋으면 그대로 반환하고, 아니면 그 해에서 이어서 개선합니다.
+	 * 시드를 지정한 재실행은 재현을 위해 캐시를 읽지 않습니다.
+	 * 국소 탐색(warmStart) 요청은 현재 근무표에서, 현재 근무표가 비어 있으면 캐시된 이전 결과에서 시작해
+	 * 낮은 온도로 개선하므로 적은 칸만 바꾸고 빨리 끝납니다.
+	 * 실행 지표와 실행 기록(최적 점수 추이, 제약 조건별 위반)은 AutoScheduleTelemetry에 남깁니다.
+	 */
+	public AnnealingResult solveAutoSchedule(AutoSchedulePlan plan) {
+		YearMonth yearMonth = plan.getYearMonth();
+		SchedulingProblem problem = plan.getProblem();
+		AnnealingOptions annealingOptions = plan.getAnnealingOptions();
+		schedulingProblemCorpus.save(plan);
+		SolveTrace trace = autoScheduleTelemetry.start(plan);
+
+		CachedSchedule cachedSchedule = annealingOptions.getSeed() != null ? null
+			: autoScheduleCache.find(plan.getFingerprint())
+			.filter(cached -> cached.covers(problem.getMemberIds(), problem.daysInMonth()))
+			.orElse(null);
+
+		CachedSchedule currentSchedule = annealingOptions.isLocalSearch() ? currentSchedule(plan) : null;
 
-		List<WardSchedule.NurseShift> updatedShifts = new ArrayList<>(updateWardSchedule.getDuties()
-			.get(updateWardSchedule.getNowIdx())
-			.getDuty());
+		AnnealingResult annealingResult;
+		if (currentSchedule == null && cachedSchedule != null && isFinal(cachedSchedule, annealingOptions)) {
+			annealingResult = nurseScheduler.reuseSchedule(problem, plan.getWardSchedule(), plan.getMemberId(),
+				cachedSchedule);
+		} else {
+			// 통합된 자동 스케줄 생성 (Night 근무자 포함, 병동에서 선택한 엔진 사용)
+			AnnealingOptions solveOptions = annealingOptions.toBuilder()
+				.warmStart(currentSchedule != null ? currentSchedule : cachedSchedule)
+				.progressListener(trace)
+				.build();
+			annealingResult = schedulingEngineRegistry.get(plan.getSchedulerType())
+				.generateSchedule(problem, plan.getWardSchedule(), plan.getMemberId(), solveOptions);
+			// 국소 탐색 결과는 시작 해에서 바뀐 칸 패널티가 점수에 들어 있고 강한 제약 위반이 남아도 끝나므로
+			// 같은 입력의 일반 실행과 점수를 비교할 수 없어 캐시에 저장하지 않음
+			if (!annealingOptions.isLocalSearch()) {
+				autoScheduleCache.saveIfBetter(plan.getFingerprint(), CachedSchedule.of(annealingResult));
+			}
+		}
+		autoScheduleTelemetry.finish(trace, plan, annealingResult);
+		WardSchedule updateWardSchedule = annealingResult.getWardSchedule();
+
+		List<WardSchedule.NurseShift> updatedShifts = updateWardSchedule.currentDuty();
 
 		// Mid 전담 간호사들만 별도 처리
-		for (WardMember wm : midWardMembers) {
+		for (WardMember wm : plan.getMidWardMembers()) {
 			WardSchedule.NurseShift newNurseShift = WardSchedule.NurseShift.builder()
 				.memberId(wm.getMember().getMemberId())
 				.shifts(fixScheduleGenerator.midShiftBuilder(yearMonth))
@@ -151,14 +220,28 @@ public class AutoScheduleService {
 			updatedShifts.add(newNurseShift);
 		}
 
-		WardSchedule.Duty currentDuty = updateWardSchedule.getDuties().get(updateWardSchedule.getNowIdx());
+		// 자동 생성 결과는 전체 근무표(체크포인트)이므로 직접 수정 (저장할 때 최신 근무표 뒤에 이 근무표를 추가)
+		WardSchedule.Duty currentDuty = updateWardSchedule.getDuties().getLast();
 		currentDuty.getDuty().clear();
 
 		for (WardSchedule.NurseShift nurseShift : updatedShifts) {
 			currentDuty.addNurseShift(nurseShift);
 		}
 
-		List<WardSchedule.NurseShift> originalShifts = wardSchedule.getDuties().get(wardSchedule.getNowIdx()).getDuty();
+		return annealingResult;
+	}
+
+	/**
+	 * 자동 생성 3단계: 결과 검증, 자동 생성 횟수 차감, 저장 (트랜잭션 안, 아직 없는 월의 근무표 문서도 여기서 생성)
+	 */
+	@Transactional
+	public ResponseEntity<?> applyAutoSchedule(AutoSchedulePlan plan, AnnealingResult annealingResult) {
+		YearMonth yearMonth = plan.getYearMonth();
+		WardSchedule updateWardSchedule = annealingResult.getWardSchedule();
+		WardSchedule wardSchedule = plan.getWardSchedule();
+
+		List<WardSchedule.NurseShift> updatedShifts = updateWardSchedule.currentDuty();
+		List<WardSchedule.NurseShift> originalShifts = wardSchedule.currentDuty();
 
 		boolean isChanged = false;
 		for (int nurseCnt = 0; nurseCnt < originalShifts.size(); nurseCnt++) {
@@ -174,14 +257,22 @@ public class AutoScheduleService {
 			throw new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED, "모든 조건을 만족하는 최적의 근무표입니다.");
 		}
 
-		member.updateAutoGenCnt(-1);
+		// 어닐링 동안 다른 요청이 횟수를 소진했을 수 있으므로 다시 조회하여 차감 (캐시 재사용은 차감하지 않음)
+		Member member = memberRepository.findById(plan.getMemberId())
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 회원입니다."));
+		if (annealingResult.getTerminationReason() != TerminationReason.CACHED) {
+			if (member.getAutoGenCnt() <= 0) {
+				return autoGenCntExhausted();
+			}
+			member.updateAutoGenCnt(-1);
+		}
 
 		requestRepository.findAllWardRequestsByYearMonth(member.getWardMember().getWard(),
 			yearMonth.year(),
 			yearMonth.month());
 
 		// 원래 ACCEPTED였지만 자동 생성 후 실제 스케줄과 다른 요청 찾기
-		List<Request> unreflectedRequests = acceptedRequests.stream()
+		List<Request> unreflectedRequests = plan.getAcceptedRequests().stream()
 			.filter(req -> {
 				// 요청한 날짜의 실제 근무 찾기
 				String actualShift = findActualShift(
@@ -218,22 +309,111 @@ public class AutoScheduleService {
 			.isSuccess(true)
 			.unreflectedRequestsCount(unreflectedRequests.size())
 			.unreflectedRequests(unreflectedInfo)
+			.terminationReason(annealingResult.getTerminationReason())
+			.elapsedMs(annealingResult.getElapsed().toMillis())
+			.seed(annealingResult.getSeed())
 			.build();
 
-		wardScheduleRepository.save(updateWardSchedule);
+		// 자동 생성 결과를 최신 근무표 뒤에 기록으로 추가 ($push)
+		// 생성하는 동안 다른 수정이 저장되었으면 그 기록은 남기고, 버전 충돌 시 최신 기록을 다시 읽어 다시 추가
+		// 아직 없는 월이면 빈 근무표 문서를 먼저 생성 (동시에 생성되어 중복 키 오류가 나면 다시 읽어 추가)
+		WardSchedule.Duty autoDuty = updateWardSchedule.getDuties().getLast();
+		Ward ward = member.getWardMember().getWard();
+		wardScheduleWriteRetry.run("auto_schedule", () -> {
+			WardSchedule latestWardSchedule = wardScheduleRepository
+				.findRecentByWardIdAndYearAndMonth(wardSchedule.getWardId(), yearMonth.year(), yearMonth.month())
+				.orElseGet(() -> initialDutyGenerator.createNewWardSchedule(ward, ward.getWardMemberList(), yearMonth));
+			int prevNowIdx = latestWardSchedule.getNowIdx();
+			latestWardSchedule.appendDuty(autoDuty.getDuty(), autoDuty.getHistory());
+			wardScheduleRepository.appendDuties(latestWardSchedule, prevNowIdx);
+		});
+
+		// 병동 듀티 -> 개인 듀티 : 연동 작업
+		wardScheduleService.syncMemberSchedules(yearMonth, autoDuty.getDuty());
 
 		return ResponseEntity.ok(responseDto);
 	}
 
+	// 현재 근무표(수간호사가 손본 근무 포함)의 자동 생성 대상 간호사 근무 (비어 있거나 인원이 바뀌었으면 null)
+	private CachedSchedule currentSchedule(AutoSchedulePlan plan) {
+		SchedulingProblem problem = plan.getProblem();
+		WardSchedule wardSchedule = plan.getWardSchedule();
+		Map<Long, String> shifts = new HashMap<>();
+		for (WardSchedule.NurseShift nurseShift : wardSchedule.currentDuty()) {
+			shifts.put(nurseShift.getMemberId(), nurseShift.getShifts());
+		}
+		CachedSchedule currentSchedule = CachedSchedule.builder()
+			.shifts(shifts)
+			.bestScore(Double.POSITIVE_INFINITY)
+			.bestHardScore(Double.POSITIVE_INFINITY)
+			.build();
+		boolean assigned = problem.getMemberIds().stream()
+			.map(shifts::get)
+			.anyMatch(nurseShifts -> nurseShifts != null && nurseShifts.chars().anyMatch(shift -> shift != 'X'));
+		return assigned && currentSchedule.covers(problem.getMemberIds(), problem.daysInMonth())
+			? currentSchedule : null;
+	}
+
+	// 수렴한 해이거나 요청한 목표 점수를 이미 만족하면 다시 어닐링하지 않음
+	private boolean isFinal(CachedSchedule cachedSchedule, AnnealingOptions annealingOptions) {
+		return cachedSchedule.isConverged()
+			|| annealingOptions.getTargetScore() != null
+			&& cachedSchedule.getBestScore() <= annealingOptions.getTargetScore();
+	}
+
+	private ResponseEntity<?> autoGenCntExhausted() {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+			.body(AutoScheduleResponseDto.builder()
+				.message("자동 생성 횟수가 부족합니다.")
+				.isSuccess(false)
+				.build());
+	}
+
+	// 요청별 병렬 어닐링 옵션 (체인 수와 시간 예산은 서버 설정값으로 제한)
+	public AnnealingOptions annealingOptions(AnnealingMode mode, Integer chains, Long timeBudgetMs,
+		Double targetScore, Long seed, boolean warmStart) {
+		if (mode == null || mode == AnnealingMode.SINGLE) {
+			return AnnealingOptions.builder()
+				.mode(AnnealingMode.SINGLE)
+				.chainCount(1)
+				.timeBudget(timeBudget(timeBudgetMs))
+				.targetScore(targetScore)
+				.seed(seed)
+				.localSearch(warmStart)
+				.build();
+		}
+
+		int chainLimit = maxChains > 0 ? maxChains : Runtime.getRuntime().availableProcessors();
+		int chainCount = chains != null && chains > 0 ? Math.min(chains, chainLimit) : chainLimit;
+
+		return AnnealingOptions.builder()
+			.mode(mode)
+			.chainCount(chainCount)
+			.timeBudget(timeBudget(timeBudgetMs))
+			.targetScore(targetScore)
+			.seed(seed)
+			.localSearch(warmStart)
+			.build();
+	}
+
+	// 요청에 없으면 서버 기본 예산 사용 (0 이하이면 시간 예산 없이 최대 반복 횟수로 종료)
+	private Duration timeBudget(Long timeBudgetMs) {
+		if (timeBudgetMs == null || timeBudgetMs <= 0) {
+			timeBudgetMs = defaultTimeBudgetMs;
+		}
+		if (timeBudgetMs <= 0) {
+			return null;
+		}
+		return Duration.ofMillis(Math.min(timeBudgetMs, maxTimeBudgetMs));
+	}
+
 	private String findActualShift(WardSchedule wardSchedule, Long memberId, java.sql.Date requestDate) {
 		// java.sql.Date를 LocalDate로 변환하고 일(day) 추출
 		int day = requestDate.toLocalDate().getDayOfMonth();
 
 		// 최신 스케줄 가져오기
-		WardSchedule.Duty currentDuty = wardSchedule.getDuties().get(wardSchedule.getNowIdx());
-
 		// 해당 멤버의 스케줄 찾기
-		for (WardSchedule.NurseShift nurseShift : currentDuty.getDuty()) {
+		for (WardSchedule.NurseShift nurseShift : wardSchedule.currentDuty()) {
 			if (nurseShift.getMemberId().equals(memberId)) {
 				String shifts = nurseShift.getShifts();
 				// day는 1부터 시작하지만, shifts 문자열의 인덱스는 0부터 시작하므로 -1 필요
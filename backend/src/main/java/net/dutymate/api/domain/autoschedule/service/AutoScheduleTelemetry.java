@@ -0,0 +1,225 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.domain.autoschedule.ScheduleConstraint;
+import net.dutymate.api.domain.autoschedule.SchedulerType;
+import net.dutymate.api.domain.autoschedule.dto.AutoScheduleTraceResponseDto;
+import net.dutymate.api.domain.autoschedule.util.AnnealingOptions;
+import net.dutymate.api.domain.autoschedule.util.AnnealingResult;
+import net.dutymate.api.domain.autoschedule.util.CachedSchedule;
+import net.dutymate.api.domain.autoschedule.util.MoveOperatorStats;
+import net.dutymate.api.domain.autoschedule.util.NurseScheduler;
+import net.dutymate.api.domain.autoschedule.util.SchedulingProblem;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.rule.Rule;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동 생성 실행 지표(Micrometer)와 실행 기록
+ * 지표는 엔진과 병동 규모 구간으로 태그를 달아 /actuator/metrics 로 노출하고,
+ * 실행 기록은 작업 ID별, 병동별(마지막 1건)로 Redis에 보관하여 어느 서버에서든 조회합니다.
+ * 실행 기록은 진단용이므로 Redis 오류나 파싱 오류는 기록 없음으로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoScheduleTelemetry {
+
+	private static final String JOB_TRACE_KEY_PREFIX = "autoschedule:trace:job:";
+	private static final String WARD_TRACE_KEY_PREFIX = "autoschedule:trace:ward:";
+
+	// 최적 점수 추이를 나누어 기록하는 실행 시간 비율
+	private static final double[] TRAJECTORY_FRACTIONS = {0.25, 0.5, 0.75, 1.0};
+	private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+
+	private final MeterRegistry meterRegistry;
+	private final NurseScheduler nurseScheduler;
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	// 실행 기록 보관 시간
+	@Value("${autoschedule.traces.ttl-hours:24}")
+	private long ttlHours;
+
+	/**
+	 * 실행 기록을 시작합니다. 반환한 기록을 엔진의 진행 상황 수신기로 사용해야 최적 점수 추이가 남습니다.
+	 */
+	public SolveTrace start(AutoSchedulePlan plan) {
+		SchedulingProblem problem = plan.getProblem();
+		AnnealingOptions options = plan.getAnnealingOptions();
+		int nurseCount = problem.getMemberIds().size();
+		return new SolveTrace(plan.getJobId(), plan.getWardId(), engineOf(plan), nurseCount, wardSize(nurseCount),
+			coverageRatio(problem), options.getMode(), options.getChainCount(),
+			options.getTimeBudget() != null ? options.getTimeBudget().toMillis() : null, totalGcMillis(),
+			options.getProgressListener());
+	}
+
+	public void finish(SolveTrace trace, AutoSchedulePlan plan, AnnealingResult result) {
+		Map<ScheduleConstraint, Double> violations = nurseScheduler.constraintViolations(plan.getProblem(),
+			CachedSchedule.of(result));
+		trace.finish(result, violations, totalGcMillis());
+		record(trace);
+		save(trace);
+	}
+
+	public Optional<AutoScheduleTraceResponseDto> findByJob(String jobId) {
+		return find(JOB_TRACE_KEY_PREFIX + jobId);
+	}
+
+	public Optional<AutoScheduleTraceResponseDto> findLatestByWard(Long wardId) {
+		return find(WARD_TRACE_KEY_PREFIX + wardId);
+	}
+
+	private void save(SolveTrace trace) {
+		try {
+			String json = objectMapper.writeValueAsString(AutoScheduleTraceResponseDto.of(trace));
+			Duration ttl = Duration.ofHours(ttlHours);
+			if (trace.getJobId() != null) {
+				redisTemplate.opsForValue().set(JOB_TRACE_KEY_PREFIX + trace.getJobId(), json, ttl);
+			}
+			redisTemplate.opsForValue().set(WARD_TRACE_KEY_PREFIX + trace.getWardId(), json, ttl);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("자동 생성 실행 기록 저장 실패 jobId={} wardId={}", trace.getJobId(), trace.getWardId(), e);
+		}
+	}
+
+	private Optional<AutoScheduleTraceResponseDto> find(String key) {
+		try {
+			String json = redisTemplate.opsForValue().get(key);
+			return json == null ? Optional.empty()
+				: Optional.of(objectMapper.readValue(json, AutoScheduleTraceResponseDto.class));
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("자동 생성 실행 기록 조회 실패 key={}", key, e);
+			return Optional.empty();
+		}
+	}
+
+	private void record(SolveTrace trace) {
+		Tags tags = Tags.of("engine", trace.getEngine().name(), "ward.size", trace.getWardSize());
+
+		Timer.builder("autoschedule.solve")
+			.description("자동 생성 엔진 실행 시간")
+			.tags(tags)
+			.tag("termination", trace.getTerminationReason().name())
+			.publishPercentiles(PERCENTILES)
+			.register(meterRegistry)
+			.record(Duration.ofMillis(trace.getElapsedMs()));
+		Timer.builder("autoschedule.solve.gc")
+			.description("자동 생성 중 JVM 전체 GC 시간")
+			.tags(tags)
+			.register(meterRegistry)
+			.record(Duration.ofMillis(trace.getGcMs()));
+
+		// 캐시 재사용은 엔진을 실행하지 않으므로 탐색 통계가 없음
+		if (trace.getEvaluatedMoves() > 0) {
+			summary("autoschedule.solve.iterations.per.second", "초당 평가한 이웃 해 수", tags)
+				.record(trace.getIterationsPerSecond());
+			summary("autoschedule.solve.acceptance.ratio", "평가한 이웃 해 중 채택 비율", tags)
+				.record(trace.getAcceptanceRatio());
+			Counter.builder("autoschedule.solve.reheats")
+				.description("재가열(타부 탐색은 destroy and repair) 횟수")
+				.tags(tags)
+				.register(meterRegistry)
+				.increment(trace.getReheats());
+			for (double fraction : TRAJECTORY_FRACTIONS) {
+				Double bestScore = trace.bestScoreAt(fraction);
+				if (bestScore != null) {
+					summary("autoschedule.solve.best.score", "실행 시간 비율별 최적 점수", tags
+						.and("progress", String.valueOf((int)(fraction * 100)))).record(bestScore);
+				}
+			}
+		}
+
+		// 이동 유형별 평가/채택/개선 횟수와 종료 시점 선택 확률 (적응형 선택 튜닝용)
+		for (MoveOperatorStats stats : trace.getMoveStats()) {
+			Tags operatorTags = tags.and("operator", stats.getOperator().name().toLowerCase());
+			moveCounter("selected", operatorTags).increment(stats.getSelected());
+			moveCounter("accepted", operatorTags).increment(stats.getAccepted());
+			moveCounter("improved", operatorTags).increment(stats.getImproved());
+			moveCounter("new_best", operatorTags).increment(stats.getNewBest());
+			summary("autoschedule.solve.move.probability", "종료 시점의 이동 유형 선택 확률", operatorTags)
+				.record(stats.getFinalProbability());
+		}
+
+		trace.getViolations().forEach((constraint, violation) ->
+			summary("autoschedule.solve.violations", "완성된 근무표의 제약 조건별 위반 정도", tags
+				.and("constraint", constraint.name().toLowerCase())).record(violation));
+	}
+
+	private Counter moveCounter(String outcome, Tags tags) {
+		return Counter.builder("autoschedule.solve.moves")
+			.description("어닐링 이동 유형별 평가(selected), 채택, 개선, 최적해 갱신 횟수")
+			.tags(tags)
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+
+	private DistributionSummary summary(String name, String description, Tags tags) {
+		return DistributionSummary.builder(name)
+			.description(description)
+			.tags(tags)
+			.publishPercentiles(PERCENTILES)
+			.register(meterRegistry);
+	}
+
+	private static SchedulerType engineOf(AutoSchedulePlan plan) {
+		return plan.getSchedulerType() != null ? plan.getSchedulerType() : SchedulerType.ANNEALING;
+	}
+
+	// 병동 규모 구간 (병동 최대 인원 30명 기준 10명 단위)
+	private static String wardSize(int nurseCount) {
+		if (nurseCount <= 10) {
+			return "1-10";
+		}
+		if (nurseCount <= 20) {
+			return "11-20";
+		}
+		return nurseCount <= 30 ? "21-30" : "31+";
+	}
+
+	// 한 달 동안 규칙이 요구하는 근무 칸 수 / 전체 칸 수
+	private static double coverageRatio(SchedulingProblem problem) {
+		int nurseCount = problem.getMemberIds().size();
+		if (nurseCount == 0) {
+			return 0;
+		}
+		Rule rule = problem.getRule();
+		YearMonth yearMonth = problem.getYearMonth();
+		long requiredShifts = 0;
+		for (int day = 1; day <= yearMonth.daysInMonth(); day++) {
+			requiredShifts += yearMonth.isWeekend(day)
+				? rule.getWendDCnt() + rule.getWendECnt() + rule.getWendNCnt()
+				: rule.getWdayDCnt() + rule.getWdayECnt() + rule.getWdayNCnt();
+			requiredShifts -= problem.getDailyNightCnt().getOrDefault(day, 0);
+		}
+		return (double)requiredShifts / ((long)nurseCount * yearMonth.daysInMonth());
+	}
+
+	private static long totalGcMillis() {
+		long total = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			total += Math.max(0, gc.getCollectionTime());
+		}
+		return total;
+	}
+}
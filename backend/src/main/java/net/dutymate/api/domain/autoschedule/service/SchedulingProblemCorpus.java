@@ -0,0 +1,48 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 엔진 비교용 실제 병동 문제 모음
+ * 설정된 디렉터리에 자동 생성 입력(SchedulingProblem)을 JSON 파일로 저장합니다. (이름 없이 memberId만 포함)
+ * 같은 입력은 지문이 같아 한 번만 저장되며, 저장 실패는 자동 생성에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulingProblemCorpus {
+
+	private static final int FINGERPRINT_PREFIX_LENGTH = 16;
+
+	private final ObjectMapper objectMapper;
+
+	@Value("${autoschedule.corpus.dir:}")
+	private String corpusDir;
+
+	public void save(AutoSchedulePlan plan) {
+		if (corpusDir == null || corpusDir.isBlank()) {
+			return;
+		}
+		Path file = Path.of(corpusDir, "ward-" + plan.getWardId() + "-"
+			+ plan.getFingerprint().substring(0, FINGERPRINT_PREFIX_LENGTH) + ".json");
+		if (Files.exists(file)) {
+			return;
+		}
+		try {
+			Files.createDirectories(file.getParent());
+			objectMapper.writeValue(file.toFile(), plan.getProblem());
+		} catch (IOException e) {
+			log.warn("자동 생성 문제 저장 실패 file={}", file, e);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package net.dutymate.api.domain.autoschedule.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+import net.dutymate.api.domain.autoschedule.ScheduleConstraint;
+import net.dutymate.api.domain.autoschedule.SchedulerType;
+import net.dutymate.api.domain.autoschedule.TerminationReason;
+import net.dutymate.api.domain.autoschedule.util.AnnealingProgressListener;
+import net.dutymate.api.domain.autoschedule.util.AnnealingResult;
+import net.dutymate.api.domain.autoschedule.util.MoveOperatorStats;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 자동 생성 1회의 실행 기록
+ * 입력 규모와 엔진, 실행 중 최적 점수 추이, 종료 후 통계와 제약 조건별 위반을 남깁니다.
+ * 진행 상황은 엔진 스레드에서 기록하고, 원래 수신기(비동기 작업)에도 그대로 전달합니다.
+ */
+@Getter
+public class SolveTrace implements AnnealingProgressListener {
+
+	// 최적 점수 추이 최대 기록 수 (넘으면 하나 걸러 하나씩 버려 전체 구간을 유지)
+	private static final int MAX_TRAJECTORY_POINTS = 200;
+
+	private final String jobId;            // 비동기 작업 ID (동기 API는 null)
+	private final Long wardId;
+	private final SchedulerType engine;
+	private final int nurseCount;
+	private final String wardSize;         // 지표 태그용 병동 규모 구간
+	private final double coverageRatio;    // 규칙이 요구하는 근무 칸 / (간호사 수 × 일수), 1에 가까울수록 빡빡한 규칙
+	private final AnnealingMode mode;
+	private final int chainCount;
+	private final Long timeBudgetMs;
+	private final long startedAt = System.currentTimeMillis();
+
+	@Getter(AccessLevel.NONE)
+	private final long startedNanos = System.nanoTime();
+	@Getter(AccessLevel.NONE)
+	private final long startedGcMs;
+	@Getter(AccessLevel.NONE)
+	private final AnnealingProgressListener delegate;
+	@Getter(AccessLevel.NONE)
+	private final List<Point> trajectory = new ArrayList<>();
+	@Getter(AccessLevel.NONE)
+	private double lastBestScore = Double.POSITIVE_INFINITY;
+
+	// 종료 후 기록
+	private volatile boolean finished;
+	private volatile TerminationReason terminationReason;
+	private volatile long elapsedMs;
+	private volatile long gcMs;            // 실행 중 JVM 전체 GC 시간
+	private volatile int iterations;
+	private volatile long evaluatedMoves;
+	private volatile long acceptedMoves;
+	private volatile int reheats;
+	private volatile double bestScore;
+	private volatile double bestHardScore;
+	private volatile long seed;
+	private volatile Map<ScheduleConstraint, Double> violations;
+	private volatile List<MoveOperatorStats> moveStats; // 어닐링 이동 유형별 통계 (다른 엔진과 캐시 재사용은 빈 목록)
+
+	SolveTrace(String jobId, Long wardId, SchedulerType engine, int nurseCount, String wardSize,
+		double coverageRatio, AnnealingMode mode, int chainCount, Long timeBudgetMs, long startedGcMs,
+		AnnealingProgressListener delegate) {
+		this.jobId = jobId;
+		this.wardId = wardId;
+		this.engine = engine;
+		this.nurseCount = nurseCount;
+		this.wardSize = wardSize;
+		this.coverageRatio = coverageRatio;
+		this.mode = mode;
+		this.chainCount = chainCount;
+		this.timeBudgetMs = timeBudgetMs;
+		this.startedGcMs = startedGcMs;
+		this.delegate = delegate;
+	}
+
+	// 여러 체인이 동시에 보고하므로 전체 최적 점수가 좋아질 때만 기록
+	@Override
+	public void onProgress(int iteration, int maxIterations, double bestScore) {
+		if (delegate != null) {
+			delegate.onProgress(iteration, maxIterations, bestScore);
+		}
+		synchronized (trajectory) {
+			if (bestScore >= lastBestScore) {
+				return;
+			}
+			lastBestScore = bestScore;
+			if (trajectory.size() >= MAX_TRAJECTORY_POINTS) {
+				for (int i = trajectory.size() - 1; i > 0; i -= 2) {
+					trajectory.remove(i);
+				}
+			}
+			trajectory.add(new Point((System.nanoTime() - startedNanos) / 1_000_000, iteration, bestScore));
+		}
+	}
+
+	void finish(AnnealingResult result, Map<ScheduleConstraint, Double> violations, long finishedGcMs) {
+		this.terminationReason = result.getTerminationReason();
+		this.elapsedMs = (System.nanoTime() - startedNanos) / 1_000_000;
+		this.gcMs = finishedGcMs - startedGcMs;
+		this.iterations = result.getIterations();
+		this.evaluatedMoves = result.getEvaluatedMoves();
+		this.acceptedMoves = result.getAcceptedMoves();
+		this.reheats = result.getReheats();
+		this.bestScore = result.getBestScore();
+		this.bestHardScore = result.getBestHardScore();
+		this.seed = result.getSeed();
+		this.violations = violations;
+		this.moveStats = result.getMoveStats() != null ? result.getMoveStats() : List.of();
+		// 마지막 보고 이후에 찾은 최적해도 추이에 포함
+		synchronized (trajectory) {
+			if (result.getBestScore() < lastBestScore) {
+				lastBestScore = result.getBestScore();
+				trajectory.add(new Point(elapsedMs, result.getIterations(), result.getBestScore()));
+			}
+		}
+		this.finished = true;
+	}
+
+	public List<Point> getTrajectory() {
+		synchronized (trajectory) {
+			return List.copyOf(trajectory);
+		}
+	}
+
+	// 실행 시간의 fraction 시점까지 찾은 최적 점수 (그때까지 기록이 없으면 null)
+	public Double bestScoreAt(double fraction) {
+		long at = Math.round(elapsedMs * fraction);
+		Double score = null;
+		for (Point point : getTrajectory()) {
+			if (point.elapsedMs() > at) {
+				break;
+			}
+			score = point.bestScore();
+		}
+		return score;
+	}
+
+	// 평가한 이웃 해 중 채택한 비율 (이웃 해를 평가하지 않았으면 null)
+	public Double getAcceptanceRatio() {
+		return evaluatedMoves > 0 ? (double)acceptedMoves / evaluatedMoves : null;
+	}
+
+	// 초당 평가한 이웃 해 수 (어닐링의 반복 1회 = 이웃 해 1개)
+	public Double getIterationsPerSecond() {
+		return evaluatedMoves > 0 && elapsedMs > 0 ? evaluatedMoves * 1000.0 / elapsedMs : null;
+	}
+
+	public record Point(long elapsedMs, int iteration, double bestScore) {
+	}
+}
@@ -0,0 +1,24 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.time.Duration;
+
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class AnnealingOptions {
+
+	private final AnnealingMode mode;
+	private final int chainCount;
+	private final Duration timeBudget; // null 이면 최대 반복 횟수로 종료, 있으면 반복 횟수 제한 없이 예산까지 실행
+	private final Double targetScore;  // 이 점수 이하의 해를 찾으면 즉시 종료 (null 이면 사용 안 함)
+	private final int stallIterations; // 강한 제약 위반 0 이후 최적해 개선 없이 허용할 반복 횟수 (0 이하: 기본값)
+	private final AnnealingProgressListener progressListener; // null 이면 진행 상황을 보고하지 않음
+	private final Long seed;           // 난수 시드 (null 이면 새로 생성, 이력의 시드로 재실행 가능)
+	private final CachedSchedule warmStart; // 같은 입력의 이전 최적해 (있으면 이 해에서 이어서 개선)
+	// warmStart 주변만 국소 탐색 (모든 체인이 warmStart에서 낮은 온도로 시작하고, 바뀐 칸마다 점수에 작은 패널티)
+	private final boolean localSearch;
+}
@@ -0,0 +1,11 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+/**
+ * 어닐링 진행 상황 수신기
+ * 체인마다 일정 반복 간격으로 호출되며, 병렬 체인에서는 여러 스레드에서 동시에 호출될 수 있습니다.
+ */
+@FunctionalInterface
+public interface AnnealingProgressListener {
+
+	void onProgress(int iteration, int maxIterations, double bestScore);
+}
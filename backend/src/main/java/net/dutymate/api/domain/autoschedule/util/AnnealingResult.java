@@ -0,0 +1,27 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.time.Duration;
+import java.util.List;
+
+import net.dutymate.api.domain.autoschedule.TerminationReason;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AnnealingResult {
+
+	private final WardSchedule wardSchedule;
+	private final TerminationReason terminationReason;
+	private final int iterations;     // 최적해를 찾은 체인의 반복 횟수
+	private final long evaluatedMoves; // 모든 체인에서 평가한 이웃 해 수
+	private final long acceptedMoves;  // 그중 채택한 이웃 해 수
+	private final int reheats;         // 재가열(타부 탐색은 destroy and repair) 횟수
+	private final List<MoveOperatorStats> moveStats; // 어닐링 이동 유형별 통계 (다른 엔진과 캐시 재사용은 null)
+	private final double bestScore;
+	private final double bestHardScore;
+	private final Duration elapsed;
+	private final long seed;          // 실행에 사용한 난수 시드
+}
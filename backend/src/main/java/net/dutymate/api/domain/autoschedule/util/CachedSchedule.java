@@ -0,0 +1,48 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import net.dutymate.api.domain.autoschedule.TerminationReason;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * 같은 입력 지문으로 찾은 최적 근무표 (Redis 캐시 값)
+ * 그대로 반환하거나, 어닐링의 초기 해로 사용해 이어서 개선합니다.
+ */
+@Getter
+@Builder
+@Jacksonized
+public class CachedSchedule {
+
+	private final Map<Long, String> shifts; // 간호사별 근무 (Mid 전담 제외)
+	private final double bestScore;
+	private final double bestHardScore;
+	private final boolean converged;        // 강한 제약 위반 없이 수렴으로 종료된 해인지 (더 돌려도 개선 가능성이 낮음)
+	private final long seed;
+
+	public static CachedSchedule of(AnnealingResult annealingResult) {
+		WardSchedule wardSchedule = annealingResult.getWardSchedule();
+		return CachedSchedule.builder()
+			.shifts(wardSchedule.currentDuty().stream()
+				.collect(Collectors.toMap(WardSchedule.NurseShift::getMemberId, WardSchedule.NurseShift::getShifts)))
+			.bestScore(annealingResult.getBestScore())
+			.bestHardScore(annealingResult.getBestHardScore())
+			.converged(annealingResult.getTerminationReason() == TerminationReason.CONVERGED
+				&& annealingResult.getBestHardScore() == 0)
+			.seed(annealingResult.getSeed())
+			.build();
+	}
+
+	// 자동 생성 대상 간호사 모두의 한 달 근무가 있는지
+	public boolean covers(List<Long> memberIds, int daysInMonth) {
+		return shifts != null && memberIds.stream()
+			.map(shifts::get)
+			.allMatch(nurseShifts -> nurseShifts != null && nurseShifts.length() == daysInMonth);
+	}
+}
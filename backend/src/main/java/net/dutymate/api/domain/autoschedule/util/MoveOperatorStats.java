@@ -0,0 +1,36 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import net.dutymate.api.domain.autoschedule.MoveOperator;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * 한 번의 자동 생성에서 이동 유형별 선택/채택/개선 횟수 (모든 체인 합계, 튜닝용)
+ */
+@Getter
+@Builder
+@Jacksonized
+@JsonIgnoreProperties(value = {"acceptanceRatio", "improvementRatio"}, allowGetters = true)
+public class MoveOperatorStats {
+
+	private final MoveOperator operator;
+	private final long selected;         // 선택해서 평가한 횟수
+	private final long accepted;         // 그중 채택한 횟수 (점수가 그대로인 이동 포함)
+	private final long improved;         // 그중 현재 해보다 점수가 좋아진 횟수
+	private final long newBest;          // 그중 최적해를 갱신한 횟수
+	private final double finalProbability; // 종료 시점의 선택 확률 (체인 평균)
+
+	// 평가한 이웃 해 중 채택한 비율 (선택된 적이 없으면 null)
+	public Double getAcceptanceRatio() {
+		return selected > 0 ? (double)accepted / selected : null;
+	}
+
+	// 평가한 이웃 해 중 현재 해보다 좋아진 비율 (선택된 적이 없으면 null)
+	public Double getImprovementRatio() {
+		return selected > 0 ? (double)improved / selected : null;
+	}
+}
@@ -0,0 +1,140 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import net.dutymate.api.domain.autoschedule.MoveOperator;
+
+/**
+ * 어닐링 체인 하나의 이동 유형 선택기 (적응형 가중치)
+ * SEGMENT_ITERATIONS회마다 이동 유형별로 선택 1회당 평균 보상(현재 해 점수를 낮춘 양)을 구하고,
+ * 가중치를 보상 비율 쪽으로 REACTION만큼 옮깁니다. 점수가 그대로이거나 나빠진 이동은 보상이 없습니다.
+ * 어떤 유형도 배제되지 않도록 선택 확률의 절반은 모든 유형에 고르게 나누어, 탐색 단계가 바뀌면 다른 유형도 다시 올라옵니다.
+ * 보상에 실행 시간을 쓰지 않으므로 같은 시드면 같은 순서로 이동을 고릅니다. (시간 예산이 없을 때 재현 가능)
+ * 체인과 마찬가지로 한 번에 한 스레드에서만 사용합니다.
+ */
+class MoveSelector {
+
+	private static final MoveOperator[] OPERATORS = MoveOperator.values();
+
+	private static final int SEGMENT_ITERATIONS = 500;
+	private static final double REACTION = 0.3;
+	private static final double MIN_PROBABILITY = 0.5 / OPERATORS.length;
+
+	// 보상 비율 쪽으로 옮겨 가는 가중치 (합 1), 선택 확률은 여기에 최소 확률을 더한 값
+	private final double[] weights = new double[OPERATORS.length];
+	private final double[] cumulativeProbabilities = new double[OPERATORS.length];
+
+	private final double[] segmentRewards = new double[OPERATORS.length];
+	private final int[] segmentSelections = new int[OPERATORS.length];
+	private int segmentIteration;
+	private int lastOperatorIdx;
+
+	private final long[] selected = new long[OPERATORS.length];
+	private final long[] accepted = new long[OPERATORS.length];
+	private final long[] improved = new long[OPERATORS.length];
+	private final long[] newBest = new long[OPERATORS.length];
+
+	MoveSelector() {
+		Arrays.fill(weights, 1.0 / OPERATORS.length);
+		updateProbabilities();
+	}
+
+	MoveOperator next(RandomGenerator random) {
+		double sample = random.nextDouble();
+		int operatorIdx = 0;
+		while (operatorIdx < OPERATORS.length - 1 && sample >= cumulativeProbabilities[operatorIdx]) {
+			operatorIdx++;
+		}
+		lastOperatorIdx = operatorIdx;
+		selected[operatorIdx]++;
+		segmentSelections[operatorIdx]++;
+		return OPERATORS[operatorIdx];
+	}
+
+	// 직전에 고른 이동의 결과 기록 (delta = 이웃 해 점수 - 현재 해 점수)
+	void record(double delta, boolean isAccepted, boolean isNewBest) {
+		int operatorIdx = lastOperatorIdx;
+		if (isAccepted) {
+			accepted[operatorIdx]++;
+		}
+		if (isNewBest) {
+			newBest[operatorIdx]++;
+		}
+		if (delta < 0) {
+			improved[operatorIdx]++;
+			segmentRewards[operatorIdx] -= delta;
+		}
+
+		if (++segmentIteration >= SEGMENT_ITERATIONS) {
+			updateWeights();
+		}
+	}
+
+	double probability(int operatorIdx) {
+		return cumulativeProbabilities[operatorIdx] - (operatorIdx > 0 ? cumulativeProbabilities[operatorIdx - 1] : 0);
+	}
+
+	// 구간 보상이 하나도 없으면(수렴 후 정체 등) 가중치를 그대로 둠
+	private void updateWeights() {
+		double[] averageRewards = new double[OPERATORS.length];
+		double totalReward = 0;
+		for (int operatorIdx = 0; operatorIdx < OPERATORS.length; operatorIdx++) {
+			if (segmentSelections[operatorIdx] > 0) {
+				averageRewards[operatorIdx] = segmentRewards[operatorIdx] / segmentSelections[operatorIdx];
+				totalReward += averageRewards[operatorIdx];
+			}
+		}
+		if (totalReward > 0) {
+			for (int operatorIdx = 0; operatorIdx < OPERATORS.length; operatorIdx++) {
+				weights[operatorIdx] = (1 - REACTION) * weights[operatorIdx]
+					+ REACTION * averageRewards[operatorIdx] / totalReward;
+			}
+			updateProbabilities();
+		}
+
+		Arrays.fill(segmentRewards, 0);
+		Arrays.fill(segmentSelections, 0);
+		segmentIteration = 0;
+	}
+
+	private void updateProbabilities() {
+		double cumulative = 0;
+		for (int operatorIdx = 0; operatorIdx < OPERATORS.length; operatorIdx++) {
+			cumulative += MIN_PROBABILITY + (1 - MIN_PROBABILITY * OPERATORS.length) * weights[operatorIdx];
+			cumulativeProbabilities[operatorIdx] = cumulative;
+		}
+	}
+
+	/**
+	 * 체인별 선택기의 통계를 이동 유형별로 합칩니다. (선택 확률은 체인 평균)
+	 */
+	static List<MoveOperatorStats> merge(List<MoveSelector> selectors) {
+		List<MoveOperatorStats> stats = new ArrayList<>();
+		for (int operatorIdx = 0; operatorIdx < OPERATORS.length; operatorIdx++) {
+			long totalSelected = 0;
+			long totalAccepted = 0;
+			long totalImproved = 0;
+			long totalNewBest = 0;
+			double totalProbability = 0;
+			for (MoveSelector selector : selectors) {
+				totalSelected += selector.selected[operatorIdx];
+				totalAccepted += selector.accepted[operatorIdx];
+				totalImproved += selector.improved[operatorIdx];
+				totalNewBest += selector.newBest[operatorIdx];
+				totalProbability += selector.probability(operatorIdx);
+			}
+			stats.add(MoveOperatorStats.builder()
+				.operator(OPERATORS[operatorIdx])
+				.selected(totalSelected)
+				.accepted(totalAccepted)
+				.improved(totalImproved)
+				.newBest(totalNewBest)
+				.finalProbability(selectors.isEmpty() ? 0 : totalProbability / selectors.size())
+				.build());
+		}
+		return stats;
+	}
+}
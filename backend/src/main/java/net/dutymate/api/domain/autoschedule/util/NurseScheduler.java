@@ -1,120 +1,437 @@
 package net.dutymate.api.domain.autoschedule.util;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+import net.dutymate.api.domain.autoschedule.MoveOperator;
+import net.dutymate.api.domain.autoschedule.ScheduleConstraint;
+import net.dutymate.api.domain.autoschedule.SchedulerType;
+import net.dutymate.api.domain.autoschedule.TerminationReason;
 import net.dutymate.api.domain.common.utils.YearMonth;
-import net.dutymate.api.domain.request.Request;
 import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.rule.util.CompiledRule;
 import net.dutymate.api.domain.wardmember.ShiftType;
-import net.dutymate.api.domain.wardmember.WardMember;
 import net.dutymate.api.domain.wardmember.WorkIntensity;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
 
-import lombok.Builder;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 @Component
-public class NurseScheduler {
+@RequiredArgsConstructor
+public class NurseScheduler implements SchedulingEngine {
 
 	private static final double INITIAL_TEMPERATURE = 1000.0;
 	private static final double COOLING_RATE = 0.995;
 	private static final int MAX_ITERATIONS = 150000;
 	private static final int MAX_NO_IMPROVEMENT = 3000;
-	private static final Random random = new Random();
-
-	public WardSchedule generateSchedule(WardSchedule wardSchedule,
-		Rule rule,
-		List<WardMember> wardMembers,
-		List<WardSchedule.NurseShift> prevNurseShifts,
-		YearMonth yearMonth,
-		Long currentMemberId,
-		List<Request> requests,
-		Map<Integer, Integer> dailyNightCnt,
-		List<Long> reinforcementRequestIds,
-		Map<Long, WorkIntensity> workIntensities,
-		Map<Long, Integer> nurseShiftFlags) {
-		Map<Long, String> prevMonthSchedules = getPreviousMonthSchedules(prevNurseShifts);
-		Solution currentSolution = createInitialSolution(
-			rule, wardMembers, yearMonth, dailyNightCnt,
-			prevMonthSchedules, workIntensities, nurseShiftFlags
-		);
-		Solution bestSolution = currentSolution.copy();
-
-		List<Long> safeReinforcementIds = reinforcementRequestIds != null
-			? reinforcementRequestIds : Collections.emptyList();
-
-		List<ShiftRequest> shiftRequests = requests.stream()
-			.map(request -> ShiftRequest.builder()
-				.requestId(request.getRequestId())
-				.nurseId(request.getWardMember().getMember().getMemberId())
-				.day(request.getRequestDate().getDate())
-				.requestedShift(request.getRequestShift().getValue().charAt(0))
-				.isReinforced(safeReinforcementIds.contains(request.getRequestId()))
-				.build())
-			.toList();
 
-		double currentScore = evaluateSolution(currentSolution, rule, prevMonthSchedules, shiftRequests,
-			workIntensities);
-		double bestScore = currentScore;
-		double temperature = INITIAL_TEMPERATURE;
-		int noImprovementCount = 0;
-		for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
-			Solution neighborSolution = generateNeighborSolution(currentSolution, prevMonthSchedules, rule);
-			double neighborScore = evaluateSolution(neighborSolution, rule, prevMonthSchedules, shiftRequests,
-				workIntensities);
-
-			if (acceptSolution(currentScore, neighborScore, temperature)) {
-				currentSolution = neighborSolution;
-				currentScore = neighborScore;
-
-				if (currentScore < bestScore) {
-					bestSolution = currentSolution.copy();
-					bestScore = currentScore;
-					noImprovementCount = 0;
-				} else {
-					noImprovementCount++;
+	// 강한 제약 위반 0 이후 최적해 개선 없이 이만큼 반복하면 수렴으로 보고 종료
+	private static final int CONVERGENCE_STALL_ITERATIONS = 20000;
+
+	// 국소 탐색 설정 (이미 거의 완성된 근무표에서 시작하므로 낮은 온도, 짧은 수렴 판정)
+	private static final double LOCAL_SEARCH_TEMPERATURE = 100.0;
+	private static final int LOCAL_SEARCH_STALL_ITERATIONS = 10000;
+
+	// 병렬 템퍼링 설정 (체인별 고정 온도, 주기적 해 교환)
+	private static final double MIN_TEMPERING_TEMPERATURE = 1.0;
+	private static final int EXCHANGE_INTERVAL = 500;
+
+	// 마감 시각 확인 및 진행 상황 보고 주기 (반복 1024회마다)
+	private static final int DEADLINE_CHECK_MASK = 1023;
+	private static final long NO_DEADLINE = Long.MIN_VALUE;
+
+	// 일별 필요 인원을 맞추는 근무 유형 (DailyRequirement의 주간, 저녁, 야간 순서)
+	private static final char[] COVERAGE_SHIFTS = {'D', 'E', 'N'};
+
+	// 새로 만드는 난수 시드 범위 (응답 JSON을 읽는 JS에서 정밀도 손실이 없도록 2^53 미만)
+	private static final long MAX_SEED = 1L << 53;
+
+	private final ExecutorService annealingExecutor;
+
+	@Override
+	public SchedulerType getType() {
+		return SchedulerType.ANNEALING;
+	}
+
+	@Override
+	public AnnealingResult generateSchedule(SchedulingProblem problem, WardSchedule wardSchedule,
+		Long currentMemberId, AnnealingOptions options) {
+		Rule rule = problem.getRule();
+		Map<Long, String> prevMonthSchedules = problem.getPrevMonthSchedules();
+
+		// 이전 최적해가 있으면 한 체인(템퍼링은 가장 낮은 온도)만 그 해에서 시작하고 나머지는 새 초기 해 사용
+		// 국소 탐색이면 모든 체인이 그 해에서 낮은 온도로 시작
+		CachedSchedule warmStart = warmStartOf(problem, options);
+		boolean localSearch = warmStart != null && options.isLocalSearch();
+
+		// 간호사 순번은 초기 해(problem.getMemberIds() 순서)와 동일
+		ShiftRequestTable requestTable = requestTableOf(problem, localSearch ? warmStart : null);
+		// 규칙 검사기(DutyAutoCheck)와 같은 컴파일된 규칙으로 평가
+		CompiledRule compiledRule = CompiledRule.of(rule);
+
+		long startedAt = System.nanoTime();
+		StopCondition stopCondition = new StopCondition(options, startedAt, localSearch);
+		int chainCount = options.getMode() == AnnealingMode.SINGLE ? 1 : Math.max(1, options.getChainCount());
+		double initialTemperature = localSearch ? LOCAL_SEARCH_TEMPERATURE : INITIAL_TEMPERATURE;
+
+		long seed = seedOf(options);
+		int warmStartChainIdx = options.getMode() == AnnealingMode.TEMPERING ? chainCount - 1 : 0;
+
+		// 체인마다 독립된 난수 생성기와 초기 해 사용 (초기 해는 요청 스레드에서 생성)
+		SplittableRandom rootRandom = new SplittableRandom(seed);
+		List<AnnealingChain> chains = new ArrayList<>();
+		for (int chainIdx = 0; chainIdx < chainCount; chainIdx++) {
+			RandomGenerator random = rootRandom.split();
+			Solution initialSolution = warmStart != null && (localSearch || chainIdx == warmStartChainIdx)
+				? createCachedSolution(warmStart, problem)
+				: createInitialSolution(problem, random);
+			// 간호사별/일자별 부분 점수를 유지하며 이웃 해가 바꾼 부분만 다시 평가
+			ScheduleEvaluator evaluator = new ScheduleEvaluator(compiledRule, prevMonthSchedules, requestTable,
+				problem.getWorkIntensities());
+			chains.add(new AnnealingChain(initialSolution, evaluator, random, prevMonthSchedules, rule,
+				options.getProgressListener(), stopCondition, initialTemperature));
+		}
+
+		AnnealingChain bestChain = switch (options.getMode()) {
+			case SINGLE -> {
+				chains.getFirst().anneal(Integer.MAX_VALUE);
+				yield chains.getFirst();
+			}
+			case MULTI_START -> runMultiStart(chains);
+			case TEMPERING -> runTempering(chains, rootRandom.split(), initialTemperature);
+		};
+
+		return AnnealingResult.builder()
+			.wardSchedule(applyFinalSchedule(wardSchedule, bestChain.getBestSolution(), currentMemberId, seed))
+			.seed(seed)
+			.terminationReason(bestChain.getTerminationReason())
+			.iterations(bestChain.getIteration())
+			.evaluatedMoves(chains.stream().mapToLong(AnnealingChain::getEvaluatedMoves).sum())
+			.acceptedMoves(chains.stream().mapToLong(AnnealingChain::getAcceptedMoves).sum())
+			.reheats(chains.stream().mapToInt(AnnealingChain::getReheats).sum())
+			.moveStats(MoveSelector.merge(chains.stream().map(AnnealingChain::getMoveSelector).toList()))
+			.bestScore(bestChain.getBestScore())
+			.bestHardScore(bestChain.getBestHardScore())
+			.elapsed(Duration.ofNanos(System.nanoTime() - startedAt))
+			.build();
+	}
+
+	/**
+	 * 캐시된 최적해를 어닐링 없이 그대로 근무표에 반영합니다.
+	 */
+	public AnnealingResult reuseSchedule(SchedulingProblem problem, WardSchedule wardSchedule, Long currentMemberId,
+		CachedSchedule cachedSchedule) {
+		Solution solution = createCachedSolution(cachedSchedule, problem);
+
+		return AnnealingResult.builder()
+			.wardSchedule(applyFinalSchedule(wardSchedule, solution, currentMemberId, cachedSchedule.getSeed()))
+			.seed(cachedSchedule.getSeed())
+			.terminationReason(TerminationReason.CACHED)
+			.bestScore(cachedSchedule.getBestScore())
+			.bestHardScore(cachedSchedule.getBestHardScore())
+			.elapsed(Duration.ZERO)
+			.build();
+	}
+
+	/**
+	 * 완성된 근무표의 제약 조건별 위반 정도 (가중치 적용 전, 실행 기록/지표용)
+	 */
+	public Map<ScheduleConstraint, Double> constraintViolations(SchedulingProblem problem, CachedSchedule schedule) {
+		ScheduleEvaluator evaluator = new ScheduleEvaluator(CompiledRule.of(problem.getRule()),
+			problem.getPrevMonthSchedules(),
+			requestTableOf(problem, null), problem.getWorkIntensities());
+		return evaluator.violations(createCachedSolution(schedule, problem));
+	}
+
+	// 자동 생성 대상 간호사 모두의 근무가 있는 이전 해만 사용
+	static CachedSchedule warmStartOf(SchedulingProblem problem, AnnealingOptions options) {
+		CachedSchedule warmStart = options.getWarmStart();
+		return warmStart != null && warmStart.covers(problem.getMemberIds(), problem.daysInMonth()) ? warmStart : null;
+	}
+
+	// 국소 탐색이면 anchor(시작 해)에서 바뀐 칸마다 약한 요청 위반으로 계산
+	static ShiftRequestTable requestTableOf(SchedulingProblem problem, CachedSchedule anchor) {
+		if (anchor == null) {
+			return ShiftRequestTable.compile(problem.getRequests(), problem.getMemberIds(), problem.daysInMonth());
+		}
+		return ShiftRequestTable.compile(problem.getRequests(), problem.getMemberIds(), problem.daysInMonth(),
+			anchor.getShifts());
+	}
+
+	// 시드가 같고 시간 예산/목표 점수가 없으면 같은 입력에 대해 같은 근무표를 생성 (이력에 시드 기록)
+	static long seedOf(AnnealingOptions options) {
+		return options.getSeed() != null ? options.getSeed() : ThreadLocalRandom.current().nextLong(MAX_SEED);
+	}
+
+	// 독립 체인 N개를 병렬로 끝까지 실행한 뒤 가장 좋은 해를 가진 체인 반환
+	private AnnealingChain runMultiStart(List<AnnealingChain> chains) {
+		invokeChains(chains, Integer.MAX_VALUE);
+		return bestChainOf(chains);
+	}
+
+	// 온도 사다리에 체인을 배치하고, 구간마다 병렬 실행 후 인접 온도 체인끼리 해를 교환
+	private AnnealingChain runTempering(List<AnnealingChain> chains, RandomGenerator exchangeRandom,
+		double maxTemperature) {
+		int chainCount = chains.size();
+		for (int chainIdx = 0; chainIdx < chainCount; chainIdx++) {
+			double ratio = chainCount == 1 ? 0 : (double)chainIdx / (chainCount - 1);
+			chains.get(chainIdx).fixTemperature(
+				maxTemperature * Math.pow(MIN_TEMPERING_TEMPERATURE / maxTemperature, ratio));
+		}
+
+		while (chains.stream().anyMatch(chain -> !chain.isFinished())) {
+			invokeChains(chains, EXCHANGE_INTERVAL);
+
+			for (int chainIdx = 0; chainIdx < chainCount - 1; chainIdx++) {
+				AnnealingChain hotter = chains.get(chainIdx);
+				AnnealingChain colder = chains.get(chainIdx + 1);
+				double exponent = (1 / colder.getTemperature() - 1 / hotter.getTemperature())
+					* (colder.getCurrentScore() - hotter.getCurrentScore());
+				if (exponent >= 0 || exchangeRandom.nextDouble() < Math.exp(exponent)) {
+					double hotterTemperature = hotter.getTemperature();
+					hotter.fixTemperature(colder.getTemperature());
+					colder.fixTemperature(hotterTemperature);
+					chains.set(chainIdx, colder);
+					chains.set(chainIdx + 1, hotter);
 				}
 			}
+		}
 
-			if (noImprovementCount > MAX_NO_IMPROVEMENT) {
-				temperature = INITIAL_TEMPERATURE;
-				noImprovementCount = 0;
-			} else {
-				temperature *= COOLING_RATE;
+		return bestChainOf(chains);
+	}
+
+	private void invokeChains(List<AnnealingChain> chains, int iterations) {
+		List<Callable<Void>> tasks = chains.stream()
+			.<Callable<Void>>map(chain -> () -> {
+				chain.anneal(iterations);
+				return null;
+			})
+			.toList();
+
+		try {
+			for (Future<Void> future : annealingExecutor.invokeAll(tasks)) {
+				future.get();
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("자동 생성이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("자동 생성 중 오류가 발생했습니다.", e.getCause());
 		}
+	}
 
-		return applyFinalSchedule(wardSchedule, bestSolution, currentMemberId);
+	private AnnealingChain bestChainOf(List<AnnealingChain> chains) {
+		return chains.stream()
+			.min(Comparator.comparingDouble(AnnealingChain::getBestScore))
+			.orElseThrow();
 	}
 
-	private Solution createInitialSolution(
-		Rule rule,
-		List<WardMember> wardMembers,
-		YearMonth yearMonth,
-		Map<Integer, Integer> dailyNightCnt,
-		Map<Long, String> prevMonthSchedules,
-		Map<Long, WorkIntensity> workIntensities,
-		Map<Long, Integer> nurseShiftFlags) {
+	private static boolean isExpired(long deadline) {
+		return deadline != NO_DEADLINE && System.nanoTime() - deadline >= 0;
+	}
 
-		Map<Integer, Solution.DailyRequirement> requirements = calculateDailyRequirements(rule, yearMonth,
-			dailyNightCnt);
+	/**
+	 * 한 번의 자동 생성에서 모든 체인이 공유하는 종료 조건
+	 * 시간 예산이 있으면 반복 횟수 제한 없이 예산까지 실행하고, 없으면 MAX_ITERATIONS에서 종료합니다.
+	 * 목표 점수는 한 체인이 도달하면 나머지 체인도 다음 확인 시점에 종료합니다.
+	 */
+	private static class StopCondition {
+		private final long deadline;
+		private final int maxIterations;
+		private final int stallIterations;
+		private final boolean localSearch; // 강한 제약 위반이 남아도 개선이 멈추면 종료 (시작 해 주변에서 더 찾을 것이 없음)
+		private final Double targetScore;
+		private final AtomicBoolean targetReached = new AtomicBoolean();
+
+		StopCondition(AnnealingOptions options, long startedAt, boolean localSearch) {
+			this.deadline = options.getTimeBudget() != null
+				? startedAt + options.getTimeBudget().toNanos() : NO_DEADLINE;
+			this.maxIterations = options.getTimeBudget() != null ? Integer.MAX_VALUE : MAX_ITERATIONS;
+			this.stallIterations = options.getStallIterations() > 0
+				? options.getStallIterations()
+				: localSearch ? LOCAL_SEARCH_STALL_ITERATIONS : CONVERGENCE_STALL_ITERATIONS;
+			this.localSearch = localSearch;
+			this.targetScore = options.getTargetScore();
+		}
+
+		boolean isTargetScore(double score) {
+			return targetScore != null && score <= targetScore;
+		}
+	}
+
+	/**
+	 * 시뮬레이티드 어닐링 체인 하나의 상태 (해, 평가기, 난수 생성기, 온도)
+	 * 한 체인은 한 번에 한 스레드에서만 실행됩니다.
+	 */
+	@Getter
+	private class AnnealingChain {
+		private final ScheduleEvaluator evaluator;
+		private final RandomGenerator random;
+		private final Map<Long, String> prevMonthSchedules;
+		private final Rule rule;
+		private final AnnealingProgressListener progressListener;
+		private final StopCondition stopCondition;
+		private final MoveSelector moveSelector = new MoveSelector();
+
+		private Solution currentSolution;
+		private double currentScore;
+		private Solution bestSolution;
+		private double bestScore;
+		private double bestHardScore;
+		private int bestIteration;
+		private final double initialTemperature; // 시작 및 재가열 온도
+		private double temperature;
+		private boolean cooling = true;
+		private int noImprovementCount;
+		private int iteration;
+		private long evaluatedMoves;
+		private long acceptedMoves;
+		private int reheats;
+		private TerminationReason terminationReason;
+
+		AnnealingChain(Solution initialSolution, ScheduleEvaluator evaluator, RandomGenerator random,
+			Map<Long, String> prevMonthSchedules, Rule rule, AnnealingProgressListener progressListener,
+			StopCondition stopCondition, double initialTemperature) {
+			this.evaluator = evaluator;
+			this.random = random;
+			this.prevMonthSchedules = prevMonthSchedules;
+			this.rule = rule;
+			this.progressListener = progressListener;
+			this.stopCondition = stopCondition;
+			this.initialTemperature = initialTemperature;
+			this.temperature = initialTemperature;
+			this.currentSolution = initialSolution;
+			this.currentScore = evaluator.initialize(initialSolution);
+			initialSolution.recordMoves();
+			this.bestSolution = initialSolution.copy();
+			this.bestScore = currentScore;
+			this.bestHardScore = evaluator.hardScore();
+
+			if (stopCondition.isTargetScore(bestScore)) {
+				stopCondition.targetReached.set(true);
+				terminationReason = TerminationReason.TARGET_SCORE;
+			}
+		}
+
+		// 템퍼링용 고정 온도 (냉각과 재가열 없음)
+		void fixTemperature(double temperature) {
+			this.temperature = temperature;
+			this.cooling = false;
+		}
+
+		boolean isFinished() {
+			if (terminationReason == null && isExpired(stopCondition.deadline)) {
+				terminationReason = TerminationReason.TIME_BUDGET;
+			}
+			return terminationReason != null;
+		}
+
+		// 최대 iterations번 반복 (종료 조건을 만족하면 terminationReason을 남기고 중단)
+		void anneal(int iterations) {
+			for (int step = 0; step < iterations && terminationReason == null; step++, iteration++) {
+				if (iteration >= stopCondition.maxIterations) {
+					terminationReason = TerminationReason.MAX_ITERATIONS;
+					return;
+				}
+				if ((iteration & DEADLINE_CHECK_MASK) == 0) {
+					if (isExpired(stopCondition.deadline)) {
+						terminationReason = TerminationReason.TIME_BUDGET;
+						return;
+					}
+					if (stopCondition.targetReached.get()) {
+						terminationReason = TerminationReason.TARGET_SCORE;
+						return;
+					}
+					if (progressListener != null) {
+						progressListener.onProgress(iteration, stopCondition.maxIterations, bestScore);
+					}
+				}
+
+				// 현재 해를 직접 수정하고, 기각되면 이동 기록으로 되돌림 (새 최적해일 때만 복사)
+				// 이동 유형은 이번 실행에서 점수를 잘 낮춘 유형일수록 자주 선택
+				applyMove(moveSelector.next(random), currentSolution, prevMonthSchedules, rule, random);
+				double neighborScore = evaluator.evaluateMove(currentSolution);
+				double delta = neighborScore - currentScore;
+				evaluatedMoves++;
+
+				if (acceptSolution(currentScore, neighborScore, temperature, random)) {
+					acceptedMoves++;
+					evaluator.accept();
+					currentSolution.commitMove();
+					currentScore = neighborScore;
+					moveSelector.record(delta, true, currentScore < bestScore);
+
+					if (currentScore < bestScore) {
+						bestSolution = currentSolution.copy();
+						bestScore = currentScore;
+						bestHardScore = evaluator.hardScore();
+						bestIteration = iteration;
+						noImprovementCount = 0;
+
+						if (stopCondition.isTargetScore(bestScore)) {
+							stopCondition.targetReached.set(true);
+							terminationReason = TerminationReason.TARGET_SCORE;
+						}
+					} else {
+						noImprovementCount++;
+					}
+				} else {
+					evaluator.reject();
+					currentSolution.rollbackMove();
+					moveSelector.record(delta, false, false);
+				}
+
+				// 강한 제약 조건을 모두 만족한 뒤 약한 제약 조건 개선이 멈추면 종료 (국소 탐색은 개선이 멈추면 종료)
+				if ((bestHardScore == 0 || stopCondition.localSearch)
+					&& iteration - bestIteration >= stopCondition.stallIterations) {
+					terminationReason = TerminationReason.CONVERGED;
+				}
+
+				if (!cooling) {
+					continue;
+				}
+				if (noImprovementCount > MAX_NO_IMPROVEMENT) {
+					temperature = initialTemperature;
+					noImprovementCount = 0;
+					reheats++;
+				} else {
+					temperature *= COOLING_RATE;
+				}
+			}
+		}
+	}
+
+	Solution createInitialSolution(SchedulingProblem problem, RandomGenerator random) {
+		Rule rule = problem.getRule();
+		YearMonth yearMonth = problem.getYearMonth();
+
+		Solution.DailyRequirement[] requirements = calculateDailyRequirements(rule, yearMonth,
+			problem.getDailyNightCnt());
 
 		// 간호사 초기화 (모두 오프로 시작) - 비트마스킹 정보 포함
-		List<Solution.Nurse> nurses = initializeNurses(wardMembers, yearMonth.daysInMonth(),
-			nurseShiftFlags);
+		List<Solution.Nurse> nurses = initializeNurses(problem.getMemberIds(), yearMonth.daysInMonth(),
+			problem.getNurseShiftFlags());
 
 		// 이전 달 마지막 근무와의 연속성 고려
-		considerPreviousMonthContinuity(nurses, prevMonthSchedules, rule);
+		considerPreviousMonthContinuity(nurses, problem.getPrevMonthSchedules(), rule, random);
 
 		// 특정 근무 타입만 가능한 간호사 먼저 처리 (Night 전담, Day 전담 등)
 		// handleSpecificShiftNurses(nurses, yearMonth, dailyNightCnt);
@@ -122,7 +439,7 @@ public class NurseScheduler {
 		// 나머지 날짜에 대한 근무 배정 (워크 인텐시티 고려)
 		for (int day = 1; day <= yearMonth.daysInMonth(); day++) {
 			if (hasNoAssignmentsForDay(nurses, day)) {
-				assignShiftsForDay(nurses, day, requirements.get(day), workIntensities);
+				assignShiftsForDay(nurses, day, requirements[day], problem.getWorkIntensities(), random);
 			}
 		}
 
@@ -133,6 +450,23 @@ public class NurseScheduler {
 			.build();
 	}
 
+	Solution createCachedSolution(CachedSchedule cachedSchedule, SchedulingProblem problem) {
+		List<Solution.Nurse> nurses = problem.getMemberIds().stream()
+			.map(memberId -> Solution.Nurse.builder()
+				.id(memberId)
+				.shifts(cachedSchedule.getShifts().get(memberId).toCharArray())
+				.shiftFlags(problem.getNurseShiftFlags().getOrDefault(memberId, ShiftType.ALL.getFlag()))
+				.build())
+			.collect(Collectors.toList());
+
+		return Solution.builder()
+			.daysInMonth(problem.daysInMonth())
+			.nurses(nurses)
+			.dailyRequirements(calculateDailyRequirements(problem.getRule(), problem.getYearMonth(),
+				problem.getDailyNightCnt()))
+			.build();
+	}
+
 	private void sortNursesByWorkIntensity(List<Solution.Nurse> nurses, Map<Long, WorkIntensity> workIntensities) {
 		nurses.sort((n1, n2) -> {
 			WorkIntensity i1 = workIntensities.getOrDefault(n1.getId(), WorkIntensity.MEDIUM);
@@ -156,23 +490,9 @@ public class NurseScheduler {
 		});
 	}
 
-	public Map<Long, String> getPreviousMonthSchedules(List<WardSchedule.NurseShift> prevNurseShifts) {
-		Map<Long, String> prevMonthSchedules = new HashMap<>();
-		if (prevNurseShifts != null) {
-			for (WardSchedule.NurseShift shift : prevNurseShifts) {
-				String shifts = shift.getShifts();
-				if (shifts.length() >= 4) {
-					prevMonthSchedules.put(shift.getMemberId(),
-						shifts.substring(shifts.length() - 4));
-				}
-			}
-		}
-		return prevMonthSchedules;
-	}
-
 	private void considerPreviousMonthContinuity(List<Solution.Nurse> nurses,
 		Map<Long, String> prevMonthSchedules,
-		Rule rule) {
+		Rule rule, RandomGenerator random) {
 		for (Solution.Nurse nurse : nurses) {
 			String prevSchedule = prevMonthSchedules.get(nurse.getId());
 			if (prevSchedule != null && !prevSchedule.isEmpty()) {
@@ -197,7 +517,7 @@ public class NurseScheduler {
 
 						// 특별히 연속 야간 후 필요한 추가 휴식 적용
 						int extraRestDays = rule.getOffCntAfterN();
-						for (int day = 1; day <= Math.min(extraRestDays, nurse.getShifts().length); day++) {
+						for (int day = 1; day <= Math.min(extraRestDays, nurse.getDaysInMonth()); day++) {
 							nurse.setShift(day, 'O');
 						}
 					} else if (nurse.canWorkShift('N')) {
@@ -210,7 +530,7 @@ public class NurseScheduler {
 
 							// 수정: 최대 1일만 추가로 배정 (이전 최대 2일)
 							int additionalNights = Math.min(remainingAllowedNights - 1, 1);
-							for (int day = 2; day <= additionalNights + 1 && day <= nurse.getShifts().length; day++) {
+							for (int day = 2; day <= additionalNights + 1 && day <= nurse.getDaysInMonth(); day++) {
 								// 수정: 확률 낮춤 (이전 0.8)
 								if (random.nextDouble() < 0.6) {
 									nurse.setShift(day, 'N');
@@ -225,7 +545,7 @@ public class NurseScheduler {
 							if (totalNights >= rule.getMaxN() - 1) { // 수정: 더 엄격한 조건
 								int reset = additionalNights + 2;
 								int restDays = rule.getOffCntAfterN();
-								int length = nurse.getShifts().length;
+								int length = nurse.getDaysInMonth();
 								for (int day = reset; day < reset + restDays && day <= length; day++) {
 									nurse.setShift(day, 'O');
 								}
@@ -257,7 +577,7 @@ public class NurseScheduler {
 
 						// 최대 연속 근무 후 필요한 휴식 적용
 						int restDays = rule.getOffCntAfterMaxShift();
-						for (int day = 1; day <= Math.min(restDays, nurse.getShifts().length); day++) {
+						for (int day = 1; day <= Math.min(restDays, nurse.getDaysInMonth()); day++) {
 							nurse.setShift(day, 'O');
 						}
 					} else {
@@ -281,7 +601,7 @@ public class NurseScheduler {
 								nurse.setShift(1, preferredShift); // 같은 유형 유지
 
 								// 너무 긴 연속 근무는 피함
-								if (consecutiveWorkDays + 1 >= rule.getMaxShift() && nurse.getShifts().length > 1) {
+								if (consecutiveWorkDays + 1 >= rule.getMaxShift() && nurse.getDaysInMonth() > 1) {
 									nurse.setShift(2, 'O'); // 둘째날은 휴무
 								}
 							} else if (lastPrevShift == 'E' && nurse.canWorkShift('N') && random.nextDouble() < 0.3) {
@@ -289,17 +609,17 @@ public class NurseScheduler {
 
 								// 야간 근무는 최소 연속 근무 일수를 보장해야 함
 								int minNights = rule.getMinN();
-								if (nurse.getShifts().length >= minNights) {
+								if (nurse.getDaysInMonth() >= minNights) {
 									// 첫날 야간 배정
 									nurse.setShift(1, 'N');
 
 									// 최소 야간 일수만큼 연속 배정
-									for (int day = 2; day <= minNights && day <= nurse.getShifts().length; day++) {
+									for (int day = 2; day <= minNights && day <= nurse.getDaysInMonth(); day++) {
 										nurse.setShift(day, 'N');
 									}
 
 									// 필요한 경우 휴식 보장
-									if (nurse.getShifts().length > minNights) {
+									if (nurse.getDaysInMonth() > minNights) {
 										nurse.setShift(minNights + 1, 'O');
 									}
 								} else {
@@ -343,14 +663,14 @@ public class NurseScheduler {
 						boolean canEnsureMinNights = true;
 
 						// 최소 야간 근무 일수를 확보할 수 있는지 확인
-						for (int day = 1; day <= minNights && day <= nurse.getShifts().length; day++) {
+						for (int day = 1; day <= minNights && day <= nurse.getDaysInMonth(); day++) {
 							if (nurse.getShift(day) != 'O' && nurse.getShift(day) != 'X') {
 								canEnsureMinNights = false;
 								break;
 							}
 						}
 
-						if (canEnsureMinNights && nurse.getShifts().length >= minNights) {
+						if (canEnsureMinNights && nurse.getDaysInMonth() >= minNights) {
 							possibleShifts.add('N');
 						}
 					}
@@ -379,12 +699,12 @@ public class NurseScheduler {
 								int minNights = rule.getMinN();
 
 								// 최소 야간 일수만큼 연속 배정
-								for (int day = 2; day <= minNights && day <= nurse.getShifts().length; day++) {
+								for (int day = 2; day <= minNights && day <= nurse.getDaysInMonth(); day++) {
 									nurse.setShift(day, 'N');
 								}
 
 								// 필요한 경우 휴식 보장
-								if (nurse.getShifts().length > minNights) {
+								if (nurse.getDaysInMonth() > minNights) {
 									nurse.setShift(minNights + 1, 'O');
 								}
 
@@ -411,12 +731,12 @@ public class NurseScheduler {
 							int minNights = rule.getMinN();
 
 							// 최소 야간 일수만큼 연속 배정
-							for (int day = 2; day <= minNights && day <= nurse.getShifts().length; day++) {
+							for (int day = 2; day <= minNights && day <= nurse.getDaysInMonth(); day++) {
 								nurse.setShift(day, 'N');
 							}
 
 							// 필요한 경우 휴식 보장
-							if (nurse.getShifts().length > minNights) {
+							if (nurse.getDaysInMonth() > minNights) {
 								nurse.setShift(minNights + 1, 'O');
 							}
 						} else if (possibleShifts.contains('O')) { // 휴무 5%
@@ -431,28 +751,27 @@ public class NurseScheduler {
 		}
 	}
 
-	private Map<Integer, Solution.DailyRequirement> calculateDailyRequirements(Rule rule, YearMonth yearMonth,
+	private Solution.DailyRequirement[] calculateDailyRequirements(Rule rule, YearMonth yearMonth,
 		Map<Integer, Integer> dailyNightCnt) {
-		Map<Integer, Solution.DailyRequirement> requirements = new HashMap<>();
+		Solution.DailyRequirement[] requirements = new Solution.DailyRequirement[yearMonth.daysInMonth() + 1];
 		for (int day = 1; day <= yearMonth.daysInMonth(); day++) {
 			boolean isWeekend = yearMonth.isWeekend(day);
-			requirements.put(day, Solution.DailyRequirement.builder()
+			requirements[day] = Solution.DailyRequirement.builder()
 				.dayNurses(isWeekend ? rule.getWendDCnt() : rule.getWdayDCnt())
 				.eveningNurses(isWeekend ? rule.getWendECnt() : rule.getWdayECnt())
 				.nightNurses(isWeekend
 					? (rule.getWendNCnt() - dailyNightCnt.getOrDefault(day, 0))
 					: (rule.getWdayNCnt() - dailyNightCnt.getOrDefault(day, 0)))
-				.build());
+				.build();
 		}
 		return requirements;
 	}
 
-	private List<Solution.Nurse> initializeNurses(List<WardMember> wardMembers,
+	private List<Solution.Nurse> initializeNurses(List<Long> memberIds,
 		int daysInMonth,
 		Map<Long, Integer> nurseShiftFlags) {
-		return wardMembers.stream()
-			.map(wm -> {
-				Long memberId = wm.getMember().getMemberId();
+		return memberIds.stream()
+			.map(memberId -> {
 				char[] shifts = new char[daysInMonth];
 				// String existingShifts = existingSchedules.get(memberId);
 
@@ -469,8 +788,8 @@ public class NurseScheduler {
 			.collect(Collectors.toList());
 	}
 
-	private void assignShiftsForDay(List<Solution.Nurse> nurses, int day, Solution.DailyRequirement requirement,
-		Map<Long, WorkIntensity> workIntensities) {
+	void assignShiftsForDay(List<Solution.Nurse> nurses, int day, Solution.DailyRequirement requirement,
+		Map<Long, WorkIntensity> workIntensities, RandomGenerator random) {
 		// 일별 필요 인원 수 체크
 		Map<Character, Integer> currentAssignments = countShiftsForDay(nurses, day);
 
@@ -495,21 +814,22 @@ public class NurseScheduler {
 
 		// 필요한 인원만 배정
 		if (remainingNightNurses > 0) {
-			assignSpecificShift(availableNurses, day, 'N', remainingNightNurses);
+			assignSpecificShift(availableNurses, day, 'N', remainingNightNurses, random);
 		}
 
 		if (remainingDayNurses > 0) {
-			assignSpecificShift(availableNurses, day, 'D', remainingDayNurses);
+			assignSpecificShift(availableNurses, day, 'D', remainingDayNurses, random);
 		}
 
 		if (remainingEveningNurses > 0) {
-			assignSpecificShift(availableNurses, day, 'E', remainingEveningNurses);
+			assignSpecificShift(availableNurses, day, 'E', remainingEveningNurses, random);
 		}
 
 		// 남은 간호사들은 자동으로 오프(O)로 유지됨
 	}
 
-	private void assignSpecificShift(List<Solution.Nurse> availableNurses, int day, char shiftType, int required) {
+	private void assignSpecificShift(List<Solution.Nurse> availableNurses, int day, char shiftType, int required,
+		RandomGenerator random) {
 		// 필요한 인원 수가 0이면 배정하지 않음
 		if (required <= 0 || availableNurses.isEmpty()) {
 			return;
@@ -525,7 +845,7 @@ public class NurseScheduler {
 		}
 
 		if (shiftType == 'N') {
-			assignNightShifts(eligibleNurses, day, required);
+			assignNightShifts(eligibleNurses, day, required, random);
 		} else {
 			for (int i = 0; i < required && !eligibleNurses.isEmpty(); i++) {
 				int nurseIdx = random.nextInt(eligibleNurses.size());
@@ -538,7 +858,8 @@ public class NurseScheduler {
 		}
 	}
 
-	private void assignNightShifts(List<Solution.Nurse> availableNurses, int day, int required) {
+	private void assignNightShifts(List<Solution.Nurse> availableNurses, int day, int required,
+		RandomGenerator random) {
 		int remainingRequired = required;
 		List<Solution.Nurse> assignedNurses = new ArrayList<>();
 
@@ -581,7 +902,7 @@ public class NurseScheduler {
 
 			// 가능한 경우 연속 야간 근무 설정
 			nurse.setShift(day, 'N');
-			if (day < nurse.getShifts().length - 1
+			if (day < nurse.getDaysInMonth() - 1
 				&& isNurseAvailableForConsecutiveNights(nurse, day)) {
 				nurse.setShift(day + 1, 'N');
 			}
@@ -593,7 +914,7 @@ public class NurseScheduler {
 
 	private boolean isNurseAvailableForConsecutiveNights(Solution.Nurse nurse, int day) {
 		// 간호사가 연속 야간 근무 가능한지 확인
-		if (day + 1 > nurse.getShifts().length || !nurse.canWorkShift('N')) {
+		if (day + 1 > nurse.getDaysInMonth() || !nurse.canWorkShift('N')) {
 			return false;
 		}
 
@@ -606,7 +927,7 @@ public class NurseScheduler {
 		}
 
 		// 이후 근무 확인
-		if (day + 2 <= nurse.getShifts().length) {
+		if (day + 2 <= nurse.getDaysInMonth()) {
 			char followingShift = nurse.getShift(day + 2);
 			return followingShift == 'O' || followingShift == 'X';
 		}
@@ -614,50 +935,25 @@ public class NurseScheduler {
 		return true;
 	}
 
-	private double evaluateSolution(Solution solution, Rule rule, Map<Long, String> prevMonthSchedules,
-		List<ShiftRequest> requests, Map<Long, WorkIntensity> workIntensities) {
-		double score = 0;
-
-		// 강한 제약 조건
-		score += evaluateShiftRequirements(solution) * 20000;
-		score += evaluateConsecutiveShifts(solution, rule) * 15000;
-		score += evaluatePreviousMonthConstraints(solution, prevMonthSchedules, rule) * 10000;
-		score += evaluateShiftTypeConstraints(solution) * 10000; // 근무 유형 제약 (높은 가중치)
-		score += evaluateShiftRequests(solution, requests) * 5000;
-		score += evaluateShiftPatterns(solution) * 5000;
-
-		// 약한 제약 조건
-		score += evaluateNodPatterns(solution, prevMonthSchedules) * 3000;
-		score += evaluateWorkloadBalance(solution) * 1000;
-		score += evaluateWorkIntensityBalance(solution, workIntensities) * 2000;
-		score += evaluateAlternatingWorkPattern(solution) * 500;
-		score += evaluateShiftConsistency(solution) * 1000; // 3000 가중치로 설정
-
-		return score;
-	}
-
-	private void modifyAlternatingPattern(List<Solution.Nurse> nurses) {
+	private void modifyAlternatingPattern(List<Solution.Nurse> nurses, RandomGenerator random) {
 		if (nurses.isEmpty()) {
 			return;
 		}
 
 		int nurseIdx = random.nextInt(nurses.size());
 		Solution.Nurse nurse = nurses.get(nurseIdx);
-		char[] shifts = nurse.getShifts();
+		int daysInMonth = nurse.getDaysInMonth();
 
-		// 근무-휴무 패턴 찾기
+		// 근무-휴무 패턴 찾기 (근무-휴무-근무-휴무 시작 위치를 비트 연산으로 표시)
+		int workMask = nurse.getWorkMask();
+		int restMask = nurse.getRestMask();
+		int patterns = workMask & (restMask >>> 1) & (workMask >>> 2) & (restMask >>> 3);
 		List<Integer> patternStarts = new ArrayList<>();
 
-		for (int i = 0; i < shifts.length - 3; i++) {
-			if (shifts[i] != 'O'
-				&& shifts[i] != 'X'
-				&& (shifts[i + 1] == 'O' || shifts[i + 1] == 'X')
-				&& shifts[i + 2] != 'O' && shifts[i + 2] != 'X'
-				&& (shifts[i + 3] == 'O' || shifts[i + 3] == 'X')) {
-
-				patternStarts.add(i);
-				i += 3; // 다음 검색은 이 패턴 이후부터
-			}
+		while (patterns != 0) {
+			int start = Integer.numberOfTrailingZeros(patterns);
+			patternStarts.add(start);
+			patterns &= -(1 << (start + 4)); // 다음 검색은 이 패턴 이후부터
 		}
 
 		if (patternStarts.isEmpty()) {
@@ -673,8 +969,8 @@ public class NurseScheduler {
 		switch (strategy) {
 			case 0:
 				// 전략 1: 연속 근무로 변경 (첫번째 근무 + 휴무를 모두 근무로)
-				if (startIdx + 1 < shifts.length) {
-					char workShift = shifts[startIdx];
+				if (startIdx + 1 < daysInMonth) {
+					char workShift = nurse.getShift(startIdx + 1);
 					if (nurse.canWorkShift(workShift)) {
 						nurse.setShift(startIdx + 2, workShift);
 					}
@@ -682,14 +978,14 @@ public class NurseScheduler {
 				break;
 			case 1:
 				// 전략 2: 연속 휴무로 변경 (두번째 근무 + 휴무를 모두 휴무로)
-				if (startIdx + 3 < shifts.length) {
+				if (startIdx + 3 < daysInMonth) {
 					nurse.setShift(startIdx + 3, 'O');
 				}
 				break;
 			case 2:
 				// 전략 3: 첫번째 근무 유형 변경
-				if (startIdx + 2 < shifts.length) {
-					char currentShift = shifts[startIdx + 2];
+				if (startIdx + 2 < daysInMonth) {
+					char currentShift = nurse.getShift(startIdx + 3);
 					if (nurse.canWorkShift(currentShift)) {
 						nurse.setShift(startIdx + 1, currentShift);
 					}
@@ -697,8 +993,8 @@ public class NurseScheduler {
 				break;
 			case 3:
 				// 전략 4: 두번째 근무 유형 변경
-				if (startIdx < shifts.length) {
-					char currentShift = shifts[startIdx];
+				if (startIdx < daysInMonth) {
+					char currentShift = nurse.getShift(startIdx + 1);
 					if (nurse.canWorkShift(currentShift)) {
 						nurse.setShift(startIdx + 3, currentShift);
 					}
@@ -707,446 +1003,6 @@ public class NurseScheduler {
 		}
 	}
 
-	// 근무 유형 제약 조건 평가 메서드 (새로 추가)
-	private double evaluateShiftTypeConstraints(Solution solution) {
-		double violations = 0;
-
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			// 특정 근무 타입만 가능한 간호사 처리
-			boolean isSpecificShiftNurse = nurse.getShiftFlags() == ShiftType.D.getFlag()
-				|| nurse.getShiftFlags() == ShiftType.E.getFlag()
-				|| nurse.getShiftFlags() == ShiftType.N.getFlag()
-				|| nurse.getShiftFlags() == ShiftType.M.getFlag();
-
-			for (int day = 1; day <= solution.getDaysInMonth(); day++) {
-				char shift = nurse.getShift(day);
-
-				// 근무 불가능한 유형이 배정된 경우 패널티
-				if (!nurse.canWorkShift(shift) && shift != 'O' && shift != 'X') {
-					violations += 200; // 높은 패널티
-				}
-
-				// 특정 근무 타입만 가능한 간호사가 다른 근무를 하는 경우 더 높은 패널티
-				if (isSpecificShiftNurse && shift != 'O' && shift != 'X') {
-					int nurseShiftFlag = nurse.getShiftFlags();
-					boolean isValidShift = switch (shift) {
-						case 'D' -> (nurseShiftFlag & ShiftType.D.getFlag()) != 0;
-						case 'E' -> (nurseShiftFlag & ShiftType.E.getFlag()) != 0;
-						case 'N' -> (nurseShiftFlag & ShiftType.N.getFlag()) != 0;
-						case 'M' -> (nurseShiftFlag & ShiftType.M.getFlag()) != 0;
-						default -> false;
-					};
-
-					if (!isValidShift) {
-						violations += 500; // 매우 높은 패널티
-					}
-				}
-			}
-		}
-
-		return violations;
-	}
-
-	private double evaluateNodPatterns(Solution solution, Map<Long, String> prevMonthSchedules) {
-		double violations = 0;
-
-		// 기존 월내 NOD 패턴 체크
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			for (int day = 1; day <= solution.getDaysInMonth() - 2; day++) {
-				if (nurse.hasNodPattern(day - 1)) {
-					violations += 10;
-				}
-			}
-
-			// 월말-월초 NOD 패턴 체크
-			String prevSchedule = prevMonthSchedules.get(nurse.getId());
-			if (prevSchedule != null && prevSchedule.length() >= 2) {
-				// 이전 달 마지막 날이 N
-				if (prevSchedule.charAt(prevSchedule.length() - 1) == 'N') {
-					// 현재 달 첫날이 O
-					if (solution.getDaysInMonth() >= 2 && nurse.getShift(1) == 'O') {
-						// 현재 달 둘째날이 D -> NOD 패턴
-						if (nurse.getShift(2) == 'D') {
-							violations += 20; // 월말-월초 NOD 패턴에 더 높은 패널티
-						}
-					}
-				}
-			}
-		}
-
-		return violations;
-	}
-
-	/**
-	 * 워크 인텐시티에 따른 휴일 배분 적절성을 평가합니다.
-	 */
-	private double evaluateWorkIntensityBalance(Solution solution, Map<Long, WorkIntensity> workIntensities) {
-		double violations = 0;
-		int daysInMonth = solution.getDaysInMonth();
-
-		// LOW 강도 간호사만 있는지 확인
-		boolean onlyLowExists = solution.getNurses().stream()
-			.allMatch(nurse -> workIntensities.getOrDefault(nurse.getId(), WorkIntensity.MEDIUM) == WorkIntensity.LOW);
-
-		// 전체 근무 배정 현황 계산
-		Map<Long, Map<Character, Integer>> nurseShiftCounts = new HashMap<>();
-
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			Map<Character, Integer> counts = new HashMap<>();
-			for (char shift : nurse.getShifts()) {
-				counts.merge(shift, 1, Integer::sum);
-			}
-			nurseShiftCounts.put(nurse.getId(), counts);
-		}
-
-		// 워크 인텐시티에 따른 평가
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			WorkIntensity intensity = workIntensities.getOrDefault(nurse.getId(), WorkIntensity.MEDIUM);
-			Map<Character, Integer> counts = nurseShiftCounts.get(nurse.getId());
-
-			// 근무 일수 비율 계산 (D + E + N)
-			int workDays = counts.getOrDefault('D', 0) + counts.getOrDefault('E', 0) + counts.getOrDefault('N', 0);
-			double workRatio = (double)workDays / daysInMonth;
-
-			// 각 근무 강도별 목표 근무 비율
-			double targetRatio = switch (intensity) {
-				case HIGH -> 0.7; // 70% 근무 (HIGH는 더 많이 근무)
-				case LOW -> 0.5; // 50% 근무 (LOW는 덜 근무)
-				default -> 0.6; // 60% 근무 (중간 정도 근무)
-			};
-
-			// 목표 비율과의 차이에 따른 페널티
-			double diff = Math.abs(workRatio - targetRatio);
-
-			// 강도별 다른 가중치 적용
-			if (intensity == WorkIntensity.LOW) {
-				// LOW 강도 간호사에게 더 높은 가중치 적용
-				double weightMultiplier = 3.0; // 3배 가중치
-
-				// LOW 강도 간호사만 있는 경우 추가 가중치 적용
-				if (onlyLowExists) {
-					weightMultiplier = 5.0; // 5배 가중치
-				}
-
-				// 목표보다 더 많이 일하는 경우 (workRatio > targetRatio) 페널티 추가
-				if (workRatio > targetRatio) {
-					weightMultiplier *= 1.5; // 추가 50% 페널티
-				}
-
-				violations += diff * 100 * weightMultiplier;
-			} else if (intensity == WorkIntensity.HIGH) {
-				// HIGH 강도 간호사는 일반 가중치
-				violations += diff * 100;
-			} else {
-				// MEDIUM 강도 간호사는 일반 가중치
-				violations += diff * 100;
-			}
-		}
-
-		return violations;
-	}
-
-	private double evaluateShiftRequirements(Solution solution) {
-		double violations = 0;
-		for (int day = 1; day <= solution.getDaysInMonth(); day++) {
-			Map<Character, Integer> counts = countShiftsForDay(solution.getNurses(), day);
-			Solution.DailyRequirement req = solution.getDailyRequirements().get(day);
-
-			// 야간 근무 위반은 더 높은 패널티 부여
-			int nightDiff = Math.abs(counts.getOrDefault('N', 0) - req.getNightNurses());
-			violations += nightDiff * 50; // 야간 근무 위반에 50배 패널티
-
-			// 일반 근무 요구사항 위반
-			violations += Math.abs(counts.getOrDefault('D', 0) - req.getDayNurses());
-			violations += Math.abs(counts.getOrDefault('E', 0) - req.getEveningNurses());
-		}
-		return violations;
-	}
-
-	private double evaluatePreviousMonthConstraints(Solution solution, Map<Long, String> prevMonthSchedules,
-		Rule rule) {
-		double violations = 0;
-
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			String prevSchedule = prevMonthSchedules.get(nurse.getId());
-			if (prevSchedule != null && !prevSchedule.isEmpty()) {
-				char lastPrevShift = prevSchedule.charAt(prevSchedule.length() - 1);
-				char firstCurrentShift = nurse.getShift(1);
-
-				// 이전 달 마지막 날이 야간 근무인 경우
-				if (lastPrevShift == 'N') {
-					// 야간 -> 주간/저녁 패턴은 위반 (야간 근무 후 바로 주간이나 저녁 근무 불가)
-					if (firstCurrentShift == 'D' || firstCurrentShift == 'E') {
-						violations += 100;  // 높은 패널티
-					}
-
-					// 야간 근무 후 바로 휴무가 아닌 경우 (N -> O 아닌 경우) 패널티
-					// 단, 야간 연속성 (N -> N)은 예외로 검사
-					if (firstCurrentShift != 'O' && firstCurrentShift != 'N') {
-						violations += 50;
-					}
-
-					// 야간 연속성 체크 (이전 달 마지막과 이번 달이 연속될 때만)
-					if (firstCurrentShift == 'N') {
-						// 이전 달 연속 야간 근무 일수 계산
-						int prevMonthConsecutiveNights = 1; // 마지막 날
-						for (int i = prevSchedule.length() - 2; i >= 0; i--) {
-							if (prevSchedule.charAt(i) == 'N') {
-								prevMonthConsecutiveNights++;
-							} else {
-								break;
-							}
-						}
-
-						// 현재 달 연속 야간 근무 일수 계산
-						int currentMonthConsecutiveNights = 1; // 첫날
-						for (int day = 2; day <= solution.getDaysInMonth(); day++) {
-							if (nurse.getShift(day) == 'N') {
-								currentMonthConsecutiveNights++;
-							} else {
-								break;
-							}
-						}
-
-						// 전체 연속 야간 근무 일수
-						int totalConsecutiveNights =
-							prevMonthConsecutiveNights + currentMonthConsecutiveNights - 1; // 중복 카운트 방지
-
-						// 최대 연속 야간 초과 시 패널티 (매우 높은 패널티 적용)
-						if (totalConsecutiveNights > rule.getMaxN()) {
-							violations += (totalConsecutiveNights - rule.getMaxN()) * 30;
-						}
-					}
-
-					// NOD 패턴 체크: 이전 달 마지막 날 N, 첫날 O, 둘째날 D인 경우
-					if (firstCurrentShift == 'O' && solution.getDaysInMonth() >= 2) {
-						if (nurse.getShift(2) == 'D') {
-							violations += 40; // NOD 패턴에 높은 패널티
-						}
-					}
-				}
-
-				// 연속 근무일수 체크
-				int consecutiveShifts = 0;
-				// 이전 달 마지막 부분 체크
-				for (int i = prevSchedule.length() - 1; i >= 0; i--) {
-					char shift = prevSchedule.charAt(i);
-					if (shift != 'O' && shift != 'X') {
-						consecutiveShifts++;
-					} else {
-						break;
-					}
-				}
-
-				// 현재 달 시작 부분 체크
-				for (int day = 1; day <= solution.getDaysInMonth(); day++) {
-					char shift = nurse.getShift(day);
-					if (shift != 'O' && shift != 'X') {
-						consecutiveShifts++;
-					} else {
-						break;
-					}
-				}
-
-				// 최대 연속 근무일수(rule.getMaxShift()) 초과시 패널티
-				if (consecutiveShifts > rule.getMaxShift()) {
-					violations += (consecutiveShifts - rule.getMaxShift()) * 5;  // 가중치 5 적용
-				}
-
-				// 야간 연속 근무 체크
-				if (lastPrevShift == 'N' && firstCurrentShift == 'N') {
-					int consecutiveNights = 1; // 이전 달 마지막 날 포함
-					for (int i = prevSchedule.length() - 2; i >= 0; i--) {
-						if (prevSchedule.charAt(i) == 'N') {
-							consecutiveNights++;
-						} else {
-							break;
-						}
-					}
-					for (int day = 2; day <= solution.getDaysInMonth(); day++) {
-						if (nurse.getShift(day) == 'N') {
-							consecutiveNights++;
-						} else {
-							break;
-						}
-					}
-					if (consecutiveNights > rule.getMaxN()) {
-						violations += (consecutiveNights - rule.getMaxN()) * 8; // 가중치 8 적용
-					}
-
-					// 단일 야간 근무 체크 (이전 달 마지막 N, 현재 달 첫날 N, 둘째날 야간 아님)
-					if (solution.getDaysInMonth() >= 2 && nurse.getShift(2) != 'N') {
-						// 이전 달의 N이 단일이었는지 확인
-						boolean wasSingleNight = prevSchedule.length() < 2
-							|| prevSchedule.charAt(prevSchedule.length() - 2) != 'N';
-
-						// 현재 단일 야간이라면 (연속 2일만 N)
-						if (wasSingleNight) {
-							violations += 15; // 단일 야간 패널티
-						}
-					}
-				}
-
-				// 이전 달 마지막과 현재 달 첫날의 근무 패턴 체크
-				if (lastPrevShift == 'E' && firstCurrentShift == 'D') {
-					violations += 10; // 저녁->주간 패턴에 패널티
-				}
-			}
-		}
-
-		return violations;
-	}
-
-	private double evaluateConsecutiveShifts(Solution solution, Rule rule) {
-		double violations = 0;
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			int consecutiveShifts = 0;
-			int consecutiveNights = 0;
-			int consecutiveOffs = 0;  // 연속 휴무 일수 추적
-			int maxConsecutiveOffs = 3;  // 최대 허용 연속 휴무 일수 (조정 가능)
-
-			for (int day = 1; day <= solution.getDaysInMonth(); day++) {
-				char shift = nurse.getShift(day);
-				if (shift == 'O' || shift == 'X') {
-					// 휴식일 발생
-					consecutiveOffs++;
-
-					// 휴식일 발생시 단일 야간 패턴 확인
-					if (consecutiveNights == 1) {
-						violations += 10;
-					}
-					consecutiveShifts = 0;
-					consecutiveNights = 0;
-				} else {
-					// 너무 긴 연속 휴무에 대한 패널티 부여
-					if (consecutiveOffs > maxConsecutiveOffs) {
-						violations += (consecutiveOffs - maxConsecutiveOffs) * 5;  // 초과 일수당 5점 패널티
-					}
-					consecutiveOffs = 0;  // 근무일이 시작되면 연속 휴무 카운트 리셋
-
-					consecutiveShifts++;
-					if (shift == 'N') {
-						consecutiveNights++;
-					} else {
-						// 단일 야간 근무에 높은 패널티 부여
-						if (consecutiveNights == 1) {
-							violations += 15; // 단일 야간 근무에 대한 패널티 증가
-						}
-						consecutiveNights = 0;
-					}
-				}
-
-				if (consecutiveShifts > rule.getMaxShift()) {
-					violations++;
-				}
-				if (consecutiveNights > rule.getMaxN()) {
-					violations += 15;
-				}
-			}
-
-			// 월말 최종 확인
-			if (consecutiveNights == 1) {
-				violations += 15;
-			}
-
-			if (consecutiveShifts == 1) {
-				violations += 10;
-			}
-
-			// 월말에 연속 휴무 확인
-			if (consecutiveOffs > maxConsecutiveOffs) {
-				violations += (consecutiveOffs - maxConsecutiveOffs) * 5;
-			}
-		}
-		return violations;
-	}
-
-	// 연속 근무 시 같은 유형의 근무를 유지하는지 평가하는 함수
-	private double evaluateShiftConsistency(Solution solution) {
-		double violations = 0;
-
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			char[] shifts = nurse.getShifts();
-			char currentShiftType = 'X'; // 초기값
-			int consecutiveWorkDays = 0;
-			int shiftTypeChanges = 0;
-
-			for (char shift : shifts) {
-				// 근무일인 경우 (O와 X가 아닌 경우)
-				if (shift != 'O' && shift != 'X') {
-					consecutiveWorkDays++;
-
-					// 이전에도 근무일이었다면 유형 변경 체크
-					if (consecutiveWorkDays > 1) {
-						if (currentShiftType != shift && currentShiftType != 'X') {
-							shiftTypeChanges++;
-
-							// 연속 근무 길이에 따라 다른 패널티 적용
-							// 2~4일 연속 근무에서 유형 변경시 더 높은 패널티
-							if (consecutiveWorkDays <= 4) {
-								violations += 5; // 높은 패널티
-							} else {
-								violations += 2; // 일반 패널티
-							}
-						}
-					}
-
-					currentShiftType = shift;
-				} else {
-					// 휴무일이 시작되면 연속 근무 카운터 초기화
-					consecutiveWorkDays = 0;
-					currentShiftType = 'X';
-				}
-			}
-		}
-
-		return violations;
-	}
-
-	private double evaluateShiftPatterns(Solution solution) {
-		double violations = 0;
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			for (int day = 2; day <= solution.getDaysInMonth(); day++) {
-				char prevShift = nurse.getShift(day - 1);
-				char currentShift = nurse.getShift(day);
-
-				if (prevShift == 'N' && (currentShift == 'D' || currentShift == 'E')) {
-					violations += 2;
-				}
-				if (prevShift == 'E' && currentShift == 'D') {
-					violations++;
-				}
-			}
-		}
-		return violations;
-	}
-
-	private double evaluateWorkloadBalance(Solution solution) {
-		Map<Character, List<Integer>> shiftCounts = new HashMap<>();
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			Map<Character, Integer> counts = new HashMap<>();
-			for (char shift : nurse.getShifts()) {
-				counts.merge(shift, 1, Integer::sum);
-			}
-			for (Map.Entry<Character, Integer> entry : counts.entrySet()) {
-				shiftCounts.computeIfAbsent(entry.getKey(), k -> new ArrayList<>())
-					.add(entry.getValue());
-			}
-		}
-
-		return shiftCounts.values().stream()
-			.mapToDouble(this::calculateStandardDeviation)
-			.sum();
-	}
-
-	private double calculateStandardDeviation(List<Integer> numbers) {
-		double mean = numbers.stream().mapToInt(i -> i).average().orElse(0);
-		return Math.sqrt(numbers.stream()
-			.mapToDouble(i -> Math.pow(i - mean, 2))
-			.average()
-			.orElse(0));
-	}
-
 	private Map<Character, Integer> countShiftsForDay(List<Solution.Nurse> nurses, int day) {
 		return nurses.stream()
 			.collect(Collectors.groupingBy(
@@ -1155,11 +1011,18 @@ public class NurseScheduler {
 			));
 	}
 
-	private WardSchedule applyFinalSchedule(WardSchedule wardSchedule, Solution solution, Long currentMemberId) {
+	WardSchedule applyFinalSchedule(WardSchedule wardSchedule, Solution solution, Long currentMemberId,
+		long seed) {
+		return applyFinalSchedule(wardSchedule, solution, currentMemberId, seed, null);
+	}
+
+	// islands: 유전 알고리즘 섬 수 (시드와 함께 기록, 다른 엔진은 null)
+	WardSchedule applyFinalSchedule(WardSchedule wardSchedule, Solution solution, Long currentMemberId,
+		long seed, Integer islands) {
 		List<WardSchedule.NurseShift> nurseShifts = solution.getNurses().stream()
 			.map(nurse -> WardSchedule.NurseShift.builder()
 				.memberId(nurse.getId())
-				.shifts(new String(nurse.getShifts()))
+				.shifts(nurse.toShiftString())
 				.build())
 			.collect(Collectors.toList());
 
@@ -1170,71 +1033,193 @@ public class NurseScheduler {
 			.after("X")
 			.modifiedDay(0)
 			.isAutoCreated(true)
+			.seed(seed)
+			.islands(islands)
 			.build();
 
+		// 대부분의 칸이 바뀌므로 바뀐 칸 대신 전체 근무표(체크포인트)로 기록
 		WardSchedule.Duty newDuty = WardSchedule.Duty.builder()
 			.idx(wardSchedule.getNowIdx() + 1)
 			.duty(nurseShifts)
 			.history(history)
 			.build();
 
-		List<WardSchedule.Duty> duties = wardSchedule.getDuties().subList(0, wardSchedule.getNowIdx() + 1);
-
-		duties.add(newDuty);
-
+		// 새 기록 하나만 담음 (저장할 때 최신 근무표 뒤에 추가하므로 이전 기록은 필요 없음)
 		return WardSchedule.builder()
 			.id(wardSchedule.getId())
 			.wardId(wardSchedule.getWardId())
 			.year(wardSchedule.getYear())
 			.month(wardSchedule.getMonth())
-			.nowIdx(wardSchedule.getNowIdx() + 1)
-			.duties(duties)
+			.nowIdx(newDuty.getIdx())
+			.duties(new ArrayList<>(List.of(newDuty)))
+			.dutiesOffset(newDuty.getIdx())
 			.build();
 	}
 
-	private Solution generateNeighborSolution(Solution current, Map<Long, String> prevMonthSchedules, Rule rule) {
-		Solution neighbor = current.copy();
-		List<Solution.Nurse> nurses = neighbor.getNurses();
+	/**
+	 * 현재 해에 무작위 유형의 이동 하나를 적용합니다. (유전 알고리즘 변이용, 모든 유형을 같은 확률로 선택)
+	 */
+	void applyRandomMove(Solution solution, Map<Long, String> prevMonthSchedules, Rule rule,
+		RandomGenerator random) {
+		MoveOperator[] operators = MoveOperator.values();
+		applyMove(operators[random.nextInt(operators.length)], solution, prevMonthSchedules, rule, random);
+	}
 
-		// 기존 케이스에 월말-월초 패턴 처리 케이스 추가
-		switch (random.nextInt(8)) {  // 케이스 하나 더 추가해서 8로 변경
-			case 0: // 두 간호사 간 근무 교환
-				swapNurseShifts(nurses);
-				break;
-			case 1: // 한 간호사의 근무 유형 변경
-				changeShiftType(nurses);
-				break;
-			case 2: // 근무 시퀀스 교환
-				swapShiftSequence(nurses);
-				break;
-			case 3: // NOD 패턴 생성 또는 제거 시도
-				modifyNodPattern(nurses);
-				break;
-			case 4: // 야간 근무 패턴 수정
-				modifyNightShiftPattern(nurses);
-				break;
-			case 5: // 월말-월초 패턴 처리
-				fixMonthTransitionPatterns(nurses, prevMonthSchedules, rule);
-				break;
-			case 6: // 근무-휴무 반복 패턴 수정
-				modifyAlternatingPattern(nurses);
-				break;
-			case 7: // 연속 근무 유형 일관성 개선 (새로 추가)
-				improveShiftConsistency(nurses);
-				break;
+	/**
+	 * 현재 해에 operator 유형의 이동 하나를 적용합니다.
+	 * 같은 날 두 간호사의 근무 교환(SWAP_NURSES, SWAP_SEQUENCE)은 일별 인원을 그대로 유지하고, 나머지 이동이 일별 인원을 바꾸면
+	 * 평가 전에 repairDailyCoverage로 같은 날 다른 간호사의 근무를 바꿔 필요 인원을 되돌립니다.
+	 * (일별 인원 위반은 가중치가 커서 복구하지 않은 이웃 해는 거의 항상 기각됨)
+	 */
+	void applyMove(MoveOperator operator, Solution solution, Map<Long, String> prevMonthSchedules, Rule rule,
+		RandomGenerator random) {
+		List<Solution.Nurse> nurses = solution.getNurses();
+
+		switch (operator) {
+			case SWAP_NURSES -> swapNurseShifts(nurses, random);
+			case CHANGE_SHIFT -> changeShiftType(nurses, random);
+			case SWAP_SEQUENCE -> swapShiftSequence(nurses, random);
+			case NOD_PATTERN -> modifyNodPattern(nurses, random);
+			case NIGHT_PATTERN -> modifyNightShiftPattern(nurses, random);
+			case MONTH_TRANSITION -> fixMonthTransitionPatterns(nurses, prevMonthSchedules, rule, random);
+			case ALTERNATING_PATTERN -> modifyAlternatingPattern(nurses, random);
+			case SHIFT_CONSISTENCY -> improveShiftConsistency(nurses, random);
+		}
+
+		repairDailyCoverage(solution, random);
+	}
+
+	/**
+	 * 이번 이동으로 바뀐 일자마다 모자란 근무 인원을 채웁니다.
+	 * 이번 이동이 바꾼 칸은 그대로 두고, 같은 날 남는 근무(없으면 휴무) 간호사를 모자란 근무로 옮깁니다.
+	 * 전날/다음날과 금지 전이가 생기는 간호사는 고르지 않습니다.
+	 * 남는 근무는 줄이지 않습니다. (인원 초과보다 긴 연속 휴무의 벌점이 커서 휴무로 바꾸면 오히려 나빠짐)
+	 * 이동 기록이 없는 해(유전 알고리즘의 변이 전 자식 등)는 바뀐 칸을 알 수 없으므로 그대로 둡니다.
+	 */
+	private void repairDailyCoverage(Solution solution, RandomGenerator random) {
+		Solution.MoveLog moveLog = solution.getMoveLog();
+		if (moveLog == null || moveLog.size() == 0) {
+			return;
+		}
+		int movedEntries = moveLog.size();
+		long touchedDays = 0;
+		for (int entry = 0; entry < movedEntries; entry++) {
+			touchedDays |= 1L << moveLog.dayAt(entry);
+		}
+
+		List<Solution.Nurse> nurses = solution.getNurses();
+		int[] counts = new int[COVERAGE_SHIFTS.length];
+		int[] required = new int[COVERAGE_SHIFTS.length];
+		for (long days = touchedDays; days != 0; days &= days - 1) {
+			int day = Long.numberOfTrailingZeros(days);
+			Solution.DailyRequirement requirement = solution.getDailyRequirement(day);
+			required[0] = requirement.getDayNurses();
+			required[1] = requirement.getEveningNurses();
+			required[2] = requirement.getNightNurses();
+			for (int shiftIdx = 0; shiftIdx < COVERAGE_SHIFTS.length; shiftIdx++) {
+				counts[shiftIdx] = countShift(nurses, day, COVERAGE_SHIFTS[shiftIdx]);
+			}
+
+			// 모자란 근무: 남는 근무 간호사를 먼저, 없으면 휴무 간호사를 옮김
+			int offset = random.nextInt(COVERAGE_SHIFTS.length);
+			for (int i = 0; i < COVERAGE_SHIFTS.length; i++) {
+				int shiftIdx = (offset + i) % COVERAGE_SHIFTS.length;
+				while (counts[shiftIdx] < required[shiftIdx]) {
+					int nurseIdx = findRepairNurse(nurses, day, shiftIdx, counts, required, moveLog, movedEntries,
+						random);
+					if (nurseIdx < 0) {
+						break;
+					}
+					int fromIdx = coverageIndex(nurses.get(nurseIdx).getShift(day));
+					if (fromIdx >= 0) {
+						counts[fromIdx]--;
+					}
+					nurses.get(nurseIdx).setShift(day, COVERAGE_SHIFTS[shiftIdx]);
+					counts[shiftIdx]++;
+				}
+			}
+		}
+	}
+
+	private static int countShift(List<Solution.Nurse> nurses, int day, char shift) {
+		int count = 0;
+		for (Solution.Nurse nurse : nurses) {
+			if (nurse.getShift(day) == shift) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// 모자란 근무로 옮길 간호사 (남는 근무 간호사 우선, 시작 위치는 무작위)
+	private int findRepairNurse(List<Solution.Nurse> nurses, int day, int shiftIdx, int[] counts, int[] required,
+		Solution.MoveLog moveLog, int movedEntries, RandomGenerator random) {
+		int offset = random.nextInt(nurses.size());
+		int offNurseIdx = -1;
+		for (int i = 0; i < nurses.size(); i++) {
+			int nurseIdx = (offset + i) % nurses.size();
+			Solution.Nurse nurse = nurses.get(nurseIdx);
+			char shift = nurse.getShift(day);
+			int fromIdx = coverageIndex(shift);
+			boolean surplus = fromIdx >= 0 && counts[fromIdx] > required[fromIdx];
+			if (!surplus && shift != 'O'
+				|| !nurse.canWorkShift(COVERAGE_SHIFTS[shiftIdx])
+				|| isMoved(moveLog, movedEntries, nurseIdx, day)
+				|| !canAssignBetween(nurse, day, COVERAGE_SHIFTS[shiftIdx])) {
+				continue;
+			}
+			if (surplus) {
+				return nurseIdx;
+			}
+			if (offNurseIdx < 0) {
+				offNurseIdx = nurseIdx;
+			}
 		}
+		return offNurseIdx;
+	}
+
+	// 이번 이동이 직접 바꾼 칸인지 (복구가 이동을 되돌리지 않도록)
+	private static boolean isMoved(Solution.MoveLog moveLog, int movedEntries, int nurseIdx, int day) {
+		for (int entry = 0; entry < movedEntries; entry++) {
+			if (moveLog.nurseIndexAt(entry) == nurseIdx && moveLog.dayAt(entry) == day) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 전날, 다음날 근무와 금지 전이(N 다음날 D/E/M, E 다음날 D/M)가 생기지 않는지
+	private static boolean canAssignBetween(Solution.Nurse nurse, int day, char shift) {
+		char prevShift = day > 1 ? nurse.getShift(day - 1) : 'O';
+		char nextShift = day < nurse.getDaysInMonth() ? nurse.getShift(day + 1) : 'O';
+		return canFollow(prevShift, shift) && canFollow(shift, nextShift);
+	}
+
+	private static boolean canFollow(char prevShift, char shift) {
+		return switch (prevShift) {
+			case 'N' -> shift != 'D' && shift != 'E' && shift != 'M';
+			case 'E' -> shift != 'D' && shift != 'M';
+			default -> true;
+		};
+	}
 
-		return neighbor;
+	private static int coverageIndex(char shift) {
+		return switch (shift) {
+			case 'D' -> 0;
+			case 'E' -> 1;
+			case 'N' -> 2;
+			default -> -1;
+		};
 	}
 
-	private void improveShiftConsistency(List<Solution.Nurse> nurses) {
+	private void improveShiftConsistency(List<Solution.Nurse> nurses, RandomGenerator random) {
 		if (nurses.isEmpty()) {
 			return;
 		}
 
 		int nurseIdx = random.nextInt(nurses.size());
 		Solution.Nurse nurse = nurses.get(nurseIdx);
-		char[] shifts = nurse.getShifts();
+		int daysInMonth = nurse.getDaysInMonth();
 
 		// 유형이 변경되는 연속 근무 시퀀스를 찾습니다
 		List<Integer> inconsistentDays = new ArrayList<>();
@@ -1242,8 +1227,8 @@ public class NurseScheduler {
 		char prevShift = 'X';
 		int consecutiveWorkDays = 0;
 
-		for (int day = 0; day < shifts.length; day++) {
-			char shift = shifts[day];
+		for (int day = 0; day < daysInMonth; day++) {
+			char shift = nurse.getShift(day + 1);
 
 			if (shift != 'O' && shift != 'X') {
 				consecutiveWorkDays++;
@@ -1276,15 +1261,15 @@ public class NurseScheduler {
 
 		// 앞으로 찾기 (현재 위치부터 이전 휴무일까지)
 		for (startDay = dayToFix - 1; startDay >= 0; startDay--) {
-			if (shifts[startDay] == 'O' || shifts[startDay] == 'X') {
+			if (nurse.getShift(startDay + 1) == 'O' || nurse.getShift(startDay + 1) == 'X') {
 				break;
 			}
 		}
 		startDay++; // 실제 근무 시작일
 
 		// 뒤로 찾기 (현재 위치부터 다음 휴무일까지)
-		for (endDay = dayToFix; endDay < shifts.length; endDay++) {
-			if (shifts[endDay] == 'O' || shifts[endDay] == 'X') {
+		for (endDay = dayToFix; endDay < daysInMonth; endDay++) {
+			if (nurse.getShift(endDay + 1) == 'O' || nurse.getShift(endDay + 1) == 'X') {
 				break;
 			}
 		}
@@ -1294,9 +1279,9 @@ public class NurseScheduler {
 			// 통일할 근무 유형 결정
 			char unifiedType;
 			if (useForwardType) {
-				unifiedType = shifts[startDay]; // 앞쪽 근무 유형
+				unifiedType = nurse.getShift(startDay + 1); // 앞쪽 근무 유형
 			} else {
-				unifiedType = shifts[endDay]; // 뒤쪽 근무 유형
+				unifiedType = nurse.getShift(endDay + 1); // 뒤쪽 근무 유형
 			}
 
 			// 간호사가 해당 근무 유형을 수행할 수 있는지 확인
@@ -1310,7 +1295,7 @@ public class NurseScheduler {
 	}
 
 	private void fixMonthTransitionPatterns(List<Solution.Nurse> nurses, Map<Long, String> prevMonthSchedules,
-		Rule rule) {
+		Rule rule, RandomGenerator random) {
 		if (nurses.isEmpty()) {
 			return;
 		}
@@ -1346,12 +1331,12 @@ public class NurseScheduler {
 
 					// 추가 휴식일 적용
 					int restDays = rule.getOffCntAfterN();
-					for (int day = 1; day <= Math.min(restDays, nurse.getShifts().length); day++) {
+					for (int day = 1; day <= Math.min(restDays, nurse.getDaysInMonth()); day++) {
 						nurse.setShift(day, 'O');
 					}
 
 					// 둘째날도 NOD 패턴 방지를 위해 설정
-					if (nurse.getShifts().length > restDays) {
+					if (nurse.getDaysInMonth() > restDays) {
 						List<Character> safeShifts = new ArrayList<>();
 						if (nurse.canWorkShift('E')) {
 							safeShifts.add('E');
@@ -1368,7 +1353,7 @@ public class NurseScheduler {
 					if (isFirstDayNight) {
 						// 현재 달 연속 야간 계산
 						int currentConsecutiveNights = 1; // 첫날 포함
-						for (int day = 2; day <= nurse.getShifts().length; day++) {
+						for (int day = 2; day <= nurse.getDaysInMonth(); day++) {
 							if (nurse.getShift(day) == 'N') {
 								currentConsecutiveNights++;
 							} else {
@@ -1386,12 +1371,12 @@ public class NurseScheduler {
 
 							// 휴식일 보장
 							int restDays = rule.getOffCntAfterN();
-							for (int day = 1; day <= Math.min(restDays, nurse.getShifts().length); day++) {
+							for (int day = 1; day <= Math.min(restDays, nurse.getDaysInMonth()); day++) {
 								nurse.setShift(day, 'O');
 							}
 						} else if (totalConsecutiveNights >= rule.getMaxN() - 1) {
 							// 최대 1일까지만 허용하고 그 이후는 휴식
-							for (int day = 2; day <= nurse.getShifts().length; day++) {
+							for (int day = 2; day <= nurse.getDaysInMonth(); day++) {
 								if (day > 1) { // 첫날은 이미 N으로 설정됨
 									nurse.setShift(day, 'O');
 								}
@@ -1399,7 +1384,7 @@ public class NurseScheduler {
 
 							// 추가 휴식일 보장
 							int restDays = rule.getOffCntAfterN();
-							for (int day = 2; day < 2 + restDays && day <= nurse.getShifts().length; day++) {
+							for (int day = 2; day < 2 + restDays && day <= nurse.getDaysInMonth(); day++) {
 								nurse.setShift(day, 'O');
 							}
 						}
@@ -1409,7 +1394,7 @@ public class NurseScheduler {
 		}
 	}
 
-	private void modifyNightShiftPattern(List<Solution.Nurse> nurses) {
+	private void modifyNightShiftPattern(List<Solution.Nurse> nurses, RandomGenerator random) {
 		if (nurses.isEmpty()) {
 			return;
 		}
@@ -1426,7 +1411,7 @@ public class NurseScheduler {
 		Solution.Nurse nurse = nightEligibleNurses.get(nurseIdx);
 
 		// 배열 길이를 고려하여 안전한 startDay 선택
-		int maxStartDay = nurse.getShifts().length - 2;
+		int maxStartDay = nurse.getDaysInMonth() - 2;
 		if (maxStartDay < 1) {
 			return; // 배열이 너무 작으면 수정하지 않음
 		}
@@ -1434,9 +1419,9 @@ public class NurseScheduler {
 		int startDay = 1 + random.nextInt(maxStartDay); // 1부터 시작하도록 수정
 
 		// 단일 야간 근무를 찾아 연속으로 만들기
-		for (int day = startDay; day < nurse.getShifts().length - 1; day++) {
-			if (isValidDay(day, nurse.getShifts().length)
-				&& isValidDay(day + 1, nurse.getShifts().length)) {
+		for (int day = startDay; day < nurse.getDaysInMonth() - 1; day++) {
+			if (isValidDay(day, nurse.getDaysInMonth())
+				&& isValidDay(day + 1, nurse.getDaysInMonth())) {
 
 				if (nurse.getShift(day) == 'N' && nurse.getShift(day + 1) != 'N') {
 					// 연속 야간 근무가 가능한지 확인
@@ -1453,60 +1438,59 @@ public class NurseScheduler {
 		return day > 0 && day <= maxDays;
 	}
 
-	private void swapNurseShifts(List<Solution.Nurse> nurses) {
+	private void swapNurseShifts(List<Solution.Nurse> nurses, RandomGenerator random) {
 		if (nurses.size() < 2) {
 			return;
 		}
 
 		int nurse1Idx = random.nextInt(nurses.size());
-		int nurse2Idx = random.nextInt(nurses.size() - 1);
-		if (nurse2Idx >= nurse1Idx) {
-			nurse2Idx++;
-		}
-
-		int day = random.nextInt(nurses.getFirst().getShifts().length);
-
-		// 두 간호사 모두 해당 근무 유형을 수행할 수 있는지 확인
+		int day = random.nextInt(nurses.getFirst().getDaysInMonth());
 		Solution.Nurse nurse1 = nurses.get(nurse1Idx);
-		Solution.Nurse nurse2 = nurses.get(nurse2Idx);
-
 		char shift1 = nurse1.getShift(day + 1);
-		char shift2 = nurse2.getShift(day + 1);
 
-		if (nurse2.canWorkShift(shift1) && nurse1.canWorkShift(shift2)) {
-			// 두 간호사 모두 서로의 근무 유형 수행 가능한 경우에만 교환
-			nurse1.setShift(day + 1, shift2);
-			nurse2.setShift(day + 1, shift1);
+		// 같은 근무끼리 교환하면 아무것도 바뀌지 않으므로, 근무가 다르고 서로의 근무를 할 수 있는 간호사를 찾음
+		int offset = random.nextInt(nurses.size() - 1);
+		for (int i = 0; i < nurses.size() - 1; i++) {
+			int nurse2Idx = (nurse1Idx + 1 + (offset + i) % (nurses.size() - 1)) % nurses.size();
+			Solution.Nurse nurse2 = nurses.get(nurse2Idx);
+			char shift2 = nurse2.getShift(day + 1);
+			if (shift2 != shift1 && nurse2.canWorkShift(shift1) && nurse1.canWorkShift(shift2)) {
+				nurse1.setShift(day + 1, shift2);
+				nurse2.setShift(day + 1, shift1);
+				return;
+			}
 		}
 	}
 
-	private void changeShiftType(List<Solution.Nurse> nurses) {
+	private void changeShiftType(List<Solution.Nurse> nurses, RandomGenerator random) {
 		if (nurses.isEmpty()) {
 			return;
 		}
 
 		int nurseIdx = random.nextInt(nurses.size());
-		int day = random.nextInt(nurses.getFirst().getShifts().length);
+		int day = random.nextInt(nurses.getFirst().getDaysInMonth());
 		Solution.Nurse nurse = nurses.get(nurseIdx);
 
-		// 해당 간호사가 가능한 근무 유형만 선택
+		// 해당 간호사가 가능하고 전날/다음날과 금지 전이가 생기지 않는 다른 근무 유형만 선택
+		char currentShift = nurse.getShift(day + 1);
 		List<Character> possibleShifts = new ArrayList<>();
-		if (nurse.canWorkShift('D')) {
-			possibleShifts.add('D');
+		for (char shift : COVERAGE_SHIFTS) {
+			if (shift != currentShift && nurse.canWorkShift(shift) && canAssignBetween(nurse, day + 1, shift)) {
+				possibleShifts.add(shift);
+			}
 		}
-		if (nurse.canWorkShift('E')) {
-			possibleShifts.add('E');
+		if (currentShift != 'O') {
+			possibleShifts.add('O'); // 휴무는 항상 가능
 		}
-		if (nurse.canWorkShift('N')) {
-			possibleShifts.add('N');
+		if (possibleShifts.isEmpty()) {
+			return;
 		}
-		possibleShifts.add('O'); // 휴무는 항상 가능
 
 		char newShift = possibleShifts.get(random.nextInt(possibleShifts.size()));
 		nurse.setShift(day + 1, newShift);
 	}
 
-	private void swapShiftSequence(List<Solution.Nurse> nurses) {
+	private void swapShiftSequence(List<Solution.Nurse> nurses, RandomGenerator random) {
 		if (nurses.size() < 2) {
 			return;
 		}
@@ -1517,7 +1501,7 @@ public class NurseScheduler {
 			nurse2Idx++;
 		}
 
-		int startDay = random.nextInt(nurses.getFirst().getShifts().length - 2);
+		int startDay = random.nextInt(nurses.getFirst().getDaysInMonth() - 2);
 		int length = random.nextInt(3) + 1;
 
 		Solution.Nurse nurse1 = nurses.get(nurse1Idx);
@@ -1525,7 +1509,7 @@ public class NurseScheduler {
 
 		// 시퀀스 교환 전에 근무 가능 여부 확인
 		boolean canSwap = true;
-		for (int i = 0; i < length && (startDay + i) < nurse1.getShifts().length; i++) {
+		for (int i = 0; i < length && (startDay + i) < nurse1.getDaysInMonth(); i++) {
 			char shift1 = nurse1.getShift(startDay + i + 1);
 			char shift2 = nurse2.getShift(startDay + i + 1);
 
@@ -1537,7 +1521,7 @@ public class NurseScheduler {
 
 		// 두 간호사가 서로의 근무 유형 수행 가능한 경우에만 교환
 		if (canSwap) {
-			for (int i = 0; i < length && (startDay + i) < nurse1.getShifts().length; i++) {
+			for (int i = 0; i < length && (startDay + i) < nurse1.getDaysInMonth(); i++) {
 				char temp = nurse1.getShift(startDay + i + 1);
 				nurse1.setShift(startDay + i + 1, nurse2.getShift(startDay + i + 1));
 				nurse2.setShift(startDay + i + 1, temp);
@@ -1545,51 +1529,14 @@ public class NurseScheduler {
 		}
 	}
 
-	private double evaluateAlternatingWorkPattern(Solution solution) {
-		double violations = 0;
-
-		for (Solution.Nurse nurse : solution.getNurses()) {
-			char[] shifts = nurse.getShifts();
-
-			// 최소 4일 이상의 패턴이 필요함 (근무-휴무-근무-휴무)
-			for (int i = 0; i < shifts.length - 3; i++) {
-				// 근무-휴무-근무-휴무 패턴 체크
-				if (shifts[i] != 'O' && shifts[i] != 'X'
-					&& (shifts[i + 1] == 'O' || shifts[i + 1] == 'X')
-					&& shifts[i + 2] != 'O' && shifts[i + 2] != 'X'
-					&& (shifts[i + 3] == 'O' || shifts[i + 3] == 'X')) {
-
-					// 더 긴 패턴도 체크 (패턴이 계속되는지)
-					int patternLength = 2; // 기본 패턴 길이 (근무-휴무)
-					for (int j = i + 4; j < shifts.length - 1; j += 2) {
-						if (shifts[j] != 'O' && shifts[j] != 'X'
-							&& (shifts[j + 1] == 'O' || shifts[j + 1] == 'X')) {
-							patternLength++;
-						} else {
-							break;
-						}
-					}
-
-					// 패턴이 길수록 더 큰 패널티 부여
-					violations += patternLength * 2;
-
-					// 이미 패턴을 찾았으니 다음 검색은 패턴 이후부터
-					i += patternLength * 2 - 1;
-				}
-			}
-		}
-
-		return violations;
-	}
-
-	private void modifyNodPattern(List<Solution.Nurse> nurses) {
+	private void modifyNodPattern(List<Solution.Nurse> nurses, RandomGenerator random) {
 		if (nurses.isEmpty()) {
 			return;
 		}
 
 		int nurseIdx = random.nextInt(nurses.size());
 		Solution.Nurse nurse = nurses.get(nurseIdx);
-		int startDay = random.nextInt(nurse.getShifts().length - 2);
+		int startDay = random.nextInt(nurse.getDaysInMonth() - 2);
 
 		if (nurse.hasNodPattern(startDay)) {
 			// NOD 패턴 제거를 위해 근무 중 하나 변경
@@ -1638,7 +1585,8 @@ public class NurseScheduler {
 		}
 	}
 
-	private boolean acceptSolution(double currentScore, double neighborScore, double temperature) {
+	private boolean acceptSolution(double currentScore, double neighborScore, double temperature,
+		RandomGenerator random) {
 		if (neighborScore < currentScore) {
 			return true;
 		}
@@ -1660,26 +1608,22 @@ public class NurseScheduler {
 	}
 
 	private boolean isNurseAvailableForDay(Solution.Nurse nurse, int day) {
-		if (day > 1 && nurse.getShift(day - 1) == 'N') {
+		if (day > 1 && (nurse.getMask('N') >>> (day - 2) & 1) != 0) {
 			return false;
 		}
 
-		int consecutiveShifts = 0;
-		for (int i = Math.max(1, day - 5); i < day; i++) {
-			char shift = nurse.getShift(i);
-			if (shift != 'O' && shift != 'X') {
-				consecutiveShifts++;
-			} else {
-				consecutiveShifts = 0;
-			}
+		// 직전 5일이 모두 근무인 경우 제외
+		if (day <= 5) {
+			return true;
 		}
-		return consecutiveShifts < 5;
+		int lastFiveDays = 0b11111 << (day - 6);
+		return (nurse.getWorkMask() & lastFiveDays) != lastFiveDays;
 	}
 
 	private boolean hasNoAssignmentsForDay(List<Solution.Nurse> nurses, int day) {
+		int bit = 1 << (day - 1);
 		return nurses.stream()
-			.map(nurse -> nurse.getShift(day))
-			.allMatch(shift -> shift == 'O' || shift == 'X');
+			.allMatch(nurse -> (nurse.getWorkMask() & bit) == 0);
 	}
 
 	// 필요한 총 간호사 수 계산
@@ -1692,132 +1636,17 @@ public class NurseScheduler {
 		int totalRequiredShifts = (weekdayShifts * yearMonth.weekDaysInMonth())
 			+ (weekendShifts * (yearMonth.daysInMonth() - yearMonth.weekDaysInMonth()));
 
-		// 야간 전담 간호사가 없는 경우
+		// 야간 전담 간호사가 없는 경우 (간호사 1명당 평일 수만큼 근무, 최소 1명)
 		if (nightNurseCnt == 0) {
-			int nurseCount = 1;
-			while (nurseCount * yearMonth.weekDaysInMonth() < totalRequiredShifts) {
-				nurseCount++;
-			}
-			return nurseCount;
+			return Math.max(1, Math.ceilDiv(totalRequiredShifts, yearMonth.weekDaysInMonth()));
 		}
 
 		// 야간 전담 간호사가 있는 경우
 		int nightNurseCapacity = nightNurseCnt * (yearMonth.daysInMonth() / 2);
 		int remainingShifts = totalRequiredShifts - nightNurseCapacity;
-		int normalNurseCount = 1;
-		while (normalNurseCount * yearMonth.weekDaysInMonth() < remainingShifts) {
-			normalNurseCount++;
-		}
+		int normalNurseCount = Math.max(1, Math.ceilDiv(remainingShifts, yearMonth.weekDaysInMonth()));
 
 		return normalNurseCount + nightNurseCnt;
 	}
 
-	// 근무 요청 평가 메서드
-	private double evaluateShiftRequests(Solution solution, List<ShiftRequest> requests) {
-		if (requests == null || requests.isEmpty()) {
-			return 0;
-		}
-
-		double violations = 0;
-		for (ShiftRequest request : requests) {
-			Solution.Nurse nurse = solution.getNurses().stream()
-				.filter(n -> n.getId().equals(request.getNurseId()))
-				.findFirst()
-				.orElse(null);
-
-			if (nurse != null) {
-				if (nurse.getShift(request.getDay()) != request.getRequestedShift()) {
-					// 강화된 요청에 대해 더 높은 패널티 적용
-					violations += request.isReinforced() ? 3.0 : 1.0;  // 예: 강화된 요청은 3배 가중치
-				}
-			}
-		}
-		return violations;
-	}
-
-	@Getter
-	@Builder
-	private static class Solution {
-		private final int daysInMonth;
-		private final List<Nurse> nurses;
-		private final Map<Integer, DailyRequirement> dailyRequirements;
-		private final double score;
-
-		public Solution copy() {
-			return Solution.builder()
-				.daysInMonth(daysInMonth)
-				.nurses(nurses.stream().map(Nurse::copy).collect(Collectors.toList()))
-				.dailyRequirements(new HashMap<>(dailyRequirements))
-				.score(score)
-				.build();
-		}
-
-		@Getter
-		@Builder
-		static class Nurse {
-			private final Long id;
-			private final char[] shifts; // D(주간), E(저녁), N(야간), O(휴무), X(고정)
-			private final int shiftFlags; // 가능한 근무 유형 플래그 (비트마스크)
-
-			public void setShift(int day, char shift) {
-				// 근무 가능 여부 확인 후 설정
-				if (canWorkShift(shift) || shift == 'O' || shift == 'X') {
-					shifts[day - 1] = shift;
-				}
-			}
-
-			public char getShift(int day) {
-				return shifts[day - 1];
-			}
-
-			public Nurse copy() {
-				return Nurse.builder()
-					.id(id)
-					.shifts(Arrays.copyOf(shifts, shifts.length))
-					.shiftFlags(shiftFlags)  // shiftFlags 복사 추가
-					.build();
-			}
-
-			// 특정 근무 유형 가능한지 확인하는 메서드
-			public boolean canWorkShift(char shift) {
-				return switch (shift) {
-					case 'D' -> (shiftFlags & ShiftType.D.getFlag()) != 0;
-					case 'E' -> (shiftFlags & ShiftType.E.getFlag()) != 0;
-					case 'N' -> (shiftFlags & ShiftType.N.getFlag()) != 0;
-					case 'M' -> (shiftFlags & ShiftType.M.getFlag()) != 0;
-					case 'O' -> true; // 휴무는 항상 가능
-					case 'X' -> true; // 고정 근무도 항상 가능
-					default -> false;
-				};
-			}
-
-			public boolean hasNodPattern(int startDay) {
-				if (startDay + 2 >= shifts.length) {
-					return false;
-				}
-
-				return shifts[startDay] == 'N'
-					&& shifts[startDay + 1] == 'O'
-					&& shifts[startDay + 2] == 'D';
-			}
-		}
-
-		@Getter
-		@Builder
-		static class DailyRequirement {
-			private final int dayNurses;    // 주간 간호사 수
-			private final int eveningNurses; // 저녁 간호사 수
-			private final int nightNurses;   // 야간 간호사 수
-		}
-	}
-
-	@Getter
-	@Builder
-	private static class ShiftRequest {
-		private final Long requestId;    // 추가된 필드
-		private final Long nurseId;
-		private final int day;
-		private final char requestedShift;
-		private final boolean isReinforced;  // 강화된 요청인지 여부
-	}
 }
@@ -0,0 +1,745 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import net.dutymate.api.domain.autoschedule.ScheduleConstraint;
+import net.dutymate.api.domain.rule.util.CompiledRule;
+import net.dutymate.api.domain.wardmember.ShiftType;
+import net.dutymate.api.domain.wardmember.WorkIntensity;
+
+/**
+ * 근무표 평가기 (자동 생성 1회 단위로 생성)
+ * 간호사별(행) 점수와 일자별(열) 점수를 따로 보관하여,
+ * 이동이 바꾼 간호사와 날짜만 다시 계산합니다.
+ */
+class ScheduleEvaluator {
+
+	// 강한 제약 조건 가중치
+	private static final double SHIFT_REQUIREMENT_WEIGHT = 20000;
+	private static final double CONSECUTIVE_SHIFT_WEIGHT = 15000;
+	private static final double PREVIOUS_MONTH_WEIGHT = 10000;
+	private static final double SHIFT_TYPE_WEIGHT = 10000;
+	private static final double SHIFT_REQUEST_WEIGHT = 5000;
+	private static final double SHIFT_PATTERN_WEIGHT = 5000;
+
+	// 약한 제약 조건 가중치
+	private static final double NOD_PATTERN_WEIGHT = 3000;
+	private static final double WORKLOAD_BALANCE_WEIGHT = 1000;
+	private static final double WORK_INTENSITY_WEIGHT = 2000;
+	private static final double ALTERNATING_PATTERN_WEIGHT = 500;
+	private static final double SHIFT_CONSISTENCY_WEIGHT = 1000;
+
+	// 근무량 편차 계산 대상 근무 유형 (Solution.Nurse 비트마스크 순서와 동일)
+	private static final int SHIFT_KINDS = Solution.Nurse.SHIFT_CODES.length;
+
+	// 근무일로 취급하는 근무 유형
+	private static final char[] WORK_SHIFTS = {'D', 'E', 'N', 'M'};
+
+	// 다음날 금지 전이 (N→D 처럼 N 다음 근무는 가중치 2)
+	private static final int NIGHT_TRANSITION_WEIGHT = 2;
+
+	private final CompiledRule rule;
+	private final int[] forbiddenFrom;    // 금지 패턴 중 이틀짜리 전이의 앞/뒤 근무 유형과 가중치
+	private final int[] forbiddenTo;
+	private final int[] forbiddenWeights;
+	private final Map<Long, String> prevMonthSchedules;
+	private final ShiftRequestTable requestTable;
+	private final Map<Long, WorkIntensity> workIntensities;
+
+	// 현재 해의 부분 점수
+	private double[] nurseScores;
+	private double[] nurseHardScores; // 간호사별 점수 중 강한 제약 조건 부분
+	private double[] requestViolations; // 간호사별 요청 위반 가중치 합 (이동마다 바뀐 칸만 증분 갱신)
+	private double[] dayScores;
+	private int[][] nurseShiftCounts;
+	private int[] kindNurseCounts;
+	private int[] kindSums;
+	private int[] kindSquareSums;
+	private boolean onlyLowExists;
+
+	// 이웃 해의 부분 점수 (accept 시 반영)
+	private double[] pendingNurseScores;
+	private double[] pendingNurseHardScores;
+	private double[] pendingRequestViolations;
+	private double[] pendingDayScores;
+	private int[][] pendingNurseShiftCounts;
+	private int[] pendingKindNurseCounts;
+	private int[] pendingKindSums;
+	private int[] pendingKindSquareSums;
+	private int[] touchedNurses;
+	private boolean[] nurseTouched;
+	private int touchedNurseCount;
+	private int[] touchedDays;
+	private int touchedDayCount;
+
+	ScheduleEvaluator(CompiledRule rule, Map<Long, String> prevMonthSchedules, ShiftRequestTable requestTable,
+		Map<Long, WorkIntensity> workIntensities) {
+		this.rule = rule;
+		// NOD 처럼 휴무를 사이에 둔 패턴은 약한 제약(evaluateNodPatterns)으로 따로 평가
+		List<String> transitions = rule.getForbiddenPatterns().stream()
+			.filter(pattern -> pattern.length() == 2)
+			.toList();
+		this.forbiddenFrom = new int[transitions.size()];
+		this.forbiddenTo = new int[transitions.size()];
+		this.forbiddenWeights = new int[transitions.size()];
+		for (int i = 0; i < transitions.size(); i++) {
+			forbiddenFrom[i] = Solution.Nurse.codeIndex(transitions.get(i).charAt(0));
+			forbiddenTo[i] = Solution.Nurse.codeIndex(transitions.get(i).charAt(1));
+			forbiddenWeights[i] = forbiddenFrom[i] == Solution.Nurse.N ? NIGHT_TRANSITION_WEIGHT : 1;
+		}
+		this.prevMonthSchedules = prevMonthSchedules;
+		this.requestTable = requestTable;
+		this.workIntensities = workIntensities;
+	}
+
+	/**
+	 * 해 전체를 평가하고 부분 점수를 초기화합니다.
+	 */
+	double initialize(Solution solution) {
+		List<Solution.Nurse> nurses = solution.getNurses();
+		int nurseCount = nurses.size();
+		int daysInMonth = solution.getDaysInMonth();
+
+		onlyLowExists = nurses.stream()
+			.allMatch(nurse -> workIntensities.getOrDefault(nurse.getId(), WorkIntensity.MEDIUM) == WorkIntensity.LOW);
+
+		nurseScores = new double[nurseCount];
+		nurseHardScores = new double[nurseCount];
+		requestViolations = new double[nurseCount];
+		dayScores = new double[daysInMonth + 1];
+		nurseShiftCounts = new int[nurseCount][SHIFT_KINDS];
+		kindNurseCounts = new int[SHIFT_KINDS];
+		kindSums = new int[SHIFT_KINDS];
+		kindSquareSums = new int[SHIFT_KINDS];
+
+		for (int nurseIdx = 0; nurseIdx < nurseCount; nurseIdx++) {
+			Solution.Nurse nurse = nurses.get(nurseIdx);
+			countShifts(nurse, nurseShiftCounts[nurseIdx]);
+			addKindStatistics(nurseShiftCounts[nurseIdx], kindNurseCounts, kindSums, kindSquareSums, 1);
+			requestViolations[nurseIdx] = evaluateShiftRequests(nurse, nurseIdx);
+			nurseScores[nurseIdx] = scoreNurse(nurse, nurseShiftCounts[nurseIdx], daysInMonth,
+				requestViolations[nurseIdx], nurseHardScores, nurseIdx);
+		}
+		for (int day = 1; day <= daysInMonth; day++) {
+			dayScores[day] = scoreDay(solution, day);
+		}
+
+		pendingNurseScores = nurseScores.clone();
+		pendingNurseHardScores = nurseHardScores.clone();
+		pendingRequestViolations = requestViolations.clone();
+		pendingDayScores = dayScores.clone();
+		pendingNurseShiftCounts = new int[nurseCount][];
+		for (int nurseIdx = 0; nurseIdx < nurseCount; nurseIdx++) {
+			pendingNurseShiftCounts[nurseIdx] = nurseShiftCounts[nurseIdx].clone();
+		}
+		pendingKindNurseCounts = kindNurseCounts.clone();
+		pendingKindSums = kindSums.clone();
+		pendingKindSquareSums = kindSquareSums.clone();
+		touchedNurses = new int[nurseCount];
+		nurseTouched = new boolean[nurseCount];
+		touchedDays = new int[daysInMonth];
+		touchedNurseCount = 0;
+		touchedDayCount = 0;
+
+		return total(nurseScores, dayScores, kindNurseCounts, kindSums, kindSquareSums);
+	}
+
+	/**
+	 * 해에 직접 적용된 마지막 이동(Solution.MoveLog)이 바꾼 간호사(행)와 날짜(열)만 다시 계산한 점수를 반환합니다.
+	 * 이동을 채택하려면 accept()를, 되돌리려면 reject()를 호출해야 합니다.
+	 */
+	double evaluateMove(Solution solution) {
+		List<Solution.Nurse> nurses = solution.getNurses();
+		Solution.MoveLog moveLog = solution.getMoveLog();
+		int daysInMonth = solution.getDaysInMonth();
+
+		touchedNurseCount = 0;
+		touchedDayCount = 0;
+		int changedDayMask = 0;
+		for (int entry = 0; entry < moveLog.size(); entry++) {
+			int nurseIdx = moveLog.nurseIndexAt(entry);
+			if (!nurseTouched[nurseIdx]) {
+				nurseTouched[nurseIdx] = true;
+				touchedNurses[touchedNurseCount++] = nurseIdx;
+			}
+			changedDayMask |= 1 << (moveLog.dayAt(entry) - 1);
+			pendingRequestViolations[nurseIdx] += requestDelta(nurses.get(nurseIdx), moveLog, entry);
+		}
+		for (int days = changedDayMask; days != 0; days &= days - 1) {
+			touchedDays[touchedDayCount++] = Integer.numberOfTrailingZeros(days) + 1;
+		}
+
+		System.arraycopy(kindNurseCounts, 0, pendingKindNurseCounts, 0, SHIFT_KINDS);
+		System.arraycopy(kindSums, 0, pendingKindSums, 0, SHIFT_KINDS);
+		System.arraycopy(kindSquareSums, 0, pendingKindSquareSums, 0, SHIFT_KINDS);
+
+		for (int i = 0; i < touchedNurseCount; i++) {
+			int nurseIdx = touchedNurses[i];
+			Solution.Nurse nurse = nurses.get(nurseIdx);
+			nurseTouched[nurseIdx] = false;
+			int[] counts = pendingNurseShiftCounts[nurseIdx];
+
+			addKindStatistics(nurseShiftCounts[nurseIdx], pendingKindNurseCounts, pendingKindSums,
+				pendingKindSquareSums, -1);
+			countShifts(nurse, counts);
+			addKindStatistics(counts, pendingKindNurseCounts, pendingKindSums, pendingKindSquareSums, 1);
+			pendingNurseScores[nurseIdx] = scoreNurse(nurse, counts, daysInMonth, pendingRequestViolations[nurseIdx],
+				pendingNurseHardScores, nurseIdx);
+		}
+		for (int i = 0; i < touchedDayCount; i++) {
+			int day = touchedDays[i];
+			pendingDayScores[day] = scoreDay(solution, day);
+		}
+
+		return total(pendingNurseScores, pendingDayScores, pendingKindNurseCounts, pendingKindSums,
+			pendingKindSquareSums);
+	}
+
+	/**
+	 * 마지막으로 평가한 이웃 해의 부분 점수를 현재 해의 점수로 반영합니다.
+	 */
+	void accept() {
+		for (int i = 0; i < touchedNurseCount; i++) {
+			int nurseIdx = touchedNurses[i];
+			nurseScores[nurseIdx] = pendingNurseScores[nurseIdx];
+			nurseHardScores[nurseIdx] = pendingNurseHardScores[nurseIdx];
+			requestViolations[nurseIdx] = pendingRequestViolations[nurseIdx];
+			System.arraycopy(pendingNurseShiftCounts[nurseIdx], 0, nurseShiftCounts[nurseIdx], 0,
+				SHIFT_KINDS);
+		}
+		for (int i = 0; i < touchedDayCount; i++) {
+			int day = touchedDays[i];
+			dayScores[day] = pendingDayScores[day];
+		}
+		System.arraycopy(pendingKindNurseCounts, 0, kindNurseCounts, 0, SHIFT_KINDS);
+		System.arraycopy(pendingKindSums, 0, kindSums, 0, SHIFT_KINDS);
+		System.arraycopy(pendingKindSquareSums, 0, kindSquareSums, 0, SHIFT_KINDS);
+		touchedNurseCount = 0;
+		touchedDayCount = 0;
+	}
+
+	/**
+	 * 채택하지 않은 이웃 해의 부분 점수를 되돌립니다.
+	 */
+	void reject() {
+		for (int i = 0; i < touchedNurseCount; i++) {
+			int nurseIdx = touchedNurses[i];
+			pendingNurseScores[nurseIdx] = nurseScores[nurseIdx];
+			pendingNurseHardScores[nurseIdx] = nurseHardScores[nurseIdx];
+			pendingRequestViolations[nurseIdx] = requestViolations[nurseIdx];
+			System.arraycopy(nurseShiftCounts[nurseIdx], 0, pendingNurseShiftCounts[nurseIdx], 0,
+				SHIFT_KINDS);
+		}
+		for (int i = 0; i < touchedDayCount; i++) {
+			int day = touchedDays[i];
+			pendingDayScores[day] = dayScores[day];
+		}
+		touchedNurseCount = 0;
+		touchedDayCount = 0;
+	}
+
+	/**
+	 * 현재 해의 강한 제약 조건 점수 (0이면 필수 조건을 모두 만족)
+	 */
+	double hardScore() {
+		double score = 0;
+		for (double dayScore : dayScores) {
+			score += dayScore;
+		}
+		for (double nurseHardScore : nurseHardScores) {
+			score += nurseHardScore;
+		}
+		return score;
+	}
+
+	/**
+	 * 해 전체를 제약 조건별로 평가한 위반 정도 (가중치 적용 전, 실행 기록/지표용)
+	 * 평가기 상태를 이 해로 다시 초기화합니다.
+	 */
+	Map<ScheduleConstraint, Double> violations(Solution solution) {
+		initialize(solution);
+		List<Solution.Nurse> nurses = solution.getNurses();
+		int daysInMonth = solution.getDaysInMonth();
+
+		Map<ScheduleConstraint, Double> violations = new EnumMap<>(ScheduleConstraint.class);
+		for (ScheduleConstraint constraint : ScheduleConstraint.values()) {
+			violations.put(constraint, 0.0);
+		}
+		for (int day = 1; day <= daysInMonth; day++) {
+			violations.merge(ScheduleConstraint.SHIFT_REQUIREMENT, evaluateShiftRequirements(solution, day),
+				Double::sum);
+		}
+		for (int nurseIdx = 0; nurseIdx < nurses.size(); nurseIdx++) {
+			Solution.Nurse nurse = nurses.get(nurseIdx);
+			violations.merge(ScheduleConstraint.CONSECUTIVE_SHIFT, evaluateConsecutiveShifts(nurse, daysInMonth),
+				Double::sum);
+			violations.merge(ScheduleConstraint.PREVIOUS_MONTH,
+				evaluatePreviousMonthConstraints(nurse, daysInMonth), Double::sum);
+			violations.merge(ScheduleConstraint.SHIFT_TYPE, evaluateShiftTypeConstraints(nurse), Double::sum);
+			violations.merge(ScheduleConstraint.SHIFT_REQUEST, requestViolations[nurseIdx], Double::sum);
+			violations.merge(ScheduleConstraint.SHIFT_PATTERN, evaluateShiftPatterns(nurse), Double::sum);
+			violations.merge(ScheduleConstraint.NOD_PATTERN, evaluateNodPatterns(nurse, daysInMonth), Double::sum);
+			violations.merge(ScheduleConstraint.WORK_INTENSITY,
+				evaluateWorkIntensityBalance(nurse, nurseShiftCounts[nurseIdx], daysInMonth), Double::sum);
+			violations.merge(ScheduleConstraint.ALTERNATING_PATTERN, evaluateAlternatingWorkPattern(nurse),
+				Double::sum);
+			violations.merge(ScheduleConstraint.SHIFT_CONSISTENCY, evaluateShiftConsistency(nurse), Double::sum);
+		}
+		violations.put(ScheduleConstraint.WORKLOAD_BALANCE,
+			workloadBalance(kindNurseCounts, kindSums, kindSquareSums));
+		return violations;
+	}
+
+	private double total(double[] nurseScoreArray, double[] dayScoreArray, int[] nurseCounts, int[] sums,
+		int[] squareSums) {
+		double score = 0;
+		for (double dayScore : dayScoreArray) {
+			score += dayScore;
+		}
+		for (double nurseScore : nurseScoreArray) {
+			score += nurseScore;
+		}
+		score += workloadBalance(nurseCounts, sums, squareSums) * WORKLOAD_BALANCE_WEIGHT;
+		return score;
+	}
+
+	// 간호사 점수를 반환하고, 그중 강한 제약 조건 부분은 hardScoreArray[nurseIdx]에 기록
+	private double scoreNurse(Solution.Nurse nurse, int[] counts, int daysInMonth, double nurseRequestViolations,
+		double[] hardScoreArray, int nurseIdx) {
+		double score = 0;
+
+		// 강한 제약 조건
+		score += evaluateConsecutiveShifts(nurse, daysInMonth) * CONSECUTIVE_SHIFT_WEIGHT;
+		score += evaluatePreviousMonthConstraints(nurse, daysInMonth) * PREVIOUS_MONTH_WEIGHT;
+		score += evaluateShiftTypeConstraints(nurse) * SHIFT_TYPE_WEIGHT;
+		score += nurseRequestViolations * SHIFT_REQUEST_WEIGHT;
+		score += evaluateShiftPatterns(nurse) * SHIFT_PATTERN_WEIGHT;
+		hardScoreArray[nurseIdx] = score;
+
+		// 약한 제약 조건
+		score += evaluateNodPatterns(nurse, daysInMonth) * NOD_PATTERN_WEIGHT;
+		score += evaluateWorkIntensityBalance(nurse, counts, daysInMonth) * WORK_INTENSITY_WEIGHT;
+		score += evaluateAlternatingWorkPattern(nurse) * ALTERNATING_PATTERN_WEIGHT;
+		score += evaluateShiftConsistency(nurse) * SHIFT_CONSISTENCY_WEIGHT;
+
+		return score;
+	}
+
+	private double scoreDay(Solution solution, int day) {
+		return evaluateShiftRequirements(solution, day) * SHIFT_REQUIREMENT_WEIGHT;
+	}
+
+	private static void countShifts(Solution.Nurse nurse, int[] counts) {
+		for (int kind = 0; kind < SHIFT_KINDS; kind++) {
+			counts[kind] = Integer.bitCount(nurse.getMasks()[kind]);
+		}
+	}
+
+	private static boolean isSet(int mask, int bitIdx) {
+		return (mask >>> bitIdx & 1) != 0;
+	}
+
+	// 최하위 비트부터 연속으로 켜진 비트 수 (1일부터 이어지는 구간 길이)
+	private static int leadingRun(int mask) {
+		return Integer.numberOfTrailingZeros(~mask);
+	}
+
+	private static int runLength(int mask, int start) {
+		return Integer.numberOfTrailingZeros(~(mask >>> start));
+	}
+
+	private static int clearRun(int mask, int start, int length) {
+		return mask & ~(((1 << length) - 1) << start);
+	}
+
+	private static void addKindStatistics(int[] counts, int[] nurseCounts, int[] sums, int[] squareSums, int sign) {
+		for (int kind = 0; kind < SHIFT_KINDS; kind++) {
+			int count = counts[kind];
+			if (count > 0) {
+				nurseCounts[kind] += sign;
+				sums[kind] += sign * count;
+				squareSums[kind] += sign * count * count;
+			}
+		}
+	}
+
+	// 근무 유형별 근무 횟수의 표준편차 합 (해당 근무가 한 번이라도 있는 간호사만 대상)
+	private static double workloadBalance(int[] nurseCounts, int[] sums, int[] squareSums) {
+		double balance = 0;
+		for (int kind = 0; kind < SHIFT_KINDS; kind++) {
+			int nurseCount = nurseCounts[kind];
+			if (nurseCount == 0) {
+				continue;
+			}
+			double mean = (double)sums[kind] / nurseCount;
+			double variance = (double)squareSums[kind] / nurseCount - mean * mean;
+			balance += Math.sqrt(Math.max(0, variance));
+		}
+		return balance;
+	}
+
+	double evaluateShiftRequirements(Solution solution, int day) {
+		int bit = 1 << (day - 1);
+		int dayCount = 0;
+		int eveningCount = 0;
+		int nightCount = 0;
+		for (Solution.Nurse nurse : solution.getNurses()) {
+			int[] masks = nurse.getMasks();
+			dayCount += (masks[Solution.Nurse.D] & bit) != 0 ? 1 : 0;
+			eveningCount += (masks[Solution.Nurse.E] & bit) != 0 ? 1 : 0;
+			nightCount += (masks[Solution.Nurse.N] & bit) != 0 ? 1 : 0;
+		}
+		Solution.DailyRequirement req = solution.getDailyRequirement(day);
+
+		double violations = 0;
+		// 야간 근무 위반은 더 높은 패널티 부여
+		int nightDiff = Math.abs(nightCount - req.getNightNurses());
+		violations += nightDiff * 50; // 야간 근무 위반에 50배 패널티
+
+		// 일반 근무 요구사항 위반
+		violations += Math.abs(dayCount - req.getDayNurses());
+		violations += Math.abs(eveningCount - req.getEveningNurses());
+		return violations;
+	}
+
+	double evaluateConsecutiveShifts(Solution.Nurse nurse, int daysInMonth) {
+		double violations = 0;
+		int workMask = nurse.getWorkMask();
+		int nightMask = nurse.getMask('N');
+		int restMask = nurse.getRestMask();
+		int maxConsecutiveOffs = 3;  // 최대 허용 연속 휴무 일수 (조정 가능)
+
+		// 연속 근무 구간마다 최대 연속 근무일 초과 일수만큼 패널티
+		for (int runs = workMask; runs != 0; ) {
+			int start = Integer.numberOfTrailingZeros(runs);
+			int length = runLength(runs, start);
+			violations += Math.max(0, length - rule.getMaxShift());
+			runs = clearRun(runs, start, length);
+		}
+
+		// 연속 야간 구간
+		for (int runs = nightMask; runs != 0; ) {
+			int start = Integer.numberOfTrailingZeros(runs);
+			int length = runLength(runs, start);
+			violations += Math.max(0, length - rule.getMaxN()) * 15;
+
+			// 단일 야간 근무: 뒤에 휴식이 오면 10점, 다른 근무가 오거나 월말이면 15점
+			if (length == 1) {
+				int next = start + 1;
+				violations += next < daysInMonth && isSet(restMask, next) ? 10 : 15;
+			}
+			runs = clearRun(runs, start, length);
+		}
+
+		// 너무 긴 연속 휴무에 대한 패널티 부여 (초과 일수당 5점)
+		for (int runs = restMask; runs != 0; ) {
+			int start = Integer.numberOfTrailingZeros(runs);
+			int length = runLength(runs, start);
+			violations += Math.max(0, length - maxConsecutiveOffs) * 5;
+			runs = clearRun(runs, start, length);
+		}
+
+		// 월말이 단일 근무로 끝나는 경우
+		int lastDay = daysInMonth - 1;
+		if (isSet(workMask, lastDay) && (lastDay == 0 || !isSet(workMask, lastDay - 1))) {
+			violations += 10;
+		}
+
+		return violations;
+	}
+
+
+	double evaluatePreviousMonthConstraints(Solution.Nurse nurse, int daysInMonth) {
+		double violations = 0;
+
+		String prevSchedule = prevMonthSchedules.get(nurse.getId());
+		if (prevSchedule == null || prevSchedule.isEmpty()) {
+			return violations;
+		}
+
+		char lastPrevShift = prevSchedule.charAt(prevSchedule.length() - 1);
+		char firstCurrentShift = nurse.getShift(1);
+
+		// 이전 달 마지막 날이 야간 근무인 경우
+		if (lastPrevShift == 'N') {
+			// 야간 -> 주간/저녁 패턴은 위반 (야간 근무 후 바로 주간이나 저녁 근무 불가)
+			if (firstCurrentShift == 'D' || firstCurrentShift == 'E') {
+				violations += 100;  // 높은 패널티
+			}
+
+			// 야간 근무 후 바로 휴무가 아닌 경우 (N -> O 아닌 경우) 패널티
+			// 단, 야간 연속성 (N -> N)은 예외로 검사
+			if (firstCurrentShift != 'O' && firstCurrentShift != 'N') {
+				violations += 50;
+			}
+
+			// 야간 연속성 체크 (이전 달 마지막과 이번 달이 연속될 때만)
+			if (firstCurrentShift == 'N') {
+				// 이전 달 연속 야간 근무 일수 계산
+				int prevMonthConsecutiveNights = 1; // 마지막 날
+				for (int i = prevSchedule.length() - 2; i >= 0; i--) {
+					if (prevSchedule.charAt(i) == 'N') {
+						prevMonthConsecutiveNights++;
+					} else {
+						break;
+					}
+				}
+
+				// 현재 달 연속 야간 근무 일수 계산 (첫날 포함)
+				int currentMonthConsecutiveNights = leadingRun(nurse.getMask('N'));
+
+				// 전체 연속 야간 근무 일수
+				int totalConsecutiveNights =
+					prevMonthConsecutiveNights + currentMonthConsecutiveNights - 1; // 중복 카운트 방지
+
+				// 최대 연속 야간 초과 시 패널티 (매우 높은 패널티 적용)
+				if (totalConsecutiveNights > rule.getMaxN()) {
+					violations += (totalConsecutiveNights - rule.getMaxN()) * 30;
+				}
+			}
+
+			// NOD 패턴 체크: 이전 달 마지막 날 N, 첫날 O, 둘째날 D인 경우
+			if (firstCurrentShift == 'O' && daysInMonth >= 2) {
+				if (nurse.getShift(2) == 'D') {
+					violations += 40; // NOD 패턴에 높은 패널티
+				}
+			}
+		}
+
+		// 연속 근무일수 체크
+		int consecutiveShifts = 0;
+		// 이전 달 마지막 부분 체크
+		for (int i = prevSchedule.length() - 1; i >= 0; i--) {
+			char shift = prevSchedule.charAt(i);
+			if (shift != 'O' && shift != 'X') {
+				consecutiveShifts++;
+			} else {
+				break;
+			}
+		}
+
+		// 현재 달 시작 부분 체크
+		consecutiveShifts += leadingRun(nurse.getWorkMask());
+
+		// 최대 연속 근무일수(rule.getMaxShift()) 초과시 패널티
+		if (consecutiveShifts > rule.getMaxShift()) {
+			violations += (consecutiveShifts - rule.getMaxShift()) * 5;  // 가중치 5 적용
+		}
+
+		// 야간 연속 근무 체크
+		if (lastPrevShift == 'N' && firstCurrentShift == 'N') {
+			int consecutiveNights = 1; // 이전 달 마지막 날 포함
+			for (int i = prevSchedule.length() - 2; i >= 0; i--) {
+				if (prevSchedule.charAt(i) == 'N') {
+					consecutiveNights++;
+				} else {
+					break;
+				}
+			}
+			consecutiveNights += leadingRun(nurse.getMask('N')) - 1; // 둘째 날부터 이어지는 야간
+			if (consecutiveNights > rule.getMaxN()) {
+				violations += (consecutiveNights - rule.getMaxN()) * 8; // 가중치 8 적용
+			}
+
+			// 단일 야간 근무 체크 (이전 달 마지막 N, 현재 달 첫날 N, 둘째날 야간 아님)
+			if (daysInMonth >= 2 && nurse.getShift(2) != 'N') {
+				// 이전 달의 N이 단일이었는지 확인
+				boolean wasSingleNight = prevSchedule.length() < 2
+					|| prevSchedule.charAt(prevSchedule.length() - 2) != 'N';
+
+				// 현재 단일 야간이라면 (연속 2일만 N)
+				if (wasSingleNight) {
+					violations += 15; // 단일 야간 패널티
+				}
+			}
+		}
+
+		// 이전 달 마지막과 현재 달 첫날의 근무 패턴 체크
+		if (lastPrevShift == 'E' && firstCurrentShift == 'D') {
+			violations += 10; // 저녁->주간 패턴에 패널티
+		}
+
+		return violations;
+	}
+
+	// 근무 유형 제약 조건 평가
+	double evaluateShiftTypeConstraints(Solution.Nurse nurse) {
+		// 특정 근무 타입만 가능한 간호사 처리
+		boolean isSpecificShiftNurse = nurse.getShiftFlags() == ShiftType.D.getFlag()
+			|| nurse.getShiftFlags() == ShiftType.E.getFlag()
+			|| nurse.getShiftFlags() == ShiftType.N.getFlag()
+			|| nurse.getShiftFlags() == ShiftType.M.getFlag();
+
+		// 근무 불가능한 유형이 배정된 일수
+		int invalidDays = 0;
+		for (char shift : WORK_SHIFTS) {
+			if (!nurse.canWorkShift(shift)) {
+				invalidDays += Integer.bitCount(nurse.getMask(shift));
+			}
+		}
+
+		double violations = invalidDays * 200; // 높은 패널티
+
+		// 특정 근무 타입만 가능한 간호사가 다른 근무를 하는 경우 더 높은 패널티
+		if (isSpecificShiftNurse) {
+			violations += invalidDays * 500; // 매우 높은 패널티
+		}
+
+		return violations;
+	}
+
+
+	// 근무 요청 평가 (강화된 요청은 3배 가중치)
+	double evaluateShiftRequests(Solution.Nurse nurse, int nurseIdx) {
+		return requestTable.violations(nurse, nurseIdx);
+	}
+
+	/**
+	 * 이동 기록 한 건(한 칸의 근무 변경)에 따른 요청 위반 증감
+	 * 같은 칸이 여러 번 바뀐 경우 다음 기록의 변경 전 근무가 이 기록의 변경 후 근무입니다.
+	 */
+	private double requestDelta(Solution.Nurse nurse, Solution.MoveLog moveLog, int entry) {
+		int nurseIdx = moveLog.nurseIndexAt(entry);
+		int day = moveLog.dayAt(entry);
+		int afterCode = nurse.getShiftCode(day);
+		for (int next = entry + 1; next < moveLog.size(); next++) {
+			if (moveLog.nurseIndexAt(next) == nurseIdx && moveLog.dayAt(next) == day) {
+				afterCode = moveLog.previousCodeAt(next);
+				break;
+			}
+		}
+		return requestTable.weight(nurseIdx, day, moveLog.previousCodeAt(entry))
+			- requestTable.weight(nurseIdx, day, afterCode);
+	}
+
+	double evaluateShiftPatterns(Solution.Nurse nurse) {
+		int[] masks = nurse.getMasks();
+
+		// 컴파일된 규칙의 다음날 금지 전이 (N 다음날 D/E/M, E 다음날 D/M)
+		int violations = 0;
+		for (int i = 0; i < forbiddenFrom.length; i++) {
+			int nextDays = (masks[forbiddenFrom[i]] << 1) & masks[forbiddenTo[i]];
+			violations += Integer.bitCount(nextDays) * forbiddenWeights[i];
+		}
+		return violations;
+	}
+
+
+	double evaluateNodPatterns(Solution.Nurse nurse, int daysInMonth) {
+		double violations = 0;
+
+		// 기존 월내 NOD 패턴 체크
+		int nodStarts = nurse.getMask('N') & (nurse.getMask('O') >>> 1) & (nurse.getMask('D') >>> 2);
+		violations += Integer.bitCount(nodStarts) * 10;
+
+		// 월말-월초 NOD 패턴 체크
+		String prevSchedule = prevMonthSchedules.get(nurse.getId());
+		if (prevSchedule != null && prevSchedule.length() >= 2) {
+			// 이전 달 마지막 날이 N
+			if (prevSchedule.charAt(prevSchedule.length() - 1) == 'N') {
+				// 현재 달 첫날이 O
+				if (daysInMonth >= 2 && nurse.getShift(1) == 'O') {
+					// 현재 달 둘째날이 D -> NOD 패턴
+					if (nurse.getShift(2) == 'D') {
+						violations += 20; // 월말-월초 NOD 패턴에 더 높은 패널티
+					}
+				}
+			}
+		}
+
+		return violations;
+	}
+
+	/**
+	 * 워크 인텐시티에 따른 휴일 배분 적절성을 평가합니다.
+	 */
+	double evaluateWorkIntensityBalance(Solution.Nurse nurse, int[] counts, int daysInMonth) {
+		WorkIntensity intensity = workIntensities.getOrDefault(nurse.getId(), WorkIntensity.MEDIUM);
+
+		// 근무 일수 비율 계산 (D + E + N)
+		int workDays = counts[Solution.Nurse.D] + counts[Solution.Nurse.E] + counts[Solution.Nurse.N];
+		double workRatio = (double)workDays / daysInMonth;
+
+		// 각 근무 강도별 목표 근무 비율
+		double targetRatio = switch (intensity) {
+			case HIGH -> 0.7; // 70% 근무 (HIGH는 더 많이 근무)
+			case LOW -> 0.5; // 50% 근무 (LOW는 덜 근무)
+			default -> 0.6; // 60% 근무 (중간 정도 근무)
+		};
+
+		// 목표 비율과의 차이에 따른 페널티
+		double diff = Math.abs(workRatio - targetRatio);
+
+		// 강도별 다른 가중치 적용
+		if (intensity == WorkIntensity.LOW) {
+			// LOW 강도 간호사에게 더 높은 가중치 적용
+			double weightMultiplier = 3.0; // 3배 가중치
+
+			// LOW 강도 간호사만 있는 경우 추가 가중치 적용
+			if (onlyLowExists) {
+				weightMultiplier = 5.0; // 5배 가중치
+			}
+
+			// 목표보다 더 많이 일하는 경우 (workRatio > targetRatio) 페널티 추가
+			if (workRatio > targetRatio) {
+				weightMultiplier *= 1.5; // 추가 50% 페널티
+			}
+
+			return diff * 100 * weightMultiplier;
+		}
+
+		// HIGH, MEDIUM 강도 간호사는 일반 가중치
+		return diff * 100;
+	}
+
+	double evaluateAlternatingWorkPattern(Solution.Nurse nurse) {
+		double violations = 0;
+		int daysInMonth = nurse.getDaysInMonth();
+
+		// 근무-휴무 시작 위치, 근무-휴무-근무-휴무 시작 위치
+		int pairs = nurse.getWorkMask() & (nurse.getRestMask() >>> 1);
+		int patterns = pairs & (pairs >>> 2);
+
+		while (patterns != 0) {
+			int start = Integer.numberOfTrailingZeros(patterns);
+
+			// 더 긴 패턴도 체크 (패턴이 계속되는지)
+			int patternLength = 2; // 기본 패턴 길이 (근무-휴무)
+			for (int j = start + 4; j < daysInMonth - 1 && isSet(pairs, j); j += 2) {
+				patternLength++;
+			}
+
+			// 패턴이 길수록 더 큰 패널티 부여
+			violations += patternLength * 2;
+
+			// 이미 패턴을 찾았으니 다음 검색은 패턴 이후부터
+			int next = start + patternLength * 2;
+			patterns = next >= daysInMonth ? 0 : patterns & -(1 << next);
+		}
+
+		return violations;
+	}
+
+
+	// 연속 근무 시 같은 유형의 근무를 유지하는지 평가
+	double evaluateShiftConsistency(Solution.Nurse nurse) {
+		int workMask = nurse.getWorkMask();
+
+		// 전날과 같은 유형의 근무를 이어가는 일자
+		int sameAsPrevious = 0;
+		for (char shift : WORK_SHIFTS) {
+			int mask = nurse.getMask(shift);
+			sameAsPrevious |= mask & (mask << 1);
+		}
+
+		// 연속 근무 중 유형이 바뀐 일자, 연속 근무 5일째 이후인 일자
+		int changes = workMask & (workMask << 1) & ~sameAsPrevious;
+		int lateInRun = workMask & (workMask << 1) & (workMask << 2) & (workMask << 3) & (workMask << 4);
+
+		// 2~4일 연속 근무에서 유형 변경시 더 높은 패널티
+		return Integer.bitCount(changes & ~lateInRun) * 5 + Integer.bitCount(changes & lateInRun) * 2;
+	}
+
+}
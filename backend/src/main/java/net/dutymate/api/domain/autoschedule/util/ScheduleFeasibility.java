@@ -0,0 +1,312 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.dutymate.api.domain.autoschedule.ScheduleConstraint;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.wardmember.ShiftType;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 어닐링 전 만족 불가능한 입력 확인 (간호사 수 × 일수 규모의 계산만, 수 ms 이내)
+ * 일자마다 근무 유형 조합별로 필요 인원과 그 유형을 할 수 있는 간호사 수를 비교하고(이분 매칭의 Hall 조건),
+ * 한 달 동안 최대 연속 근무/야간 규칙이 허용하는 최대 근무 수와 필요한 근무 수를 비교합니다.
+ * 엔진이 강한 제약으로 평가하는 규칙만 사용하므로, 여기서 찾은 문제는 어닐링을 오래 돌려도 해결되지 않습니다.
+ * (연속 근무 후 휴무 일수 offCntAfter*는 초기 해에만 쓰이고 평가하지 않으므로 상한 계산에 쓰지 않습니다.)
+ */
+public class ScheduleFeasibility {
+
+	private static final char[] WORK_SHIFTS = {'D', 'E', 'N'};
+	private static final int[] WORK_FLAGS = {ShiftType.D.getFlag(), ShiftType.E.getFlag(), ShiftType.N.getFlag()};
+	private static final int ALL_WORK_SHIFTS = (1 << WORK_SHIFTS.length) - 1;
+	private static final int NIGHT_SHIFT = 1 << 2;
+
+	public static List<Issue> check(SchedulingProblem problem) {
+		Rule rule = problem.getRule();
+		YearMonth yearMonth = problem.getYearMonth();
+		int daysInMonth = yearMonth.daysInMonth();
+		List<Long> memberIds = problem.getMemberIds();
+		List<Issue> issues = new ArrayList<>();
+
+		checkRule(rule, issues);
+
+		// 간호사별 근무 가능 유형 비트 (D, E, N 순서) 와 전월 근무 때문에 1일에 할 수 있는 유형 비트
+		int[] shiftMasks = new int[memberIds.size()];
+		int[] firstDayShiftMasks = new int[memberIds.size()];
+		for (int nurseIdx = 0; nurseIdx < memberIds.size(); nurseIdx++) {
+			Long memberId = memberIds.get(nurseIdx);
+			shiftMasks[nurseIdx] = shiftMask(problem.getNurseShiftFlags().getOrDefault(memberId,
+				ShiftType.ALL.getFlag()));
+			firstDayShiftMasks[nurseIdx] = firstDayShiftMask(problem.getPrevMonthSchedules().get(memberId), rule,
+				shiftMasks[nurseIdx]);
+		}
+
+		// 일자별 휴무 요청 간호사, 근무 유형별 요청 수
+		Map<Long, Integer> nurseIndices = new HashMap<>();
+		for (int nurseIdx = 0; nurseIdx < memberIds.size(); nurseIdx++) {
+			nurseIndices.put(memberIds.get(nurseIdx), nurseIdx);
+		}
+		boolean[][] offRequested = new boolean[daysInMonth + 1][memberIds.size()];
+		int[][] shiftRequests = new int[daysInMonth + 1][WORK_SHIFTS.length];
+		for (ShiftRequest request : problem.getRequests()) {
+			Integer nurseIdx = nurseIndices.get(request.getNurseId());
+			int day = request.getDay();
+			if (nurseIdx == null || day < 1 || day > daysInMonth) {
+				continue;
+			}
+			int shiftIdx = shiftIndex(request.getRequestedShift());
+			if (shiftIdx >= 0) {
+				shiftRequests[day][shiftIdx]++;
+			} else if (request.getRequestedShift() == 'O') {
+				offRequested[day][nurseIdx] = true;
+			}
+		}
+
+		int totalRequired = 0;
+		int totalNights = 0;
+		for (int day = 1; day <= daysInMonth; day++) {
+			int[] required = requiredShifts(rule, yearMonth, problem.getDailyNightCnt(), day);
+			totalRequired += required[0] + required[1] + required[2];
+			totalNights += required[2];
+
+			int[] available = new int[ALL_WORK_SHIFTS + 1];
+			int[] availableWithRequests = new int[ALL_WORK_SHIFTS + 1];
+			for (int nurseIdx = 0; nurseIdx < memberIds.size(); nurseIdx++) {
+				int shiftMask = day == 1 ? firstDayShiftMasks[nurseIdx] : shiftMasks[nurseIdx];
+				if (shiftMask == 0) {
+					continue;
+				}
+				available[shiftMask]++;
+				if (!offRequested[day][nurseIdx]) {
+					availableWithRequests[shiftMask]++;
+				}
+			}
+
+			Issue shortage = shortage(day, required, available, ScheduleConstraint.SHIFT_REQUIREMENT,
+				"%d일: %s 근무에 %d명이 필요하지만 근무할 수 있는 간호사는 %d명입니다.");
+			if (shortage != null) {
+				issues.add(shortage);
+				continue;
+			}
+			Issue offShortage = shortage(day, required, availableWithRequests, ScheduleConstraint.SHIFT_REQUEST,
+				"%d일: %s 근무에 %d명이 필요하지만 휴무 요청을 모두 들어주면 %d명만 남습니다.");
+			if (offShortage != null) {
+				issues.add(offShortage);
+			}
+			for (int shiftIdx = 0; shiftIdx < WORK_SHIFTS.length; shiftIdx++) {
+				if (shiftRequests[day][shiftIdx] > required[shiftIdx]) {
+					issues.add(Issue.builder()
+						.constraint(ScheduleConstraint.SHIFT_REQUEST)
+						.day(day)
+						.shift(String.valueOf(WORK_SHIFTS[shiftIdx]))
+						.required(required[shiftIdx])
+						.available(shiftRequests[day][shiftIdx])
+						.message(String.format("%d일: %c 근무 요청이 %d건이지만 필요 인원은 %d명입니다.", day,
+							WORK_SHIFTS[shiftIdx], shiftRequests[day][shiftIdx], required[shiftIdx]))
+						.build());
+				}
+			}
+		}
+
+		checkMonthlyCapacity(rule, daysInMonth, shiftMasks, totalRequired, totalNights, issues);
+		return issues;
+	}
+
+	// 규칙 자체가 모순인 경우
+	private static void checkRule(Rule rule, List<Issue> issues) {
+		if (rule.getMinN() > rule.getMaxN()) {
+			issues.add(Issue.builder()
+				.constraint(ScheduleConstraint.CONSECUTIVE_SHIFT)
+				.shift("N")
+				.required(rule.getMinN())
+				.available(rule.getMaxN())
+				.message(String.format("최소 연속 야간(%d일)이 최대 연속 야간(%d일)보다 깁니다.",
+					rule.getMinN(), rule.getMaxN()))
+				.build());
+		}
+		if (rule.getMinN() > rule.getMaxShift()) {
+			issues.add(Issue.builder()
+				.constraint(ScheduleConstraint.CONSECUTIVE_SHIFT)
+				.shift("N")
+				.required(rule.getMinN())
+				.available(rule.getMaxShift())
+				.message(String.format("최소 연속 야간(%d일)이 최대 연속 근무(%d일)보다 깁니다.",
+					rule.getMinN(), rule.getMaxShift()))
+				.build());
+		}
+	}
+
+	// 최대 연속 근무/야간 일수를 지키며 간호사마다 한 달에 할 수 있는 최대 근무(야간) 수의 합과 비교
+	private static void checkMonthlyCapacity(Rule rule, int daysInMonth, int[] shiftMasks, int totalRequired,
+		int totalNights, List<Issue> issues) {
+		int maxShifts = maxWorkDays(daysInMonth, rule.getMaxShift());
+		int maxNights = Math.min(maxShifts, maxWorkDays(daysInMonth, rule.getMaxN()));
+		int shiftCapacity = 0;
+		int nightCapacity = 0;
+		for (int shiftMask : shiftMasks) {
+			if (shiftMask == 0) {
+				continue;
+			}
+			shiftCapacity += shiftMask == NIGHT_SHIFT ? maxNights : maxShifts;
+			nightCapacity += (shiftMask & NIGHT_SHIFT) != 0 ? maxNights : 0;
+		}
+
+		if (shiftCapacity < totalRequired) {
+			issues.add(Issue.builder()
+				.constraint(ScheduleConstraint.CONSECUTIVE_SHIFT)
+				.required(totalRequired)
+				.available(shiftCapacity)
+				.message(String.format("한 달에 %d번의 근무가 필요하지만 연속 근무 규칙을 지키면 최대 %d번입니다.",
+					totalRequired, shiftCapacity))
+				.build());
+		}
+		if (nightCapacity < totalNights) {
+			issues.add(Issue.builder()
+				.constraint(ScheduleConstraint.CONSECUTIVE_SHIFT)
+				.shift("N")
+				.required(totalNights)
+				.available(nightCapacity)
+				.message(String.format("한 달에 %d번의 야간 근무가 필요하지만 연속 야간 규칙을 지키면 최대 %d번입니다.",
+					totalNights, nightCapacity))
+				.build());
+		}
+	}
+
+	/**
+	 * 근무 유형 조합마다 (필요 인원 합) <= (조합 중 하나라도 할 수 있는 간호사 수) 인지 확인합니다.
+	 * 모든 조합이 만족하면 그날 필요 인원을 모두 배정할 수 있습니다. 가장 많이 부족한 조합을 반환합니다.
+	 * available은 근무 가능 유형 비트별 간호사 수입니다.
+	 */
+	private static Issue shortage(int day, int[] required, int[] available, ScheduleConstraint constraint,
+		String format) {
+		int worstSubset = 0;
+		int worstRequired = 0;
+		int worstAvailable = 0;
+		for (int subset = 1; subset <= ALL_WORK_SHIFTS; subset++) {
+			int subsetRequired = 0;
+			for (int shiftIdx = 0; shiftIdx < WORK_SHIFTS.length; shiftIdx++) {
+				if ((subset & 1 << shiftIdx) != 0) {
+					subsetRequired += required[shiftIdx];
+				}
+			}
+			int subsetAvailable = 0;
+			for (int shiftMask = 1; shiftMask <= ALL_WORK_SHIFTS; shiftMask++) {
+				if ((shiftMask & subset) != 0) {
+					subsetAvailable += available[shiftMask];
+				}
+			}
+			if (subsetRequired - subsetAvailable > worstRequired - worstAvailable) {
+				worstSubset = subset;
+				worstRequired = subsetRequired;
+				worstAvailable = subsetAvailable;
+			}
+		}
+		if (worstSubset == 0) {
+			return null;
+		}
+
+		StringBuilder shifts = new StringBuilder();
+		for (int shiftIdx = 0; shiftIdx < WORK_SHIFTS.length; shiftIdx++) {
+			if ((worstSubset & 1 << shiftIdx) != 0) {
+				shifts.append(shifts.isEmpty() ? "" : "/").append(WORK_SHIFTS[shiftIdx]);
+			}
+		}
+		return Issue.builder()
+			.constraint(constraint)
+			.day(day)
+			.shift(shifts.toString())
+			.required(worstRequired)
+			.available(worstAvailable)
+			.message(String.format(format, day, shifts, worstRequired, worstAvailable))
+			.build();
+	}
+
+	// 엔진의 일별 필요 인원과 같은 계산 (D, E, N 순서)
+	private static int[] requiredShifts(Rule rule, YearMonth yearMonth, Map<Integer, Integer> dailyNightCnt,
+		int day) {
+		boolean isWeekend = yearMonth.isWeekend(day);
+		return new int[] {
+			isWeekend ? rule.getWendDCnt() : rule.getWdayDCnt(),
+			isWeekend ? rule.getWendECnt() : rule.getWdayECnt(),
+			(isWeekend ? rule.getWendNCnt() : rule.getWdayNCnt()) - dailyNightCnt.getOrDefault(day, 0)
+		};
+	}
+
+	/**
+	 * 전월 마지막 근무에 이어서 1일에 할 수 있는 근무 유형 비트
+	 * 최대 연속 근무일을 채웠으면 쉬어야 하고, 야간 다음 날은 야간(최대 연속 야간 미만일 때)이나 휴무만 가능합니다.
+	 */
+	private static int firstDayShiftMask(String prevSchedule, Rule rule, int shiftMask) {
+		if (prevSchedule == null || prevSchedule.isEmpty()) {
+			return shiftMask;
+		}
+		int nights = 0;
+		int shifts = 0;
+		for (int i = prevSchedule.length() - 1; i >= 0 && prevSchedule.charAt(i) == 'N'; i--) {
+			nights++;
+		}
+		for (int i = prevSchedule.length() - 1; i >= 0 && !isRest(prevSchedule.charAt(i)); i--) {
+			shifts++;
+		}
+		if (shifts >= rule.getMaxShift()) {
+			return 0;
+		}
+		if (nights > 0) {
+			return nights >= rule.getMaxN() ? 0 : shiftMask & NIGHT_SHIFT;
+		}
+		return shiftMask;
+	}
+
+	// 최대 maxRun일 연속 근무 후 하루 이상 쉬어야 할 때 days일 동안의 최대 근무일
+	private static int maxWorkDays(int days, int maxRun) {
+		if (maxRun <= 0) {
+			return 0;
+		}
+		int cycle = maxRun + 1;
+		return days / cycle * maxRun + Math.min(days % cycle, maxRun);
+	}
+
+	// 엔진의 연속 근무 계산과 같이 O, X 외에는 모두 근무
+	private static boolean isRest(char shift) {
+		return shift == 'O' || shift == 'X';
+	}
+
+	private static int shiftMask(int shiftFlags) {
+		int shiftMask = 0;
+		for (int shiftIdx = 0; shiftIdx < WORK_FLAGS.length; shiftIdx++) {
+			if ((shiftFlags & WORK_FLAGS[shiftIdx]) != 0) {
+				shiftMask |= 1 << shiftIdx;
+			}
+		}
+		return shiftMask;
+	}
+
+	private static int shiftIndex(char shift) {
+		return switch (shift) {
+			case 'D' -> 0;
+			case 'E' -> 1;
+			case 'N' -> 2;
+			default -> -1;
+		};
+	}
+
+	/**
+	 * 만족할 수 없는 조건 하나 (day가 null이면 한 달 전체, shift가 null이면 모든 근무)
+	 */
+	@Getter
+	@Builder
+	public static class Issue {
+		private final ScheduleConstraint constraint;
+		private final Integer day;
+		private final String shift;
+		private final int required;
+		private final int available;
+		private final String message;
+	}
+}
@@ -0,0 +1,17 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import net.dutymate.api.domain.autoschedule.SchedulerType;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+/**
+ * 자동 생성 엔진
+ * 구현체는 스프링 빈으로 등록하면 SchedulingEngineRegistry 가 SchedulerType 별로 찾아 사용합니다.
+ * 엔진은 problem 을 바꾸지 않고, 결과는 wardSchedule 에 새 duty 로 덧붙인 근무표로 반환합니다.
+ */
+public interface SchedulingEngine {
+
+	SchedulerType getType();
+
+	AnnealingResult generateSchedule(SchedulingProblem problem, WardSchedule wardSchedule, Long currentMemberId,
+		AnnealingOptions options);
+}
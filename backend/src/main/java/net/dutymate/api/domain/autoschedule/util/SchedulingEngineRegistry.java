@@ -0,0 +1,42 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.domain.autoschedule.SchedulerType;
+
+/**
+ * 등록된 자동 생성 엔진 목록 (SchedulerType 별 하나)
+ */
+@Component
+public class SchedulingEngineRegistry {
+
+	private final Map<SchedulerType, SchedulingEngine> engines = new EnumMap<>(SchedulerType.class);
+
+	public SchedulingEngineRegistry(List<SchedulingEngine> engines) {
+		for (SchedulingEngine engine : engines) {
+			SchedulingEngine duplicate = this.engines.put(engine.getType(), engine);
+			if (duplicate != null) {
+				throw new IllegalStateException("자동 생성 엔진이 중복 등록되었습니다: " + engine.getType());
+			}
+		}
+	}
+
+	// 병동에서 선택한 방식의 엔진 (선택하지 않았으면 어닐링)
+	public SchedulingEngine get(SchedulerType schedulerType) {
+		SchedulingEngine engine = engines.get(schedulerType != null ? schedulerType : SchedulerType.ANNEALING);
+		if (engine == null) {
+			throw new IllegalStateException("등록되지 않은 자동 생성 엔진입니다: " + schedulerType);
+		}
+		return engine;
+	}
+
+	public Collection<SchedulingEngine> getAll() {
+		return Collections.unmodifiableCollection(engines.values());
+	}
+}
@@ -0,0 +1,121 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.request.Request;
+import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.wardmember.WardMember;
+import net.dutymate.api.domain.wardmember.WorkIntensity;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * 자동 생성 엔진 입력 (불변)
+ * 엔티티 대신 엔진이 실제로 쓰는 값만 담아, 모든 엔진이 같은 문제를 풀고 그대로 JSON 으로 저장해 벤치마크에 다시 쓸 수 있습니다.
+ */
+@Getter
+public class SchedulingProblem {
+
+	// 전월 근무 중 규칙 평가에 쓰는 마지막 일수
+	private static final int PREV_MONTH_TAIL_DAYS = 4;
+
+	@JsonIgnoreProperties({"weekendDays", "pureWeekendDays"}) // 달력 캐시 (yearMonth 로 다시 계산)
+	private final YearMonth yearMonth;
+	private final Rule rule;
+	private final List<Long> memberIds;                    // 자동 생성 대상 간호사 (근무표 순서)
+	private final Map<Long, Integer> nurseShiftFlags;      // 간호사별 근무 가능 유형
+	private final Map<Long, WorkIntensity> workIntensities; // 간호사별 근무 강도
+	private final Map<Long, String> prevMonthSchedules;    // 간호사별 전월 마지막 근무
+	private final List<ShiftRequest> requests;             // 승인된 근무 요청 (강화 여부 포함)
+	private final Map<Integer, Integer> dailyNightCnt;     // 일자별 야간 전담 인원
+
+	@Builder(toBuilder = true)
+	@Jacksonized
+	private SchedulingProblem(YearMonth yearMonth, Rule rule, List<Long> memberIds,
+		Map<Long, Integer> nurseShiftFlags, Map<Long, WorkIntensity> workIntensities,
+		Map<Long, String> prevMonthSchedules, List<ShiftRequest> requests, Map<Integer, Integer> dailyNightCnt) {
+		this.yearMonth = yearMonth;
+		this.rule = rule;
+		this.memberIds = List.copyOf(memberIds);
+		this.nurseShiftFlags = copyOf(nurseShiftFlags);
+		this.workIntensities = copyOf(workIntensities);
+		this.prevMonthSchedules = copyOf(prevMonthSchedules);
+		this.requests = requests != null ? List.copyOf(requests) : List.of();
+		this.dailyNightCnt = copyOf(dailyNightCnt);
+	}
+
+	/**
+	 * 트랜잭션 안에서 읽은 엔티티로 문제를 만듭니다.
+	 * 근무 유형/강도가 비어 있는 간호사는 엔진 기본값(모든 근무, 보통 강도)을 사용합니다.
+	 */
+	public static SchedulingProblem of(YearMonth yearMonth, Rule rule, List<WardMember> wardMembers,
+		List<WardSchedule.NurseShift> prevNurseShifts, List<Request> acceptedRequests,
+		List<Long> reinforcementRequestIds) {
+		Map<Long, Integer> nurseShiftFlags = new HashMap<>();
+		Map<Long, WorkIntensity> workIntensities = new HashMap<>();
+		for (WardMember wardMember : wardMembers) {
+			Long memberId = wardMember.getMember().getMemberId();
+			if (wardMember.getShiftFlags() != null) {
+				nurseShiftFlags.put(memberId, wardMember.getShiftFlags());
+			}
+			if (wardMember.getWorkIntensity() != null) {
+				workIntensities.put(memberId, wardMember.getWorkIntensity());
+			}
+		}
+
+		Set<Long> reinforcementIds = reinforcementRequestIds != null
+			? new HashSet<>(reinforcementRequestIds) : Set.of();
+		List<ShiftRequest> requests = acceptedRequests.stream()
+			.map(request -> ShiftRequest.builder()
+				.requestId(request.getRequestId())
+				.nurseId(request.getWardMember().getMember().getMemberId())
+				.day(request.getRequestDate().toLocalDate().getDayOfMonth())
+				.requestedShift(request.getRequestShift().getValue().charAt(0))
+				.reinforced(reinforcementIds.contains(request.getRequestId()))
+				.build())
+			.toList();
+
+		return SchedulingProblem.builder()
+			.yearMonth(yearMonth)
+			.rule(rule)
+			.memberIds(wardMembers.stream().map(wm -> wm.getMember().getMemberId()).toList())
+			.nurseShiftFlags(nurseShiftFlags)
+			.workIntensities(workIntensities)
+			.prevMonthSchedules(prevMonthTails(prevNurseShifts))
+			.requests(requests)
+			.build();
+	}
+
+	// 간호사별 전월 마지막 4일 (전월 근무표가 없으면 비어 있음)
+	public static Map<Long, String> prevMonthTails(List<WardSchedule.NurseShift> prevNurseShifts) {
+		Map<Long, String> prevMonthSchedules = new HashMap<>();
+		if (prevNurseShifts != null) {
+			for (WardSchedule.NurseShift shift : prevNurseShifts) {
+				String shifts = shift.getShifts();
+				if (shifts.length() >= PREV_MONTH_TAIL_DAYS) {
+					prevMonthSchedules.put(shift.getMemberId(),
+						shifts.substring(shifts.length() - PREV_MONTH_TAIL_DAYS));
+				}
+			}
+		}
+		return prevMonthSchedules;
+	}
+
+	public int daysInMonth() {
+		return yearMonth.daysInMonth();
+	}
+
+	private static <K, V> Map<K, V> copyOf(Map<K, V> map) {
+		return map != null ? Map.copyOf(map) : Map.of();
+	}
+}
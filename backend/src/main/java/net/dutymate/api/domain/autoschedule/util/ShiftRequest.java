@@ -0,0 +1,16 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+public class ShiftRequest {
+	private final Long requestId;    // 추가된 필드
+	private final Long nurseId;
+	private final int day;
+	private final char requestedShift;
+	private final boolean reinforced;  // 강화된 요청인지 여부
+}
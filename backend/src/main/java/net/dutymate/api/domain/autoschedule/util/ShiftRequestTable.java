@@ -0,0 +1,102 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 근무 요청 조회 테이블 (자동 생성 1회 단위로 컴파일)
+ * 간호사 순번(Solution.getNurses() 순서) × 일자 × 근무 유형별 요청 가중치를 배열에 담아
+ * 요청 위반 평가 시 맵 조회나 객체 생성 없이 바로 찾습니다.
+ * 국소 탐색(현재 근무표에서 이어서 개선)은 기존 근무를 약한 가중치의 요청으로 함께 넣어, 바뀌는 칸 수만큼 점수를 잃게 합니다.
+ */
+class ShiftRequestTable {
+
+	private static final int SHIFT_KINDS = Solution.Nurse.SHIFT_CODES.length;
+
+	// 위반 시 가중치 (강화된 요청은 3배)
+	private static final double REQUEST_WEIGHT = 1.0;
+	private static final double REINFORCED_REQUEST_WEIGHT = 3.0;
+	// 기존 근무에서 바뀐 칸 하나의 가중치 (같은 점수의 이동으로 근무표가 흩어지지 않을 만큼만)
+	private static final double ANCHOR_WEIGHT = 0.02;
+
+	private final int[][] requestedDays;  // [간호사][근무 유형] 요청된 일자 비트마스크
+	private final double[][] weights;     // [간호사][(일자 - 1) * 근무 유형 수 + 근무 유형] 요청 가중치 합
+
+	private ShiftRequestTable(int nurseCount, int daysInMonth) {
+		this.requestedDays = new int[nurseCount][SHIFT_KINDS];
+		this.weights = new double[nurseCount][daysInMonth * SHIFT_KINDS];
+	}
+
+	/**
+	 * 근무표에 없는 간호사나 해당 월 밖의 일자에 대한 요청은 제외합니다.
+	 */
+	static ShiftRequestTable compile(List<ShiftRequest> requests, List<Long> nurseIds, int daysInMonth) {
+		ShiftRequestTable table = new ShiftRequestTable(nurseIds.size(), daysInMonth);
+		Map<Long, Integer> nurseIndices = new HashMap<>();
+		for (int nurseIdx = 0; nurseIdx < nurseIds.size(); nurseIdx++) {
+			nurseIndices.put(nurseIds.get(nurseIdx), nurseIdx);
+		}
+
+		for (ShiftRequest request : requests) {
+			Integer nurseIdx = nurseIndices.get(request.getNurseId());
+			int day = request.getDay();
+			if (nurseIdx == null || day < 1 || day > daysInMonth) {
+				continue;
+			}
+			int code = Solution.Nurse.codeIndex(request.getRequestedShift());
+			table.requestedDays[nurseIdx][code] |= 1 << (day - 1);
+			table.weights[nurseIdx][(day - 1) * SHIFT_KINDS + code] +=
+				request.isReinforced() ? REINFORCED_REQUEST_WEIGHT : REQUEST_WEIGHT;
+		}
+		return table;
+	}
+
+	/**
+	 * 요청에 더해 anchor(간호사별 기존 근무)의 각 칸을 ANCHOR_WEIGHT 요청으로 넣습니다.
+	 * 아직 채우지 않은 칸(X)은 바뀌어도 패널티가 없습니다.
+	 */
+	static ShiftRequestTable compile(List<ShiftRequest> requests, List<Long> nurseIds, int daysInMonth,
+		Map<Long, String> anchor) {
+		ShiftRequestTable table = compile(requests, nurseIds, daysInMonth);
+		for (int nurseIdx = 0; nurseIdx < nurseIds.size(); nurseIdx++) {
+			String shifts = anchor.get(nurseIds.get(nurseIdx));
+			if (shifts == null) {
+				continue;
+			}
+			for (int day = 1; day <= Math.min(shifts.length(), daysInMonth); day++) {
+				int code = Solution.Nurse.codeIndex(shifts.charAt(day - 1));
+				if (code == Solution.Nurse.X) {
+					continue;
+				}
+				table.requestedDays[nurseIdx][code] |= 1 << (day - 1);
+				table.weights[nurseIdx][(day - 1) * SHIFT_KINDS + code] += ANCHOR_WEIGHT;
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * 해당 일자에 code 근무를 배정했을 때 충족되는 요청 가중치
+	 */
+	double weight(int nurseIdx, int day, int code) {
+		return weights[nurseIdx][(day - 1) * SHIFT_KINDS + code];
+	}
+
+	/**
+	 * 간호사의 현재 근무에서 충족되지 않은 요청 가중치 합 (위반한 요청 수에 비례)
+	 */
+	double violations(Solution.Nurse nurse, int nurseIdx) {
+		int[] masks = nurse.getMasks();
+		int[] requested = requestedDays[nurseIdx];
+		double[] nurseWeights = weights[nurseIdx];
+
+		double violations = 0;
+		for (int code = 0; code < SHIFT_KINDS; code++) {
+			for (int days = requested[code] & ~masks[code]; days != 0; days &= days - 1) {
+				violations += nurseWeights[Integer.numberOfTrailingZeros(days) * SHIFT_KINDS + code];
+			}
+		}
+		return violations;
+	}
+}
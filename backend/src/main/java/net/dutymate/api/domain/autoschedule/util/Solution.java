@@ -0,0 +1,265 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import net.dutymate.api.domain.wardmember.ShiftType;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+class Solution {
+	private final int daysInMonth;
+	private final List<Nurse> nurses;
+	private final DailyRequirement[] dailyRequirements; // 일자(1부터 시작)별 필요 인원, 해 사이에서 공유 (불변)
+	private final double score;
+	private MoveLog moveLog; // 제자리 이동 기록 (recordMoves 호출 전에는 null)
+
+	@Builder
+	Solution(int daysInMonth, List<Nurse> nurses, DailyRequirement[] dailyRequirements, double score) {
+		this.daysInMonth = daysInMonth;
+		this.nurses = nurses;
+		this.dailyRequirements = dailyRequirements;
+		this.score = score;
+	}
+
+	// 스냅샷 복사 (이동 기록은 복사하지 않음)
+	public Solution copy() {
+		return Solution.builder()
+			.daysInMonth(daysInMonth)
+			.nurses(nurses.stream().map(Nurse::copy).collect(Collectors.toList()))
+			.dailyRequirements(dailyRequirements)
+			.score(score)
+			.build();
+	}
+
+	public DailyRequirement getDailyRequirement(int day) {
+		return dailyRequirements[day];
+	}
+
+	/**
+	 * 이후 Nurse.setShift로 바뀌는 근무를 이동 기록에 남기도록 합니다.
+	 * 이웃 해를 복사하지 않고 현재 해를 직접 수정한 뒤, 채택하면 commitMove, 기각하면 rollbackMove를 호출합니다.
+	 */
+	public void recordMoves() {
+		moveLog = new MoveLog();
+		for (int nurseIdx = 0; nurseIdx < nurses.size(); nurseIdx++) {
+			nurses.get(nurseIdx).attach(moveLog, nurseIdx);
+		}
+	}
+
+	// 마지막 이동을 확정 (기록만 비움)
+	public void commitMove() {
+		moveLog.clear();
+	}
+
+	// 마지막 이동을 역순으로 되돌림
+	public void rollbackMove() {
+		for (int entry = moveLog.size() - 1; entry >= 0; entry--) {
+			nurses.get(moveLog.nurseIndexAt(entry)).restore(moveLog.dayAt(entry), moveLog.previousCodeAt(entry));
+		}
+		moveLog.clear();
+	}
+
+	/**
+	 * 간호사 한 명의 한 달 근무 (비트보드 표현)
+	 * 근무 유형마다 int 비트마스크 하나를 두고, (day - 1)번째 비트로 해당 일자의 근무 여부를 표시합니다.
+	 * 한 일자에는 정확히 하나의 마스크에만 비트가 켜져 있습니다.
+	 */
+	@Getter
+	static class Nurse {
+		static final char[] SHIFT_CODES = {'D', 'E', 'N', 'O', 'M', 'X'};
+		static final int D = 0;
+		static final int E = 1;
+		static final int N = 2;
+		static final int O = 3;
+		static final int M = 4;
+		static final int X = 5;
+
+		private final Long id;
+		private final int daysInMonth;
+		private final int shiftFlags; // 가능한 근무 유형 플래그 (비트마스크)
+		private final int[] masks;    // D(주간), E(저녁), N(야간), O(휴무), M(미드), X(고정)
+
+		@Getter(AccessLevel.NONE)
+		private MoveLog moveLog;      // 변경 전 근무를 남길 기록 (스냅샷 복사본은 null)
+		@Getter(AccessLevel.NONE)
+		private int index;            // 해 안에서의 간호사 위치
+
+		@Builder
+		Nurse(Long id, char[] shifts, int shiftFlags) {
+			this.id = id;
+			this.daysInMonth = shifts.length;
+			this.shiftFlags = shiftFlags;
+			this.masks = new int[SHIFT_CODES.length];
+			for (int day = 1; day <= shifts.length; day++) {
+				masks[codeIndex(shifts[day - 1])] |= 1 << (day - 1);
+			}
+		}
+
+		private Nurse(Nurse other) {
+			this.id = other.id;
+			this.daysInMonth = other.daysInMonth;
+			this.shiftFlags = other.shiftFlags;
+			this.masks = other.masks.clone();
+		}
+
+		static int codeIndex(char shift) {
+			return switch (shift) {
+				case 'D' -> D;
+				case 'E' -> E;
+				case 'N' -> N;
+				case 'O' -> O;
+				case 'M' -> M;
+				default -> X;
+			};
+		}
+
+		void attach(MoveLog moveLog, int index) {
+			this.moveLog = moveLog;
+			this.index = index;
+		}
+
+		public void setShift(int day, char shift) {
+			// 근무 가능 여부 확인 후 설정
+			if (canWorkShift(shift) || shift == 'O' || shift == 'X') {
+				int code = codeIndex(shift);
+				int bit = 1 << (day - 1);
+				if ((masks[code] & bit) != 0) {
+					return;
+				}
+				if (moveLog != null) {
+					moveLog.record(index, day, codeAt(bit));
+				}
+				restore(day, code);
+			}
+		}
+
+		// 검사 없이 해당 일자의 근무를 설정 (되돌리기 전용)
+		private void restore(int day, int code) {
+			int bit = 1 << (day - 1);
+			for (int other = 0; other < masks.length; other++) {
+				masks[other] &= ~bit;
+			}
+			masks[code] |= bit;
+		}
+
+		private int codeAt(int bit) {
+			for (int code = 0; code < masks.length; code++) {
+				if ((masks[code] & bit) != 0) {
+					return code;
+				}
+			}
+			return O;
+		}
+
+		public char getShift(int day) {
+			return SHIFT_CODES[getShiftCode(day)];
+		}
+
+		int getShiftCode(int day) {
+			return codeAt(1 << (day - 1));
+		}
+
+		public int getMask(char shift) {
+			return masks[codeIndex(shift)];
+		}
+
+		// 근무일 (D, E, N, M)
+		public int getWorkMask() {
+			return masks[D] | masks[E] | masks[N] | masks[M];
+		}
+
+		// 휴식일 (O, X)
+		public int getRestMask() {
+			return masks[O] | masks[X];
+		}
+
+		public String toShiftString() {
+			StringBuilder builder = new StringBuilder(daysInMonth);
+			for (int day = 1; day <= daysInMonth; day++) {
+				builder.append(getShift(day));
+			}
+			return builder.toString();
+		}
+
+		public Nurse copy() {
+			return new Nurse(this);
+		}
+
+		// 특정 근무 유형 가능한지 확인하는 메서드
+		public boolean canWorkShift(char shift) {
+			return switch (shift) {
+				case 'D' -> (shiftFlags & ShiftType.D.getFlag()) != 0;
+				case 'E' -> (shiftFlags & ShiftType.E.getFlag()) != 0;
+				case 'N' -> (shiftFlags & ShiftType.N.getFlag()) != 0;
+				case 'M' -> (shiftFlags & ShiftType.M.getFlag()) != 0;
+				case 'O' -> true; // 휴무는 항상 가능
+				case 'X' -> true; // 고정 근무도 항상 가능
+				default -> false;
+			};
+		}
+
+		public boolean hasNodPattern(int startDay) {
+			if (startDay + 2 >= daysInMonth) {
+				return false;
+			}
+
+			return ((masks[N] & (masks[O] >>> 1) & (masks[D] >>> 2)) >>> startDay & 1) != 0;
+		}
+	}
+
+	/**
+	 * 한 번의 이동에서 바뀐 (간호사, 일자, 변경 전 근무) 기록
+	 * 반복마다 새로 만들지 않고 배열을 재사용합니다.
+	 */
+	static class MoveLog {
+		private int[] nurseIndices = new int[32];
+		private int[] days = new int[32];
+		private int[] previousCodes = new int[32];
+		private int size;
+
+		void record(int nurseIdx, int day, int previousCode) {
+			if (size == days.length) {
+				nurseIndices = Arrays.copyOf(nurseIndices, size * 2);
+				days = Arrays.copyOf(days, size * 2);
+				previousCodes = Arrays.copyOf(previousCodes, size * 2);
+			}
+			nurseIndices[size] = nurseIdx;
+			days[size] = day;
+			previousCodes[size] = previousCode;
+			size++;
+		}
+
+		int size() {
+			return size;
+		}
+
+		int nurseIndexAt(int entry) {
+			return nurseIndices[entry];
+		}
+
+		int dayAt(int entry) {
+			return days[entry];
+		}
+
+		int previousCodeAt(int entry) {
+			return previousCodes[entry];
+		}
+
+		void clear() {
+			size = 0;
+		}
+	}
+
+	@Getter
+	@Builder
+	static class DailyRequirement {
+		private final int dayNurses;    // 주간 간호사 수
+		private final int eveningNurses; // 저녁 간호사 수
+		private final int nightNurses;   // 야간 간호사 수
+	}
+}
@@ -0,0 +1,65 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.rule.Rule;
+
+/**
+ * 자동 생성 입력 지문 (SHA-256)
+ * 어닐링 결과에 영향을 주는 입력만 정렬된 문자열로 만들어 해시합니다.
+ * 조회 순서와 무관하게 같은 입력이면 같은 지문이 나옵니다.
+ */
+public class SolverInputFingerprint {
+
+	// 평가 함수나 입력 형식이 바뀌면 올려서 이전 캐시를 무효화
+	private static final String VERSION = "v1";
+
+	public static String of(SchedulingProblem problem) {
+		YearMonth yearMonth = problem.getYearMonth();
+		Rule rule = problem.getRule();
+		StringBuilder canonical = new StringBuilder(VERSION)
+			.append('|').append(yearMonth.year()).append('-').append(yearMonth.month());
+
+		canonical.append("|rule:")
+			.append(rule.getWdayDCnt()).append(',').append(rule.getWdayECnt()).append(',').append(rule.getWdayNCnt())
+			.append(',').append(rule.getWendDCnt()).append(',').append(rule.getWendECnt())
+			.append(',').append(rule.getWendNCnt())
+			.append(',').append(rule.getMaxN()).append(',').append(rule.getPrioMaxN())
+			.append(',').append(rule.getMinN()).append(',').append(rule.getPrioMinN())
+			.append(',').append(rule.getOffCntAfterN()).append(',').append(rule.getPrioOffCntAfterN())
+			.append(',').append(rule.getMaxShift()).append(',').append(rule.getPrioMaxShift())
+			.append(',').append(rule.getOffCntAfterMaxShift()).append(',').append(rule.getPrioOffCntAfterMaxShift());
+
+		// 간호사별 근무 가능 유형, 근무 강도, 전월 마지막 근무
+		problem.getMemberIds().stream()
+			.sorted()
+			.forEach(memberId -> canonical.append("|nurse:").append(memberId)
+				.append(',').append(problem.getNurseShiftFlags().get(memberId))
+				.append(',').append(problem.getWorkIntensities().get(memberId))
+				.append(',').append(problem.getPrevMonthSchedules().getOrDefault(memberId, "-")));
+
+		// 승인된 요청 (강화 여부 포함)
+		problem.getRequests().stream()
+			.map(request -> request.getNurseId()
+				+ "," + yearMonth.atDay(request.getDay())
+				+ "," + request.getRequestedShift()
+				+ "," + request.isReinforced())
+			.sorted()
+			.forEach(request -> canonical.append("|request:").append(request));
+
+		return sha256(canonical.toString());
+	}
+
+	private static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,452 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.random.RandomGenerator;
+
+import org.springframework.stereotype.Component;
+
+import net.dutymate.api.domain.autoschedule.AnnealingMode;
+import net.dutymate.api.domain.autoschedule.SchedulerType;
+import net.dutymate.api.domain.autoschedule.TerminationReason;
+import net.dutymate.api.domain.rule.util.CompiledRule;
+import net.dutymate.api.domain.wardmember.WorkIntensity;
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 타부 탐색 근무표 생성기 (큰 병동용)
+ * 반복마다 이웃 이동 후보 여러 개를 증분 평가해 가장 좋은 후보로 이동하고, 방금 바꾼 (간호사, 일자)는
+ * 일정 반복 동안 다시 바꾸지 않습니다(타부). 단, 지금까지의 최적해보다 좋아지는 이동은 타부여도 허용합니다(aspiration).
+ * 최적해 개선이 멈추면 연속된 며칠 또는 간호사 몇 명의 근무를 비우고 초기 해 생성 로직(assignShiftsForDay)으로
+ * 다시 채우는 대규모 이웃 탐색(destroy and repair)으로 다른 영역에서 탐색을 이어갑니다.
+ * 이동 후보 대부분은 같은 날 두 간호사의 근무를 맞바꾸는 이동이라 일별 필요 인원을 깨뜨리지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TabuNurseScheduler implements SchedulingEngine {
+
+	// 타부 탐색 파라미터
+	private static final int MAX_ITERATIONS = 3000;    // 시간 예산이 없을 때 (반복마다 CANDIDATE_MOVES개 평가)
+	private static final int CANDIDATE_MOVES = 256;    // 반복마다 평가하는 이동 후보 수
+	private static final double SWAP_MOVE_RATE = 0.7;  // 후보 중 맞바꾸기 비율 (나머지는 근무 1칸 변경)
+	private static final int MAX_SWAP_DAYS = 3;        // 맞바꾸기 한 번에 바꾸는 최대 연속 일수
+	private static final int MIN_TABU_TENURE = 7;      // 바꾼 칸을 다시 바꾸지 않는 반복 수 (구간에서 무작위)
+	private static final int MAX_TABU_TENURE = 20;
+
+	// 대규모 이웃 탐색(destroy and repair) 파라미터
+	private static final int LNS_STALL_ITERATIONS = 150; // 최적해 개선 없이 이만큼 반복하면 일부를 비우고 다시 채움
+	private static final int MAX_DESTROYED_DAYS = 5;
+	private static final int MAX_DESTROYED_NURSES = 3;
+
+	// 강한 제약 조건 위반 0 이후 최적해 개선 없이 허용할 반복 수
+	private static final int CONVERGENCE_STALL_ITERATIONS = 400;
+	private static final int PROGRESS_INTERVAL = 16;
+
+	private static final char[] MOVE_SHIFTS = {'D', 'E', 'N', 'O'};
+	private static final long NO_DEADLINE = Long.MIN_VALUE;
+
+	private final NurseScheduler nurseScheduler;
+	private final ExecutorService annealingExecutor;
+
+	@Override
+	public SchedulerType getType() {
+		return SchedulerType.TABU;
+	}
+
+	@Override
+	public AnnealingResult generateSchedule(SchedulingProblem problem, WardSchedule wardSchedule,
+		Long currentMemberId, AnnealingOptions options) {
+		// 국소 탐색이면 모든 탐색이 이전 해에서 시작하고, 그 해에서 바뀐 칸마다 약한 패널티
+		CachedSchedule warmStart = NurseScheduler.warmStartOf(problem, options);
+		boolean localSearch = warmStart != null && options.isLocalSearch();
+		ShiftRequestTable requestTable = NurseScheduler.requestTableOf(problem, localSearch ? warmStart : null);
+		CompiledRule compiledRule = CompiledRule.of(problem.getRule());
+
+		long startedAt = System.nanoTime();
+		long deadline = options.getTimeBudget() != null ? startedAt + options.getTimeBudget().toNanos() : NO_DEADLINE;
+		int maxIterations = options.getTimeBudget() != null ? Integer.MAX_VALUE : MAX_ITERATIONS;
+		int searchCount = options.getMode() == AnnealingMode.SINGLE ? 1 : Math.max(1, options.getChainCount());
+		long seed = NurseScheduler.seedOf(options);
+
+		// 탐색마다 독립된 난수 생성기, 평가기, 초기 해 사용 (이전 최적해가 있으면 첫 탐색만 그 해에서 시작, 국소 탐색은 모두)
+		SplittableRandom rootRandom = new SplittableRandom(seed);
+		AtomicBoolean targetReached = new AtomicBoolean();
+		List<TabuSearch> searches = new ArrayList<>();
+		for (int searchIdx = 0; searchIdx < searchCount; searchIdx++) {
+			RandomGenerator random = rootRandom.split();
+			Solution initialSolution = warmStart != null && (localSearch || searchIdx == 0)
+				? nurseScheduler.createCachedSolution(warmStart, problem)
+				: nurseScheduler.createInitialSolution(problem, random);
+			searches.add(new TabuSearch(initialSolution,
+				new ScheduleEvaluator(compiledRule, problem.getPrevMonthSchedules(), requestTable,
+					problem.getWorkIntensities()),
+				problem.getWorkIntensities(), random, options, localSearch, deadline, maxIterations, targetReached));
+		}
+
+		if (searches.size() == 1) {
+			searches.getFirst().search();
+		} else {
+			invokeSearches(searches);
+		}
+		TabuSearch best = searches.stream()
+			.min(Comparator.comparingDouble(TabuSearch::bestScore))
+			.orElseThrow();
+
+		return AnnealingResult.builder()
+			.wardSchedule(nurseScheduler.applyFinalSchedule(wardSchedule, best.bestSolution, currentMemberId, seed))
+			.seed(seed)
+			.terminationReason(best.terminationReason)
+			.iterations(best.iteration)
+			.evaluatedMoves(searches.stream().mapToLong(search -> search.evaluatedMoves).sum())
+			.acceptedMoves(searches.stream().mapToLong(search -> search.acceptedMoves).sum())
+			.reheats(searches.stream().mapToInt(search -> search.repairs).sum())
+			.bestScore(best.bestScore)
+			.bestHardScore(best.bestHardScore)
+			.elapsed(Duration.ofNanos(System.nanoTime() - startedAt))
+			.build();
+	}
+
+	// 독립 탐색 N개를 어닐링 스레드 풀에서 병렬로 끝까지 실행
+	private void invokeSearches(List<TabuSearch> searches) {
+		List<Callable<Void>> tasks = searches.stream()
+			.<Callable<Void>>map(search -> () -> {
+				search.search();
+				return null;
+			})
+			.toList();
+		try {
+			for (Future<Void> future : annealingExecutor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("타부 탐색이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("타부 탐색 중 오류가 발생했습니다.", e.getCause());
+		}
+	}
+
+	private static boolean isDedicated(Solution.Nurse nurse) {
+		return Integer.bitCount(nurse.getShiftFlags()) == 1;
+	}
+
+	/**
+	 * 타부 탐색 하나의 상태 (한 탐색은 한 번에 한 스레드에서만 실행)
+	 */
+	private class TabuSearch {
+		private final ScheduleEvaluator evaluator;
+		private final Map<Long, WorkIntensity> workIntensities;
+		private final RandomGenerator random;
+		private final AnnealingOptions options;
+		private final boolean localSearch; // 강한 제약 위반이 남아도 개선이 멈추면 종료
+		private final long deadline;
+		private final int maxIterations;
+		private final AtomicBoolean targetReached;
+		private final int[][] tabuUntil; // [간호사 순번][일자] 이 반복 전까지 타부
+
+		private Solution currentSolution;
+		private double currentScore;
+		private Solution bestSolution;
+		private double bestScore;
+		private double bestHardScore;
+		private int bestIteration;
+		private int lastRepairIteration;
+		private int iteration;
+		private long evaluatedMoves;
+		private long acceptedMoves;
+		private int repairs;
+		private TerminationReason terminationReason;
+
+		// 반복 중 가장 좋은 후보 (객체 생성 없이 필드로 보관)
+		private final Move candidate = new Move();
+		private final Move chosen = new Move();
+
+		TabuSearch(Solution initialSolution, ScheduleEvaluator evaluator, Map<Long, WorkIntensity> workIntensities,
+			RandomGenerator random, AnnealingOptions options, boolean localSearch, long deadline, int maxIterations,
+			AtomicBoolean targetReached) {
+			this.evaluator = evaluator;
+			this.workIntensities = workIntensities;
+			this.random = random;
+			this.options = options;
+			this.localSearch = localSearch;
+			this.deadline = deadline;
+			this.maxIterations = maxIterations;
+			this.targetReached = targetReached;
+			this.tabuUntil = new int[initialSolution.getNurses().size()][initialSolution.getDaysInMonth() + 1];
+			this.currentSolution = initialSolution;
+			this.currentScore = evaluator.initialize(initialSolution);
+			initialSolution.recordMoves();
+			this.bestSolution = initialSolution.copy();
+			this.bestScore = currentScore;
+			this.bestHardScore = evaluator.hardScore();
+		}
+
+		double bestScore() {
+			return bestScore;
+		}
+
+		void search() {
+			while (!isFinished()) {
+				if (iteration - Math.max(bestIteration, lastRepairIteration) >= LNS_STALL_ITERATIONS) {
+					destroyAndRepair();
+				} else {
+					moveToBestCandidate();
+				}
+				iteration++;
+				if (options.getProgressListener() != null && iteration % PROGRESS_INTERVAL == 0) {
+					options.getProgressListener().onProgress(iteration, maxIterations, bestScore);
+				}
+			}
+		}
+
+		private boolean isFinished() {
+			if (options.getTargetScore() != null && bestScore <= options.getTargetScore()) {
+				targetReached.set(true);
+				terminationReason = TerminationReason.TARGET_SCORE;
+			} else if (targetReached.get()) {
+				terminationReason = TerminationReason.TARGET_SCORE;
+			} else if (deadline != NO_DEADLINE && System.nanoTime() - deadline >= 0) {
+				terminationReason = TerminationReason.TIME_BUDGET;
+			} else if (iteration >= maxIterations) {
+				terminationReason = TerminationReason.MAX_ITERATIONS;
+			} else if ((bestHardScore == 0 || localSearch)
+				&& iteration - bestIteration >= CONVERGENCE_STALL_ITERATIONS) {
+				terminationReason = TerminationReason.CONVERGED;
+			}
+			return terminationReason != null;
+		}
+
+		/**
+		 * 후보 이동을 하나씩 적용해 증분 평가한 뒤 되돌리고, 타부가 아닌 후보(또는 최적해를 갱신하는 타부 후보) 중
+		 * 가장 좋은 후보를 다시 적용합니다. 현재 해보다 나빠지더라도 이동해 지역 최적해를 벗어납니다.
+		 */
+		private void moveToBestCandidate() {
+			double chosenScore = Double.MAX_VALUE;
+			for (int attempt = 0; attempt < CANDIDATE_MOVES; attempt++) {
+				if (!sampleMove(candidate)) {
+					continue;
+				}
+				apply(candidate);
+				double neighborScore = evaluator.evaluateMove(currentSolution);
+				evaluatedMoves++;
+				evaluator.reject();
+				currentSolution.rollbackMove();
+
+				if (isTabu(candidate) && neighborScore >= bestScore) {
+					continue;
+				}
+				if (neighborScore < chosenScore) {
+					chosenScore = neighborScore;
+					chosen.copyFrom(candidate);
+				}
+			}
+			if (chosenScore == Double.MAX_VALUE) {
+				return;
+			}
+
+			apply(chosen);
+			currentScore = evaluator.evaluateMove(currentSolution);
+			evaluator.accept();
+			currentSolution.commitMove();
+			acceptedMoves++;
+			markTabu(chosen);
+
+			if (currentScore < bestScore) {
+				bestSolution = currentSolution.copy();
+				bestScore = currentScore;
+				bestHardScore = evaluator.hardScore();
+				bestIteration = iteration;
+			}
+		}
+
+		/**
+		 * 맞바꾸기: 같은 날(최대 MAX_SWAP_DAYS일 연속) 두 간호사의 근무를 교환 (일별 인원 유지)
+		 * 변경: 한 간호사의 하루 근무를 가능한 다른 근무로 변경
+		 * 바뀌는 칸이 없거나 근무 유형 제약으로 적용할 수 없으면 false
+		 */
+		private boolean sampleMove(Move move) {
+			List<Solution.Nurse> nurses = currentSolution.getNurses();
+			int daysInMonth = currentSolution.getDaysInMonth();
+			move.nurse = random.nextInt(nurses.size());
+			move.day = random.nextInt(daysInMonth) + 1;
+			Solution.Nurse nurse = nurses.get(move.nurse);
+
+			if (nurses.size() > 1 && random.nextDouble() < SWAP_MOVE_RATE) {
+				move.swap = true;
+				move.other = random.nextInt(nurses.size() - 1);
+				if (move.other >= move.nurse) {
+					move.other++;
+				}
+				move.length = Math.min(random.nextInt(MAX_SWAP_DAYS) + 1, daysInMonth - move.day + 1);
+				Solution.Nurse other = nurses.get(move.other);
+				boolean changed = false;
+				for (int day = move.day; day < move.day + move.length; day++) {
+					char shift = nurse.getShift(day);
+					char otherShift = other.getShift(day);
+					if (shift == 'X' || otherShift == 'X'
+						|| !nurse.canWorkShift(otherShift) || !other.canWorkShift(shift)) {
+						return false;
+					}
+					changed |= shift != otherShift;
+				}
+				return changed;
+			}
+
+			move.swap = false;
+			move.length = 1;
+			char current = nurse.getShift(move.day);
+			if (current == 'X') {
+				return false;
+			}
+			move.shift = MOVE_SHIFTS[random.nextInt(MOVE_SHIFTS.length)];
+			return move.shift != current && nurse.canWorkShift(move.shift);
+		}
+
+		private void apply(Move move) {
+			List<Solution.Nurse> nurses = currentSolution.getNurses();
+			Solution.Nurse nurse = nurses.get(move.nurse);
+			if (!move.swap) {
+				nurse.setShift(move.day, move.shift);
+				return;
+			}
+			Solution.Nurse other = nurses.get(move.other);
+			for (int day = move.day; day < move.day + move.length; day++) {
+				char shift = nurse.getShift(day);
+				nurse.setShift(day, other.getShift(day));
+				other.setShift(day, shift);
+			}
+		}
+
+		private boolean isTabu(Move move) {
+			for (int day = move.day; day < move.day + move.length; day++) {
+				if (tabuUntil[move.nurse][day] > iteration || move.swap && tabuUntil[move.other][day] > iteration) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void markTabu(Move move) {
+			int until = iteration + MIN_TABU_TENURE + random.nextInt(MAX_TABU_TENURE - MIN_TABU_TENURE + 1);
+			for (int day = move.day; day < move.day + move.length; day++) {
+				tabuUntil[move.nurse][day] = until;
+				if (move.swap) {
+					tabuUntil[move.other][day] = until;
+				}
+			}
+		}
+
+		/**
+		 * 최적해에서 연속된 며칠(모든 간호사) 또는 간호사 몇 명(한 달 전체)의 근무를 휴무로 비우고,
+		 * 비운 칸을 초기 해 생성과 같은 일별 배정(assignShiftsForDay)으로 다시 채운 해에서 탐색을 이어갑니다.
+		 * 근무 유형 전담 간호사는 초기 해 생성과 마찬가지로 비우지 않습니다.
+		 */
+		private void destroyAndRepair() {
+			Solution solution = bestSolution.copy();
+			List<Solution.Nurse> nurses = solution.getNurses();
+			int daysInMonth = solution.getDaysInMonth();
+
+			List<Solution.Nurse> destroyedNurses = new ArrayList<>();
+			int startDay;
+			int endDay;
+			if (random.nextBoolean()) {
+				int length = Math.min(random.nextInt(MAX_DESTROYED_DAYS) + 1, daysInMonth);
+				startDay = random.nextInt(daysInMonth - length + 1) + 1;
+				endDay = startDay + length - 1;
+				nurses.stream().filter(nurse -> !isDedicated(nurse)).forEach(destroyedNurses::add);
+			} else {
+				startDay = 1;
+				endDay = daysInMonth;
+				List<Solution.Nurse> candidates = new ArrayList<>(nurses.stream()
+					.filter(nurse -> !isDedicated(nurse))
+					.toList());
+				int count = Math.min(random.nextInt(MAX_DESTROYED_NURSES) + 1, candidates.size());
+				for (int i = 0; i < count; i++) {
+					destroyedNurses.add(candidates.remove(random.nextInt(candidates.size())));
+				}
+			}
+
+			for (Solution.Nurse nurse : destroyedNurses) {
+				for (int day = startDay; day <= endDay; day++) {
+					if (nurse.getShift(day) != 'X') {
+						nurse.setShift(day, 'O');
+					}
+				}
+			}
+			for (int day = startDay; day <= endDay; day++) {
+				nurseScheduler.assignShiftsForDay(destroyedNurses, day,
+					remainingRequirement(solution, destroyedNurses, day), workIntensities, random);
+			}
+
+			currentSolution = solution;
+			currentScore = evaluator.initialize(solution);
+			solution.recordMoves();
+			lastRepairIteration = iteration;
+			repairs++;
+			if (currentScore < bestScore) {
+				bestSolution = solution.copy();
+				bestScore = currentScore;
+				bestHardScore = evaluator.hardScore();
+				bestIteration = iteration;
+			}
+		}
+
+		// 비우지 않은 간호사가 이미 채운 인원을 뺀 일별 필요 인원
+		private Solution.DailyRequirement remainingRequirement(Solution solution,
+			List<Solution.Nurse> destroyedNurses, int day) {
+			int dayNurses = 0;
+			int eveningNurses = 0;
+			int nightNurses = 0;
+			for (Solution.Nurse nurse : solution.getNurses()) {
+				if (destroyedNurses.contains(nurse)) {
+					continue;
+				}
+				switch (nurse.getShift(day)) {
+					case 'D' -> dayNurses++;
+					case 'E' -> eveningNurses++;
+					case 'N' -> nightNurses++;
+					default -> {
+					}
+				}
+			}
+			Solution.DailyRequirement requirement = solution.getDailyRequirement(day);
+			return Solution.DailyRequirement.builder()
+				.dayNurses(Math.max(0, requirement.getDayNurses() - dayNurses))
+				.eveningNurses(Math.max(0, requirement.getEveningNurses() - eveningNurses))
+				.nightNurses(Math.max(0, requirement.getNightNurses() - nightNurses))
+				.build();
+		}
+	}
+
+	/**
+	 * 이동 후보 (swap이면 nurse와 other의 day부터 length일 근무를 교환, 아니면 nurse의 day 근무를 shift로 변경)
+	 */
+	private static class Move {
+		private boolean swap;
+		private int nurse;
+		private int other;
+		private int day;
+		private int length;
+		private char shift;
+
+		void copyFrom(Move move) {
+			this.swap = move.swap;
+			this.nurse = move.nurse;
+			this.other = move.other;
+			this.day = move.day;
+			this.length = move.length;
+			this.shift = move.shift;
+		}
+	}
+}
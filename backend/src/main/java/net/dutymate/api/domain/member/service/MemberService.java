@@ -610,18 +610,10 @@ public class MemberService {
 
 		// 이번달 듀티에서 삭제
 		YearMonth yearMonth = YearMonth.nowYearMonth();
-
-		wardScheduleRepository
-			.findByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month())
-			.ifPresent(currMonthSchedule -> wardMemberService.deleteWardMemberDuty(currMonthSchedule, member));
+		wardMemberService.deleteWardMemberDuty(ward.getWardId(), yearMonth, member);
 
 		// 다음달 듀티에서 삭제
-		YearMonth nextYearMonth = yearMonth.nextYearMonth();
-
-		wardScheduleRepository
-			.findByWardIdAndYearAndMonth(ward.getWardId(), nextYearMonth.year(), nextYearMonth.month())
-			.ifPresent(nextMonthSchedule -> wardMemberService.deleteWardMemberDuty(nextMonthSchedule, member));
-
+		wardMemberService.deleteWardMemberDuty(ward.getWardId(), yearMonth.nextYearMonth(), member);
 	}
 
 	public void checkPassword(Member member, CheckPasswordDto checkPasswordDto) {
@@ -5,8 +5,8 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import net.dutymate.api.domain.autoschedule.Shift;
 import net.dutymate.api.domain.common.utils.YearMonth;
@@ -19,7 +19,6 @@ public class DemoRequestGenerator {
 	private static final int MIN_REQUESTS_PER_NURSE = 1;
 	private static final int BASE_DAY_MULTIPLIER = 7;
 	private static final int OFFSET_MULTIPLIER = 5;
-	private static final Random random = new Random();
 
 	// 데모 요청 메모 상수
 	private static final String MEMO_VACATION = "휴가를 사용하고 싶습니다.";
@@ -66,7 +65,7 @@ public class DemoRequestGenerator {
 
 		// 이미 20개를 넘어선 경우, 비율에 맞게 무작위로 선택
 		if (totalCount > 20) {
-			int randomChoice = random.nextInt(20);
+			int randomChoice = ThreadLocalRandom.current().nextInt(20);
 			if (randomChoice < 13) {
 				return RequestStatus.ACCEPTED;
 			} else if (randomChoice < 17) {
@@ -97,7 +96,7 @@ public class DemoRequestGenerator {
 		}
 
 		// 랜덤하게 상태 선택 (가중치 적용)
-		int randomValue = random.nextInt(100);
+		int randomValue = ThreadLocalRandom.current().nextInt(100);
 		RequestStatus selectedStatus;
 
 		if (availableStatuses.contains(RequestStatus.ACCEPTED)
@@ -18,8 +18,7 @@ public class UpdateRequestStatuses {
 		}
 
 		// 현재 적용된 최신 스케줄 가져오기
-		WardSchedule.Duty currentDuty = wardSchedule.getDuties().get(wardSchedule.getNowIdx());
-		List<WardSchedule.NurseShift> nurseShifts = currentDuty.getDuty();
+		List<WardSchedule.NurseShift> nurseShifts = wardSchedule.currentDuty();
 
 		for (Request request : requests) {
 			// 해당 간호사의 스케줄 찾기
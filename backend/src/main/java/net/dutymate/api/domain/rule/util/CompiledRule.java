@@ -0,0 +1,173 @@
+package net.dutymate.api.domain.rule.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+import net.dutymate.api.domain.rule.Rule;
+
+import lombok.Getter;
+
+/**
+ * 근무 규칙을 컴파일한 형태 (규칙 검사기와 자동 생성이 함께 사용)
+ * 금지 근무 패턴은 규칙과 무관하므로 근무 유형별 전이표(Aho-Corasick 오토마톤)를 클래스 로딩 시 한 번만 만들고,
+ * 규칙마다 달라지는 야간 연속 근무/최대 연속 근무 한도만 인스턴스에 담습니다. (생성 비용이 없어 캐시하지 않음)
+ * 규칙 검사기는 scan 으로 근무 문자열을 한 번 훑으면서 모두 찾고,
+ * 자동 생성 평가기는 같은 한도와 금지 패턴을 근무 비트마스크로 평가합니다.
+ */
+@Getter
+public class CompiledRule {
+
+	// 근무 유형 순서 (자동 생성의 Solution.Nurse.SHIFT_CODES 와 같은 순서)
+	public static final String SHIFT_CODES = "DENOMX";
+
+	// 규칙과 무관하게 항상 금지되는 근무 패턴
+	private static final List<String> FORBIDDEN_PATTERNS = List.of("ND", "NE", "ED", "NOD", "NM", "EM", "NOM");
+
+	private static final int SHIFT_KINDS = SHIFT_CODES.length();
+	private static final int NIGHT = SHIFT_CODES.indexOf('N');
+	private static final int OFF = SHIFT_CODES.indexOf('X');
+	private static final int WORK_CODES = 1 << SHIFT_CODES.indexOf('D') | 1 << SHIFT_CODES.indexOf('E')
+		| 1 << NIGHT | 1 << SHIFT_CODES.indexOf('M');
+
+	private static final int[][] TRANSITIONS;      // [상태][근무 유형] 다음 상태
+	private static final int[] ACCEPTED_PATTERNS;  // [상태] 이 상태에서 끝나는 금지 패턴 비트마스크
+
+	static {
+		List<int[]> trie = new ArrayList<>();
+		List<Integer> output = new ArrayList<>();
+		trie.add(newState());
+		output.add(0);
+		for (int patternIdx = 0; patternIdx < FORBIDDEN_PATTERNS.size(); patternIdx++) {
+			int state = 0;
+			for (char shift : FORBIDDEN_PATTERNS.get(patternIdx).toCharArray()) {
+				int code = codeOf(shift);
+				if (trie.get(state)[code] < 0) {
+					trie.get(state)[code] = trie.size();
+					trie.add(newState());
+					output.add(0);
+				}
+				state = trie.get(state)[code];
+			}
+			output.set(state, output.get(state) | 1 << patternIdx);
+		}
+
+		// 실패 링크를 따라 빈 전이를 채워 완전한 전이표로 만듦 (BFS 순서라 실패 상태는 먼저 완성됨)
+		TRANSITIONS = trie.toArray(new int[0][]);
+		ACCEPTED_PATTERNS = new int[TRANSITIONS.length];
+		int[] failures = new int[TRANSITIONS.length];
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int code = 0; code < SHIFT_KINDS; code++) {
+			if (TRANSITIONS[0][code] < 0) {
+				TRANSITIONS[0][code] = 0;
+			} else {
+				queue.add(TRANSITIONS[0][code]);
+			}
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			ACCEPTED_PATTERNS[state] = output.get(state) | ACCEPTED_PATTERNS[failures[state]];
+			for (int code = 0; code < SHIFT_KINDS; code++) {
+				int next = TRANSITIONS[state][code];
+				if (next < 0) {
+					TRANSITIONS[state][code] = TRANSITIONS[failures[state]][code];
+				} else {
+					failures[next] = TRANSITIONS[failures[state]][code];
+					queue.add(next);
+				}
+			}
+		}
+	}
+
+	private final int minN;
+	private final int maxN;
+	private final int maxShift;
+
+	private CompiledRule(Rule rule) {
+		this.minN = rule.getMinN();
+		this.maxN = rule.getMaxN();
+		this.maxShift = rule.getMaxShift();
+	}
+
+	public static CompiledRule of(Rule rule) {
+		return new CompiledRule(rule);
+	}
+
+	public List<String> getForbiddenPatterns() {
+		return FORBIDDEN_PATTERNS;
+	}
+
+	public static int codeOf(char shift) {
+		int code = SHIFT_CODES.indexOf(shift);
+		return code < 0 ? OFF : code;
+	}
+
+	public static boolean isWorkingShift(char shift) {
+		return (WORK_CODES >>> codeOf(shift) & 1) != 0;
+	}
+
+	/**
+	 * 근무 문자열을 한 번 훑으면서 야간 연속 구간, 연속 근무 구간, 금지 패턴을 위치 순서대로 알립니다.
+	 * 구간은 [start, end) 인덱스, 패턴은 시작 인덱스로 전달합니다.
+	 */
+	public void scan(CharSequence shifts, ScanListener listener) {
+		int state = 0;
+		int nightStart = -1;
+		int workStart = -1;
+
+		for (int i = 0; i < shifts.length(); i++) {
+			int code = codeOf(shifts.charAt(i));
+
+			if (code == NIGHT) {
+				nightStart = nightStart < 0 ? i : nightStart;
+			} else if (nightStart >= 0) {
+				listener.onNightRun(nightStart, i);
+				nightStart = -1;
+			}
+
+			if ((WORK_CODES >>> code & 1) != 0) {
+				workStart = workStart < 0 ? i : workStart;
+			} else if (workStart >= 0) {
+				listener.onWorkRun(workStart, i);
+				workStart = -1;
+			}
+
+			state = TRANSITIONS[state][code];
+			for (int matched = ACCEPTED_PATTERNS[state]; matched != 0; matched &= matched - 1) {
+				int patternIdx = Integer.numberOfTrailingZeros(matched);
+				listener.onForbiddenPattern(patternIdx, i + 1 - FORBIDDEN_PATTERNS.get(patternIdx).length());
+			}
+		}
+
+		if (nightStart >= 0) {
+			listener.onNightRun(nightStart, shifts.length());
+		}
+		if (workStart >= 0) {
+			listener.onWorkRun(workStart, shifts.length());
+		}
+	}
+
+	public boolean violatesNightRange(int nightCnt) {
+		return nightCnt < minN || nightCnt > maxN;
+	}
+
+	private static int[] newState() {
+		int[] state = new int[SHIFT_KINDS];
+		Arrays.fill(state, -1);
+		return state;
+	}
+
+	public interface ScanListener {
+
+		default void onNightRun(int start, int end) {
+		}
+
+		default void onWorkRun(int start, int end) {
+		}
+
+		default void onForbiddenPattern(int patternIdx, int start) {
+		}
+	}
+}
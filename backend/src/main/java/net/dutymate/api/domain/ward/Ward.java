@@ -4,12 +4,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import net.dutymate.api.domain.autoschedule.SchedulerType;
 import net.dutymate.api.domain.rule.Rule;
 import net.dutymate.api.domain.wardmember.WardMember;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -58,6 +61,11 @@ public class Ward {
 
 	private Integer tempNurseSeq;
 
+	// 자동 생성 방식 (병동별 선택)
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private SchedulerType schedulerType;
+
 	/**
 	 * 엔티티에 저장되기 전에 wardCode와 UUID 자동 생성
 	 */
@@ -67,6 +75,7 @@ public class Ward {
 
 		this.wardMemberList = new ArrayList<>();
 		this.tempNurseSeq = 0;
+		this.schedulerType = SchedulerType.ANNEALING;
 	}
 
 	// Ward 생성하는 사람을 첫 번째 병동 멤버로 추가
@@ -81,4 +90,13 @@ public class Ward {
 	public void changeTempNurseSeq(Integer tempNurseSeq) {
 		this.tempNurseSeq = tempNurseSeq;
 	}
+
+	public void changeSchedulerType(SchedulerType schedulerType) {
+		this.schedulerType = schedulerType;
+	}
+
+	// 컬럼 추가 전에 생성된 병동은 어닐링 사용
+	public SchedulerType getSchedulerType() {
+		return schedulerType != null ? schedulerType : SchedulerType.ANNEALING;
+	}
 }
@@ -18,6 +18,7 @@ import net.dutymate.api.domain.ward.dto.AddNurseCntRequestDto;
 import net.dutymate.api.domain.ward.dto.EnterAcceptRequestDto;
 import net.dutymate.api.domain.ward.dto.EnterWaitingResponseDto;
 import net.dutymate.api.domain.ward.dto.HospitalNameResponseDto;
+import net.dutymate.api.domain.ward.dto.SchedulerUpdateRequestDto;
 import net.dutymate.api.domain.ward.dto.ShiftsComparisonResponseDto;
 import net.dutymate.api.domain.ward.dto.TempNurseResponseDto;
 import net.dutymate.api.domain.ward.dto.VirtualEditRequestDto;
@@ -75,6 +76,14 @@ public class WardController {
 		return ResponseEntity.ok().build();
 	}
 
+	// 자동 생성 방식 변경 (관리자)
+	@PutMapping("/scheduler")
+	public ResponseEntity<?> changeSchedulerType(
+		@Valid @RequestBody SchedulerUpdateRequestDto schedulerUpdateRequestDto, @Auth Member member) {
+		wardService.changeSchedulerType(schedulerUpdateRequestDto, member);
+		return ResponseEntity.ok().build();
+	}
+
 	// 병원 이름 검색하기
 	@GetMapping("/hospital")
 	public ResponseEntity<?> getHospital(@RequestParam String name) {
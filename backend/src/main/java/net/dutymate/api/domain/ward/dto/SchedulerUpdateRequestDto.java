@@ -0,0 +1,13 @@
+package net.dutymate.api.domain.ward.dto;
+
+import net.dutymate.api.domain.autoschedule.SchedulerType;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class SchedulerUpdateRequestDto {
+
+	@NotNull(message = "자동 생성 방식을 선택해주세요.")
+	private SchedulerType schedulerType;
+}
@@ -2,6 +2,7 @@ package net.dutymate.api.domain.ward.dto;
 
 import java.util.List;
 
+import net.dutymate.api.domain.autoschedule.SchedulerType;
 import net.dutymate.api.domain.member.Gender;
 import net.dutymate.api.domain.member.Member;
 import net.dutymate.api.domain.ward.Ward;
@@ -22,6 +23,7 @@ public class WardInfoResponseDto {
 	private String hospitalName;
 	private int nursesTotalCnt;
 	private long enterWaitingCnt;
+	private SchedulerType schedulerType;
 	private List<Nurse> nurses;
 
 	public static WardInfoResponseDto of(Ward ward, List<WardMember> wardMemberList, long enterWaitingCnt) {
@@ -35,6 +37,7 @@ public class WardInfoResponseDto {
 			.hospitalName(ward.getHospitalName())
 			.nursesTotalCnt(nurses.size())
 			.enterWaitingCnt(enterWaitingCnt)
+			.schedulerType(ward.getSchedulerType())
 			.nurses(nurses)
 			.build();
 
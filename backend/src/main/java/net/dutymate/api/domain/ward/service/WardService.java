@@ -2,7 +2,6 @@ package net.dutymate.api.domain.ward.service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.data.domain.PageRequest;
@@ -26,6 +25,7 @@ import net.dutymate.api.domain.ward.dto.AddNurseCntRequestDto;
 import net.dutymate.api.domain.ward.dto.EnterAcceptRequestDto;
 import net.dutymate.api.domain.ward.dto.EnterWaitingResponseDto;
 import net.dutymate.api.domain.ward.dto.HospitalNameResponseDto;
+import net.dutymate.api.domain.ward.dto.SchedulerUpdateRequestDto;
 import net.dutymate.api.domain.ward.dto.ShiftsComparisonResponseDto;
 import net.dutymate.api.domain.ward.dto.TempNurseResponseDto;
 import net.dutymate.api.domain.ward.dto.VirtualEditRequestDto;
@@ -44,6 +44,7 @@ import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
 import net.dutymate.api.domain.wardschedules.service.WardScheduleService;
 import net.dutymate.api.domain.wardschedules.util.InitialDutyGenerator;
 import net.dutymate.api.domain.wardschedules.util.ShiftUtil;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleWriteRetry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -64,6 +65,7 @@ public class WardService {
 	private static final int MAX_VIRTUAL_NURSE_COUNT = 25;
 	private static final int MAX_NURSE_COUNT = 30;
 	private final ShiftUtil shiftUtil;
+	private final WardScheduleWriteRetry wardScheduleWriteRetry;
 	private final S3Service s3Service;
 
 	@Transactional
@@ -187,7 +189,7 @@ public class WardService {
 		YearMonth nowYearMonth = YearMonth.nowYearMonth();
 		enterMember.changeEnterYearMonth(nowYearMonth);
 
-		List<WardSchedule> allWardSchedule = wardScheduleRepository.findAllByWardId(ward.getWardId());
+		List<WardSchedule> allWardSchedule = wardScheduleRepository.findAllCurrentByWardId(ward.getWardId());
 
 		List<MemberSchedule> memberSchedulesToSave = new ArrayList<>();
 		for (WardSchedule wardSchedule : allWardSchedule) {
@@ -241,70 +243,68 @@ public class WardService {
 		enterMember.changeEnterYearMonth(nowYearMonth);
 
 		// ===== 현재 달 병동 스케줄을 선택한 shifts로 업데이트 START =====
-		WardSchedule currWardSchedule = wardScheduleRepository
-			.findByWardIdAndYearAndMonth(ward.getWardId(), nowYearMonth.year(), nowYearMonth.month())
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동 스케줄을 찾을 수 없습니다."));
-
-		WardSchedule.Duty currDuty = currWardSchedule.getDuties().get(currWardSchedule.getNowIdx());
-		for (WardSchedule.NurseShift nurseShift : currDuty.getDuty()) {
-			// 여기서 연동할 임시 멤버 ID 찾고 shifts 업데이트
-			if (nurseShift.getMemberId().equals(linkedTempMember.getMemberId())) {
-				nurseShift.changeShifts(enterAcceptRequestDto.getAppliedShifts());
-				break;
+		// 버전 충돌 시 최신 근무표를 다시 읽어 다시 반영
+		wardScheduleWriteRetry.run("link_member", () -> {
+			WardSchedule currWardSchedule = wardScheduleRepository
+				.findByWardIdAndYearAndMonth(ward.getWardId(), nowYearMonth.year(), nowYearMonth.month())
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동 스케줄을 찾을 수 없습니다."));
+
+			List<WardSchedule.NurseShift> currDuty = currWardSchedule.currentDuty();
+			for (WardSchedule.NurseShift nurseShift : currDuty) {
+				// 여기서 연동할 임시 멤버 ID 찾고 shifts 업데이트
+				if (nurseShift.getMemberId().equals(linkedTempMember.getMemberId())) {
+					nurseShift.changeShifts(enterAcceptRequestDto.getAppliedShifts());
+					break;
+				}
 			}
-		}
 
-		WardSchedule.Duty newDuty = WardSchedule.Duty.builder()
-			.idx(0)
-			.duty(new ArrayList<>(currDuty.getDuty()))
-			.history(initialDutyGenerator.createInitialHistory())
-			.build();
+			WardSchedule.Duty newDuty = WardSchedule.Duty.builder()
+				.idx(0)
+				.duty(currDuty)
+				.history(initialDutyGenerator.createInitialHistory())
+				.build();
 
-		currWardSchedule = WardSchedule.builder()
-			.id(currWardSchedule.getId())
-			.wardId(ward.getWardId())
-			.year(currWardSchedule.getYear())
-			.month(currWardSchedule.getMonth())
-			.nowIdx(0)
-			.duties(new ArrayList<>(List.of(newDuty)))
-			.build();
+			WardSchedule linkedWardSchedule = WardSchedule.builder()
+				.id(currWardSchedule.getId())
+				.version(currWardSchedule.getVersion())
+				.wardId(ward.getWardId())
+				.year(currWardSchedule.getYear())
+				.month(currWardSchedule.getMonth())
+				.nowIdx(0)
+				.duties(new ArrayList<>(List.of(newDuty)))
+				.build();
 
-		wardScheduleRepository.save(currWardSchedule);
+			wardScheduleRepository.save(linkedWardSchedule);
+		});
 		// ===== 현재 달 병동 스케줄을 선택한 듀티로 업데이트 END =====
 
-		// 병동 스케줄 순회
-		List<WardSchedule> allWardSchedule = wardScheduleRepository.findAllByWardId(ward.getWardId());
+		// 병동 스케줄 순회 (버전 충돌 시 최신 근무표를 다시 읽어 다시 변경)
+		List<MemberSchedule> memberSchedulesToSave = wardScheduleWriteRetry.run("link_member", () -> {
+			List<WardSchedule> allWardSchedule = wardScheduleRepository.findAllByWardId(ward.getWardId());
 
-		// 1. 현재 연월 wardSchedule 조회 후
-		// 2. 선택된 듀티표로 nurseShift 업데이트, history 초기화(개인 듀티 선택 시)
+			// 1. 현재 연월 wardSchedule 조회 후
+			// 2. 선택된 듀티표로 nurseShift 업데이트, history 초기화(개인 듀티 선택 시)
 
-		List<MemberSchedule> memberSchedulesToSave = new ArrayList<>();
-		for (WardSchedule wardSchedule : allWardSchedule) {
-			// 1. 병동 스케줄에서 memberId 변경
-			for (WardSchedule.Duty duty : wardSchedule.getDuties()) {
-				for (WardSchedule.NurseShift nurseShift : duty.getDuty()) {
-					if (Objects.equals(nurseShift.getMemberId(), linkedTempMember.getMemberId())) {
-						nurseShift.setMemberId(enterMemberId);
-					}
-				}
-				if (Objects.equals(duty.getHistory().getMemberId(), linkedTempMember.getMemberId())) {
-					duty.getHistory().setMemberId(enterMemberId);
-				}
-			}
+			List<MemberSchedule> linkedMemberSchedules = new ArrayList<>();
+			for (WardSchedule wardSchedule : allWardSchedule) {
+				// 1. 병동 스케줄에서 memberId 변경
+				wardSchedule.changeMemberId(linkedTempMember.getMemberId(), enterMemberId);
 
-			YearMonth wardScheduleYearMonth = wardSchedule.getYearMonth();
+				YearMonth wardScheduleYearMonth = wardSchedule.getYearMonth();
 
-			// 입장 연월 이후의 병동 스케줄 -> 멤버 스케줄 연동 (덮어쓰기)
-			if (wardScheduleYearMonth.isSameOrAfter(nowYearMonth)) {
-				MemberSchedule memberSchedule
-					= wardScheduleService.getOrCreateMemberSchedule(enterMember.getMemberId(), wardScheduleYearMonth);
-				String updatedShifts = wardScheduleService.getShiftsInWard(enterMember, wardSchedule,
-					wardScheduleYearMonth.daysInMonth());
-				memberSchedule.setShifts(updatedShifts);
-				memberSchedulesToSave.add(memberSchedule);
+				// 입장 연월 이후의 병동 스케줄 -> 멤버 스케줄 연동 (덮어쓰기)
+				if (wardScheduleYearMonth.isSameOrAfter(nowYearMonth)) {
+					MemberSchedule memberSchedule = wardScheduleService
+						.getOrCreateMemberSchedule(enterMember.getMemberId(), wardScheduleYearMonth);
+					String updatedShifts = wardScheduleService.getShiftsInWard(enterMember, wardSchedule,
+						wardScheduleYearMonth.daysInMonth());
+					memberSchedule.setShifts(updatedShifts);
+					linkedMemberSchedules.add(memberSchedule);
+				}
 			}
-		}
-		wardScheduleRepository.saveAll(allWardSchedule);
+			wardScheduleRepository.saveAll(allWardSchedule);
+			return linkedMemberSchedules;
+		});
 		memberScheduleRepository.saveAll(memberSchedulesToSave);
 
 		// 병동 입장을 승인 or 거절하는 경우 모두 입장 대기 테이블에서 삭제시켜야 함
@@ -336,30 +336,21 @@ public class WardService {
 		ward.addWardMember(newWardMember);
 
 		// 4. 병동 Id로 MongoDB에 추가된 현재달과 다음달 듀티 확인
-		// 4-1. 이번달 듀티
+		// 5. 기존 스케줄이 존재한다면, 새로운 스냅샷 생성 및 초기화된 duty 추가하기
 		YearMonth yearMonth = YearMonth.nowYearMonth();
+		addMemberToWardSchedule(ward, yearMonth, newWardMember, appliedShifts);
 
-		WardSchedule currMonthSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(
-			ward.getWardId(), yearMonth.year(), yearMonth.month()).orElse(null);
-
-		// 4-2. 다음달 듀티
 		YearMonth nextYearMonth = yearMonth.nextYearMonth();
+		addMemberToWardSchedule(ward, nextYearMonth, newWardMember, nextYearMonth.initializeShifts());
+	}
 
-		WardSchedule nextMonthSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(
-			ward.getWardId(), nextYearMonth.year(), nextYearMonth.month()).orElse(null);
-
-		// 5. 기존 스케줄이 존재한다면, 새로운 스냅샷 생성 및 초기화된 duty 추가하기
-		if (currMonthSchedule != null) {
-			currMonthSchedule = initialDutyGenerator
-				.updateDutyWithNewMember(currMonthSchedule, newWardMember, appliedShifts);
-			wardScheduleRepository.save(currMonthSchedule);
-		}
-
-		if (nextMonthSchedule != null) {
-			nextMonthSchedule = initialDutyGenerator
-				.updateDutyWithNewMember(nextMonthSchedule, newWardMember, nextYearMonth.initializeShifts());
-			wardScheduleRepository.save(nextMonthSchedule);
-		}
+	// 해당 연월 근무표가 있으면 새 멤버를 추가한 스냅샷으로 저장 (버전 충돌 시 최신 근무표를 다시 읽어 다시 추가)
+	private void addMemberToWardSchedule(Ward ward, YearMonth yearMonth, WardMember newWardMember,
+		String initializedShifts) {
+		wardScheduleWriteRetry.run("add_member", () -> wardScheduleRepository
+			.findByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month())
+			.ifPresent(schedule -> wardScheduleRepository.save(
+				initialDutyGenerator.updateDutyWithNewMember(schedule, newWardMember, initializedShifts))));
 	}
 
 	@Transactional
@@ -529,6 +520,20 @@ public class WardService {
 			virtualEditRequestDto.getName(), virtualEditRequestDto.getGender(), virtualEditRequestDto.getGrade());
 	}
 
+	@Transactional
+	public void changeSchedulerType(SchedulerUpdateRequestDto schedulerUpdateRequestDto, Member member) {
+		// 수간호사가 아니면 예외 처리
+		if (!member.getRole().equals(Role.HN)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "관리자가 아닙니다.");
+		}
+
+		Ward ward = Optional.ofNullable(member.getWardMember())
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동에 속해있지 않은 회원입니다."))
+			.getWard();
+
+		ward.changeSchedulerType(schedulerUpdateRequestDto.getSchedulerType());
+	}
+
 	public List<HospitalNameResponseDto> findHospitalName(String query) {
 		List<Hospital> hospitalList = hospitalRepository.findByHospitalNameContaining(query, PageRequest.of(0, 5));
 
@@ -19,6 +19,7 @@ import net.dutymate.api.domain.wardmember.dto.NurseInfoRequestDto;
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
 import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
 import net.dutymate.api.domain.wardschedules.util.InitialDutyGenerator;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleWriteRetry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +30,7 @@ public class WardMemberService {
 	private final MemberRepository memberRepository;
 	private final WardScheduleRepository wardScheduleRepository;
 	private final InitialDutyGenerator initialDutyGenerator;
+	private final WardScheduleWriteRetry wardScheduleWriteRetry;
 
 	@Transactional
 	public void updateWardMember(Long memberId, NurseInfoRequestDto nurseInfoRequestDto, Member authMember) {
@@ -86,27 +88,29 @@ public class WardMemberService {
 			// MongoDB 에서 내보내는 wardmember 찾아서 삭제 (이전 달은 상관 X)
 			// 이번달 듀티에서 삭제
 			YearMonth yearMonth = YearMonth.nowYearMonth();
-			wardScheduleRepository
-				.findByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month())
-				.ifPresent(currMonthSchedule -> deleteWardMemberDuty(currMonthSchedule, member));
+			deleteWardMemberDuty(ward.getWardId(), yearMonth, member);
 
 			// 다음달 듀티에서 삭제
-			YearMonth nextYearMonth = yearMonth.nextYearMonth();
-			wardScheduleRepository
-				.findByWardIdAndYearAndMonth(ward.getWardId(), nextYearMonth.year(), nextYearMonth.month())
-				.ifPresent(nextMonthSchedule -> deleteWardMemberDuty(nextMonthSchedule, member));
+			deleteWardMemberDuty(ward.getWardId(), yearMonth.nextYearMonth(), member);
 
 		}
 	}
 
-	public void deleteWardMemberDuty(WardSchedule existingSchedule, Member member) {
+	// 해당 연월 근무표가 있으면 간호사를 삭제 (버전 충돌 시 최신 근무표를 다시 읽어 다시 삭제)
+	public void deleteWardMemberDuty(Long wardId, YearMonth yearMonth, Member member) {
+		wardScheduleWriteRetry.run("remove_member", () -> wardScheduleRepository
+			.findByWardIdAndYearAndMonth(wardId, yearMonth.year(), yearMonth.month())
+			.ifPresent(existingSchedule -> deleteWardMemberDuty(existingSchedule, member)));
+	}
+
+	private void deleteWardMemberDuty(WardSchedule existingSchedule, Member member) {
 
 		// 마지막 nowIdx가 가리키는 Duty 가져오기
-		WardSchedule.Duty currDuty = existingSchedule.getDuties().get(existingSchedule.getNowIdx());
+		List<WardSchedule.NurseShift> currDuty = existingSchedule.currentDuty();
 
 		WardSchedule.Duty newDuty = WardSchedule.Duty.builder()
 			.idx(0)
-			.duty(new ArrayList<>(currDuty.getDuty()))
+			.duty(currDuty)
 			.history(initialDutyGenerator.createInitialHistory())
 			.build();
 
@@ -114,6 +118,7 @@ public class WardMemberService {
 
 		WardSchedule deletedSchedule = WardSchedule.builder()
 			.id(existingSchedule.getId())
+			.version(existingSchedule.getVersion())
 			.wardId(existingSchedule.getWardId())
 			.year(existingSchedule.getYear())
 			.month(existingSchedule.getMonth())
@@ -1,7 +1,13 @@
 package net.dutymate.api.domain.wardschedules.collections;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -23,11 +29,16 @@ import lombok.extern.jackson.Jacksonized;
 @AllArgsConstructor
 @Builder
 @Document(collection = "ward_schedules")
+// 자동 인덱스 생성은 꺼져 있으므로 MongoDBconfig에서 시작할 때 생성
 @CompoundIndexes({
-	@CompoundIndex(name = "ward_year_month_idx", def = "{'wardId' : 1, 'year' : 1, 'month' : 1}", unique = true)
+	@CompoundIndex(name = "ward_year_month_idx", def = "{'ward_id' : 1, 'year' : 1, 'month' : 1}", unique = true)
 })
 public class WardSchedule {
 
+	// 이 간격마다(또는 간호사 구성이 바뀌면) 전체 근무표를 저장하고, 그 사이에는 바뀐 칸만 저장
+	// (연속된 CHECKPOINT_INTERVAL개 기록 안에는 항상 체크포인트가 있음)
+	public static final int CHECKPOINT_INTERVAL = 100;
+
 	@Id
 	private String id; // MongoDB에서 기본적으로 생성하는 ObjectId
 
@@ -39,18 +50,142 @@ public class WardSchedule {
 	@Field("now_idx")
 	private int nowIdx;
 
-	// 듀티표 리스트
+	// 낙관적 잠금용 버전 (저장할 때마다 1 증가, 읽은 뒤 다른 요청이 먼저 저장했으면 OptimisticLockingFailureException)
+	@Setter
+	@Version
+	private Long version;
+
+	// 듀티표 리스트 (수정 기록 순서, 체크포인트는 전체 근무표, 나머지는 직전 대비 바뀐 칸만 저장)
 	@Setter
 	private List<Duty> duties;
 
+	// 최근 기록만 읽은 경우 duties 첫 항목의 기록 번호 (전체를 읽었으면 0)
+	@Setter
+	@Transient
+	private int dutiesOffset;
+
 	public void setNowIdx(Integer nowIdx) {
 		this.nowIdx = nowIdx;
 	}
 
-	public void setIdIfNotExist(String id) {
+	// 같은 연월의 기존 문서를 덮어쓰도록 ID와 버전을 가져옴
+	public void setIdIfNotExist(WardSchedule existingSchedule) {
 		if (this.id == null) {
-			this.id = id;
+			this.id = existingSchedule.getId();
+			this.version = existingSchedule.getVersion();
+		}
+	}
+
+	/**
+	 * idx번째 기록 시점의 근무표를 가장 가까운 이전 체크포인트부터 바뀐 칸을 차례로 적용해 복원합니다.
+	 * 매번 새로 만든 목록을 반환하므로 수정해도 저장된 기록에는 영향이 없습니다.
+	 */
+	public List<NurseShift> dutyAt(int idx) {
+		int checkpointPos = idx - dutiesOffset;
+		while (!duties.get(checkpointPos).isCheckpoint()) {
+			checkpointPos--;
+		}
+		ShiftGrid grid = new ShiftGrid(duties.get(checkpointPos).getDuty());
+		for (int pos = checkpointPos + 1; pos <= idx - dutiesOffset; pos++) {
+			grid.apply(duties.get(pos).getChanges());
+		}
+		return grid.toNurseShifts();
+	}
+
+	// 현재(nowIdx) 근무표
+	public List<NurseShift> currentDuty() {
+		return dutyAt(nowIdx);
+	}
+
+	// 가장 마지막 기록의 근무표 (되돌리기 이후 기록이 남아 있으면 nowIdx보다 뒤)
+	public List<NurseShift> latestDuty() {
+		return dutyAt(dutiesOffset + duties.size() - 1);
+	}
+
+	/**
+	 * 현재 근무표 다음에 수정된 근무표를 기록하고 nowIdx를 옮깁니다.
+	 * 되돌리기로 nowIdx가 중간에 있으면 그 이후 기록은 지웁니다.
+	 * 체크포인트 간격 안에서 간호사 구성이 같고 바뀐 칸이 간호사 수보다 적으면 바뀐 칸만 저장합니다.
+	 * 자동 생성 결과는 바뀐 칸 수와 관계없이 항상 체크포인트로 저장합니다.
+	 */
+	public void appendDuty(List<NurseShift> duty, History history) {
+		List<NurseShift> current = currentDuty();
+		List<Duty> kept = new ArrayList<>(duties.subList(0, nowIdx - dutiesOffset + 1));
+		int idx = nowIdx + 1;
+
+		int lastCheckpointPos = kept.size() - 1;
+		while (!kept.get(lastCheckpointPos).isCheckpoint()) {
+			lastCheckpointPos--;
+		}
+		boolean forceCheckpoint = Boolean.TRUE.equals(history.getIsAutoCreated())
+			|| idx - (dutiesOffset + lastCheckpointPos) >= CHECKPOINT_INTERVAL;
+		List<CellChange> changes = forceCheckpoint ? null : diff(current, duty);
+
+		kept.add(Duty.builder()
+			.idx(idx)
+			.duty(changes == null ? new ArrayList<>(duty) : null)
+			.changes(changes)
+			.history(history)
+			.build());
+		this.duties = kept;
+		this.nowIdx = idx;
+	}
+
+	// fromIdx 다음부터 nowIdx까지의 기록 (appendDuty로 추가한 기록만 부분 저장할 때)
+	public List<Duty> dutiesAfter(int fromIdx) {
+		return duties.subList(fromIdx + 1 - dutiesOffset, nowIdx + 1 - dutiesOffset);
+	}
+
+	/**
+	 * 모든 기록의 간호사 ID를 바꿉니다. (임시 간호사를 입장한 회원으로 연동할 때)
+	 */
+	public void changeMemberId(Long fromMemberId, Long toMemberId) {
+		for (Duty duty : duties) {
+			if (duty.isCheckpoint()) {
+				duty.getDuty().stream()
+					.filter(nurseShift -> Objects.equals(nurseShift.getMemberId(), fromMemberId))
+					.forEach(nurseShift -> nurseShift.setMemberId(toMemberId));
+			} else {
+				duty.getChanges().stream()
+					.filter(change -> Objects.equals(change.getMemberId(), fromMemberId))
+					.forEach(change -> change.setMemberId(toMemberId));
+			}
+			if (Objects.equals(duty.getHistory().getMemberId(), fromMemberId)) {
+				duty.getHistory().setMemberId(toMemberId);
+			}
+		}
+	}
+
+	// 간호사 구성(순서 포함)이 같으면 바뀐 칸 목록, 다르거나 바뀐 칸이 간호사 수 이상이면 null (전체 저장이 더 작음)
+	private static List<CellChange> diff(List<NurseShift> before, List<NurseShift> after) {
+		if (before.size() != after.size()) {
+			return null;
+		}
+		List<CellChange> changes = new ArrayList<>();
+		for (int nurseIdx = 0; nurseIdx < before.size(); nurseIdx++) {
+			NurseShift prev = before.get(nurseIdx);
+			NurseShift next = after.get(nurseIdx);
+			if (!Objects.equals(prev.getMemberId(), next.getMemberId())
+				|| prev.getShifts().length() != next.getShifts().length()) {
+				return null;
+			}
+			for (int day = 0; day < prev.getShifts().length(); day++) {
+				char beforeShift = prev.getShifts().charAt(day);
+				char afterShift = next.getShifts().charAt(day);
+				if (beforeShift != afterShift) {
+					changes.add(CellChange.builder()
+						.memberId(prev.getMemberId())
+						.day(day + 1)
+						.before(String.valueOf(beforeShift))
+						.after(String.valueOf(afterShift))
+						.build());
+				}
+			}
+			if (changes.size() >= before.size()) {
+				return null;
+			}
 		}
+		return changes;
 	}
 
 	@Getter
@@ -59,12 +194,30 @@ public class WardSchedule {
 	@Builder
 	public static class Duty {
 		private int idx;
-		private List<NurseShift> duty;
+		private List<NurseShift> duty;      // 체크포인트의 전체 근무표 (그 외 기록은 null)
+		private List<CellChange> changes;   // 직전 기록 대비 바뀐 칸 (체크포인트는 null)
 		private History history;
 
 		public void addNurseShift(NurseShift nurseShift) {
 			this.duty.add(nurseShift);
 		}
+
+		public boolean isCheckpoint() {
+			return duty != null;
+		}
+	}
+
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	@Builder
+	public static class CellChange {
+		@Setter
+		@Field("member_id")
+		private Long memberId;
+		private int day; // 1일부터 시작
+		private String before;
+		private String after;
 	}
 
 	@Getter
@@ -101,9 +254,46 @@ public class WardSchedule {
 		private Integer modifiedDay;
 		@Field("is_auto_created")
 		private Boolean isAutoCreated;
+		private Long seed; // 자동 생성 난수 시드 (같은 입력과 시드로 재실행하면 같은 근무표)
+		private Integer islands; // 유전 알고리즘 섬 수 (시드와 함께 있어야 재현 가능, 다른 엔진은 null)
 	}
 
 	public YearMonth getYearMonth() {
 		return new YearMonth(this.year, this.month);
 	}
+
+	// 기록 복원용 근무표 (체크포인트의 간호사 순서 유지)
+	private static class ShiftGrid {
+		private final List<Long> memberIds = new ArrayList<>();
+		private final List<char[]> shifts = new ArrayList<>();
+		private final Map<Long, Integer> rowByMemberId = new HashMap<>();
+
+		ShiftGrid(List<NurseShift> checkpoint) {
+			for (NurseShift nurseShift : checkpoint) {
+				rowByMemberId.put(nurseShift.getMemberId(), memberIds.size());
+				memberIds.add(nurseShift.getMemberId());
+				shifts.add(nurseShift.getShifts().toCharArray());
+			}
+		}
+
+		void apply(List<CellChange> changes) {
+			for (CellChange change : changes) {
+				Integer row = rowByMemberId.get(change.getMemberId());
+				if (row != null) {
+					shifts.get(row)[change.getDay() - 1] = change.getAfter().charAt(0);
+				}
+			}
+		}
+
+		List<NurseShift> toNurseShifts() {
+			List<NurseShift> nurseShifts = new ArrayList<>(memberIds.size());
+			for (int row = 0; row < memberIds.size(); row++) {
+				nurseShifts.add(NurseShift.builder()
+					.memberId(memberIds.get(row))
+					.shifts(new String(shifts.get(row)))
+					.build());
+			}
+			return nurseShifts;
+		}
+	}
 }
@@ -52,6 +52,17 @@ public class WardScheduleController {
 		return ResponseEntity.ok(wardScheduleResponseDto);
 	}
 
+	@PutMapping("/history")
+	public ResponseEntity<?> revertWardSchedule(
+		@Auth Member member,
+		@RequestParam(required = false) Integer year,
+		@RequestParam(required = false) Integer month,
+		@RequestParam Integer history) {
+		WardScheduleResponseDto wardScheduleResponseDto =
+			wardScheduleService.revertWardSchedule(member, new YearMonth(year, month), history);
+		return ResponseEntity.ok(wardScheduleResponseDto);
+	}
+
 	@GetMapping("/my")
 	public ResponseEntity<?> getMyDuty(
 		@Auth Member member,
@@ -7,7 +7,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
 
-public interface WardScheduleRepository extends MongoRepository<WardSchedule, String> {
+public interface WardScheduleRepository
+	extends MongoRepository<WardSchedule, String>, WardScheduleRepositoryCustom {
 
 	Optional<WardSchedule> findByWardIdAndYearAndMonth(Long wardId, int year, int month);
 
@@ -0,0 +1,53 @@
+package net.dutymate.api.domain.wardschedules.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+/**
+ * 근무표 문서 전체를 읽고 쓰지 않는 부분 조회/수정 (수동 수정, 요청 승인 등 자주 호출되는 경로)
+ */
+public interface WardScheduleRepositoryCustom {
+
+	/**
+	 * nowIdx까지의 최근 기록(체크포인트 하나 이상 포함)만 읽습니다.
+	 * 일부 기록만 담겨 있으므로 save()로 저장하면 안 되고, appendDuties로 추가한 기록만 저장해야 합니다.
+	 */
+	Optional<WardSchedule> findRecentByWardIdAndYearAndMonth(Long wardId, int year, int month);
+
+	/**
+	 * 현재(nowIdx) 근무표를 복원하는 데 필요한 기록(가장 가까운 이전 체크포인트부터 nowIdx까지)만 읽습니다.
+	 * currentDuty()만 쓰는 조회용이며, save()나 appendDuties로 저장하면 안 됩니다.
+	 */
+	Optional<WardSchedule> findCurrentByWardIdAndYearAndMonth(Long wardId, int year, int month);
+
+	/**
+	 * 가장 마지막 기록의 근무표를 복원하는 데 필요한 기록만 읽습니다. (latestDuty()만 쓰는 조회용, 저장하면 안 됨)
+	 */
+	Optional<WardSchedule> findLatestByWardIdAndYearAndMonth(Long wardId, int year, int month);
+
+	/**
+	 * 근무표 화면용 조회: 모든 기록의 수정 이력과, idx번째(null이면 nowIdx) 기록을 복원하는 데 필요한 기록만 읽습니다.
+	 * duties 길이는 전체 기록 수와 같지만 복원 범위 밖의 기록은 기록 번호와 수정 이력만 담깁니다.
+	 * dutyAt(idx)와 수정 이력만 쓰는 조회용이며, 저장하면 안 됩니다. (idx가 범위 밖인지는 호출하는 쪽에서 확인)
+	 */
+	Optional<WardSchedule> findHistoryViewByWardIdAndYearAndMonth(Long wardId, int year, int month, Integer idx);
+
+	/**
+	 * 병동의 모든 월 근무표를 findCurrentByWardIdAndYearAndMonth처럼 현재 근무표 복원에 필요한 기록만 읽습니다.
+	 */
+	List<WardSchedule> findAllCurrentByWardId(Long wardId);
+
+	/**
+	 * fromIdx 다음에 추가한 기록을 $push로 끼워 넣고 그 뒤의 기록(되돌리기 이후 기록)은 지운 뒤, nowIdx를 $set합니다.
+	 * 읽은 뒤 다른 요청이 먼저 저장해 버전이 바뀌었으면 OptimisticLockingFailureException을 던집니다.
+	 */
+	void appendDuties(WardSchedule wardSchedule, int fromIdx);
+
+	/**
+	 * 기록은 그대로 두고 nowIdx만 옮깁니다. (히스토리 이동)
+	 * 읽은 뒤 다른 요청이 먼저 저장해 버전이 바뀌었으면 OptimisticLockingFailureException을 던집니다.
+	 */
+	void updateNowIdx(WardSchedule wardSchedule, int nowIdx);
+}
@@ -0,0 +1,184 @@
+package net.dutymate.api.domain.wardschedules.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class WardScheduleRepositoryImpl implements WardScheduleRepositoryCustom {
+
+	private final MongoTemplate mongoTemplate;
+
+	@Override
+	public Optional<WardSchedule> findRecentByWardIdAndYearAndMonth(Long wardId, int year, int month) {
+		// duties[max(0, now_idx - CHECKPOINT_INTERVAL + 1)]부터 CHECKPOINT_INTERVAL개
+		Document offset = new Document("$max", List.of(0,
+			new Document("$subtract", List.of("$now_idx", WardSchedule.CHECKPOINT_INTERVAL - 1))));
+		Aggregation aggregation = Aggregation.newAggregation(
+			Aggregation.match(wardAndYearMonth(wardId, year, month)),
+			context -> new Document("$project", scheduleFields()
+				.append("duties", new Document("$slice",
+					List.of("$duties", offset, WardSchedule.CHECKPOINT_INTERVAL)))));
+
+		WardSchedule wardSchedule = mongoTemplate.aggregate(aggregation, WardSchedule.class, WardSchedule.class)
+			.getUniqueMappedResult();
+		if (wardSchedule == null) {
+			return Optional.empty();
+		}
+		wardSchedule.setDutiesOffset(Math.max(0, wardSchedule.getNowIdx() - WardSchedule.CHECKPOINT_INTERVAL + 1));
+		return Optional.of(wardSchedule);
+	}
+
+	@Override
+	public Optional<WardSchedule> findCurrentByWardIdAndYearAndMonth(Long wardId, int year, int month) {
+		return findSnapshots(wardAndYearMonth(wardId, year, month), "$now_idx").stream().findAny();
+	}
+
+	@Override
+	public Optional<WardSchedule> findLatestByWardIdAndYearAndMonth(Long wardId, int year, int month) {
+		return findSnapshots(wardAndYearMonth(wardId, year, month),
+			new Document("$subtract", List.of(new Document("$size", "$duties"), 1))).stream().findAny();
+	}
+
+	@Override
+	public List<WardSchedule> findAllCurrentByWardId(Long wardId) {
+		return findSnapshots(Criteria.where("wardId").is(wardId), "$now_idx");
+	}
+
+	@Override
+	public Optional<WardSchedule> findHistoryViewByWardIdAndYearAndMonth(Long wardId, int year, int month,
+		Integer idx) {
+		// $project에서 숫자 그대로는 필드 포함 여부로 해석되므로 $literal로 감쌈
+		Object targetIdx = idx != null ? new Document("$literal", idx) : "$now_idx";
+
+		// 복원 범위(체크포인트 ~ targetIdx) 밖의 기록은 기록 번호와 수정 이력만 남김
+		Document inWindow = new Document("$and", List.of(
+			new Document("$gte", List.of("$$i", "$duties_offset")),
+			new Document("$lte", List.of("$$i", "$target_idx"))));
+		Document historyOnly = new Document("idx", "$$entry.idx").append("history", "$$entry.history");
+		Document duties = new Document("$map", new Document("input",
+			new Document("$range", List.of(0, new Document("$size", "$duties"))))
+			.append("as", "i")
+			.append("in", new Document("$let", new Document("vars",
+				new Document("entry", new Document("$arrayElemAt", List.of("$duties", "$$i"))))
+				.append("in", new Document("$cond", List.of(inWindow, "$$entry", historyOnly))))));
+
+		Aggregation aggregation = Aggregation.newAggregation(
+			Aggregation.match(wardAndYearMonth(wardId, year, month)),
+			context -> new Document("$project", scheduleFields()
+				.append("duties", 1)
+				.append("target_idx", targetIdx)),
+			context -> new Document("$project", scheduleFields()
+				.append("duties", 1)
+				.append("target_idx", 1)
+				.append("duties_offset", checkpointIdx())),
+			context -> new Document("$project", scheduleFields()
+				.append("duties", duties)));
+
+		return Optional.ofNullable(
+			mongoTemplate.aggregate(aggregation, WardSchedule.class, WardSchedule.class).getUniqueMappedResult());
+	}
+
+	// 문서마다 duties[targetIdx]를 복원하는 데 필요한 기록(가장 가까운 이전 체크포인트부터 targetIdx까지)만 읽음
+	private List<WardSchedule> findSnapshots(Criteria criteria, Object targetIdx) {
+		Aggregation aggregation = Aggregation.newAggregation(
+			Aggregation.match(criteria),
+			context -> new Document("$project", scheduleFields()
+				.append("duties", 1)
+				.append("target_idx", targetIdx)),
+			context -> new Document("$project", scheduleFields()
+				.append("duties", 1)
+				.append("target_idx", 1)
+				.append("duties_offset", checkpointIdx())),
+			context -> new Document("$project", scheduleFields()
+				.append("duties_offset", 1)
+				.append("duties", new Document("$slice", List.of("$duties", "$duties_offset",
+					new Document("$max", List.of(1, new Document("$subtract",
+						List.of(new Document("$add", List.of("$target_idx", 1)), "$duties_offset")))))))));
+
+		return mongoTemplate.aggregate(aggregation, WardSchedule.class, Document.class).getMappedResults().stream()
+			.map(document -> {
+				WardSchedule wardSchedule = mongoTemplate.getConverter().read(WardSchedule.class, document);
+				wardSchedule.setDutiesOffset(document.get("duties_offset", Number.class).intValue());
+				return wardSchedule;
+			})
+			.toList();
+	}
+
+	// target_idx부터 거꾸로 CHECKPOINT_INTERVAL개 안에서 전체 근무표(duty 배열)가 있는 마지막 위치 (없으면 0)
+	private static Document checkpointIdx() {
+		Document candidates = new Document("$range", List.of(
+			new Document("$max", List.of(0,
+				new Document("$subtract", List.of("$target_idx", WardSchedule.CHECKPOINT_INTERVAL - 1)))),
+			new Document("$add", List.of("$target_idx", 1))));
+		Document isCheckpoint = new Document("$let", new Document("vars",
+			new Document("entry", new Document("$arrayElemAt", List.of("$duties", "$$i"))))
+			.append("in", new Document("$eq", List.of(new Document("$type", "$$entry.duty"), "array"))));
+		return new Document("$ifNull", List.of(new Document("$max", new Document("$filter",
+			new Document("input", candidates).append("as", "i").append("cond", isCheckpoint))), 0));
+	}
+
+	private static Criteria wardAndYearMonth(Long wardId, int year, int month) {
+		return Criteria.where("wardId").is(wardId).and("year").is(year).and("month").is(month);
+	}
+
+	private static Document scheduleFields() {
+		return new Document("ward_id", 1)
+			.append("year", 1)
+			.append("month", 1)
+			.append("now_idx", 1)
+			.append("version", 1);
+	}
+
+	@Override
+	public void appendDuties(WardSchedule wardSchedule, int fromIdx) {
+		List<WardSchedule.Duty> appended = wardSchedule.dutiesAfter(fromIdx);
+		if (appended.isEmpty()) {
+			return;
+		}
+
+		// 읽은 뒤 다른 요청이 먼저 저장했으면(버전이 다르면) 아무것도 바꾸지 않고 충돌로 처리
+		Query query = Query.query(Criteria.where("_id").is(wardSchedule.getId())
+			.and("version").is(wardSchedule.getVersion()));
+		Update update = new Update().set("nowIdx", wardSchedule.getNowIdx()).inc("version", 1);
+		update.push("duties")
+			.atPosition(fromIdx + 1)
+			.slice(wardSchedule.getNowIdx() + 1)
+			.each(appended.toArray());
+		if (mongoTemplate.updateFirst(query, update, WardSchedule.class).getMatchedCount() == 0) {
+			throw new OptimisticLockingFailureException(
+				"근무표가 다른 요청에 의해 먼저 수정되었습니다. (id: " + wardSchedule.getId() + ")");
+		}
+		wardSchedule.setVersion(nextVersion(wardSchedule.getVersion()));
+	}
+
+	@Override
+	public void updateNowIdx(WardSchedule wardSchedule, int nowIdx) {
+		// 읽은 뒤 다른 요청이 먼저 저장했으면(기록이 지워졌을 수도 있음) 옮기지 않고 충돌로 처리
+		Query query = Query.query(Criteria.where("_id").is(wardSchedule.getId())
+			.and("version").is(wardSchedule.getVersion()));
+		Update update = new Update().set("nowIdx", nowIdx).inc("version", 1);
+		if (mongoTemplate.updateFirst(query, update, WardSchedule.class).getMatchedCount() == 0) {
+			throw new OptimisticLockingFailureException(
+				"근무표가 다른 요청에 의해 먼저 수정되었습니다. (id: " + wardSchedule.getId() + ")");
+		}
+		wardSchedule.setNowIdx(nowIdx);
+		wardSchedule.setVersion(nextVersion(wardSchedule.getVersion()));
+	}
+
+	// 버전이 없는 문서(버전 도입 전 저장)는 $inc로 1이 됨
+	private static long nextVersion(Long version) {
+		return version == null ? 1 : version + 1;
+	}
+}
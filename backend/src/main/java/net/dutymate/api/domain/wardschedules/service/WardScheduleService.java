@@ -5,11 +5,11 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
@@ -43,6 +43,7 @@ import net.dutymate.api.domain.wardschedules.repository.MemberScheduleRepository
 import net.dutymate.api.domain.wardschedules.repository.WardScheduleRepository;
 import net.dutymate.api.domain.wardschedules.util.DutyAutoCheck;
 import net.dutymate.api.domain.wardschedules.util.InitialDutyGenerator;
+import net.dutymate.api.domain.wardschedules.util.WardScheduleWriteRetry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -57,8 +58,14 @@ public class WardScheduleService {
 	private final WardMemberRepository wardMemberRepository;
 	private final MemberScheduleRepository memberScheduleRepository;
 	private final CalendarRepository calendarRepository;
+	private final WardScheduleWriteRetry wardScheduleWriteRetry;
 
-	@Transactional
+	/**
+	 * 근무표 조회 (저장하지 않음)
+	 * nowIdx를 주면 그 기록 시점의 근무표를 보여주기만 하고, 되돌리기는 revertWardSchedule로 합니다.
+	 * 아직 없는 월은 저장하지 않은 빈 근무표를 보여주고, 처음 수정할 때 생성합니다.
+	 */
+	@Transactional(readOnly = true)
 	public WardScheduleResponseDto getWardSchedule(Member member, final YearMonth yearMonth, Integer nowIdx) {
 
 		// 조회하려는 달이 (현재 달 + 1달) 안에 포함되지 않는 경우 예외 처리
@@ -74,42 +81,38 @@ public class WardScheduleService {
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동에 속해있지 않은 회원입니다."))
 			.getWard();
 
-		// 몽고 DB에서 병동 스케줄 가져오기
-		WardSchedule wardSchedule =
-			wardScheduleRepository.findByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month())
-				.orElseGet(() -> initialDutyGenerator.createNewWardSchedule(ward, ward.getWardMemberList(), yearMonth));
+		// 몽고 DB에서 병동 스케줄 가져오기 (수정 이력 전체 + 보여줄 기록을 복원하는 데 필요한 기록만)
+		WardSchedule wardSchedule = wardScheduleRepository
+			.findHistoryViewByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month(), nowIdx)
+			.orElseGet(() -> initialDutyGenerator.initialWardSchedule(ward, ward.getWardMemberList(), yearMonth));
 
 		// 몽고 DB에서 전달 병동 스케줄 가져오기
 		WardSchedule prevWardSchedule = wardScheduleRepository
-			.findByWardIdAndYearAndMonth(ward.getWardId(), prevYearMonth.year(), prevYearMonth.month())
+			.findCurrentByWardIdAndYearAndMonth(ward.getWardId(), prevYearMonth.year(), prevYearMonth.month())
 			.orElse(null);
 
 		if (nowIdx == null) {
 			nowIdx = wardSchedule.getNowIdx();
 		}
+		if (nowIdx < 0 || nowIdx >= wardSchedule.getDutiesOffset() + wardSchedule.getDuties().size()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 수정 기록입니다.");
+		}
 
 		// 이번달 듀티표 가져오기
-		List<WardSchedule.NurseShift> recentNurseShifts = wardSchedule.getDuties().get(nowIdx).getDuty();
+		List<WardSchedule.NurseShift> recentNurseShifts = wardSchedule.dutyAt(nowIdx);
 		// 전달 듀티표 가져오기
 		List<WardSchedule.NurseShift> prevNurseShifts;
 		if (prevWardSchedule != null) {
-			prevNurseShifts = prevWardSchedule.getDuties().get(prevWardSchedule.getNowIdx()).getDuty();
+			prevNurseShifts = prevWardSchedule.currentDuty();
 		} else {
 			prevNurseShifts = null;
 		}
 
-		wardSchedule.setNowIdx(nowIdx);
-
-		wardScheduleRepository.save(wardSchedule);
-
 		// recentNurseShifts -> DTO 변환
 		List<WardScheduleResponseDto.NurseShifts> nurseShiftsDto = recentNurseShifts.stream()
 			.map(WardScheduleResponseDto.NurseShifts::of)
 			.toList();
 
-		// 듀티표 멤버ID 목록
-		HashSet<Long> updatedMemberIds = new HashSet<>();
-
 		// DTO에 값 넣어주기
 		nurseShiftsDto.forEach(now -> {
 			Member nurse = memberRepository.findById(now.getMemberId())
@@ -131,11 +134,6 @@ public class WardScheduleService {
 					.orElseGet(() -> WardSchedule.NurseShift.builder().shifts("XXXX").build());
 				now.setPrevShifts(prevShifts.getShifts().substring(prevShifts.getShifts().length() - 4));
 			}
-
-			// 병동 스케줄에 있는 멤버 ID 목록에 추가
-			if (!"(탈퇴회원)".equals(now.getName())) {
-				updatedMemberIds.add(now.getMemberId());
-			}
 		});
 
 		// 정렬
@@ -173,32 +171,6 @@ public class WardScheduleService {
 		// 승인, 대기 상태인 요청 구하기
 		List<WardScheduleResponseDto.RequestDto> requests = null;
 
-		// 병동 듀티 -> 개인 듀티 : 연동 작업
-		List<MemberSchedule> memberSchedulesToSave = new ArrayList<>();
-		for (Long updatedMemberId : updatedMemberIds) {
-			Member updatedMember = memberRepository.findById(updatedMemberId)
-				.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다."));
-
-			// 수정된 병동 스케줄 연월이 업데이트된 회원의 입장 연월보다 이후이면 memberSchedule 업데이트
-			if (yearMonth.isSameOrAfter(updatedMember.enterYearMonth())) {
-				MemberSchedule memberSchedule = getOrCreateMemberSchedule(updatedMemberId, yearMonth);
-
-				String updatedShifts = wardSchedule.getDuties()
-					.get(nowIdx)
-					.getDuty()
-					.stream()
-					.filter(nurseShift -> Objects.equals(nurseShift.getMemberId(), updatedMemberId))
-					.findAny()
-					.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동 스케줄에서 회원을 찾을 수 없습니다."))
-					.getShifts();
-
-				memberSchedule.setShifts(updatedShifts);
-				memberSchedulesToSave.add(memberSchedule);
-			}
-		}
-		// 개인 듀티를 모아서 한 번에 저장
-		memberScheduleRepository.saveAll(memberSchedulesToSave);
-
 		return WardScheduleResponseDto.of(wardSchedule.getId(), yearMonth, 0, nurseShiftsDto, issues, histories,
 			requests);
 	}
@@ -220,33 +192,37 @@ public class WardScheduleService {
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동에 속해있지 않은 회원입니다."))
 			.getWard();
 
-		// 몽고 DB에서 이번달 병동 스케줄 불러오기
-		WardSchedule wardSchedule = wardScheduleRepository
-			.findByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month())
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "근무표가 생성되지 않았습니다."));
+		// 다른 요청이 먼저 근무표를 수정했으면 최신 기록을 다시 읽어 같은 수정을 다시 적용
+		WardSchedule wardSchedule = wardScheduleWriteRetry.run("edit",
+			() -> appendEdits(ward, yearMonth, editDutyRequestDtoList));
+
+		// 병동 듀티 -> 개인 듀티 : 수정된 간호사만 연동
+		Set<Long> modifiedMemberIds = editDutyRequestDtoList.stream()
+			.map(editDutyRequestDto -> editDutyRequestDto.getHistory().getMemberId())
+			.collect(Collectors.toSet());
+		syncMemberSchedules(yearMonth, wardSchedule.currentDuty().stream()
+			.filter(nurseShift -> modifiedMemberIds.contains(nurseShift.getMemberId()))
+			.toList());
 
-		// PUT 요청 : 히스토리로 nowIdx가 중간으로 돌아간 상황에서 수동 수정이 일어난 경우,
-		List<WardSchedule.Duty> recentDuties = wardSchedule.getDuties();
-		int nowIdx = wardSchedule.getNowIdx();
+		return getWardSchedule(member, yearMonth, wardSchedule.getNowIdx());
+	}
 
-		// 히스토리 포인트로 돌아 갔을 때, 수정 요청이 들어오면, 히스토리 이후 데이터 날리기
-		List<WardSchedule.Duty> duties = recentDuties.subList(0, nowIdx + 1); // nowIdx 이후 데이터 제거
+	// 이번달 근무표 최근 기록을 읽어 수정 목록을 차례로 기록으로 추가하고 저장 (아직 없는 월이면 먼저 생성)
+	private WardSchedule appendEdits(Ward ward, YearMonth yearMonth,
+		List<EditDutyRequestDto> editDutyRequestDtoList) {
+		// 몽고 DB에서 이번달 병동 스케줄의 최근 기록만 불러오기
+		WardSchedule wardSchedule = wardScheduleRepository
+			.findRecentByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month())
+			.orElseGet(() -> initialDutyGenerator.createNewWardSchedule(ward, ward.getWardMemberList(), yearMonth));
+		int prevNowIdx = wardSchedule.getNowIdx();
 
+		// 히스토리 포인트로 돌아 갔을 때 수정 요청이 들어오면, appendDuty가 히스토리 이후 데이터를 날림
 		for (EditDutyRequestDto editDutyRequestDto : editDutyRequestDtoList) {
 			final int modifiedIndex = editDutyRequestDto.getHistory().getModifiedDay() - 1;
 			final Long modifiedMemberId = editDutyRequestDto.getHistory().getMemberId();
 
-			// 가장 최근 스냅샷
-			List<WardSchedule.NurseShift> recentDuty = duties.get(nowIdx).getDuty();
-
-			// 새로 만들 스냅샷
-			List<WardSchedule.NurseShift> newDuty = new ArrayList<>();
-
-			// 가장 최근 스냅샷 -> 새로 만들 스냅샷 복사 (깊은 복사)
-			recentDuty.forEach(nurseShift -> newDuty.add(WardSchedule.NurseShift.builder()
-				.memberId(nurseShift.getMemberId())
-				.shifts(nurseShift.getShifts())
-				.build()));
+			// 현재 스냅샷을 복원한 새 스냅샷 (저장된 기록과 별개의 목록)
+			List<WardSchedule.NurseShift> newDuty = wardSchedule.currentDuty();
 
 			// 새로 만들 스냅샷에 수정사항 반영
 			newDuty.stream()
@@ -259,27 +235,77 @@ public class WardScheduleService {
 					prev.changeShifts(after);
 				});
 
-			// 기존 병동 스케줄에 새로운 스냅샷 추가 및 저장
-			duties.add(WardSchedule.Duty.builder()
-				.idx(nowIdx + 1)
-				.duty(newDuty)
-				.history(WardSchedule.History.builder()
-					.memberId(editDutyRequestDto.getHistory().getMemberId())
-					.name(editDutyRequestDto.getHistory().getName())
-					.before(editDutyRequestDto.getHistory().getBefore())
-					.after(editDutyRequestDto.getHistory().getAfter())
-					.modifiedDay(editDutyRequestDto.getHistory().getModifiedDay())
-					.isAutoCreated(editDutyRequestDto.getHistory().getIsAutoCreated())
-					.build())
+			// 기존 병동 스케줄에 새로운 스냅샷 추가 (바뀐 칸만 기록)
+			wardSchedule.appendDuty(newDuty, WardSchedule.History.builder()
+				.memberId(editDutyRequestDto.getHistory().getMemberId())
+				.name(editDutyRequestDto.getHistory().getName())
+				.before(editDutyRequestDto.getHistory().getBefore())
+				.after(editDutyRequestDto.getHistory().getAfter())
+				.modifiedDay(editDutyRequestDto.getHistory().getModifiedDay())
+				.isAutoCreated(editDutyRequestDto.getHistory().getIsAutoCreated())
 				.build());
-
-			nowIdx++;
 		}
 
-		wardSchedule.setDuties(duties);
-		wardSchedule.setNowIdx(nowIdx);
-		wardScheduleRepository.save(wardSchedule);
-		return getWardSchedule(member, yearMonth, nowIdx);
+		// 추가한 기록만 $push (문서 전체를 다시 쓰지 않음, 버전이 바뀌었으면 충돌)
+		wardScheduleRepository.appendDuties(wardSchedule, prevNowIdx);
+		return wardSchedule;
+	}
+
+	/**
+	 * 근무표 되돌리기 (히스토리 이동)
+	 * 기록은 그대로 두고 nowIdx만 옮기며, 이후 수정은 이 시점부터 이어집니다.
+	 */
+	@Transactional
+	public WardScheduleResponseDto revertWardSchedule(Member member, final YearMonth yearMonth, int historyIdx) {
+		Ward ward = Optional.ofNullable(member.getWardMember())
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "병동에 속해있지 않은 회원입니다."))
+			.getWard();
+
+		// nowIdx만 $set (문서 전체를 다시 쓰면 그 사이 추가된 다른 수정 기록을 덮어씀)
+		// 읽은 뒤 다른 수정이 먼저 저장되었으면 다시 읽어 그 기록 기준으로 다시 검사하고 옮김
+		WardSchedule wardSchedule = wardScheduleWriteRetry.run("revert", () -> {
+			WardSchedule latestWardSchedule = wardScheduleRepository
+				.findHistoryViewByWardIdAndYearAndMonth(ward.getWardId(), yearMonth.year(), yearMonth.month(),
+					historyIdx)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "근무표가 생성되지 않았습니다."));
+			if (historyIdx < 0 || historyIdx >= latestWardSchedule.getDuties().size()) {
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 수정 기록입니다.");
+			}
+			wardScheduleRepository.updateNowIdx(latestWardSchedule, historyIdx);
+			return latestWardSchedule;
+		});
+
+		// 병동 듀티 -> 개인 듀티 : 되돌린 시점의 근무로 연동 (옮긴 버전과 같은 문서에서 복원)
+		syncMemberSchedules(yearMonth, wardSchedule.dutyAt(historyIdx));
+
+		return getWardSchedule(member, yearMonth, historyIdx);
+	}
+
+	/**
+	 * 병동 듀티 -> 개인 듀티 : 연동 작업 (근무표를 바꾸는 쓰기 경로에서 호출)
+	 * 탈퇴한 회원과 입장 연월 이전의 근무표는 연동하지 않습니다.
+	 */
+	public void syncMemberSchedules(YearMonth yearMonth, List<WardSchedule.NurseShift> nurseShifts) {
+		Map<Long, Member> nurses = memberRepository.findAllById(nurseShifts.stream()
+				.map(WardSchedule.NurseShift::getMemberId)
+				.toList())
+			.stream()
+			.collect(Collectors.toMap(Member::getMemberId, nurse -> nurse));
+
+		List<MemberSchedule> memberSchedulesToSave = new ArrayList<>();
+		for (WardSchedule.NurseShift nurseShift : nurseShifts) {
+			Member nurse = nurses.get(nurseShift.getMemberId());
+			if (nurse == null || !yearMonth.isSameOrAfter(nurse.enterYearMonth())) {
+				continue;
+			}
+			MemberSchedule memberSchedule = memberScheduleRepository
+				.findByMemberIdAndYearAndMonth(nurse.getMemberId(), yearMonth.year(), yearMonth.month())
+				.orElseGet(() -> createBlankMemberSchedule(nurse.getMemberId(), yearMonth));
+			memberSchedule.setShifts(nurseShift.getShifts());
+			memberSchedulesToSave.add(memberSchedule);
+		}
+		// 개인 듀티를 모아서 한 번에 저장
+		memberScheduleRepository.saveAll(memberSchedulesToSave);
 	}
 
 	private List<WardScheduleResponseDto.History> findHistory(List<WardSchedule.Duty> duties) {
@@ -389,7 +415,7 @@ public class WardScheduleService {
 			return "X".repeat(daysInMonth);
 		}
 
-		return wardSchedule.getDuties().get(wardSchedule.getNowIdx()).getDuty().stream()
+		return wardSchedule.currentDuty().stream()
 			.filter(o -> Objects.equals(o.getMemberId(), member.getMemberId()))
 			.findAny()
 			.orElseGet(() -> WardSchedule.NurseShift.builder().shifts("X".repeat(daysInMonth)).build())
@@ -430,11 +456,12 @@ public class WardScheduleService {
 		Ward ward = wardMember.getWard();
 
 		// 해당 월의 근무표 불러오기
-		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(ward.getWardId(), year, month)
+		WardSchedule wardSchedule = wardScheduleRepository
+			.findLatestByWardIdAndYearAndMonth(ward.getWardId(), year, month)
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "아직 해당 월의 근무표가 생성되지 않았습니다."));
 
 		// 간호사 듀티 리스트 가져오기
-		List<WardSchedule.NurseShift> nurseShifts = wardSchedule.getDuties().getLast().getDuty();
+		List<WardSchedule.NurseShift> nurseShifts = wardSchedule.latestDuty();
 
 		// 나의 근무표 구하기
 		WardSchedule.NurseShift myShift = nurseShifts.stream()
@@ -468,20 +495,19 @@ public class WardScheduleService {
 		YearMonth yearMonth = new YearMonth(year, month);
 
 		// 2. 병동 정보 조회
-		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(
+		WardSchedule wardSchedule = wardScheduleRepository.findLatestByWardIdAndYearAndMonth(
 				wardMember.getWard().getWardId(), yearMonth.year(), yearMonth.month())
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "해당 월 듀티표가 존재하지 않습니다."));
 
 		// 3. 가장 최신 duty 가져오기 (비어있는 경우 예외 처리)
-		List<WardSchedule.Duty> duties = wardSchedule.getDuties();
-		if (duties.isEmpty()) {
+		if (wardSchedule.getDuties().isEmpty()) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "해당 월 듀티표가 존재하지 않습니다.");
 		}
 
-		WardSchedule.Duty latestSchedule = duties.getLast();
+		List<WardSchedule.NurseShift> latestSchedule = wardSchedule.latestDuty();
 
 		// 4. 성능 개선: 모든 WardMember를 한 번에 조회 (N+1 문제 해결)
-		List<Long> memberIds = latestSchedule.getDuty().stream()
+		List<Long> memberIds = latestSchedule.stream()
 			.map(WardSchedule.NurseShift::getMemberId)
 			.toList();
 
@@ -516,7 +542,7 @@ public class WardScheduleService {
 		}
 
 		// 5. NurseShift를 AllNurseShift로 변환하고 정렬
-		List<AllWardDutyResponseDto.AllNurseShift> nurseShiftList = latestSchedule.getDuty().stream()
+		List<AllWardDutyResponseDto.AllNurseShift> nurseShiftList = latestSchedule.stream()
 			.map(nurseShift -> {
 				Long memberId = nurseShift.getMemberId();
 				// Member ID로 WardMember 조회 (맵 사용)
@@ -581,12 +607,6 @@ public class WardScheduleService {
 
 		Ward ward = wardMember.getWard();
 
-		// 해당 월의 근무표 불러오기
-		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(ward.getWardId(),
-				yearMonth.year(), yearMonth.month())
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
-				"아직 해당 월의 근무표가 생성되지 않았습니다."));
-
 		List<Request> acceptedRequestList = requestRepository.findAcceptedWardRequestsByYearMonth(
 			ward, yearMonth.year(), yearMonth.month(), RequestStatus.ACCEPTED
 		);
@@ -623,25 +643,30 @@ public class WardScheduleService {
 			.history(initialDutyGenerator.createInitialHistory())
 			.build();
 
-		wardSchedule.getDuties().clear();
-		wardSchedule.getDuties().add(resetDuty);
-		wardSchedule.setNowIdx(0);
+		// 해당 월의 근무표를 초기화한 근무표 하나만 남기고 저장 (버전 충돌 시 최신 문서를 다시 읽어 초기화)
+		wardScheduleWriteRetry.run("reset", () -> {
+			WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(ward.getWardId(),
+					yearMonth.year(), yearMonth.month())
+				.orElseGet(() -> initialDutyGenerator.createNewWardSchedule(ward, ward.getWardMemberList(), yearMonth));
 
-		wardScheduleRepository.save(wardSchedule);
+			wardSchedule.getDuties().clear();
+			wardSchedule.getDuties().add(resetDuty);
+			wardSchedule.setNowIdx(0);
+
+			wardScheduleRepository.save(wardSchedule);
+		});
 
 		// 병동 듀티 -> 개인 듀티 : 연동 작업
-		for (WardSchedule.NurseShift nurseShift : nurseShifts) {
-			// 탈퇴회원일 수도 있다. 그러나 현재 초기화하면 탈퇴회원 듀티표 싹 사라지고 현재 병동에 속한 사람들로만 초기화 됨
-			Member nurse = memberRepository.findById(nurseShift.getMemberId())
-				.orElseGet(() -> Member.builder().name("(탈퇴회원)").role(Role.RN).grade(1).build());
-			if (yearMonth.isSameOrAfter(nurse.enterYearMonth()) && !"(탈퇴회원)".equals(nurse.getName())) {
-				getOrCreateMemberSchedule(nurseShift.getMemberId(), yearMonth).setShifts(nurseShift.getShifts());
-			}
-		}
+		// 현재 초기화하면 탈퇴회원 듀티표 싹 사라지고 현재 병동에 속한 사람들로만 초기화 됨
+		syncMemberSchedules(yearMonth, nurseShifts);
 	}
 
-	// 임시간호사 생성 시, mongo update
+	// 임시간호사 생성 시, mongo update (버전 충돌 시 최신 근무표를 다시 읽어 다시 추가)
 	public void updateWardSchedules(Long wardId, List<WardMember> newWardMemberList) {
+		wardScheduleWriteRetry.run("add_member", () -> addMembersToWardSchedules(wardId, newWardMemberList));
+	}
+
+	private void addMembersToWardSchedules(Long wardId, List<WardMember> newWardMemberList) {
 		// 5. MongoDB 듀티표 업데이트
 		// 이번달 듀티
 		YearMonth yearMonth = YearMonth.nowYearMonth();
@@ -657,20 +682,27 @@ public class WardScheduleService {
 		List<WardSchedule> updatedScheduleList = new ArrayList<>();
 
 		// 기존 스케줄이 존재한다면, 새로운 스냅샷 생성 및 초기화된 duty 추가하기
+		// (이번 달 저장 후 다음 달 저장이 충돌해 재시도하면 이번 달에는 이미 추가되어 있으므로 없는 간호사만 추가)
 		if (currMonthSchedule != null) {
-			for (WardMember nurse : newWardMemberList) {
+			List<WardMember> missingMembers = membersNotInCurrentDuty(currMonthSchedule, newWardMemberList);
+			for (WardMember nurse : missingMembers) {
 				currMonthSchedule = initialDutyGenerator
 					.updateDutyWithNewMember(currMonthSchedule, nurse, yearMonth.initializeShifts());
 			}
-			updatedScheduleList.add(currMonthSchedule);
+			if (!missingMembers.isEmpty()) {
+				updatedScheduleList.add(currMonthSchedule);
+			}
 		}
 
 		if (nextMonthSchedule != null) {
-			for (WardMember nurse : newWardMemberList) {
+			List<WardMember> missingMembers = membersNotInCurrentDuty(nextMonthSchedule, newWardMemberList);
+			for (WardMember nurse : missingMembers) {
 				nextMonthSchedule = initialDutyGenerator
 					.updateDutyWithNewMember(nextMonthSchedule, nurse, nextYearMonth.initializeShifts());
 			}
-			updatedScheduleList.add(nextMonthSchedule);
+			if (!missingMembers.isEmpty()) {
+				updatedScheduleList.add(nextMonthSchedule);
+			}
 		}
 
 		// 6. 기존 스케줄이 없다면, 입장한 멤버의 듀티표 초기화하여 저장하기
@@ -687,7 +719,7 @@ public class WardScheduleService {
 
 				wardScheduleRepository
 					.findByWardIdAndYearAndMonth(schedule.getWardId(), schedule.getYear(), schedule.getMonth())
-					.ifPresent(existingSchedule -> schedule.setIdIfNotExist(existingSchedule.getId()));
+					.ifPresent(schedule::setIdIfNotExist);
 
 				schedule.setDuties(new ArrayList<>(schedule.getDuties()));
 			}
@@ -696,6 +728,16 @@ public class WardScheduleService {
 		}
 	}
 
+	private static List<WardMember> membersNotInCurrentDuty(WardSchedule wardSchedule,
+		List<WardMember> wardMembers) {
+		Set<Long> memberIds = wardSchedule.getDuties().isEmpty() ? Set.of() : wardSchedule.currentDuty().stream()
+			.map(WardSchedule.NurseShift::getMemberId)
+			.collect(Collectors.toSet());
+		return wardMembers.stream()
+			.filter(wardMember -> !memberIds.contains(wardMember.getMember().getMemberId()))
+			.toList();
+	}
+
 	@Transactional
 	public void editMemberSchedule(Member member, EditMemberDutyRequestDto editMemberDutyRequestDto) {
 		if (member.getEnterYear() != null && member.getEnterMonth() != null && member.getWardMember() != null) {
@@ -10,7 +10,7 @@ import java.util.stream.IntStream;
 
 import net.dutymate.api.domain.autoschedule.Shift;
 import net.dutymate.api.domain.rule.Rule;
-import net.dutymate.api.domain.rule.dto.RuleResponseDto;
+import net.dutymate.api.domain.rule.util.CompiledRule;
 import net.dutymate.api.domain.wardmember.ShiftType;
 import net.dutymate.api.domain.wardschedules.dto.WardScheduleResponseDto;
 
@@ -18,12 +18,11 @@ public class DutyAutoCheck {
 
 	private static final String NIGHT_SHIFT_VIOLATION_MESSAGE = "Night 근무 규칙을 위반했습니다.";
 	private static final String MAX_SHIFT_VIOLATION_MESSAGE = "최대 근무일 규칙을 위반했습니다.";
-	private static final String[] FORBIDDEN_PATTERNS = {"ND", "NE", "ED", "NOD", "NM", "EM", "NOM"};
 
 	public static List<WardScheduleResponseDto.Issue> check(List<WardScheduleResponseDto.NurseShifts> nurseShiftsDto,
 		Rule wardRule) {
 		List<WardScheduleResponseDto.Issue> issues = new ArrayList<>();
-		RuleResponseDto rule = RuleResponseDto.of(wardRule);
+		CompiledRule rule = CompiledRule.of(wardRule);
 
 		for (WardScheduleResponseDto.NurseShifts ns : nurseShiftsDto) {
 			int shiftFlags = ns.getShiftFlags();
@@ -36,231 +35,158 @@ public class DutyAutoCheck {
 		return issues;
 	}
 
+	/**
+	 * 전월 마지막 근무 + 이번 달 근무를 한 번 훑어서 야간/최대 근무일/금지 패턴 위반을 모읍니다.
+	 * 결과 순서는 야간 → 최대 근무일 → 금지 패턴(패턴 순서대로)입니다.
+	 */
 	private static List<WardScheduleResponseDto.Issue> checkPersonalDuty(WardScheduleResponseDto.NurseShifts ns,
-		RuleResponseDto rule, int shiftFlags) {
+		CompiledRule rule, int shiftFlags) {
 
-		List<WardScheduleResponseDto.Issue> result = new ArrayList<>();
 		String shifts = ns.getPrevShifts().concat(ns.getShifts());
-		String name = ns.getName();
-		int prevShiftsDay = ns.getPrevShifts().length();
-		Long memberId = ns.getMemberId();
-
-		nightIssuesGenerator(memberId, name, prevShiftsDay, shifts, rule, result);
-		if (shiftFlags != ShiftType.M.getFlag()) {
-			maxShiftsIssuesGenerator(memberId, name, prevShiftsDay, shifts, rule, result);
-		}
-		specificPatternIssuesGenerator(memberId, name, prevShiftsDay, shifts, result);
-		return result;
+		PersonalDutyScan scan = new PersonalDutyScan(ns.getMemberId(), ns.getName(), ns.getPrevShifts().length(),
+			shifts, rule, shiftFlags != ShiftType.M.getFlag());
+		rule.scan(shifts, scan);
+		return scan.issues();
 	}
 
-	private static void nightIssuesGenerator(Long memberId, String name, int prevShiftsDay,
-		String shifts, RuleResponseDto rule, List<WardScheduleResponseDto.Issue> issues) {
-
-		// 월 경계에 걸친 야간 연속 근무 체크
-		int consecutiveFromPrev = 0;
-		int currentIndex = 0;
-
-		// 이전 달의 마지막 야간 근무 카운트 (뒤에서부터)
-		while (currentIndex < prevShiftsDay
-			&& shifts.charAt(prevShiftsDay - 1 - currentIndex) == 'N') {
-			consecutiveFromPrev++;
-			currentIndex++;
-		}
-
-		// 현재 달의 첫 야간 근무 카운트
-		currentIndex = prevShiftsDay;
-		while (currentIndex < shifts.length() && shifts.charAt(currentIndex) == 'N') {
-			consecutiveFromPrev++;
-			currentIndex++;
+	private static class PersonalDutyScan implements CompiledRule.ScanListener {
+
+		private final Long memberId;
+		private final String name;
+		private final int prevShiftsDay;
+		private final String shifts;
+		private final CompiledRule rule;
+		private final boolean checkMaxShift;
+
+		private final List<WardScheduleResponseDto.Issue> nightIssues = new ArrayList<>();
+		private final List<WardScheduleResponseDto.Issue> maxShiftIssues = new ArrayList<>();
+		private final List<int[]> patternMatches = new ArrayList<>();  // {패턴 순번, 시작 인덱스}
+
+		private boolean nightBoundaryChecked;
+		private boolean workBoundaryChecked;
+
+		PersonalDutyScan(Long memberId, String name, int prevShiftsDay, String shifts, CompiledRule rule,
+			boolean checkMaxShift) {
+			this.memberId = memberId;
+			this.name = name;
+			this.prevShiftsDay = prevShiftsDay;
+			this.shifts = shifts;
+			this.rule = rule;
+			this.checkMaxShift = checkMaxShift;
 		}
 
-		// 월 경계에 걸친 야간 연속 근무 체크
-		if (consecutiveFromPrev > 0 && (consecutiveFromPrev < rule.getMinN()
-			|| consecutiveFromPrev > rule.getMaxN())) {
-
-			// 현재 달에서의 연속 N 개수 계산
-			int currentMonthNCount = 0;
-			for (int i = prevShiftsDay; i < currentIndex; i++) {
-				if (shifts.charAt(i) == 'N') {
-					currentMonthNCount++;
-				}
+		@Override
+		public void onNightRun(int start, int end) {
+			// 이전 달 안에서 끝난 구간은 검사하지 않음
+			if (end < prevShiftsDay) {
+				return;
 			}
 
-			// endDate 계산: 현재 달의 N이 없으면 1, 있으면 N의 개수만큼
-			int endDate = Math.max(1, currentMonthNCount);
-
-			issues.add(WardScheduleResponseDto.Issue.builder()
-				.memberId(memberId)
-				.name(name)
-				.startDate(1)  // 현재 달의 1일부터
-				.endDate(endDate)  // 현재 달의 N 개수나 최소 1
-				.endDateShift(Shift.N)
-				.message(NIGHT_SHIFT_VIOLATION_MESSAGE)
-				.build());
-		}
-
-		// 기존 현재 달 내의 야간 연속 근무 체크 로직은 유지
-		int index = shifts.indexOf(Shift.N.getValue(), currentIndex);
-
-		while (index != -1) {
-			if (index == shifts.length() - 1) {
+			// 월 경계에 걸친(또는 1일부터 시작하는) 첫 구간: 현재 달 1일부터 현재 달의 N 개수(최소 1)까지
+			if (!nightBoundaryChecked && start <= prevShiftsDay) {
+				nightBoundaryChecked = true;
+				if (rule.violatesNightRange(end - start)) {
+					nightIssues.add(issue(1, Math.max(1, end - prevShiftsDay), Shift.N, NIGHT_SHIFT_VIOLATION_MESSAGE));
+				}
 				return;
 			}
-			int nightCnt = 0;
+			nightBoundaryChecked = true;
 
-			while (index + nightCnt < shifts.length()
-				&& shifts.charAt(index + nightCnt) == 'N') {
-				nightCnt++;
+			// 월말 하루짜리 야간은 다음 달에 이어질 수 있으므로 제외
+			if (start == shifts.length() - 1) {
+				return;
 			}
-
-			if (nightCnt < rule.getMinN() || nightCnt > rule.getMaxN()) {
-				issues.add(WardScheduleResponseDto.Issue.builder()
-					.memberId(memberId)
-					.name(name)
-					.startDate(index + 1 - prevShiftsDay)
-					.endDate(index + nightCnt - prevShiftsDay)
-					.endDateShift(Shift.N)
-					.message(NIGHT_SHIFT_VIOLATION_MESSAGE)
-					.build());
+			if (rule.violatesNightRange(end - start)) {
+				nightIssues.add(issue(start + 1 - prevShiftsDay, end - prevShiftsDay, Shift.N,
+					NIGHT_SHIFT_VIOLATION_MESSAGE));
 			}
-
-			index = shifts.indexOf(Shift.N.getValue(), index + nightCnt);
-		}
-	}
-
-	private static void maxShiftsIssuesGenerator(Long memberId, String name, int prevShiftsDay,
-		String shifts, RuleResponseDto rule, List<WardScheduleResponseDto.Issue> issues) {
-
-		// 첫 번째 검사: 이전 달에서 이어지는 연속 근무 체크
-		int consecutiveFromPrev = 0;
-		int currentIndex = 0;
-
-		// 이전 달의 마지막 근무들 카운트 (뒤에서부터)
-		while (currentIndex < prevShiftsDay
-			&& isWorkingShift(shifts.charAt(prevShiftsDay - 1 - currentIndex))) {
-			consecutiveFromPrev++;
-			currentIndex++;
-		}
-
-		// 현재 달의 첫 근무들 카운트
-		currentIndex = prevShiftsDay;
-		while (currentIndex < shifts.length()
-			&& isWorkingShift(shifts.charAt(currentIndex))) {
-			consecutiveFromPrev++;
-			currentIndex++;
 		}
 
-		// 이전 달과 현재 달에 걸친 연속 근무 체크
-		if (consecutiveFromPrev > rule.getMaxShift()) {
-			issues.add(WardScheduleResponseDto.Issue.builder()
-				.memberId(memberId)
-				.name(name)
-				.startDate(1)  // 현재 달의 1일부터
-				.endDate(currentIndex - prevShiftsDay)  // 연속 근무가 끝나는 날까지
-				.endDateShift(Shift.valueOf(String.valueOf(shifts.charAt(currentIndex - 1))))
-				.message(MAX_SHIFT_VIOLATION_MESSAGE)
-				.build());
-		}
-
-		// 나머지 현재 달의 연속 근무 체크
-		while (currentIndex < shifts.length()) {
-			// 근무(D,E,N) 시작점 찾기
-			while (currentIndex < shifts.length()
-				&& !isWorkingShift(shifts.charAt(currentIndex))) {
-				currentIndex++;
-			}
-
-			if (currentIndex >= shifts.length()) {
-				break;
+		@Override
+		public void onWorkRun(int start, int end) {
+			if (!checkMaxShift || end < prevShiftsDay) {
+				return;
 			}
 
-			int startIndex = currentIndex;
-			int consecutiveShifts = 0;
-
-			// 연속 근무일 계산 (O나 X가 나오면 연속성 끊김)
-			while (currentIndex < shifts.length()
-				&& isWorkingShift(shifts.charAt(currentIndex))) {
-				consecutiveShifts++;
-				currentIndex++;
+			// 이전 달과 현재 달에 걸친 연속 근무: 현재 달 1일부터 연속 근무가 끝나는 날까지
+			if (!workBoundaryChecked && start <= prevShiftsDay) {
+				workBoundaryChecked = true;
+				if (end - start > rule.getMaxShift()) {
+					maxShiftIssues.add(issue(1, end - prevShiftsDay, shiftAt(end - 1), MAX_SHIFT_VIOLATION_MESSAGE));
+				}
+				return;
 			}
+			workBoundaryChecked = true;
 
-			// 최대 연속 근무일 초과 체크
-			if (consecutiveShifts > rule.getMaxShift()) {
-				issues.add(WardScheduleResponseDto.Issue.builder()
-					.memberId(memberId)
-					.name(name)
-					.startDate(startIndex + 1 - prevShiftsDay)
-					.endDate(currentIndex - prevShiftsDay)
-					.endDateShift(Shift.valueOf(String.valueOf(shifts.charAt(currentIndex - 1))))
-					.message(MAX_SHIFT_VIOLATION_MESSAGE)
-					.build());
+			if (end - start > rule.getMaxShift()) {
+				maxShiftIssues.add(issue(start + 1 - prevShiftsDay, end - prevShiftsDay, shiftAt(end - 1),
+					MAX_SHIFT_VIOLATION_MESSAGE));
 			}
+		}
 
-			if (currentIndex == startIndex) {
-				currentIndex++;
-			}
+		@Override
+		public void onForbiddenPattern(int patternIdx, int start) {
+			patternMatches.add(new int[] {patternIdx, start});
 		}
-	}
 
-	private static boolean isWorkingShift(char shift) {
-		return shift == 'D' || shift == 'E' || shift == 'N' || shift == 'M';
-	}
+		List<WardScheduleResponseDto.Issue> issues() {
+			List<WardScheduleResponseDto.Issue> result = new ArrayList<>(nightIssues);
+			result.addAll(maxShiftIssues);
+
+			List<String> patterns = rule.getForbiddenPatterns();
+			for (int patternIdx = 0; patternIdx < patterns.size(); patternIdx++) {
+				String pattern = patterns.get(patternIdx);
+				Shift endDateShift = Shift.valueOf(String.valueOf(pattern.charAt(pattern.length() - 1)));
+				String message = pattern + "형태의 근무는 허용되지 않습니다.";
+				boolean boundaryReported = false;
+
+				for (int[] match : patternMatches) {
+					int start = match[1];
+					if (match[0] != patternIdx) {
+						continue;
+					}
 
-	private static void specificPatternIssuesGenerator(Long memberId, String name, int prevShiftsDay,
-		String shifts, List<WardScheduleResponseDto.Issue> issues) {
-
-		for (String pattern : FORBIDDEN_PATTERNS) {
-			// 월 경계에 걸친 패턴 검사 (이전 달 마지막 + 현재 달 초반)
-			if (prevShiftsDay >= pattern.length() - 1) {  // 이전 달에 충분한 일수가 있는 경우
-				String boundaryShifts = shifts.substring(prevShiftsDay - (pattern.length() - 1),
-					Math.min(prevShiftsDay + pattern.length(), shifts.length()));
-				int boundaryIndex = boundaryShifts.indexOf(pattern);
-
-				if (boundaryIndex != -1 && boundaryIndex < pattern.length()) {
-					// 패턴이 월 경계에 걸쳐있는 경우
-					int patternStartInPrevMonth = (pattern.length() - 1) - boundaryIndex;
-					int daysInCurrentMonth = pattern.length() - patternStartInPrevMonth;
-
-					// 현재 달에 포함된 패턴의 마지막 문자 위치 찾기
-					int endDateOffset = 0;
-					for (int i = 0; i < daysInCurrentMonth; i++) {
-						char currentChar = pattern.charAt(patternStartInPrevMonth + i);
-						if (currentChar != 'O') {  // O가 아닌 실제 근무가 있는 날짜
-							endDateOffset = i + 1;
-						}
+					// 월 경계에 걸친 첫 패턴: 현재 달 1일부터 실제 근무가 있는 마지막 날까지
+					if (!boundaryReported && prevShiftsDay >= pattern.length() - 1
+						&& start >= prevShiftsDay - (pattern.length() - 1) && start <= prevShiftsDay) {
+						boundaryReported = true;
+						result.add(issue(1, lastWorkOffset(pattern, prevShiftsDay - start), endDateShift, message));
 					}
 
-					issues.add(WardScheduleResponseDto.Issue.builder()
-						.memberId(memberId)
-						.name(name)
-						.startDate(1)  // 현재 달 1일부터
-						.endDate(endDateOffset)  // 실제 근무가 있는 마지막 날까지
-						.endDateShift(Shift.valueOf(String.valueOf(pattern.charAt(pattern.length() - 1))))
-						.message(pattern + "형태의 근무는 허용되지 않습니다.")
-						.build());
+					// 현재 달 내의 패턴
+					if (start >= prevShiftsDay) {
+						result.add(issue(start + 1 - prevShiftsDay, start + pattern.length() - prevShiftsDay,
+							endDateShift, message));
+					}
 				}
 			}
+			return result;
+		}
 
-			// 현재 달 내의 패턴 검사
-			int index = shifts.indexOf(pattern, prevShiftsDay);
-
-			while (index != -1) {
-				int startDate = index + 1 - prevShiftsDay;
-				int endDate = index + pattern.length() - prevShiftsDay;
-
-				if (endDate <= shifts.length() - prevShiftsDay) {
-					issues.add(WardScheduleResponseDto.Issue.builder()
-						.memberId(memberId)
-						.name(name)
-						.startDate(startDate)
-						.endDate(endDate)
-						.endDateShift(Shift.valueOf(String.valueOf(pattern.charAt(pattern.length() - 1))))
-						.message(pattern + "형태의 근무는 허용되지 않습니다.")
-						.build());
+		// 패턴 중 현재 달에 포함된 부분에서 O가 아닌 마지막 근무의 일자
+		private static int lastWorkOffset(String pattern, int daysInPrevMonth) {
+			int endDateOffset = 0;
+			for (int i = daysInPrevMonth; i < pattern.length(); i++) {
+				if (pattern.charAt(i) != 'O') {
+					endDateOffset = i - daysInPrevMonth + 1;
 				}
-
-				index = shifts.indexOf(pattern, index + 1);
 			}
+			return endDateOffset;
+		}
+
+		private Shift shiftAt(int index) {
+			return Shift.valueOf(String.valueOf(shifts.charAt(index)));
+		}
+
+		private WardScheduleResponseDto.Issue issue(int startDate, int endDate, Shift endDateShift, String message) {
+			return WardScheduleResponseDto.Issue.builder()
+				.memberId(memberId)
+				.name(name)
+				.startDate(startDate)
+				.endDate(endDate)
+				.endDateShift(endDateShift)
+				.message(message)
+				.build();
 		}
 	}
 
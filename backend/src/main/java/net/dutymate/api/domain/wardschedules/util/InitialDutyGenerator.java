@@ -27,27 +27,33 @@ public class InitialDutyGenerator {
 	}
 
 	/**
-	 * 새로운 WardSchedule 생성 (병동 생성 시)
+	 * 새로운 WardSchedule 생성 (병동 생성 시, 아직 없는 월의 근무표를 처음 수정할 때)
 	 */
 	public WardSchedule createNewWardSchedule(Ward ward, List<WardMember> wardMemberList,
 		YearMonth yearMonth) {
 
+		// mongodb 저장
+		return wardScheduleRepository.save(initialWardSchedule(ward, wardMemberList, yearMonth));
+	}
+
+	/**
+	 * 초기화된 duty 하나만 있는 WardSchedule (저장하지 않음, 아직 없는 월의 근무표 조회 시)
+	 */
+	public WardSchedule initialWardSchedule(Ward ward, List<WardMember> wardMemberList, YearMonth yearMonth) {
+
 		// 병동 생성 시, 초기화된 duty 생성
 		WardSchedule.Duty duty = createInitialDuty();
 
 		wardMemberList.forEach(nurse -> duty.addNurseShift(
 			createNurseShift(nurse, yearMonth.initializeShifts())));
 
-		WardSchedule newSchedule = WardSchedule.builder()
+		return WardSchedule.builder()
 			.wardId(ward.getWardId())
 			.year(yearMonth.year())
 			.month(yearMonth.month())
 			.nowIdx(0)
-			.duties(List.of(duty)) // 초기 duty 리스트 추가
+			.duties(new ArrayList<>(List.of(duty))) // 초기 duty 리스트 추가
 			.build();
-
-		// mongodb 저장
-		return wardScheduleRepository.save(newSchedule);
 	}
 
 	/**
@@ -59,19 +65,13 @@ public class InitialDutyGenerator {
 		WardSchedule.NurseShift nurseShift = createNurseShift(newWardMember, initializedShifts);
 
 		// 1. 기존의 duty 마지막에 새로운 멤버 추가
-		WardSchedule.Duty currentDuty =
-			existingSchedule.getDuties().isEmpty()
-				? WardSchedule.Duty.builder()
-				.idx(0)
-				.duty(new ArrayList<>())
-				.history(createInitialHistory())
-				.build()
-				: existingSchedule.getDuties().get(existingSchedule.getNowIdx());
+		List<WardSchedule.NurseShift> currentDuty =
+			existingSchedule.getDuties().isEmpty() ? new ArrayList<>() : existingSchedule.currentDuty();
 
 		// 2. 새로운 Duty 생성 (idx = 0, duty = nowIdx에 해당하는 duty 복사, history = 초기화)
 		WardSchedule.Duty newDuty = WardSchedule.Duty.builder()
 			.idx(0)
-			.duty(new ArrayList<>(currentDuty.getDuty()))
+			.duty(currentDuty)
 			.history(createInitialHistory())
 			.build();
 
@@ -80,6 +80,7 @@ public class InitialDutyGenerator {
 
 		return WardSchedule.builder()
 			.id(existingSchedule.getId())
+			.version(existingSchedule.getVersion())
 			.wardId(newWardMember.getWard().getWardId())
 			.year(existingSchedule.getYear())
 			.month(existingSchedule.getMonth())
@@ -1,6 +1,5 @@
 package net.dutymate.api.domain.wardschedules.util;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -26,15 +25,18 @@ public class ShiftUtil {
 
 	private final WardScheduleRepository wardScheduleRepository;
 	private final MemberScheduleRepository memberScheduleRepository;
+	private final WardScheduleWriteRetry wardScheduleWriteRetry;
+	private final InitialDutyGenerator initialDutyGenerator;
 
 	// 병동 스케줄에서 Shift 조회 메서드
 	public Shift getShift(int year, int month, int date, Member member) {
 		Ward ward = member.getWardMember().getWard();
-		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(ward.getWardId(), year, month)
+		WardSchedule wardSchedule = wardScheduleRepository
+			.findCurrentByWardIdAndYearAndMonth(ward.getWardId(), year, month)
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 병동입니다."));
 
 		// 가장 최근 스냅샷
-		List<WardSchedule.NurseShift> lastDuty = wardSchedule.getDuties().get(wardSchedule.getNowIdx()).getDuty();
+		List<WardSchedule.NurseShift> lastDuty = wardSchedule.currentDuty();
 
 		String shifts = lastDuty.stream()
 			.filter(prev -> Objects.equals(prev.getMemberId(), member.getMemberId()))
@@ -48,11 +50,11 @@ public class ShiftUtil {
 	public String getShifts(int year, int month, Member member) {
 		Ward ward = member.getWardMember().getWard();
 		WardSchedule wardSchedule = wardScheduleRepository
-			.findByWardIdAndYearAndMonth(ward.getWardId(), year, month)
+			.findCurrentByWardIdAndYearAndMonth(ward.getWardId(), year, month)
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 병동입니다."));
 
 		// 가장 최근 스냅샷
-		List<WardSchedule.NurseShift> lastDuty = wardSchedule.getDuties().get(wardSchedule.getNowIdx()).getDuty();
+		List<WardSchedule.NurseShift> lastDuty = wardSchedule.currentDuty();
 
 		return lastDuty.stream()
 			.filter(prev -> Objects.equals(prev.getMemberId(), member.getMemberId()))
@@ -61,21 +63,37 @@ public class ShiftUtil {
 			.getShifts();
 	}
 
-	// 병동 스케줄에서 Shift 변경 메서드
+	// 병동 스케줄에서 Shift 변경 메서드 (최근 기록만 읽고 새 기록만 추가)
 	public void changeShift(int year, int month, int date, Member member, Shift prevShift, Shift shift) {
 		Ward ward = member.getWardMember().getWard();
-		WardSchedule wardSchedule = wardScheduleRepository.findByWardIdAndYearAndMonth(ward.getWardId(), year, month)
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 병동입니다."));
 
-		// 가장 최근 스냅샷
-		List<WardSchedule.NurseShift> lastDuty = wardSchedule.getDuties().getLast().getDuty();
-		// 새로 만들 스냅샷
-		List<WardSchedule.NurseShift> newDuty = new ArrayList<>();
-		// 가장 최근 스냅샷 -> 새로 만들 스냅샷 복사 (깊은 복사)
-		lastDuty.forEach(nurseShift -> newDuty.add(WardSchedule.NurseShift.builder()
-			.memberId(nurseShift.getMemberId())
-			.shifts(nurseShift.getShifts())
-			.build()));
+		// 다른 요청이 먼저 근무표를 수정했으면 최신 기록을 다시 읽어 같은 변경을 다시 적용
+		String updatedShifts = wardScheduleWriteRetry.run("change_shift",
+			() -> appendShiftChange(ward, year, month, date, member, prevShift, shift));
+
+		// 병동 듀티 -> 개인 듀티 : 연동 작업
+		YearMonth yearMonth = new YearMonth(year, month);
+		if (updatedShifts != null && yearMonth.isSameOrAfter(member.enterYearMonth())) {
+			MemberSchedule memberSchedule = memberScheduleRepository
+				.findByMemberIdAndYearAndMonth(member.getMemberId(), year, month)
+				.orElseGet(() -> WardScheduleService.createBlankMemberSchedule(member.getMemberId(), yearMonth));
+
+			memberSchedule.setShifts(updatedShifts);
+			memberScheduleRepository.save(memberSchedule);
+		}
+	}
+
+	// 근무표 최근 기록을 읽어 변경한 근무를 기록으로 추가하고, 변경된 간호사의 근무 문자열을 반환 (아직 없는 월이면 먼저 생성)
+	private String appendShiftChange(Ward ward, int year, int month, int date, Member member, Shift prevShift,
+		Shift shift) {
+		WardSchedule wardSchedule = wardScheduleRepository
+			.findRecentByWardIdAndYearAndMonth(ward.getWardId(), year, month)
+			.orElseGet(() -> initialDutyGenerator.createNewWardSchedule(ward, ward.getWardMemberList(),
+				new YearMonth(year, month)));
+		int prevNowIdx = wardSchedule.getNowIdx();
+
+		// 현재 스냅샷을 복원한 새 스냅샷 (저장된 기록과 별개의 목록)
+		List<WardSchedule.NurseShift> newDuty = wardSchedule.currentDuty();
 
 		// 새로 만들 스냅샷에 수정사항 반영
 		String updatedShifts = null;
@@ -88,33 +106,16 @@ public class ShiftUtil {
 			}
 		}
 
-		// 기존 병동 스케줄에 새로운 스냅샷 추가 및 저장
-		wardSchedule.getDuties().add(WardSchedule.Duty.builder()
-			.idx(wardSchedule.getNowIdx() + 1)
-			.duty(newDuty)
-			.history(WardSchedule.History.builder()
-				.memberId(member.getMemberId())
-				.name(member.getName())
-				.before(String.valueOf(prevShift))
-				.after(String.valueOf(shift))
-				.modifiedDay(date)
-				.isAutoCreated(false)
-				.build()
-			)
+		// 기존 병동 스케줄에 새로운 스냅샷 추가(바뀐 칸만 기록) 및 저장 ($push, 버전이 바뀌었으면 충돌)
+		wardSchedule.appendDuty(newDuty, WardSchedule.History.builder()
+			.memberId(member.getMemberId())
+			.name(member.getName())
+			.before(String.valueOf(prevShift))
+			.after(String.valueOf(shift))
+			.modifiedDay(date)
+			.isAutoCreated(false)
 			.build());
-
-		wardSchedule.setNowIdx(wardSchedule.getNowIdx() + 1);
-		wardScheduleRepository.save(wardSchedule);
-
-		// 병동 듀티 -> 개인 듀티 : 연동 작업
-		YearMonth yearMonth = new YearMonth(year, month);
-		if (updatedShifts != null && yearMonth.isSameOrAfter(member.enterYearMonth())) {
-			MemberSchedule memberSchedule = memberScheduleRepository
-				.findByMemberIdAndYearAndMonth(member.getMemberId(), year, month)
-				.orElseGet(() -> WardScheduleService.createBlankMemberSchedule(member.getMemberId(), yearMonth));
-
-			memberSchedule.setShifts(updatedShifts);
-			memberScheduleRepository.save(memberSchedule);
-		}
+		wardScheduleRepository.appendDuties(wardSchedule, prevNowIdx);
+		return updatedShifts;
 	}
 }
@@ -0,0 +1,71 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 근무표 문서 버전 충돌 시 재시도
+ * 다른 요청(다른 서버 포함)이 먼저 근무표를 저장해 버전이 바뀌었으면, 최신 문서를 다시 읽어 같은 수정을 다시 적용합니다.
+ * 그래서 write는 매번 근무표를 새로 조회하는 것부터 시작해야 합니다. (미리 읽어 둔 문서를 재사용하면 같은 충돌이 반복됨)
+ * 아직 없는 월의 근무표를 동시에 생성하다 중복 키 오류가 난 경우도 같은 충돌로 보고 다시 시도합니다.
+ * MAX_ATTEMPTS번 모두 충돌하면 409를 반환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WardScheduleWriteRetry {
+
+	private static final int MAX_ATTEMPTS = 3;
+	private static final long BACKOFF_MS = 20; // 재시도 전 대기 (시도마다 늘리고 0~BACKOFF_MS 무작위 추가)
+
+	private final MeterRegistry meterRegistry;
+
+	public void run(String operation, Runnable write) {
+		run(operation, () -> {
+			write.run();
+			return null;
+		});
+	}
+
+	public <T> T run(String operation, Supplier<T> write) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return write.get();
+			} catch (OptimisticLockingFailureException | DuplicateKeyException e) {
+				if (attempt >= MAX_ATTEMPTS) {
+					conflicts(operation, "exhausted").increment();
+					throw new ResponseStatusException(HttpStatus.CONFLICT,
+						"다른 사용자가 근무표를 수정하고 있습니다. 잠시 후 다시 시도해 주세요.", e);
+				}
+				conflicts(operation, "retried").increment();
+				backoff(attempt);
+			}
+		}
+	}
+
+	private void backoff(int attempt) {
+		try {
+			Thread.sleep(BACKOFF_MS * attempt + ThreadLocalRandom.current().nextLong(BACKOFF_MS + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("근무표 저장 재시도가 중단되었습니다.", e);
+		}
+	}
+
+	private Counter conflicts(String operation, String outcome) {
+		return Counter.builder("ward_schedule.write.conflicts")
+			.description("근무표 저장 시 버전 충돌 수 (retried: 최신 문서로 다시 적용, exhausted: 재시도 소진)")
+			.tag("operation", operation)
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,81 @@
+package net.dutymate.api.global.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AutoScheduleConfig {
+
+	// 0 이하이면 사용 가능한 코어 수만큼 생성
+	@Value("${autoschedule.annealing.threads:0}")
+	private int annealingThreads;
+
+	// 유전 알고리즘 섬을 실행하는 스레드 수 (0 이하이면 사용 가능한 코어 수, 섬 수는 GeneticNurseScheduler 설정)
+	@Value("${autoschedule.genetic.threads:0}")
+	private int geneticThreads;
+
+	// 동시에 실행되는 자동 생성 작업 수와 대기열 크기
+	@Value("${autoschedule.jobs.threads:2}")
+	private int jobThreads;
+	@Value("${autoschedule.jobs.queue-capacity:20}")
+	private int jobQueueCapacity;
+
+	// 병렬 어닐링 체인을 실행하는 스레드 풀
+	@Bean(destroyMethod = "shutdownNow")
+	public ExecutorService annealingExecutor() {
+		int threads = annealingThreads > 0 ? annealingThreads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "annealing-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		return Executors.newFixedThreadPool(threads, threadFactory);
+	}
+
+	// 유전 알고리즘 섬을 병렬로 진화시키는 포크-조인 풀
+	@Bean(destroyMethod = "shutdownNow")
+	public ForkJoinPool geneticForkJoinPool() {
+		int parallelism = geneticThreads > 0 ? geneticThreads : Runtime.getRuntime().availableProcessors();
+		return new ForkJoinPool(parallelism, pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("genetic-" + thread.getPoolIndex());
+			return thread;
+		}, null, false);
+	}
+
+	// 비동기 자동 생성 작업을 실행하는 스레드 풀 (대기열이 가득 차면 RejectedExecutionException)
+	@Bean(destroyMethod = "shutdownNow")
+	public ExecutorService autoScheduleJobExecutor() {
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "auto-schedule-job-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		return new ThreadPoolExecutor(jobThreads, jobThreads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(jobQueueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	// 자동 생성 작업 SSE 구독자에게 Redis의 작업 상태를 주기적으로 보내는 스케줄러
+	@Bean(destroyMethod = "shutdownNow")
+	public ScheduledExecutorService autoScheduleJobStreamScheduler() {
+		return Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "auto-schedule-job-stream");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
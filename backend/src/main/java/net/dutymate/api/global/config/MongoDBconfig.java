@@ -1,10 +1,50 @@
 package net.dutymate.api.global.config;
 
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Configuration
 @EnableMongoRepositories(basePackages = {"net.dutymate.api.domain.wardschedules.repository",
 	"net.dutymate.api.domain.community.repository"})
 public class MongoDBconfig {
+
+	// 버전 필드 도입 전에 저장된 근무표에 버전 0 부여
+	// (버전이 null이면 save()가 새 문서로 보고 insert하여 _id 중복 오류가 남)
+	@Bean
+	public ApplicationRunner wardScheduleVersionInitializer(MongoTemplate mongoTemplate) {
+		return args -> mongoTemplate.updateMulti(Query.query(Criteria.where("version").exists(false)),
+			new Update().set("version", 0L), WardSchedule.class);
+	}
+
+	// 병동/연월마다 근무표 문서 하나 (동시에 처음 저장하는 요청 중 하나는 DuplicateKeyException으로 재시도)
+	// 이미 중복 문서가 있으면 생성에 실패하므로, 서버는 그대로 띄우고 중복을 정리하도록 오류를 남김
+	@Bean
+	public ApplicationRunner wardScheduleIndexInitializer(MongoTemplate mongoTemplate) {
+		return args -> {
+			try {
+				mongoTemplate.indexOps(WardSchedule.class).ensureIndex(new Index()
+					.on("ward_id", Sort.Direction.ASC)
+					.on("year", Sort.Direction.ASC)
+					.on("month", Sort.Direction.ASC)
+					.unique()
+					.named("ward_year_month_idx"));
+			} catch (DataAccessException e) {
+				log.error("근무표 (ward_id, year, month) 고유 인덱스 생성 실패: 중복 문서를 정리해야 합니다.", e);
+			}
+		};
+	}
 }
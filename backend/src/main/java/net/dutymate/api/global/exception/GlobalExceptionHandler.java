@@ -51,7 +51,8 @@ public class GlobalExceptionHandler {
 		body.put(STATUS_KEY, HttpStatus.valueOf(ex.getStatusCode().value()).name());
 		body.put(MESSAGE_KEY, ex.getReason());
 
-		return new ResponseEntity<>(body, ex.getStatusCode());
+		// Retry-After 등 예외가 지정한 헤더를 그대로 전달
+		return new ResponseEntity<>(body, ex.getHeaders(), ex.getStatusCode());
 	}
 
 	// Spring Validation 예외 처리
@@ -0,0 +1,29 @@
+package net.dutymate.api.global.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import lombok.Getter;
+
+/**
+ * 서버가 일시적으로 요청을 받을 수 없을 때 (429 + Retry-After 헤더)
+ */
+@Getter
+public class RetryLaterException extends ResponseStatusException {
+	private final Duration retryAfter;
+
+	public RetryLaterException(String reason, Duration retryAfter) {
+		super(HttpStatus.TOO_MANY_REQUESTS, reason);
+		this.retryAfter = retryAfter;
+	}
+
+	@Override
+	public HttpHeaders getHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+		return headers;
+	}
+}
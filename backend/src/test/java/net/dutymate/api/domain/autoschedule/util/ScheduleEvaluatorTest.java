@@ -0,0 +1,152 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.dutymate.api.domain.autoschedule.MoveOperator;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.rule.util.CompiledRule;
+import net.dutymate.api.domain.wardmember.ShiftType;
+import net.dutymate.api.domain.wardmember.WorkIntensity;
+
+/**
+ * 증분 평가(evaluateMove/accept/reject)가 해 전체를 새로 평가한 점수와 같은지 확인합니다.
+ */
+class ScheduleEvaluatorTest {
+
+	private static final int NURSE_COUNT = 15;
+	private static final int MOVES = 3000;
+	private static final double TOLERANCE = 1e-6;
+
+	private ExecutorService executor;
+	private NurseScheduler nurseScheduler;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newSingleThreadExecutor();
+		nurseScheduler = new NurseScheduler(executor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void incrementalScoreMatchesFullRescore() {
+		SchedulingProblem problem = problem();
+		for (long seed = 1; seed <= 3; seed++) {
+			assertIncrementalScore(problem, null, new SplittableRandom(seed));
+		}
+	}
+
+	@Test
+	void incrementalScoreMatchesFullRescoreWithAnchor() {
+		SchedulingProblem problem = problem();
+		for (long seed = 1; seed <= 3; seed++) {
+			RandomGenerator random = new SplittableRandom(seed);
+			Solution anchor = nurseScheduler.createInitialSolution(problem, random);
+			Map<Long, String> anchorShifts = new HashMap<>();
+			for (Solution.Nurse nurse : anchor.getNurses()) {
+				anchorShifts.put(nurse.getId(), nurse.toShiftString());
+			}
+			assertIncrementalScore(problem, CachedSchedule.builder().shifts(anchorShifts).build(), random);
+		}
+	}
+
+	private void assertIncrementalScore(SchedulingProblem problem, CachedSchedule anchor, RandomGenerator random) {
+		ShiftRequestTable requestTable = NurseScheduler.requestTableOf(problem, anchor);
+		ScheduleEvaluator evaluator = evaluator(problem, requestTable);
+		Solution solution = nurseScheduler.createInitialSolution(problem, random);
+		double currentScore = evaluator.initialize(solution);
+		solution.recordMoves();
+
+		MoveOperator[] operators = MoveOperator.values();
+		for (int move = 0; move < MOVES; move++) {
+			MoveOperator operator = operators[random.nextInt(operators.length)];
+			nurseScheduler.applyMove(operator, solution, problem.getPrevMonthSchedules(), problem.getRule(), random);
+			double neighborScore = evaluator.evaluateMove(solution);
+			assertEquals(rescore(problem, requestTable, solution), neighborScore, TOLERANCE,
+				"이동 " + move + " (" + operator + ") 평가 점수");
+
+			if (random.nextBoolean()) {
+				solution.commitMove();
+				evaluator.accept();
+				currentScore = neighborScore;
+			} else {
+				solution.rollbackMove();
+				evaluator.reject();
+			}
+
+			ScheduleEvaluator fresh = evaluator(problem, requestTable);
+			assertEquals(fresh.initialize(solution.copy()), currentScore, TOLERANCE, "이동 " + move + " 이후 현재 점수");
+			assertEquals(fresh.hardScore(), evaluator.hardScore(), TOLERANCE, "이동 " + move + " 이후 강한 제약 점수");
+		}
+	}
+
+	private static double rescore(SchedulingProblem problem, ShiftRequestTable requestTable, Solution solution) {
+		return evaluator(problem, requestTable).initialize(solution.copy());
+	}
+
+	private static ScheduleEvaluator evaluator(SchedulingProblem problem, ShiftRequestTable requestTable) {
+		return new ScheduleEvaluator(CompiledRule.of(problem.getRule()), problem.getPrevMonthSchedules(), requestTable,
+			problem.getWorkIntensities());
+	}
+
+	// 전월 근무, 근무 요청, 근무 유형/강도가 섞인 병동
+	private static SchedulingProblem problem() {
+		Rule rule = Rule.builder()
+			.wdayDCnt(3).wdayECnt(3).wdayNCnt(2)
+			.wendDCnt(2).wendECnt(2).wendNCnt(2)
+			.maxShift(5).maxN(3).minN(2)
+			.offCntAfterN(2).offCntAfterMaxShift(2)
+			.build();
+
+		List<Long> memberIds = new ArrayList<>();
+		Map<Long, Integer> nurseShiftFlags = new HashMap<>();
+		Map<Long, WorkIntensity> workIntensities = new HashMap<>();
+		Map<Long, String> prevMonthSchedules = new HashMap<>();
+		String[] prevTails = {"DDEE", "NNOO", "EENN", "ODNN", "OOOD"};
+		for (long memberId = 1; memberId <= NURSE_COUNT; memberId++) {
+			memberIds.add(memberId);
+			nurseShiftFlags.put(memberId, memberId == NURSE_COUNT ? ShiftType.N.getFlag() : ShiftType.ALL.getFlag());
+			workIntensities.put(memberId, WorkIntensity.values()[(int)(memberId % WorkIntensity.values().length)]);
+			prevMonthSchedules.put(memberId, prevTails[(int)(memberId % prevTails.length)]);
+		}
+
+		List<ShiftRequest> requests = new ArrayList<>();
+		char[] requestedShifts = {'O', 'D', 'E', 'N'};
+		for (int i = 0; i < 20; i++) {
+			requests.add(ShiftRequest.builder()
+				.requestId((long)i)
+				.nurseId((long)(i % NURSE_COUNT) + 1)
+				.day(i % 28 + 1)
+				.requestedShift(requestedShifts[i % requestedShifts.length])
+				.reinforced(i % 3 == 0)
+				.build());
+		}
+
+		return SchedulingProblem.builder()
+			.yearMonth(new YearMonth(2026, 11))
+			.rule(rule)
+			.memberIds(memberIds)
+			.nurseShiftFlags(nurseShiftFlags)
+			.workIntensities(workIntensities)
+			.prevMonthSchedules(prevMonthSchedules)
+			.requests(requests)
+			.build();
+	}
+}
@@ -0,0 +1,95 @@
+package net.dutymate.api.domain.autoschedule.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import net.dutymate.api.domain.autoschedule.ScheduleConstraint;
+import net.dutymate.api.domain.common.utils.YearMonth;
+import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.wardmember.ShiftType;
+
+/**
+ * 만족 불가능 판정이 엔진이 강한 제약으로 평가하는 규칙(최대 연속 근무/야간)만으로 계산되는지 확인합니다.
+ */
+class ScheduleFeasibilityTest {
+
+	private static final int NURSE_COUNT = 6;
+
+	// 30일, 매일 5명 필요: 간호사 6명이 5일 근무 1일 휴무를 반복하면(1인 25일) 강한 제약 위반 없이 채울 수 있음
+	// (5일 근무 후 2일 휴무로 계산하면 1인 22일, 132 < 150 으로 잘못 판정됨)
+	@Test
+	void ignoresOffDaysAfterMaxShiftInMonthlyCapacity() {
+		Rule rule = rule(2, 2, 1, 5, 3, 2);
+
+		assertEquals(List.of(), ScheduleFeasibility.check(problem(rule, Map.of())));
+	}
+
+	@Test
+	void reportsMonthlyShortageOverMaxShiftCapacity() {
+		Rule rule = rule(2, 2, 2, 5, 3, 2);
+
+		List<ScheduleFeasibility.Issue> issues = ScheduleFeasibility.check(problem(rule, Map.of()));
+
+		assertEquals(1, issues.size());
+		ScheduleFeasibility.Issue issue = issues.getFirst();
+		assertEquals(ScheduleConstraint.CONSECUTIVE_SHIFT, issue.getConstraint());
+		assertNull(issue.getDay());
+		assertEquals(6 * 30, issue.getRequired());
+		assertEquals(NURSE_COUNT * 25, issue.getAvailable());
+	}
+
+	// 전월에 최대 연속 근무/야간을 채운 간호사는 1일에 쉬고, 야간 다음 날은 야간만 가능
+	@Test
+	void restrictsFirstDayByPreviousMonth() {
+		Rule rule = rule(1, 1, 1, 4, 3, 2);
+		Map<Long, String> prevMonthSchedules = new HashMap<>();
+		for (long memberId = 1; memberId <= 4; memberId++) {
+			prevMonthSchedules.put(memberId, "DDDD");
+		}
+		prevMonthSchedules.put(5L, "XONN");
+		prevMonthSchedules.put(6L, "ONNN");
+
+		List<ScheduleFeasibility.Issue> issues = ScheduleFeasibility.check(problem(rule, prevMonthSchedules));
+
+		assertEquals(1, issues.size());
+		ScheduleFeasibility.Issue issue = issues.getFirst();
+		assertEquals(ScheduleConstraint.SHIFT_REQUIREMENT, issue.getConstraint());
+		assertEquals(1, issue.getDay());
+		assertEquals("D/E", issue.getShift());
+		assertEquals(2, issue.getRequired());
+		assertEquals(0, issue.getAvailable());
+	}
+
+	// 평일/주말 같은 필요 인원
+	private static Rule rule(int dayCnt, int eveningCnt, int nightCnt, int maxShift, int maxN, int offCntAfter) {
+		return Rule.builder()
+			.wdayDCnt(dayCnt).wdayECnt(eveningCnt).wdayNCnt(nightCnt)
+			.wendDCnt(dayCnt).wendECnt(eveningCnt).wendNCnt(nightCnt)
+			.maxShift(maxShift).maxN(maxN).minN(2)
+			.offCntAfterN(offCntAfter).offCntAfterMaxShift(offCntAfter)
+			.build();
+	}
+
+	private static SchedulingProblem problem(Rule rule, Map<Long, String> prevMonthSchedules) {
+		List<Long> memberIds = new ArrayList<>();
+		Map<Long, Integer> nurseShiftFlags = new HashMap<>();
+		for (long memberId = 1; memberId <= NURSE_COUNT; memberId++) {
+			memberIds.add(memberId);
+			nurseShiftFlags.put(memberId, ShiftType.ALL.getFlag());
+		}
+		return SchedulingProblem.builder()
+			.yearMonth(new YearMonth(2026, 11))
+			.rule(rule)
+			.memberIds(memberIds)
+			.nurseShiftFlags(nurseShiftFlags)
+			.workIntensities(Map.of())
+			.prevMonthSchedules(prevMonthSchedules)
+			.build();
+	}
+}
@@ -0,0 +1,267 @@
+package net.dutymate.api.domain.wardschedules.collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 체크포인트 + 바뀐 칸 기록을 저장한 뒤 다시 복원한 근무표가 저장한 근무표와 같은지 확인합니다.
+ * 일부 기록만 읽는 조회(findRecent, findSnapshots, findHistoryView)와 $push 부분 저장은 같은 범위를 Java로 잘라 흉내 낸
+ * 모델 테스트입니다. 실제 파이프라인은 WardScheduleRepositoryImplTest에서 MongoDB로 실행합니다.
+ */
+class WardScheduleTest {
+
+	private static final int DAYS = 30;
+	private static final String SHIFT_CODES = "DENOX";
+
+	@Test
+	void replaysAcrossCheckpointInterval() {
+		WardSchedule wardSchedule = wardSchedule(members(5));
+		List<List<String>> expected = new ArrayList<>(List.of(shiftsOf(wardSchedule.currentDuty())));
+		Random random = new Random(1);
+
+		int edits = WardSchedule.CHECKPOINT_INTERVAL * 2 + 50;
+		for (int edit = 0; edit < edits; edit++) {
+			List<WardSchedule.NurseShift> next = changeOneCell(wardSchedule.currentDuty(), random);
+			wardSchedule.appendDuty(next, history(false));
+			expected.add(shiftsOf(next));
+		}
+
+		for (int idx = 0; idx <= edits; idx++) {
+			assertEquals(idx % WardSchedule.CHECKPOINT_INTERVAL == 0, wardSchedule.getDuties().get(idx).isCheckpoint(),
+				"기록 " + idx + " 체크포인트 여부");
+			assertEquals(expected.get(idx), shiftsOf(wardSchedule.dutyAt(idx)), "기록 " + idx + " 복원");
+		}
+	}
+
+	@Test
+	void storesCheckpointWhenNurseCompositionChanges() {
+		WardSchedule wardSchedule = wardSchedule(members(3));
+		Random random = new Random(2);
+		wardSchedule.appendDuty(changeOneCell(wardSchedule.currentDuty(), random), history(false));
+
+		List<WardSchedule.NurseShift> withNewNurse = copy(wardSchedule.currentDuty());
+		withNewNurse.add(nurseShift(4L, "X".repeat(DAYS)));
+		wardSchedule.appendDuty(withNewNurse, history(false));
+
+		List<WardSchedule.NurseShift> withoutFirstNurse = copy(wardSchedule.currentDuty()).subList(1, 4);
+		wardSchedule.appendDuty(withoutFirstNurse, history(false));
+
+		List<WardSchedule.NurseShift> edited = changeOneCell(wardSchedule.currentDuty(), random);
+		wardSchedule.appendDuty(edited, history(false));
+
+		assertFalse(wardSchedule.getDuties().get(1).isCheckpoint());
+		assertTrue(wardSchedule.getDuties().get(2).isCheckpoint());
+		assertTrue(wardSchedule.getDuties().get(3).isCheckpoint());
+		assertFalse(wardSchedule.getDuties().get(4).isCheckpoint());
+		assertEquals(shiftsOf(withNewNurse), shiftsOf(wardSchedule.dutyAt(2)));
+		assertEquals(shiftsOf(withoutFirstNurse), shiftsOf(wardSchedule.dutyAt(3)));
+		assertEquals(shiftsOf(edited), shiftsOf(wardSchedule.currentDuty()));
+	}
+
+	@Test
+	void storesAutoCreatedScheduleAsCheckpoint() {
+		WardSchedule wardSchedule = wardSchedule(members(5));
+		List<WardSchedule.NurseShift> autoCreated = changeOneCell(wardSchedule.currentDuty(), new Random(3));
+		wardSchedule.appendDuty(autoCreated, history(true));
+
+		assertTrue(wardSchedule.getDuties().get(1).isCheckpoint());
+		assertEquals(shiftsOf(autoCreated), shiftsOf(wardSchedule.currentDuty()));
+	}
+
+	@Test
+	void appendAfterRevertDropsLaterEntries() {
+		WardSchedule wardSchedule = wardSchedule(members(4));
+		Random random = new Random(4);
+		List<List<String>> expected = new ArrayList<>(List.of(shiftsOf(wardSchedule.currentDuty())));
+		for (int edit = 0; edit < 10; edit++) {
+			List<WardSchedule.NurseShift> next = changeOneCell(wardSchedule.currentDuty(), random);
+			wardSchedule.appendDuty(next, history(false));
+			expected.add(shiftsOf(next));
+		}
+
+		wardSchedule.setNowIdx(4);
+		List<WardSchedule.NurseShift> next = changeOneCell(wardSchedule.currentDuty(), random);
+		wardSchedule.appendDuty(next, history(false));
+
+		assertEquals(5, wardSchedule.getNowIdx());
+		assertEquals(6, wardSchedule.getDuties().size());
+		assertEquals(shiftsOf(next), shiftsOf(wardSchedule.latestDuty()));
+		for (int idx = 0; idx <= 4; idx++) {
+			assertEquals(expected.get(idx), shiftsOf(wardSchedule.dutyAt(idx)), "기록 " + idx + " 복원");
+		}
+	}
+
+	@Test
+	void partialReadWindowsMatchFullDocument() {
+		WardSchedule stored = wardSchedule(members(6));
+		Random random = new Random(5);
+
+		for (int step = 0; step < WardSchedule.CHECKPOINT_INTERVAL * 3; step++) {
+			if (random.nextInt(10) == 0 && stored.getNowIdx() > 0) {
+				// 되돌리기 (updateNowIdx)
+				stored.setNowIdx(stored.getNowIdx() - 1 - random.nextInt(Math.min(stored.getNowIdx(), 3)));
+			} else {
+				// 최근 기록만 읽어 수정하고 $push로 부분 저장 (appendDuties)
+				WardSchedule recent = recentWindow(stored);
+				int fromIdx = recent.getNowIdx();
+				List<WardSchedule.NurseShift> next = changeCells(recent.currentDuty(), random, random.nextInt(3) + 1);
+				recent.appendDuty(next, history(random.nextInt(20) == 0));
+				push(stored, recent, fromIdx);
+				assertEquals(shiftsOf(next), shiftsOf(stored.currentDuty()), "단계 " + step + " 저장 결과");
+			}
+
+			assertEquals(shiftsOf(stored.currentDuty()), shiftsOf(snapshotWindow(stored, stored.getNowIdx())
+				.currentDuty()), "단계 " + step + " 현재 근무표");
+			int latestIdx = stored.getDuties().size() - 1;
+			assertEquals(shiftsOf(stored.latestDuty()), shiftsOf(snapshotWindow(stored, latestIdx).latestDuty()),
+				"단계 " + step + " 마지막 근무표");
+		}
+	}
+
+	@Test
+	void historyViewRestoresRequestedEntry() {
+		WardSchedule stored = wardSchedule(members(6));
+		Random random = new Random(6);
+		for (int edit = 0; edit < WardSchedule.CHECKPOINT_INTERVAL * 2 + 30; edit++) {
+			List<WardSchedule.NurseShift> next = changeCells(stored.currentDuty(), random, random.nextInt(3) + 1);
+			stored.appendDuty(next, history(random.nextInt(40) == 0));
+		}
+
+		for (int idx = 0; idx < stored.getDuties().size(); idx++) {
+			WardSchedule view = historyView(stored, idx);
+			assertEquals(stored.getDuties().size(), view.getDuties().size());
+			assertEquals(shiftsOf(stored.dutyAt(idx)), shiftsOf(view.dutyAt(idx)), "기록 " + idx + " 복원");
+		}
+	}
+
+	// findHistoryViewByWardIdAndYearAndMonth: 복원 범위(체크포인트 ~ idx) 밖의 기록은 기록 번호와 수정 이력만 남김
+	private static WardSchedule historyView(WardSchedule stored, int idx) {
+		int offset = snapshotWindow(stored, idx).getDutiesOffset();
+		List<WardSchedule.Duty> duties = new ArrayList<>();
+		for (int pos = 0; pos < stored.getDuties().size(); pos++) {
+			WardSchedule.Duty duty = stored.getDuties().get(pos);
+			duties.add(pos >= offset && pos <= idx ? duty : WardSchedule.Duty.builder()
+				.idx(duty.getIdx())
+				.history(duty.getHistory())
+				.build());
+		}
+		return WardSchedule.builder()
+			.nowIdx(stored.getNowIdx())
+			.duties(duties)
+			.build();
+	}
+
+	// findRecentByWardIdAndYearAndMonth: duties[max(0, now_idx - CHECKPOINT_INTERVAL + 1)]부터 CHECKPOINT_INTERVAL개
+	private static WardSchedule recentWindow(WardSchedule stored) {
+		int offset = Math.max(0, stored.getNowIdx() - WardSchedule.CHECKPOINT_INTERVAL + 1);
+		int end = Math.min(stored.getDuties().size(), offset + WardSchedule.CHECKPOINT_INTERVAL);
+		return window(stored, offset, end);
+	}
+
+	// findSnapshots: targetIdx부터 거꾸로 CHECKPOINT_INTERVAL개 안의 마지막 체크포인트부터 targetIdx까지
+	private static WardSchedule snapshotWindow(WardSchedule stored, int targetIdx) {
+		int offset = 0;
+		for (int idx = Math.max(0, targetIdx - WardSchedule.CHECKPOINT_INTERVAL + 1); idx <= targetIdx; idx++) {
+			if (stored.getDuties().get(idx).isCheckpoint()) {
+				offset = idx;
+			}
+		}
+		return window(stored, offset, offset + Math.max(1, targetIdx + 1 - offset));
+	}
+
+	private static WardSchedule window(WardSchedule stored, int offset, int end) {
+		WardSchedule wardSchedule = WardSchedule.builder()
+			.nowIdx(stored.getNowIdx())
+			.duties(new ArrayList<>(stored.getDuties().subList(offset, end)))
+			.build();
+		wardSchedule.setDutiesOffset(offset);
+		return wardSchedule;
+	}
+
+	// appendDuties: duties의 fromIdx + 1 위치에 추가한 기록을 넣고($position) nowIdx + 1개만 남김($slice)
+	private static void push(WardSchedule stored, WardSchedule appended, int fromIdx) {
+		List<WardSchedule.Duty> duties = new ArrayList<>(stored.getDuties());
+		duties.addAll(fromIdx + 1, appended.dutiesAfter(fromIdx));
+		stored.setDuties(new ArrayList<>(duties.subList(0, appended.getNowIdx() + 1)));
+		stored.setNowIdx(appended.getNowIdx());
+	}
+
+	private static WardSchedule wardSchedule(List<WardSchedule.NurseShift> initialDuty) {
+		List<WardSchedule.Duty> duties = new ArrayList<>();
+		duties.add(WardSchedule.Duty.builder()
+			.idx(0)
+			.duty(initialDuty)
+			.history(history(false))
+			.build());
+		return WardSchedule.builder()
+			.wardId(1L)
+			.year(2026)
+			.month(11)
+			.nowIdx(0)
+			.duties(duties)
+			.build();
+	}
+
+	private static List<WardSchedule.NurseShift> members(int count) {
+		List<WardSchedule.NurseShift> nurseShifts = new ArrayList<>();
+		for (long memberId = 1; memberId <= count; memberId++) {
+			nurseShifts.add(nurseShift(memberId, "X".repeat(DAYS)));
+		}
+		return nurseShifts;
+	}
+
+	private static WardSchedule.History history(boolean isAutoCreated) {
+		return WardSchedule.History.builder()
+			.memberId(1L)
+			.name("tester")
+			.isAutoCreated(isAutoCreated)
+			.build();
+	}
+
+	private static WardSchedule.NurseShift nurseShift(Long memberId, String shifts) {
+		return WardSchedule.NurseShift.builder()
+			.memberId(memberId)
+			.shifts(shifts)
+			.build();
+	}
+
+	private static List<WardSchedule.NurseShift> changeOneCell(List<WardSchedule.NurseShift> duty, Random random) {
+		return changeCells(duty, random, 1);
+	}
+
+	private static List<WardSchedule.NurseShift> changeCells(List<WardSchedule.NurseShift> duty, Random random,
+		int cells) {
+		List<WardSchedule.NurseShift> next = copy(duty);
+		for (int cell = 0; cell < cells; cell++) {
+			WardSchedule.NurseShift nurseShift = next.get(random.nextInt(next.size()));
+			char[] shifts = nurseShift.getShifts().toCharArray();
+			int day = random.nextInt(shifts.length);
+			char shift;
+			do {
+				shift = SHIFT_CODES.charAt(random.nextInt(SHIFT_CODES.length()));
+			} while (shift == shifts[day]);
+			shifts[day] = shift;
+			nurseShift.changeShifts(new String(shifts));
+		}
+		return next;
+	}
+
+	private static List<WardSchedule.NurseShift> copy(List<WardSchedule.NurseShift> duty) {
+		List<WardSchedule.NurseShift> copied = new ArrayList<>();
+		for (WardSchedule.NurseShift nurseShift : duty) {
+			copied.add(nurseShift(nurseShift.getMemberId(), nurseShift.getShifts()));
+		}
+		return copied;
+	}
+
+	private static List<String> shiftsOf(List<WardSchedule.NurseShift> duty) {
+		return duty.stream()
+			.map(nurseShift -> nurseShift.getMemberId() + ":" + nurseShift.getShifts())
+			.toList();
+	}
+}
@@ -0,0 +1,253 @@
+package net.dutymate.api.domain.wardschedules.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import net.dutymate.api.domain.wardschedules.collections.WardSchedule;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * 일부 기록만 읽는 조회(findRecent, findSnapshots, findHistoryView)와 $push 부분 저장(appendDuties)을
+ * 실제 MongoDB에서 실행해, 전체 문서를 읽어 복원한 근무표와 같은지 확인합니다. (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class WardScheduleRepositoryImplTest {
+
+	private static final long WARD_ID = 1L;
+	private static final int YEAR = 2026;
+	private static final int MONTH = 11;
+	private static final int DAYS = 30;
+	private static final String SHIFT_CODES = "DENOX";
+
+	@Container
+	private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+	private static MongoClient mongoClient;
+
+	private MongoTemplate mongoTemplate;
+	private WardScheduleRepositoryImpl repository;
+
+	@BeforeAll
+	static void connect() {
+		mongoClient = MongoClients.create(MONGO.getConnectionString());
+	}
+
+	@AfterAll
+	static void disconnect() {
+		mongoClient.close();
+	}
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = new MongoTemplate(mongoClient, "dutymate");
+		mongoTemplate.dropCollection(WardSchedule.class);
+		repository = new WardScheduleRepositoryImpl(mongoTemplate);
+	}
+
+	@Test
+	void snapshotsRestoreCurrentAndLatestDuty() {
+		WardSchedule stored = editedWardSchedule(MONTH, new Random(1));
+		stored.setNowIdx(stored.getNowIdx() - 5);
+		mongoTemplate.save(stored);
+		WardSchedule nextMonth = editedWardSchedule(MONTH + 1, new Random(2));
+		mongoTemplate.save(nextMonth);
+
+		WardSchedule current = repository.findCurrentByWardIdAndYearAndMonth(WARD_ID, YEAR, MONTH).orElseThrow();
+		assertEquals(checkpointBefore(stored, stored.getNowIdx()), current.getDutiesOffset());
+		assertEquals(shiftsOf(stored.currentDuty()), shiftsOf(current.currentDuty()));
+
+		WardSchedule latest = repository.findLatestByWardIdAndYearAndMonth(WARD_ID, YEAR, MONTH).orElseThrow();
+		int latestIdx = stored.getDuties().size() - 1;
+		assertEquals(checkpointBefore(stored, latestIdx), latest.getDutiesOffset());
+		assertEquals(shiftsOf(stored.latestDuty()), shiftsOf(latest.latestDuty()));
+
+		List<WardSchedule> allCurrent = repository.findAllCurrentByWardId(WARD_ID);
+		assertEquals(2, allCurrent.size());
+		for (WardSchedule wardSchedule : allCurrent) {
+			WardSchedule expected = wardSchedule.getMonth() == MONTH ? stored : nextMonth;
+			assertEquals(shiftsOf(expected.currentDuty()), shiftsOf(wardSchedule.currentDuty()));
+		}
+	}
+
+	@Test
+	void historyViewRestoresEveryEntry() {
+		WardSchedule stored = editedWardSchedule(MONTH, new Random(3));
+		mongoTemplate.save(stored);
+
+		for (int idx = 0; idx < stored.getDuties().size(); idx++) {
+			WardSchedule view = repository.findHistoryViewByWardIdAndYearAndMonth(WARD_ID, YEAR, MONTH, idx)
+				.orElseThrow();
+			assertEquals(stored.getDuties().size(), view.getDuties().size());
+			assertEquals(shiftsOf(stored.dutyAt(idx)), shiftsOf(view.dutyAt(idx)), "기록 " + idx + " 복원");
+			assertNotNull(view.getDuties().get(stored.getDuties().size() - 1).getHistory());
+		}
+
+		WardSchedule view = repository.findHistoryViewByWardIdAndYearAndMonth(WARD_ID, YEAR, MONTH, null)
+			.orElseThrow();
+		assertEquals(shiftsOf(stored.currentDuty()), shiftsOf(view.currentDuty()));
+	}
+
+	// 최근 기록만 읽어 수정하고 $push로 저장하는 경로를 전체 문서에 같은 수정을 한 결과와 비교 (중간에 되돌리기 포함)
+	@Test
+	void appendDutiesMatchesFullDocumentEdits() {
+		WardSchedule expected = wardSchedule(MONTH, members(6));
+		mongoTemplate.save(expected);
+		Random random = new Random(4);
+
+		for (int step = 0; step < WardSchedule.CHECKPOINT_INTERVAL * 2 + 20; step++) {
+			WardSchedule recent = repository.findRecentByWardIdAndYearAndMonth(WARD_ID, YEAR, MONTH).orElseThrow();
+			assertEquals(shiftsOf(expected.currentDuty()), shiftsOf(recent.currentDuty()), "단계 " + step + " 최근 기록");
+
+			if (random.nextInt(10) == 0 && recent.getNowIdx() > 0) {
+				int nowIdx = recent.getNowIdx() - 1 - random.nextInt(Math.min(recent.getNowIdx(), 3));
+				repository.updateNowIdx(recent, nowIdx);
+				expected.setNowIdx(nowIdx);
+				continue;
+			}
+
+			int fromIdx = recent.getNowIdx();
+			List<WardSchedule.NurseShift> next = changeCells(recent.currentDuty(), random, random.nextInt(3) + 1);
+			WardSchedule.History history = history(random.nextInt(20) == 0);
+			recent.appendDuty(next, history);
+			repository.appendDuties(recent, fromIdx);
+			expected.appendDuty(copy(next), history);
+		}
+
+		WardSchedule saved = mongoTemplate.findById(expected.getId(), WardSchedule.class);
+		assertNotNull(saved);
+		assertEquals(expected.getNowIdx(), saved.getNowIdx());
+		assertEquals(expected.getDuties().size(), saved.getDuties().size());
+		for (int idx = 0; idx < expected.getDuties().size(); idx++) {
+			assertEquals(expected.getDuties().get(idx).isCheckpoint(), saved.getDuties().get(idx).isCheckpoint(),
+				"기록 " + idx + " 체크포인트 여부");
+			assertEquals(shiftsOf(expected.dutyAt(idx)), shiftsOf(saved.dutyAt(idx)), "기록 " + idx + " 복원");
+		}
+	}
+
+	@Test
+	void rejectsWritesFromStaleRead() {
+		mongoTemplate.save(editedWardSchedule(MONTH, new Random(5)));
+		WardSchedule first = repository.findRecentByWardIdAndYearAndMonth(WARD_ID, YEAR, MONTH).orElseThrow();
+		WardSchedule second = repository.findRecentByWardIdAndYearAndMonth(WARD_ID, YEAR, MONTH).orElseThrow();
+
+		int fromIdx = first.getNowIdx();
+		first.appendDuty(changeCells(first.currentDuty(), new Random(6), 1), history(false));
+		repository.appendDuties(first, fromIdx);
+
+		second.appendDuty(changeCells(second.currentDuty(), new Random(7), 1), history(false));
+		assertThrows(OptimisticLockingFailureException.class, () -> repository.appendDuties(second, fromIdx));
+		assertThrows(OptimisticLockingFailureException.class, () -> repository.updateNowIdx(second, 0));
+
+		WardSchedule saved = mongoTemplate.findById(first.getId(), WardSchedule.class);
+		assertNotNull(saved);
+		assertEquals(first.getNowIdx(), saved.getNowIdx());
+		assertEquals(shiftsOf(first.currentDuty()), shiftsOf(saved.currentDuty()));
+	}
+
+	// targetIdx부터 거꾸로 CHECKPOINT_INTERVAL개 안의 마지막 체크포인트
+	private static int checkpointBefore(WardSchedule stored, int targetIdx) {
+		int checkpointIdx = 0;
+		for (int idx = Math.max(0, targetIdx - WardSchedule.CHECKPOINT_INTERVAL + 1); idx <= targetIdx; idx++) {
+			if (stored.getDuties().get(idx).isCheckpoint()) {
+				checkpointIdx = idx;
+			}
+		}
+		return checkpointIdx;
+	}
+
+	// 체크포인트 간격을 두 번 넘기고, 중간에 자동 생성 체크포인트가 섞인 근무표
+	private static WardSchedule editedWardSchedule(int month, Random random) {
+		WardSchedule wardSchedule = wardSchedule(month, members(6));
+		for (int edit = 0; edit < WardSchedule.CHECKPOINT_INTERVAL * 2 + 30; edit++) {
+			List<WardSchedule.NurseShift> next = changeCells(wardSchedule.currentDuty(), random,
+				random.nextInt(3) + 1);
+			wardSchedule.appendDuty(next, history(random.nextInt(40) == 0));
+		}
+		return wardSchedule;
+	}
+
+	private static WardSchedule wardSchedule(int month, List<WardSchedule.NurseShift> initialDuty) {
+		List<WardSchedule.Duty> duties = new ArrayList<>();
+		duties.add(WardSchedule.Duty.builder()
+			.idx(0)
+			.duty(initialDuty)
+			.history(history(false))
+			.build());
+		return WardSchedule.builder()
+			.wardId(WARD_ID)
+			.year(YEAR)
+			.month(month)
+			.nowIdx(0)
+			.duties(duties)
+			.build();
+	}
+
+	private static List<WardSchedule.NurseShift> members(int count) {
+		List<WardSchedule.NurseShift> nurseShifts = new ArrayList<>();
+		for (long memberId = 1; memberId <= count; memberId++) {
+			nurseShifts.add(nurseShift(memberId, "X".repeat(DAYS)));
+		}
+		return nurseShifts;
+	}
+
+	private static WardSchedule.History history(boolean isAutoCreated) {
+		return WardSchedule.History.builder()
+			.memberId(1L)
+			.name("tester")
+			.isAutoCreated(isAutoCreated)
+			.build();
+	}
+
+	private static WardSchedule.NurseShift nurseShift(Long memberId, String shifts) {
+		return WardSchedule.NurseShift.builder()
+			.memberId(memberId)
+			.shifts(shifts)
+			.build();
+	}
+
+	private static List<WardSchedule.NurseShift> changeCells(List<WardSchedule.NurseShift> duty, Random random,
+		int cells) {
+		List<WardSchedule.NurseShift> next = copy(duty);
+		for (int cell = 0; cell < cells; cell++) {
+			WardSchedule.NurseShift nurseShift = next.get(random.nextInt(next.size()));
+			char[] shifts = nurseShift.getShifts().toCharArray();
+			int day = random.nextInt(shifts.length);
+			char shift;
+			do {
+				shift = SHIFT_CODES.charAt(random.nextInt(SHIFT_CODES.length()));
+			} while (shift == shifts[day]);
+			shifts[day] = shift;
+			nurseShift.changeShifts(new String(shifts));
+		}
+		return next;
+	}
+
+	private static List<WardSchedule.NurseShift> copy(List<WardSchedule.NurseShift> duty) {
+		List<WardSchedule.NurseShift> copied = new ArrayList<>();
+		for (WardSchedule.NurseShift nurseShift : duty) {
+			copied.add(nurseShift(nurseShift.getMemberId(), nurseShift.getShifts()));
+		}
+		return copied;
+	}
+
+	private static List<String> shiftsOf(List<WardSchedule.NurseShift> duty) {
+		return duty.stream()
+			.map(nurseShift -> nurseShift.getMemberId() + ":" + nurseShift.getShifts())
+			.toList();
+	}
+}
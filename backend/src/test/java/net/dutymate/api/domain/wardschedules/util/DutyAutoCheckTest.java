@@ -0,0 +1,121 @@
+package net.dutymate.api.domain.wardschedules.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.dutymate.api.domain.autoschedule.Shift;
+import net.dutymate.api.domain.rule.Rule;
+import net.dutymate.api.domain.wardmember.ShiftType;
+import net.dutymate.api.domain.wardschedules.dto.WardScheduleResponseDto;
+
+/**
+ * 근무표 규칙 검사 결과(위반 구간, 마지막 날 근무, 순서)를 월 경계와 월 안의 경우로 나누어 확인합니다.
+ * 규칙: Night 2~3일, 최대 연속 근무 5일
+ */
+class DutyAutoCheckTest {
+
+	private static final String NIGHT = "Night 근무 규칙을 위반했습니다.";
+	private static final String MAX_SHIFT = "최대 근무일 규칙을 위반했습니다.";
+
+	private static final Rule RULE = Rule.builder()
+		.wdayDCnt(3).wdayECnt(3).wdayNCnt(2)
+		.wendDCnt(2).wendECnt(2).wendNCnt(2)
+		.maxShift(5).maxN(3).minN(2)
+		.offCntAfterN(2).offCntAfterMaxShift(2)
+		.prioMaxShift(3).prioMaxN(3).prioMinN(3)
+		.prioOffCntAfterN(2).prioOffCntAfterMaxShift(2)
+		.build();
+
+	@Test
+	void reportsNodAcrossMonthBoundary() {
+		assertEquals(List.of(issue(1, 1, Shift.D, pattern("NOD"))), check("DDNO", "DXXXX"));
+	}
+
+	@Test
+	void reportsNdAcrossMonthBoundary() {
+		assertEquals(List.of(issue(1, 1, Shift.D, pattern("ND"))), check("XXNN", "DOOOO"));
+	}
+
+	@Test
+	void reportsNightRunAcrossMonthBoundaryFromFirstDay() {
+		assertEquals(List.of(issue(1, 2, Shift.N, NIGHT)), check("XNNN", "NNOOO"));
+	}
+
+	@Test
+	void reportsNightRunsOutsideRangeExceptLastDay() {
+		assertEquals(List.of(issue(2, 5, Shift.N, NIGHT), issue(9, 9, Shift.N, NIGHT)),
+			check("XXXX", "ONNNNOOXNOOXNNOON"));
+	}
+
+	@Test
+	void ignoresNightRunEndedInPreviousMonth() {
+		assertEquals(List.of(), check("XXNO", "OOXDDOO"));
+	}
+
+	@Test
+	void reportsMaxShiftAcrossMonthBoundary() {
+		assertEquals(List.of(issue(1, 2, Shift.D, MAX_SHIFT)), check("DDDD", "DDOOO"));
+	}
+
+	@Test
+	void reportsMaxShiftInMonth() {
+		assertEquals(List.of(issue(2, 7, Shift.E, MAX_SHIFT)), check("XXXX", "ODDDEEEOO"));
+	}
+
+	@Test
+	void skipsMaxShiftForMidShiftNurse() {
+		assertEquals(List.of(), check("XXXX", "MMMMMMMOO", ShiftType.M));
+	}
+
+	@Test
+	void reportsMidShiftPatterns() {
+		assertEquals(List.of(issue(2, 3, Shift.M, pattern("EM"))), check("XXXX", "OEMOO"));
+	}
+
+	@Test
+	void ordersNightThenMaxShiftThenPatterns() {
+		assertEquals(List.of(
+			issue(7, 7, Shift.N, NIGHT),
+			issue(1, 8, Shift.D, MAX_SHIFT),
+			issue(7, 8, Shift.D, pattern("ND"))), check("XXXX", "DDDDDDNDOO"));
+	}
+
+	@Test
+	void acceptsScheduleWithinRule() {
+		assertEquals(List.of(), check("DDOO", "DDEOONNOODDEEOO"));
+	}
+
+	private static List<WardScheduleResponseDto.Issue> check(String prevShifts, String shifts) {
+		return check(prevShifts, shifts, ShiftType.ALL);
+	}
+
+	private static List<WardScheduleResponseDto.Issue> check(String prevShifts, String shifts, ShiftType shiftType) {
+		WardScheduleResponseDto.NurseShifts nurseShifts = WardScheduleResponseDto.NurseShifts.builder()
+			.memberId(1L)
+			.name("간호사")
+			.prevShifts(prevShifts)
+			.shifts(shifts)
+			.shiftFlags(shiftType.getFlag())
+			.build();
+		return DutyAutoCheck.check(List.of(nurseShifts), RULE);
+	}
+
+	private static String pattern(String pattern) {
+		return pattern + "형태의 근무는 허용되지 않습니다.";
+	}
+
+	private static WardScheduleResponseDto.Issue issue(int startDate, int endDate, Shift endDateShift,
+		String message) {
+		return WardScheduleResponseDto.Issue.builder()
+			.memberId(1L)
+			.name("간호사")
+			.startDate(startDate)
+			.endDate(endDate)
+			.endDateShift(endDateShift)
+			.message(message)
+			.build();
+	}
+}
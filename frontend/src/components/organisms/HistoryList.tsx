@@ -8,6 +8,8 @@ import useShiftStore from '@/stores/shiftStore';
 const HistoryList = () => {
   const histories = useShiftStore((state) => state.dutyInfo?.histories || []);
   const fetchDutyInfo = useShiftStore((state) => state.fetchDutyInfo);
+  const year = useShiftStore((state) => state.dutyInfo?.year);
+  const month = useShiftStore((state) => state.dutyInfo?.month);
   const [selectedHistoryIdx, setSelectedHistoryIdx] = useState<number | null>(
     null
   );
@@ -21,9 +23,9 @@ const HistoryList = () => {
   const handleRevert = useCallback(
     async (historyIdx: number) => {
       setSelectedHistoryIdx(historyIdx);
-      await fetchDutyInfo(undefined, undefined, historyIdx);
+      await fetchDutyInfo(year, month, historyIdx);
     },
-    [fetchDutyInfo]
+    [fetchDutyInfo, year, month]
   );
 
   const renderChangeIndicator = (item: DutyHistory) => {
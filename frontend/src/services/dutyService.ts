@@ -303,7 +303,7 @@ export const dutyService = {
   },
 
   /**
-   * 근무표 조회/되돌리기
+   * 근무표 조회 (history를 주면 해당 수정 기록 시점의 근무표를 보기만 함)
    * @param params - 조회할 근무표 정보 (year, month, history)
    */
   getDuty: (params: { year?: number; month?: number; history?: number }) => {
@@ -333,6 +333,37 @@ export const dutyService = {
       });
   },
 
+  /**
+   * 근무표 되돌리기 (해당 수정 기록 시점으로 이동하고, 이후 수정은 이 시점부터 이어짐)
+   * @param params - 되돌릴 근무표 정보 (year, month, history)
+   */
+  revertDuty: (params: { year?: number; month?: number; history: number }) => {
+    return axiosInstance
+      .put('/duty/history', null, { params })
+      .then((response) => {
+        return response.data as DutyInfo;
+      })
+      .catch((error) => {
+        if (error.code === 'ERR_NETWORK') {
+          console.error(
+            '서버에 연결할 수 없습니다. 서버가 실행 중인지 확인해주세요.'
+          );
+          throw new Error('서버 연결 실패');
+        }
+        if (error.response) {
+          switch (error.response.status) {
+            case 401:
+              window.location.href = '/login';
+              break;
+            default:
+              console.error('Error occurred:', error);
+              throw error;
+          }
+        }
+        throw error;
+      });
+  },
+
   /**
    * 근무표 초기화하기
    * @param year - 년도
@@ -57,9 +57,11 @@ const useShiftStore = create<ShiftState>((set, get) => ({
 
       if (year) params.year = year;
       if (month) params.month = month;
-      if (typeof historyIdx === 'number') params.history = historyIdx;
-
-      const data = await dutyService.getDuty(params);
+      // 수정 기록을 고르면 되돌리기(저장), 아니면 조회만
+      const data =
+        typeof historyIdx === 'number'
+          ? await dutyService.revertDuty({ ...params, history: historyIdx })
+          : await dutyService.getDuty(params);
 
       // Comment out sorting logic
       set({